@@ -112,4 +112,13 @@ public interface ImmutableListFactory
     <T> ImmutableList<T> ofAll(Iterable<? extends T> items);
 
     <T> ImmutableList<T> withAll(Iterable<? extends T> items);
+
+    /**
+     * Returns an ImmutableList whose newWith and newWithAll share the existing elements with the new list rather than
+     * copying them. In exchange, get and iteration are slower than on the lists returned by {@link #withAll(Iterable)},
+     * so this is only worth using for large lists which are extended many times.
+     *
+     * @since 7.1
+     */
+    <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items);
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.map;
+
+/**
+ * Interface for the eviction policies of size-bounded maps. The map itself keeps its entries in least recently used
+ * order and, once full, offers its least recently used key as the victim for every new key. The policy records the
+ * accesses of the map and decides which of the two is kept.
+ * <p>
+ * Policies are not thread-safe; a concurrent map must give each independently locked part its own policy.
+ *
+ * @since 7.1
+ */
+public interface EvictionPolicy<K>
+{
+    /**
+     * Records a lookup or an insertion of {@code key}, whether or not the key is present in the map.
+     */
+    void recordAccess(K key);
+
+    /**
+     * Returns true if {@code candidate} should be added to a full map by evicting {@code victim}, or false if the
+     * candidate should not be added at all.
+     */
+    boolean admit(K candidate, K victim);
+}
@@ -31,6 +31,9 @@
  *     <li>
  *         {@link org.eclipse.collections.api.map.UnsortedMapIterable} - a map whose elements are unsorted.
  *     </li>
+ *     <li>
+ *         {@link org.eclipse.collections.api.map.EvictionPolicy} - decides which entries a size-bounded map keeps once it is full.
+ *     </li>
  * </ul>
  */
 package org.eclipse.collections.api.map;
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.multimap;
+
+/**
+ * A ConcurrentMutableMultimap is a MutableMultimap which is safe to read and modify from many threads at once without
+ * external synchronization. Operations on different keys do not block each other.
+ *
+ * @since 7.1
+ */
+public interface ConcurrentMutableMultimap<K, V>
+        extends MutableMultimap<K, V>
+{
+}
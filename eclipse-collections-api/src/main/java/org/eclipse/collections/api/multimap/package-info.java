@@ -24,6 +24,9 @@
  *     <li>
  *         {@link org.eclipse.collections.api.multimap.ImmutableMultimap} - the non-modifiable equivalent interface to {@link org.eclipse.collections.api.multimap.MutableMultimap}.
  *     </li>
+ *     <li>
+ *         {@link org.eclipse.collections.api.multimap.ConcurrentMutableMultimap} - a modifiable Multimap which is safe to use from many threads at once.
+ *     </li>
  * </ul>
  */
 package org.eclipse.collections.api.multimap;
@@ -11,45 +11,33 @@
 package org.eclipse.collections.impl.forkjoin;
 
 import java.io.Serializable;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinTask;
 
-import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.parallel.Combiner;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 
+/**
+ * Runs a procedure over a {@link BatchIterable} as a single recursive {@link FJBatchIterableProcedureTask}, which
+ * splits the range of batches in half until each task has a single batch left. Idle workers in the pool steal the
+ * halves which have not been started yet.
+ *
+ * @see FJListProcedureRunner
+ */
 public class FJBatchIterableProcedureRunner<T, PT extends Procedure<? super T>> implements Serializable
 {
     private static final long serialVersionUID = 1L;
 
-    private Throwable error;
+    private volatile Throwable error;
     private final Combiner<PT> combiner;
     private final int taskCount;
-    private final BlockingQueue<PT> outputQueue;
 
     public FJBatchIterableProcedureRunner(Combiner<PT> newCombiner, int taskCount)
     {
         this.combiner = newCombiner;
         this.taskCount = taskCount;
-        this.outputQueue = this.combiner.useCombineOne() ? new ArrayBlockingQueue<PT>(taskCount) : null;
-    }
-
-    private FastList<ForkJoinTask<PT>> createAndExecuteTasks(ForkJoinPool executor, ProcedureFactory<PT> procedureFactory, BatchIterable<T> iterable)
-    {
-        FastList<ForkJoinTask<PT>> tasks = FastList.newList(this.taskCount);
-        for (int index = 0; index < this.taskCount; index++)
-        {
-            ForkJoinTask<PT> voidBlockFJTask = new FJBatchIterableProcedureTask<>(this, procedureFactory, iterable, index, this.taskCount);
-            tasks.add(voidBlockFJTask);
-            executor.execute(voidBlockFJTask);
-        }
-        return tasks;
     }
 
     public void setFailed(Throwable newError)
@@ -57,63 +45,23 @@ public class FJBatchIterableProcedureRunner<T, PT extends Procedure<? super T>>
         this.error = newError;
     }
 
-    public void taskCompleted(ForkJoinTask<PT> task)
-    {
-        if (this.combiner.useCombineOne())
-        {
-            this.outputQueue.add(task.getRawResult());
-        }
-    }
-
     public void executeAndCombine(ForkJoinPool executor, ProcedureFactory<PT> procedureFactory, BatchIterable<T> list)
     {
-        FastList<ForkJoinTask<PT>> tasks = this.createAndExecuteTasks(executor, procedureFactory, list);
-        if (this.combiner.useCombineOne())
-        {
-            this.join();
-        }
+        FastList<PT> procedures = executor.invoke(new FJBatchIterableProcedureTask<>(this, procedureFactory, list, 0, this.taskCount, this.taskCount));
         if (this.error != null)
         {
             throw new RuntimeException("One or more parallel tasks failed", this.error);
         }
-        if (!this.combiner.useCombineOne())
-        {
-            this.combiner.combineAll(tasks.asLazy().collect(new ProcedureExtractor()));
-        }
-    }
-
-    private void join()
-    {
-        try
+        if (this.combiner.useCombineOne())
         {
-            int remaingTaskCount = this.taskCount;
-            while (remaingTaskCount > 0)
+            for (PT procedure : procedures)
             {
-                this.combiner.combineOne(this.outputQueue.take());
-                remaingTaskCount--;
+                this.combiner.combineOne(procedure);
             }
         }
-        catch (InterruptedException e)
+        else
         {
-            throw new RuntimeException("Combine failed", e);
-        }
-    }
-
-    private final class ProcedureExtractor implements Function<ForkJoinTask<PT>, PT>
-    {
-        private static final long serialVersionUID = 1L;
-
-        @Override
-        public PT valueOf(ForkJoinTask<PT> object)
-        {
-            try
-            {
-                return object.get();
-            }
-            catch (InterruptedException | ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
+            this.combiner.combineAll(procedures);
         }
     }
 }
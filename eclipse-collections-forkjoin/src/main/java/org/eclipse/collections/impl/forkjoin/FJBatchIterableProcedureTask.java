@@ -10,65 +10,71 @@
 
 package org.eclipse.collections.impl.forkjoin;
 
-import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 
-public class FJBatchIterableProcedureTask<T, PT extends Procedure<? super T>> extends ForkJoinTask<PT>
+public class FJBatchIterableProcedureTask<T, PT extends Procedure<? super T>> extends RecursiveTask<FastList<PT>>
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Stop splitting once this many more tasks are queued on the current worker than there are idle workers to steal
+     * them, as there is already enough work to go around.
+     */
+    private static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+
     private final ProcedureFactory<PT> procedureFactory;
-    private PT procedure;
     private final BatchIterable<T> iterable;
-    private final int sectionIndex;
+    private final int fromSection;
+    private final int toSection;
     private final int sectionCount;
     private final FJBatchIterableProcedureRunner<T, PT> taskRunner;
 
     /**
-     * Creates an array of ProcedureFJTasks wrapping Procedures created by the specified ProcedureFactory.
+     * Creates a task over the sections of the iterable from fromSection (inclusive) to toSection (exclusive), where
+     * the iterable is divided into sectionCount sections. The task splits itself in half until it has one section.
      */
     public FJBatchIterableProcedureTask(
             FJBatchIterableProcedureRunner<T, PT> newFJTaskRunner,
-            ProcedureFactory<PT> newProcedureFactory, BatchIterable<T> iterable, int index, int count)
+            ProcedureFactory<PT> newProcedureFactory, BatchIterable<T> iterable, int fromSection, int toSection, int sectionCount)
     {
         this.taskRunner = newFJTaskRunner;
         this.procedureFactory = newProcedureFactory;
         this.iterable = iterable;
-        this.sectionIndex = index;
-        this.sectionCount = count;
+        this.fromSection = fromSection;
+        this.toSection = toSection;
+        this.sectionCount = sectionCount;
     }
 
     @Override
-    protected boolean exec()
+    protected FastList<PT> compute()
     {
+        if (this.toSection - this.fromSection > 1 && getSurplusQueuedTaskCount() <= SURPLUS_QUEUED_TASK_THRESHOLD)
+        {
+            int middle = (this.fromSection + this.toSection) >>> 1;
+            FJBatchIterableProcedureTask<T, PT> right = new FJBatchIterableProcedureTask<>(this.taskRunner, this.procedureFactory, this.iterable, middle, this.toSection, this.sectionCount);
+            right.fork();
+            FastList<PT> result = new FJBatchIterableProcedureTask<>(this.taskRunner, this.procedureFactory, this.iterable, this.fromSection, middle, this.sectionCount).compute();
+            result.addAll(right.join());
+            return result;
+        }
         try
         {
-            this.procedure = this.procedureFactory.create();
-            this.iterable.batchForEach(this.procedure, this.sectionIndex, this.sectionCount);
+            PT procedure = this.procedureFactory.create();
+            for (int section = this.fromSection; section < this.toSection; section++)
+            {
+                this.iterable.batchForEach(procedure, section, this.sectionCount);
+            }
+            return FastList.newListWith(procedure);
         }
         catch (Throwable newError)
         {
             this.taskRunner.setFailed(newError);
+            return FastList.newList();
         }
-        finally
-        {
-            this.taskRunner.taskCompleted(this);
-        }
-        return true;
-    }
-
-    @Override
-    public PT getRawResult()
-    {
-        return this.procedure;
-    }
-
-    @Override
-    protected void setRawResult(PT value)
-    {
-        throw new UnsupportedOperationException();
     }
 }
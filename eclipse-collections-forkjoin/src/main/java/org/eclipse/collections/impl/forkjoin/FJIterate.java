@@ -44,7 +44,6 @@ import org.eclipse.collections.impl.parallel.FastListCollectProcedureFactory;
 import org.eclipse.collections.impl.parallel.FlatCollectProcedureCombiner;
 import org.eclipse.collections.impl.parallel.FlatCollectProcedureFactory;
 import org.eclipse.collections.impl.parallel.ObjectIntProcedureFactory;
-import org.eclipse.collections.impl.parallel.ParallelArrayIterate;
 import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.parallel.PassThruCombiner;
 import org.eclipse.collections.impl.parallel.PassThruObjectIntProcedureFactory;
@@ -59,7 +58,10 @@ import org.eclipse.collections.impl.utility.Iterate;
 /**
  * The FJIterate class contains several parallel algorithms that work with Collections and make use of Java's fork-join
  * framework.  All of the higher level parallel algorithms depend on the basic parallel algorithm named {@code forEach}.
- * The forEach algorithm employs a batching fork and join approach.
+ * The forEach algorithm submits a single task for the whole collection, which recursively splits itself in half until
+ * the pieces are no bigger than the size of the collection divided by the task count.  Workers which run out of work
+ * steal pieces which have not been started yet from the others, so an expensive piece does not delay the rest.  The
+ * procedures created for the pieces are merged by the {@link Combiner} as the pieces complete.
  * <p>
  * All Collections that are not either a {@link RandomAccess} or {@link List} are first converted to a Java array
  * using {@link Iterate#toArray(Iterable)}, and then run with one of the {@code FJIterate.forEach} methods.
@@ -135,7 +137,7 @@ public final class FJIterate
      * specified minimum fork size and task count are used instead of the default values.
      *
      * @param minForkSize Only run in parallel if input collection is longer than this.
-     * @param taskCount   The number of parallel tasks to submit to the executor.
+     * @param taskCount   The number of pieces the collection is split into for parallel execution.
      * @see #forEachWithIndex(Iterable, ObjectIntProcedure)
      */
     public static <T, PT extends ObjectIntProcedure<? super T>> void forEachWithIndex(
@@ -304,7 +306,7 @@ public final class FJIterate
      * The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be shared.
      *
      * @param minForkSize Only run in parallel if input collection is longer than this.
-     * @param taskCount   The number of parallel tasks to submit to the executor.
+     * @param taskCount   The number of pieces the collection is split into for parallel execution.
      * @see #forEach(Iterable, Procedure)
      */
     public static <T, PT extends Procedure<? super T>> void forEach(
@@ -415,8 +417,8 @@ public final class FJIterate
             }
             else
             {
-                ParallelArrayIterate.forEachOn(
-                        (T[]) Iterate.toArray(iterable),
+                FJIterate.forEachInListOnExecutor(
+                        ArrayAdapter.adapt((T[]) Iterate.toArray(iterable)),
                         procedureFactory,
                         combiner,
                         minForkSize,
@@ -12,51 +12,37 @@ package org.eclipse.collections.impl.forkjoin;
 
 import java.io.Serializable;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinTask;
 
-import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.Combiner;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 
+/**
+ * Runs a procedure over a list as a single recursive {@link FJListProcedureTask}, which splits the list in half until
+ * the pieces are no bigger than the list size divided by the task count. Idle workers in the pool steal the halves
+ * which have not been started yet, so one slow piece does not hold up the others. The procedures are collected in
+ * list order as the tasks complete and combined on the calling thread once all tasks are done, one at a time with
+ * {@link Combiner#combineOne(Object)} or together with {@link Combiner#combineAll(Iterable)}.
+ */
 public class FJListProcedureRunner<T, PT extends Procedure<? super T>> implements Serializable
 {
     private static final long serialVersionUID = 1L;
 
-    private Throwable error;
+    private volatile Throwable error;
     private final Combiner<PT> combiner;
     private final int taskCount;
-    private final BlockingQueue<PT> outputQueue;
 
     public FJListProcedureRunner(Combiner<PT> newCombiner, int taskCount)
     {
         this.combiner = newCombiner;
         this.taskCount = taskCount;
-        this.outputQueue = this.combiner.useCombineOne() ? new ArrayBlockingQueue<PT>(taskCount) : null;
-    }
-
-    private FastList<ForkJoinTask<PT>> createAndExecuteTasks(ForkJoinPool executor, ProcedureFactory<PT> procedureFactory, List<T> list)
-    {
-        FastList<ForkJoinTask<PT>> tasks = FastList.newList(this.taskCount);
-        int sectionSize = list.size() / this.taskCount;
-        int taskCountMinusOne = this.taskCount - 1;
-        for (int index = 0; index < this.taskCount; index++)
-        {
-            ForkJoinTask<PT> task = this.createTask(procedureFactory, list, sectionSize, taskCountMinusOne, index);
-            tasks.add(task);
-            executor.execute(task);
-        }
-        return tasks;
     }
 
-    protected FJListProcedureTask<T, PT> createTask(ProcedureFactory<PT> procedureFactory, List<T> list, int sectionSize, int taskCountMinusOne, int index)
+    protected FJListProcedureTask<T, PT> createTask(ProcedureFactory<PT> procedureFactory, List<T> list, int leafSize)
     {
-        return new FJListProcedureTask<>(this, procedureFactory, list, index, sectionSize, index == taskCountMinusOne);
+        return new FJListProcedureTask<>(this, procedureFactory, list, 0, list.size(), leafSize);
     }
 
     public void setFailed(Throwable newError)
@@ -64,63 +50,24 @@ public class FJListProcedureRunner<T, PT extends Procedure<? super T>> implement
         this.error = newError;
     }
 
-    public void taskCompleted(ForkJoinTask<PT> task)
-    {
-        if (this.combiner.useCombineOne())
-        {
-            this.outputQueue.add(task.getRawResult());
-        }
-    }
-
     public void executeAndCombine(ForkJoinPool executor, ProcedureFactory<PT> procedureFactory, List<T> list)
     {
-        FastList<ForkJoinTask<PT>> tasks = this.createAndExecuteTasks(executor, procedureFactory, list);
-        if (this.combiner.useCombineOne())
-        {
-            this.join();
-        }
+        int leafSize = (int) Math.ceil((double) list.size() / (double) this.taskCount);
+        FastList<PT> procedures = executor.invoke(this.createTask(procedureFactory, list, leafSize));
         if (this.error != null)
         {
             throw new RuntimeException("One or more parallel tasks failed", this.error);
         }
-        if (!this.combiner.useCombineOne())
-        {
-            this.combiner.combineAll(tasks.asLazy().collect(new ProcedureExtractor()));
-        }
-    }
-
-    private void join()
-    {
-        try
+        if (this.combiner.useCombineOne())
         {
-            int remainingTaskCount = this.taskCount;
-            while (remainingTaskCount > 0)
+            for (PT procedure : procedures)
             {
-                this.combiner.combineOne(this.outputQueue.take());
-                remainingTaskCount--;
+                this.combiner.combineOne(procedure);
             }
         }
-        catch (InterruptedException e)
+        else
         {
-            throw new RuntimeException("Combine failed", e);
-        }
-    }
-
-    private final class ProcedureExtractor implements Function<ForkJoinTask<PT>, PT>
-    {
-        private static final long serialVersionUID = 1L;
-
-        @Override
-        public PT valueOf(ForkJoinTask<PT> object)
-        {
-            try
-            {
-                return object.get();
-            }
-            catch (InterruptedException | ExecutionException e)
-            {
-                throw new RuntimeException(e);
-            }
+            this.combiner.combineAll(procedures);
         }
     }
 }
@@ -12,78 +12,82 @@ package org.eclipse.collections.impl.forkjoin;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 import org.eclipse.collections.impl.utility.ArrayListIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 
-public class FJListProcedureTask<T, PT extends Procedure<? super T>> extends ForkJoinTask<PT>
+public class FJListProcedureTask<T, PT extends Procedure<? super T>> extends RecursiveTask<FastList<PT>>
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Stop splitting once this many more tasks are queued on the current worker than there are idle workers to steal
+     * them, as there is already enough work to go around.
+     */
+    private static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+
     private final ProcedureFactory<PT> procedureFactory;
-    private PT procedure;
     private final List<T> list;
     private final int start;
     private final int end;
+    private final int leafSize;
     private final FJListProcedureRunner<T, PT> taskRunner;
 
     /**
-     * Creates an array of ProcedureFJTasks wrapping Procedures created by the specified ProcedureFactory.
+     * Creates a task over the elements of the list from start (inclusive) to end (exclusive), which will split itself
+     * in half until it covers no more than leafSize elements.
      */
     public FJListProcedureTask(
             FJListProcedureRunner<T, PT> newFJTaskRunner, ProcedureFactory<PT> newProcedureFactory,
-            List<T> list, int index, int sectionSize, boolean isLast)
+            List<T> list, int start, int end, int leafSize)
     {
         this.taskRunner = newFJTaskRunner;
         this.procedureFactory = newProcedureFactory;
         this.list = list;
-        this.start = index * sectionSize;
-        this.end = isLast ? this.list.size() - 1 : this.start + sectionSize - 1;
+        this.start = start;
+        this.end = end;
+        this.leafSize = Math.max(1, leafSize);
     }
 
     @Override
-    protected boolean exec()
+    protected FastList<PT> compute()
     {
+        if (this.end - this.start > this.leafSize && getSurplusQueuedTaskCount() <= SURPLUS_QUEUED_TASK_THRESHOLD)
+        {
+            int middle = (this.start + this.end) >>> 1;
+            FJListProcedureTask<T, PT> right = new FJListProcedureTask<>(this.taskRunner, this.procedureFactory, this.list, middle, this.end, this.leafSize);
+            right.fork();
+            FastList<PT> result = new FJListProcedureTask<>(this.taskRunner, this.procedureFactory, this.list, this.start, middle, this.leafSize).compute();
+            result.addAll(right.join());
+            return result;
+        }
         try
         {
-            this.procedure = this.procedureFactory.create();
+            PT procedure = this.procedureFactory.create();
+            int last = this.end - 1;
             if (this.list instanceof ListIterable)
             {
-                ((ListIterable<T>) this.list).forEach(this.start, this.end, this.procedure);
+                ((ListIterable<T>) this.list).forEach(this.start, last, procedure);
             }
             else if (this.list instanceof ArrayList)
             {
-                ArrayListIterate.forEach((ArrayList<T>) this.list, this.start, this.end, this.procedure);
+                ArrayListIterate.forEach((ArrayList<T>) this.list, this.start, last, procedure);
             }
             else
             {
-                ListIterate.forEach(this.list, this.start, this.end, this.procedure);
+                ListIterate.forEach(this.list, this.start, last, procedure);
             }
+            return FastList.newListWith(procedure);
         }
         catch (Throwable newError)
         {
             this.taskRunner.setFailed(newError);
+            return FastList.newList();
         }
-        finally
-        {
-            this.taskRunner.taskCompleted(this);
-        }
-        return true;
-    }
-
-    @Override
-    public PT getRawResult()
-    {
-        return this.procedure;
-    }
-
-    @Override
-    protected void setRawResult(PT value)
-    {
-        throw new UnsupportedOperationException();
     }
 }
@@ -419,6 +419,68 @@ public class FJIterateTest
         Assert.assertEquals(expected.getClass().getSimpleName() + '/' + actual3.getClass().getSimpleName(), expected, actual3);
     }
 
+    @Test
+    public void selectKeepsOrderWithManySmallTasks()
+    {
+        MutableList<Integer> list = Interval.oneTo(20000).toList();
+        Collection<Integer> actual = FJIterate.select(list, Predicates.greaterThan(100), FastList.<Integer>newList(), 1, this.executor, false);
+        Assert.assertEquals(list.select(Predicates.greaterThan(100)), actual);
+    }
+
+    @Test
+    public void forEachWithUnevenWork()
+    {
+        final Thread caller = Thread.currentThread();
+        final MutableSet<Thread> leafThreads = UnifiedSet.<Thread>newSet().asSynchronized();
+        final AtomicInteger leafCount = new AtomicInteger();
+        final AtomicInteger count = new AtomicInteger();
+        final MutableList<Procedure<Integer>> combined = Lists.mutable.empty();
+        FJIterate.forEach(
+                Interval.oneTo(1000).toList(),
+                new ProcedureFactory<Procedure<Integer>>()
+                {
+                    public Procedure<Integer> create()
+                    {
+                        leafThreads.add(Thread.currentThread());
+                        leafCount.incrementAndGet();
+                        return new Procedure<Integer>()
+                        {
+                            public void value(Integer each)
+                            {
+                                if (each <= 10)
+                                {
+                                    try
+                                    {
+                                        Thread.sleep(10L);
+                                    }
+                                    catch (InterruptedException e)
+                                    {
+                                        throw new RuntimeException(e);
+                                    }
+                                }
+                                count.incrementAndGet();
+                            }
+                        };
+                    }
+                },
+                new AbstractProcedureCombiner<Procedure<Integer>>(true)
+                {
+                    public void combineOne(Procedure<Integer> procedure)
+                    {
+                        Assert.assertSame(caller, Thread.currentThread());
+                        combined.add(procedure);
+                    }
+                },
+                1,
+                100,
+                this.executor);
+        Assert.assertEquals(1000, count.get());
+        // The first leaf sleeps for 100 ms, so the other worker steals the rest of the work meanwhile.
+        Assert.assertTrue(leafThreads.size() > 1);
+        Assert.assertTrue(leafCount.get() > 1);
+        Verify.assertSize(leafCount.get(), combined);
+    }
+
     @Test
     public void selectSortedSet()
     {
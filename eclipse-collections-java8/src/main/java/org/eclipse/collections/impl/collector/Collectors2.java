@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.collector;
+
+import java.util.stream.Collector;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.partition.list.PartitionFastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * Collectors2 is a set of {@link Collector}s which accumulate the elements of a java.util.stream.Stream directly into
+ * Eclipse Collections types, without collecting into a JDK collection first and converting it afterwards.
+ * <p>
+ * Each thread of a parallel stream accumulates into its own container, and the partial results are merged with the
+ * bulk addAll and putAll methods of the target type. None of the collectors needs a finishing step, so they are all
+ * built with {@link Collector#of(java.util.function.Supplier, java.util.function.BiConsumer,
+ * java.util.function.BinaryOperator, Collector.Characteristics...)}, which reports
+ * {@link Collector.Characteristics#IDENTITY_FINISH}.
+ * <p>
+ * Collectors2 lives in the Java 8 module rather than in eclipse-collections, which still runs on Java 5 and 6.
+ *
+ * @since 7.1
+ */
+public final class Collectors2
+{
+    private Collectors2()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a Collector which collects the elements into a {@link FastList}, in encounter order.
+     */
+    public static <T> Collector<T, ?, MutableList<T>> toList()
+    {
+        return Collector.<T, MutableList<T>>of(
+                FastList::newList,
+                MutableList::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+    }
+
+    /**
+     * Returns a Collector which collects the elements into a {@link UnifiedSet}.
+     */
+    public static <T> Collector<T, ?, MutableSet<T>> toSet()
+    {
+        return Collector.<T, MutableSet<T>>of(
+                UnifiedSet::newSet,
+                MutableSet::add,
+                (left, right) -> {
+                    if (left.size() < right.size())
+                    {
+                        right.addAll(left);
+                        return right;
+                    }
+                    left.addAll(right);
+                    return left;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a Collector which collects the elements into a {@link HashBag}. Partial results are merged by
+     * occurrences, not element by element.
+     */
+    public static <T> Collector<T, ?, MutableBag<T>> toBag()
+    {
+        return Collector.<T, MutableBag<T>>of(
+                HashBag::newBag,
+                MutableBag::add,
+                Collectors2::mergeBags,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a Collector which counts the elements by the result of the specified function, into a {@link HashBag}.
+     */
+    public static <T, K> Collector<T, ?, MutableBag<K>> countBy(Function<? super T, ? extends K> function)
+    {
+        return Collector.<T, MutableBag<K>>of(
+                HashBag::newBag,
+                (bag, each) -> bag.add(function.valueOf(each)),
+                Collectors2::mergeBags,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a Collector which groups the elements by the result of the specified function, into a
+     * {@link FastListMultimap}. The values of each key are kept in encounter order.
+     */
+    public static <T, K> Collector<T, ?, MutableListMultimap<K, T>> groupBy(Function<? super T, ? extends K> function)
+    {
+        return Collector.<T, MutableListMultimap<K, T>>of(
+                FastListMultimap::newMultimap,
+                (multimap, each) -> multimap.put(function.valueOf(each), each),
+                (left, right) -> {
+                    left.putAll(right);
+                    return left;
+                });
+    }
+
+    /**
+     * Returns a Collector which partitions the elements by the specified predicate, into a {@link PartitionFastList}.
+     */
+    public static <T> Collector<T, ?, PartitionMutableList<T>> partition(Predicate<? super T> predicate)
+    {
+        return Collector.<T, PartitionMutableList<T>>of(
+                PartitionFastList::new,
+                (partition, each) -> {
+                    MutableList<T> bucket = predicate.accept(each) ? partition.getSelected() : partition.getRejected();
+                    bucket.add(each);
+                },
+                (left, right) -> {
+                    left.getSelected().addAll(right.getSelected());
+                    left.getRejected().addAll(right.getRejected());
+                    return left;
+                });
+    }
+
+    /**
+     * Returns a Collector which sums the long values of the elements grouped by the result of the specified function,
+     * into an {@link ObjectLongHashMap}.
+     */
+    public static <T, K> Collector<T, ?, MutableObjectLongMap<K>> sumByLong(
+            Function<? super T, ? extends K> groupBy,
+            LongFunction<? super T> function)
+    {
+        return Collector.<T, MutableObjectLongMap<K>>of(
+                ObjectLongHashMap::newMap,
+                (map, each) -> map.addToValue(groupBy.valueOf(each), function.longValueOf(each)),
+                (left, right) -> {
+                    right.forEachKeyValue(left::addToValue);
+                    return left;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a Collector which sums the double values of the elements grouped by the result of the specified
+     * function, into an {@link ObjectDoubleHashMap}.
+     */
+    public static <T, K> Collector<T, ?, MutableObjectDoubleMap<K>> sumByDouble(
+            Function<? super T, ? extends K> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return Collector.<T, MutableObjectDoubleMap<K>>of(
+                ObjectDoubleHashMap::newMap,
+                (map, each) -> map.addToValue(groupBy.valueOf(each), function.doubleValueOf(each)),
+                (left, right) -> {
+                    right.forEachKeyValue(left::addToValue);
+                    return left;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private static <T> MutableBag<T> mergeBags(MutableBag<T> left, MutableBag<T> right)
+    {
+        if (left.sizeDistinct() < right.sizeDistinct())
+        {
+            right.addAll(left);
+            return right;
+        }
+        left.addAll(right);
+        return left;
+    }
+}
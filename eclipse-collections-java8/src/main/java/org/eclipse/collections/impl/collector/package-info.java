@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of {@link java.util.stream.Collector} which collect streams into Eclipse Collections types.
+ * <p>
+ *     This package contains the following class:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.collector.Collectors2} - a factory for Collectors which accumulate into lists, sets, bags, multimaps, partitions and primitive maps.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.collector;
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * FastListSpliterators creates splittable {@link Spliterator}s over a {@link FastList}, which split the index range of
+ * the list in halves and report exact sizes for every split, rather than copying batches out of an iterator as the
+ * default {@link java.util.Collection#spliterator()} does.
+ * <p>
+ * The spliterators are late-binding: the size of the list is read when the spliterator is first traversed, split or
+ * sized.
+ *
+ * @since 7.1
+ */
+public final class FastListSpliterators
+{
+    private FastListSpliterators()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator over the given list.
+     */
+    public static <T> Spliterator<T> spliterator(FastList<T> list)
+    {
+        return new FastListSpliterator<>(list, 0, -1);
+    }
+
+    private static final class FastListSpliterator<T> implements Spliterator<T>
+    {
+        private final FastList<T> list;
+        private int index;
+        private int fence;
+
+        private FastListSpliterator(FastList<T> list, int origin, int fence)
+        {
+            this.list = list;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.fence = this.list.size();
+            }
+            return this.fence;
+        }
+
+        public Spliterator<T> trySplit()
+        {
+            int hi = this.getFence();
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            return new FastListSpliterator<>(this.list, lo, mid);
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            if (this.index < hi)
+            {
+                action.accept(this.list.get(this.index++));
+                return true;
+            }
+            return false;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            int from = this.index;
+            this.index = hi;
+            if (from < hi)
+            {
+                this.list.forEach(from, hi - 1, action::accept);
+            }
+        }
+
+        public long estimateSize()
+        {
+            return this.getFence() - this.index;
+        }
+
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
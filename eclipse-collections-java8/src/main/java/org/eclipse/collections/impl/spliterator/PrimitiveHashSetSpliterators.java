@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import org.eclipse.collections.api.block.procedure.primitive.DoubleProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.impl.set.mutable.primitive.DoubleHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+
+/**
+ * PrimitiveHashSetSpliterators creates splittable primitive {@link Spliterator}s over the backing tables of the
+ * primitive hash sets, so that primitive streams over them split the table directly rather than copying batches out
+ * of an iterator, and never box.
+ * <p>
+ * The spliterators are late-binding: the table is read when the spliterator is first traversed, split or sized. The
+ * values from 0 to 31 are kept in a bitmap rather than in the table, so the first split hands off the bitmap and
+ * later splits halve the remaining table range. A split of the table halves the size estimate, so only a spliterator
+ * which has not split its table reports {@link Spliterator#SIZED}.
+ * <p>
+ * The spliterators live in the Java 8 module rather than in eclipse-collections, which still runs on Java 5 and 6.
+ *
+ * @since 7.1
+ */
+public final class PrimitiveHashSetSpliterators
+{
+    private PrimitiveHashSetSpliterators()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator.OfInt over the given set.
+     */
+    public static Spliterator.OfInt spliterator(IntHashSet set)
+    {
+        return new IntHashSetSpliterator(set, 0, 0, -1, 0L, true);
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator.OfLong over the given set.
+     */
+    public static Spliterator.OfLong spliterator(LongHashSet set)
+    {
+        return new LongHashSetSpliterator(set, 0, 0, -1, 0L, true);
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator.OfDouble over the given set.
+     */
+    public static Spliterator.OfDouble spliterator(DoubleHashSet set)
+    {
+        return new DoubleHashSetSpliterator(set, 0, 0, -1, 0L, true);
+    }
+
+    private static final class IntHashSetSpliterator implements Spliterator.OfInt
+    {
+        private final IntHashSet set;
+        private int zeroToThirtyOne;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean sized;
+        private boolean found;
+        private int next;
+        private final IntProcedure capture = each -> {
+            this.next = each;
+            this.found = true;
+        };
+
+        private IntHashSetSpliterator(IntHashSet set, int zeroToThirtyOne, int origin, int fence, long estimate, boolean sized)
+        {
+            this.set = set;
+            this.zeroToThirtyOne = zeroToThirtyOne;
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.zeroToThirtyOne = zeroToThirtyOne(this.set);
+                this.fence = this.set.forEachInTableSlots(0, 0, this.capture);
+                this.estimate = this.set.size();
+            }
+            return this.fence;
+        }
+
+        private static int zeroToThirtyOne(IntHashSet set)
+        {
+            int bits = 0;
+            for (int i = 0; i < 32; i++)
+            {
+                if (set.contains(i))
+                {
+                    bits |= 1 << i;
+                }
+            }
+            return bits;
+        }
+
+        public Spliterator.OfInt trySplit()
+        {
+            int hi = this.getFence();
+            if (this.zeroToThirtyOne != 0)
+            {
+                int bits = this.zeroToThirtyOne;
+                int bitCount = Integer.bitCount(bits);
+                this.zeroToThirtyOne = 0;
+                this.estimate -= bitCount;
+                return new IntHashSetSpliterator(this.set, bits, 0, 0, bitCount, true);
+            }
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimate >>>= 1;
+            this.sized = false;
+            return new IntHashSetSpliterator(this.set, 0, lo, mid, this.estimate, false);
+        }
+
+        public boolean tryAdvance(IntConsumer action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            if (this.zeroToThirtyOne != 0)
+            {
+                int value = Integer.numberOfTrailingZeros(this.zeroToThirtyOne);
+                this.zeroToThirtyOne &= ~(1 << value);
+                this.advanced();
+                action.accept(value);
+                return true;
+            }
+            while (this.index < hi)
+            {
+                this.found = false;
+                this.set.forEachInTableSlots(this.index, this.index + 1, this.capture);
+                this.index++;
+                if (this.found)
+                {
+                    this.advanced();
+                    action.accept(this.next);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void advanced()
+        {
+            if (this.sized)
+            {
+                this.estimate--;
+            }
+        }
+
+        public void forEachRemaining(IntConsumer action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            int zeroToThirtyOne = this.zeroToThirtyOne;
+            while (zeroToThirtyOne != 0)
+            {
+                int value = Integer.numberOfTrailingZeros(zeroToThirtyOne);
+                zeroToThirtyOne &= ~(1 << value);
+                action.accept(value);
+            }
+            this.zeroToThirtyOne = 0;
+            int from = this.index;
+            this.index = hi;
+            this.estimate = 0L;
+            this.set.forEachInTableSlots(from, hi, action::accept);
+        }
+
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimate;
+        }
+
+        public int characteristics()
+        {
+            int sized = this.sized ? Spliterator.SIZED : 0;
+            return sized | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    private static final class LongHashSetSpliterator implements Spliterator.OfLong
+    {
+        private final LongHashSet set;
+        private int zeroToThirtyOne;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean sized;
+        private boolean found;
+        private long next;
+        private final LongProcedure capture = each -> {
+            this.next = each;
+            this.found = true;
+        };
+
+        private LongHashSetSpliterator(LongHashSet set, int zeroToThirtyOne, int origin, int fence, long estimate, boolean sized)
+        {
+            this.set = set;
+            this.zeroToThirtyOne = zeroToThirtyOne;
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.zeroToThirtyOne = zeroToThirtyOne(this.set);
+                this.fence = this.set.forEachInTableSlots(0, 0, this.capture);
+                this.estimate = this.set.size();
+            }
+            return this.fence;
+        }
+
+        private static int zeroToThirtyOne(LongHashSet set)
+        {
+            int bits = 0;
+            for (int i = 0; i < 32; i++)
+            {
+                if (set.contains(i))
+                {
+                    bits |= 1 << i;
+                }
+            }
+            return bits;
+        }
+
+        public Spliterator.OfLong trySplit()
+        {
+            int hi = this.getFence();
+            if (this.zeroToThirtyOne != 0)
+            {
+                int bits = this.zeroToThirtyOne;
+                int bitCount = Integer.bitCount(bits);
+                this.zeroToThirtyOne = 0;
+                this.estimate -= bitCount;
+                return new LongHashSetSpliterator(this.set, bits, 0, 0, bitCount, true);
+            }
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimate >>>= 1;
+            this.sized = false;
+            return new LongHashSetSpliterator(this.set, 0, lo, mid, this.estimate, false);
+        }
+
+        public boolean tryAdvance(LongConsumer action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            if (this.zeroToThirtyOne != 0)
+            {
+                int value = Integer.numberOfTrailingZeros(this.zeroToThirtyOne);
+                this.zeroToThirtyOne &= ~(1 << value);
+                this.advanced();
+                action.accept((long) value);
+                return true;
+            }
+            while (this.index < hi)
+            {
+                this.found = false;
+                this.set.forEachInTableSlots(this.index, this.index + 1, this.capture);
+                this.index++;
+                if (this.found)
+                {
+                    this.advanced();
+                    action.accept(this.next);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void advanced()
+        {
+            if (this.sized)
+            {
+                this.estimate--;
+            }
+        }
+
+        public void forEachRemaining(LongConsumer action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            int zeroToThirtyOne = this.zeroToThirtyOne;
+            while (zeroToThirtyOne != 0)
+            {
+                int value = Integer.numberOfTrailingZeros(zeroToThirtyOne);
+                zeroToThirtyOne &= ~(1 << value);
+                action.accept((long) value);
+            }
+            this.zeroToThirtyOne = 0;
+            int from = this.index;
+            this.index = hi;
+            this.estimate = 0L;
+            this.set.forEachInTableSlots(from, hi, action::accept);
+        }
+
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimate;
+        }
+
+        public int characteristics()
+        {
+            int sized = this.sized ? Spliterator.SIZED : 0;
+            return sized | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    private static final class DoubleHashSetSpliterator implements Spliterator.OfDouble
+    {
+        private final DoubleHashSet set;
+        private int zeroToThirtyOne;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean sized;
+        private boolean found;
+        private double next;
+        private final DoubleProcedure capture = each -> {
+            this.next = each;
+            this.found = true;
+        };
+
+        private DoubleHashSetSpliterator(DoubleHashSet set, int zeroToThirtyOne, int origin, int fence, long estimate, boolean sized)
+        {
+            this.set = set;
+            this.zeroToThirtyOne = zeroToThirtyOne;
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.zeroToThirtyOne = zeroToThirtyOne(this.set);
+                this.fence = this.set.forEachInTableSlots(0, 0, this.capture);
+                this.estimate = this.set.size();
+            }
+            return this.fence;
+        }
+
+        private static int zeroToThirtyOne(DoubleHashSet set)
+        {
+            int bits = 0;
+            for (int i = 0; i < 32; i++)
+            {
+                if (set.contains(i))
+                {
+                    bits |= 1 << i;
+                }
+            }
+            return bits;
+        }
+
+        public Spliterator.OfDouble trySplit()
+        {
+            int hi = this.getFence();
+            if (this.zeroToThirtyOne != 0)
+            {
+                int bits = this.zeroToThirtyOne;
+                int bitCount = Integer.bitCount(bits);
+                this.zeroToThirtyOne = 0;
+                this.estimate -= bitCount;
+                return new DoubleHashSetSpliterator(this.set, bits, 0, 0, bitCount, true);
+            }
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimate >>>= 1;
+            this.sized = false;
+            return new DoubleHashSetSpliterator(this.set, 0, lo, mid, this.estimate, false);
+        }
+
+        public boolean tryAdvance(DoubleConsumer action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            if (this.zeroToThirtyOne != 0)
+            {
+                int value = Integer.numberOfTrailingZeros(this.zeroToThirtyOne);
+                this.zeroToThirtyOne &= ~(1 << value);
+                this.advanced();
+                action.accept((double) value);
+                return true;
+            }
+            while (this.index < hi)
+            {
+                this.found = false;
+                this.set.forEachInTableSlots(this.index, this.index + 1, this.capture);
+                this.index++;
+                if (this.found)
+                {
+                    this.advanced();
+                    action.accept(this.next);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void advanced()
+        {
+            if (this.sized)
+            {
+                this.estimate--;
+            }
+        }
+
+        public void forEachRemaining(DoubleConsumer action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            int zeroToThirtyOne = this.zeroToThirtyOne;
+            while (zeroToThirtyOne != 0)
+            {
+                int value = Integer.numberOfTrailingZeros(zeroToThirtyOne);
+                zeroToThirtyOne &= ~(1 << value);
+                action.accept((double) value);
+            }
+            this.zeroToThirtyOne = 0;
+            int from = this.index;
+            this.index = hi;
+            this.estimate = 0L;
+            this.set.forEachInTableSlots(from, hi, action::accept);
+        }
+
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimate;
+        }
+
+        public int characteristics()
+        {
+            int sized = this.sized ? Spliterator.SIZED : 0;
+            return sized | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+}
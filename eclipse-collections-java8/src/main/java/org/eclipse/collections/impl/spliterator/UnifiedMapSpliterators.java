@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * UnifiedMapSpliterators creates splittable {@link Spliterator}s over the keys, values and entries of a
+ * {@link UnifiedMap}, which split the slot range of the table in halves rather than copying batches out of an iterator
+ * as the default {@link java.util.Collection#spliterator()} of the views does.
+ * <p>
+ * The spliterators are late-binding: the table size is read when the spliterator is first traversed, split or sized.
+ * A split never divides a collision chain and halves the size estimate, so only a spliterator which has not split its
+ * table reports {@link Spliterator#SIZED}.
+ *
+ * @since 7.1
+ */
+public final class UnifiedMapSpliterators
+{
+    private UnifiedMapSpliterators()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator over the keys of the given map.
+     */
+    public static <K, V> Spliterator<K> keySpliterator(UnifiedMap<K, V> map)
+    {
+        return new UnifiedMapSpliterator<>(map, (key, value) -> key, Spliterator.DISTINCT, 0, -1, 0L, true);
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator over the values of the given map.
+     */
+    public static <K, V> Spliterator<V> valuesSpliterator(UnifiedMap<K, V> map)
+    {
+        return new UnifiedMapSpliterator<>(map, (key, value) -> value, 0, 0, -1, 0L, true);
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator over the entries of the given map. Setting the value of an entry
+     * puts it into the map.
+     */
+    public static <K, V> Spliterator<Map.Entry<K, V>> entrySpliterator(UnifiedMap<K, V> map)
+    {
+        return new UnifiedMapSpliterator<>(map, (key, value) -> new MapEntry<>(map, key, value), Spliterator.DISTINCT, 0, -1, 0L, true);
+    }
+
+    private static final class UnifiedMapSpliterator<K, V, E> implements Spliterator<E>
+    {
+        private final UnifiedMap<K, V> map;
+        private final BiFunction<? super K, ? super V, ? extends E> element;
+        private final int characteristics;
+        private final FastList<E> buffer = FastList.newList();
+        private final Procedure2<K, V> bufferProcedure;
+        private int bufferPosition;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean sized;
+
+        private UnifiedMapSpliterator(
+                UnifiedMap<K, V> map,
+                BiFunction<? super K, ? super V, ? extends E> element,
+                int characteristics,
+                int origin,
+                int fence,
+                long estimate,
+                boolean sized)
+        {
+            this.map = map;
+            this.element = element;
+            this.characteristics = characteristics;
+            this.bufferProcedure = (key, value) -> this.buffer.add(this.element.apply(key, value));
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.fence = this.map.forEachKeyValueInTableSlots(0, 0, this.bufferProcedure);
+                this.estimate = this.map.size();
+            }
+            return this.fence;
+        }
+
+        public Spliterator<E> trySplit()
+        {
+            int hi = this.getFence();
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimate >>>= 1;
+            this.sized = false;
+            return new UnifiedMapSpliterator<>(this.map, this.element, this.characteristics, lo, mid, this.estimate, false);
+        }
+
+        public boolean tryAdvance(Consumer<? super E> action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            while (this.bufferPosition == this.buffer.size())
+            {
+                if (this.index >= hi)
+                {
+                    return false;
+                }
+                this.buffer.clear();
+                this.bufferPosition = 0;
+                this.map.forEachKeyValueInTableSlots(this.index, this.index + 1, this.bufferProcedure);
+                this.index++;
+            }
+            if (this.sized)
+            {
+                this.estimate--;
+            }
+            action.accept(this.buffer.get(this.bufferPosition++));
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super E> action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            while (this.bufferPosition < this.buffer.size())
+            {
+                action.accept(this.buffer.get(this.bufferPosition++));
+            }
+            int from = this.index;
+            this.index = hi;
+            this.estimate = 0L;
+            this.map.forEachKeyValueInTableSlots(from, hi, (key, value) -> action.accept(this.element.apply(key, value)));
+        }
+
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimate;
+        }
+
+        public int characteristics()
+        {
+            int sized = this.sized ? Spliterator.SIZED : 0;
+            return sized | this.characteristics;
+        }
+    }
+
+    private static final class MapEntry<K, V> implements Map.Entry<K, V>
+    {
+        private final UnifiedMap<K, V> map;
+        private final K key;
+        private V value;
+
+        private MapEntry(UnifiedMap<K, V> map, K key, V value)
+        {
+            this.map = map;
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            this.map.put(this.key, value);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return (this.key == null ? other.getKey() == null : this.key.equals(other.getKey()))
+                    && (this.value == null ? other.getValue() == null : this.value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * UnifiedSetSpliterators creates splittable {@link Spliterator}s over a {@link UnifiedSet}, which split the slot range
+ * of the table in halves rather than copying batches out of an iterator as the default
+ * {@link java.util.Collection#spliterator()} does.
+ * <p>
+ * The spliterators are late-binding: the table size is read when the spliterator is first traversed, split or sized.
+ * A split never divides a collision chain and halves the size estimate, so only a spliterator which has not split its
+ * table reports {@link Spliterator#SIZED}.
+ *
+ * @since 7.1
+ */
+public final class UnifiedSetSpliterators
+{
+    private UnifiedSetSpliterators()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns a late-binding, splittable Spliterator over the given set.
+     */
+    public static <T> Spliterator<T> spliterator(UnifiedSet<T> set)
+    {
+        return new UnifiedSetSpliterator<>(set, 0, -1, 0L, true);
+    }
+
+    private static final class UnifiedSetSpliterator<T> implements Spliterator<T>
+    {
+        private final UnifiedSet<T> set;
+        private final FastList<T> buffer = FastList.newList();
+        private final Procedure<T> bufferProcedure = this.buffer::add;
+        private int bufferPosition;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean sized;
+
+        private UnifiedSetSpliterator(UnifiedSet<T> set, int origin, int fence, long estimate, boolean sized)
+        {
+            this.set = set;
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.fence = this.set.forEachInTableSlots(0, 0, this.bufferProcedure);
+                this.estimate = this.set.size();
+            }
+            return this.fence;
+        }
+
+        public Spliterator<T> trySplit()
+        {
+            int hi = this.getFence();
+            int lo = this.index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimate >>>= 1;
+            this.sized = false;
+            return new UnifiedSetSpliterator<>(this.set, lo, mid, this.estimate, false);
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            while (this.bufferPosition == this.buffer.size())
+            {
+                if (this.index >= hi)
+                {
+                    return false;
+                }
+                this.buffer.clear();
+                this.bufferPosition = 0;
+                this.set.forEachInTableSlots(this.index, this.index + 1, this.bufferProcedure);
+                this.index++;
+            }
+            if (this.sized)
+            {
+                this.estimate--;
+            }
+            action.accept(this.buffer.get(this.bufferPosition++));
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            if (action == null)
+            {
+                throw new NullPointerException();
+            }
+            int hi = this.getFence();
+            while (this.bufferPosition < this.buffer.size())
+            {
+                action.accept(this.buffer.get(this.bufferPosition++));
+            }
+            int from = this.index;
+            this.index = hi;
+            this.estimate = 0L;
+            this.set.forEachInTableSlots(from, hi, action::accept);
+        }
+
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimate;
+        }
+
+        public int characteristics()
+        {
+            int sized = this.sized ? Spliterator.SIZED : 0;
+            return sized | Spliterator.DISTINCT;
+        }
+    }
+}
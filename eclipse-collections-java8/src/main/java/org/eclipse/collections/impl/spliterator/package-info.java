@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of {@link java.util.Spliterator} over Eclipse Collections types.
+ * <p>
+ *     This package contains the following classes:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.spliterator.FastListSpliterators} - a factory for splittable Spliterators over FastList.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.spliterator.PrimitiveHashSetSpliterators} - a factory for splittable primitive Spliterators over the int, long and double hash sets.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.spliterator.UnifiedMapSpliterators} - a factory for splittable Spliterators over the keys, values and entries of UnifiedMap.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.spliterator.UnifiedSetSpliterators} - a factory for splittable Spliterators over UnifiedSet.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.spliterator;
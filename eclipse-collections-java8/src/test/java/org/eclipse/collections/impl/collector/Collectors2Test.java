@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.collector;
+
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Collectors2Test
+{
+    private static final Interval SMALL_INTERVAL = Interval.oneTo(5);
+    private static final Interval LARGE_INTERVAL = Interval.oneTo(20000);
+
+    @Test
+    public void toList()
+    {
+        MutableList<Integer> list = SMALL_INTERVAL.stream().collect(Collectors2.toList());
+        Verify.assertInstanceOf(FastList.class, list);
+        Assert.assertEquals(SMALL_INTERVAL, list);
+        Assert.assertEquals(LARGE_INTERVAL, LARGE_INTERVAL.parallelStream().collect(Collectors2.toList()));
+    }
+
+    @Test
+    public void toSet()
+    {
+        MutableSet<Integer> set = Stream.of(1, 2, 2, 3).collect(Collectors2.toSet());
+        Verify.assertInstanceOf(UnifiedSet.class, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        Assert.assertEquals(LARGE_INTERVAL.toSet(), LARGE_INTERVAL.parallelStream().collect(Collectors2.toSet()));
+    }
+
+    @Test
+    public void toBag()
+    {
+        MutableBag<Integer> bag = Stream.of(1, 2, 2, 3, 3, 3).collect(Collectors2.toBag());
+        Verify.assertInstanceOf(HashBag.class, bag);
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 2, 3, 3, 3), bag);
+        MutableBag<Integer> parallel = LARGE_INTERVAL.parallelStream().map(each -> each % 7).collect(Collectors2.toBag());
+        Assert.assertEquals(LARGE_INTERVAL.toList().collect(each -> each % 7).toBag(), parallel);
+    }
+
+    @Test
+    public void countBy()
+    {
+        MutableBag<Boolean> bag = LARGE_INTERVAL.parallelStream().collect(Collectors2.countBy(each -> each % 2 == 0));
+        Assert.assertEquals(10000, bag.occurrencesOf(Boolean.TRUE));
+        Assert.assertEquals(10000, bag.occurrencesOf(Boolean.FALSE));
+    }
+
+    @Test
+    public void groupBy()
+    {
+        MutableListMultimap<Integer, Integer> multimap = SMALL_INTERVAL.stream().collect(Collectors2.groupBy(each -> each % 2));
+        Assert.assertEquals(SMALL_INTERVAL.toList().groupBy(each -> each % 2), multimap);
+        MutableListMultimap<Integer, Integer> parallel = LARGE_INTERVAL.parallelStream().collect(Collectors2.groupBy(each -> each % 3));
+        Assert.assertEquals(LARGE_INTERVAL.toList().groupBy(each -> each % 3), parallel);
+    }
+
+    @Test
+    public void partition()
+    {
+        PartitionMutableList<Integer> partition = LARGE_INTERVAL.parallelStream().collect(Collectors2.partition(each -> each % 3 == 0));
+        Assert.assertEquals(LARGE_INTERVAL.toList().select(each -> each % 3 == 0), partition.getSelected());
+        Assert.assertEquals(LARGE_INTERVAL.toList().reject(each -> each % 3 == 0), partition.getRejected());
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        MutableObjectLongMap<Integer> sums = LARGE_INTERVAL.parallelStream().collect(Collectors2.sumByLong(each -> each % 2, Integer::longValue));
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues(0, 100010000L, 1, 100000000L), sums);
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        MutableObjectDoubleMap<Integer> sums = SMALL_INTERVAL.stream().collect(Collectors2.sumByDouble(each -> each % 2, Integer::doubleValue));
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues(0, 6.0, 1, 9.0), sums);
+    }
+
+    @Test
+    public void characteristics()
+    {
+        Assert.assertTrue(Collectors2.toList().characteristics().contains(Collector.Characteristics.IDENTITY_FINISH));
+        Assert.assertFalse(Collectors2.toList().characteristics().contains(Collector.Characteristics.UNORDERED));
+        Assert.assertTrue(Collectors2.toSet().characteristics().contains(Collector.Characteristics.UNORDERED));
+    }
+
+    @Test
+    public void classIsNonInstantiable()
+    {
+        Verify.assertClassNonInstantiable(Collectors2.class);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FastListSpliteratorsTest
+{
+    @Test
+    public void spliterator()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(1000));
+        Assert.assertEquals(500500L, StreamSupport.stream(FastListSpliterators.spliterator(list), true).mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(list, StreamSupport.stream(FastListSpliterators.spliterator(list), false).collect(Collectors.toList()));
+
+        Spliterator<Integer> spliterator = FastListSpliterators.spliterator(list);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(500L, prefix.estimateSize());
+        Assert.assertEquals(500L, spliterator.estimateSize());
+        MutableList<Integer> result = FastList.newList();
+        prefix.forEachRemaining(result::add);
+        Assert.assertTrue(spliterator.tryAdvance(result::add));
+        Assert.assertEquals(499L, spliterator.estimateSize());
+        spliterator.forEachRemaining(result::add);
+        Assert.assertFalse(spliterator.tryAdvance(result::add));
+        Assert.assertEquals(list, result);
+    }
+
+    @Test
+    public void lateBinding()
+    {
+        FastList<Integer> list = FastList.newListWith(1, 2);
+        Spliterator<Integer> spliterator = FastListSpliterators.spliterator(list);
+        list.add(3);
+        Assert.assertEquals(3L, spliterator.estimateSize());
+    }
+}
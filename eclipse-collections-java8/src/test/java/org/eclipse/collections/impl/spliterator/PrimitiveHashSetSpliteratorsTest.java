@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.collections.impl.set.mutable.primitive.DoubleHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitiveHashSetSpliteratorsTest
+{
+    @Test
+    public void intHashSet()
+    {
+        IntHashSet hashSet = new IntHashSet();
+        for (int i = 0; i < 200; i++)
+        {
+            hashSet.add(i);
+        }
+        Assert.assertEquals(200L, StreamSupport.intStream(PrimitiveHashSetSpliterators.spliterator(hashSet), true).distinct().count());
+
+        Spliterator.OfInt spliterator = PrimitiveHashSetSpliterators.spliterator(hashSet);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(200L, spliterator.estimateSize());
+        Spliterator.OfInt zeroToThirtyOne = spliterator.trySplit();
+        Assert.assertEquals(32L, zeroToThirtyOne.estimateSize());
+        Assert.assertEquals(168L, spliterator.estimateSize());
+
+        IntHashSet result = new IntHashSet();
+        Assert.assertTrue(zeroToThirtyOne.tryAdvance((IntConsumer) result::add));
+        Assert.assertTrue(zeroToThirtyOne.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(31L, zeroToThirtyOne.estimateSize());
+        zeroToThirtyOne.forEachRemaining((IntConsumer) result::add);
+        Assert.assertEquals(0L, zeroToThirtyOne.estimateSize());
+        Assert.assertFalse(zeroToThirtyOne.tryAdvance((IntConsumer) result::add));
+        Assert.assertTrue(spliterator.tryAdvance((Consumer<Integer>) result::add));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(167L, spliterator.estimateSize());
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        prefix.forEachRemaining((IntConsumer) result::add);
+        spliterator.forEachRemaining((Consumer<Integer>) result::add);
+        Assert.assertEquals(hashSet, result);
+    }
+
+    @Test
+    public void longHashSet()
+    {
+        LongHashSet hashSet = new LongHashSet();
+        for (int i = 0; i < 200; i++)
+        {
+            hashSet.add(i);
+        }
+        Assert.assertEquals(200L, StreamSupport.longStream(PrimitiveHashSetSpliterators.spliterator(hashSet), true).distinct().count());
+
+        Spliterator.OfLong spliterator = PrimitiveHashSetSpliterators.spliterator(hashSet);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(200L, spliterator.estimateSize());
+        Spliterator.OfLong zeroToThirtyOne = spliterator.trySplit();
+        Assert.assertEquals(32L, zeroToThirtyOne.estimateSize());
+        Assert.assertEquals(168L, spliterator.estimateSize());
+
+        LongHashSet result = new LongHashSet();
+        Assert.assertTrue(zeroToThirtyOne.tryAdvance((LongConsumer) result::add));
+        Assert.assertTrue(zeroToThirtyOne.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(31L, zeroToThirtyOne.estimateSize());
+        zeroToThirtyOne.forEachRemaining((LongConsumer) result::add);
+        Assert.assertEquals(0L, zeroToThirtyOne.estimateSize());
+        Assert.assertFalse(zeroToThirtyOne.tryAdvance((LongConsumer) result::add));
+        Assert.assertTrue(spliterator.tryAdvance((Consumer<Long>) result::add));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(167L, spliterator.estimateSize());
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        prefix.forEachRemaining((LongConsumer) result::add);
+        spliterator.forEachRemaining((Consumer<Long>) result::add);
+        Assert.assertEquals(hashSet, result);
+    }
+
+    @Test
+    public void doubleHashSet()
+    {
+        DoubleHashSet hashSet = new DoubleHashSet();
+        for (int i = 0; i < 200; i++)
+        {
+            hashSet.add(i);
+        }
+        Assert.assertEquals(200L, StreamSupport.doubleStream(PrimitiveHashSetSpliterators.spliterator(hashSet), true).distinct().count());
+
+        Spliterator.OfDouble spliterator = PrimitiveHashSetSpliterators.spliterator(hashSet);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(200L, spliterator.estimateSize());
+        Spliterator.OfDouble zeroToThirtyOne = spliterator.trySplit();
+        Assert.assertEquals(32L, zeroToThirtyOne.estimateSize());
+        Assert.assertEquals(168L, spliterator.estimateSize());
+
+        DoubleHashSet result = new DoubleHashSet();
+        Assert.assertTrue(zeroToThirtyOne.tryAdvance((DoubleConsumer) result::add));
+        Assert.assertTrue(zeroToThirtyOne.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(31L, zeroToThirtyOne.estimateSize());
+        zeroToThirtyOne.forEachRemaining((DoubleConsumer) result::add);
+        Assert.assertEquals(0L, zeroToThirtyOne.estimateSize());
+        Assert.assertFalse(zeroToThirtyOne.tryAdvance((DoubleConsumer) result::add));
+        Assert.assertTrue(spliterator.tryAdvance((Consumer<Double>) result::add));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(167L, spliterator.estimateSize());
+        Spliterator.OfDouble prefix = spliterator.trySplit();
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        prefix.forEachRemaining((DoubleConsumer) result::add);
+        spliterator.forEachRemaining((Consumer<Double>) result::add);
+        Assert.assertEquals(hashSet, result);
+    }
+}
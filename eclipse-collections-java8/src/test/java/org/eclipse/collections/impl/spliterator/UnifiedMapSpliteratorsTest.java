@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UnifiedMapSpliteratorsTest
+{
+    @Test
+    public void spliterator()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        for (Integer each : FastList.newListWith(0, 17, 34, 51, 68, 85, 102, 119, 136).withAll(Interval.fromTo(1000, 1999)))
+        {
+            map.put(each, each);
+        }
+        Assert.assertEquals(map.sumOfInt(Integer::intValue), StreamSupport.stream(UnifiedMapSpliterators.valuesSpliterator(map), true).mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(map.keySet(), StreamSupport.stream(UnifiedMapSpliterators.keySpliterator(map), true).collect(Collectors.toSet()));
+        Assert.assertEquals(map, StreamSupport.stream(UnifiedMapSpliterators.entrySpliterator(map), true).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+        Spliterator<Integer> spliterator = UnifiedMapSpliterators.keySpliterator(map);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(1009L, spliterator.estimateSize());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        MutableSet<Integer> result = UnifiedSet.newSet();
+        Assert.assertTrue(prefix.tryAdvance(result::add));
+        prefix.forEachRemaining(result::add);
+        while (spliterator.tryAdvance(result::add))
+        {
+        }
+        Assert.assertEquals(map.keySet(), result);
+
+        Spliterator<Integer> unsplit = UnifiedMapSpliterators.valuesSpliterator(map);
+        FastList<Integer> traversed = FastList.newList();
+        for (int i = 1; i <= 1009; i++)
+        {
+            Assert.assertTrue(unsplit.tryAdvance(traversed::add));
+            Assert.assertTrue(unsplit.hasCharacteristics(Spliterator.SIZED));
+            Assert.assertEquals(1009L - i, unsplit.estimateSize());
+        }
+        Assert.assertFalse(unsplit.tryAdvance(traversed::add));
+        Assert.assertEquals(map.keySet(), traversed.toSet());
+    }
+
+    @Test
+    public void entrySetValue()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newWithKeysValues(1, "1", 2, "2");
+        UnifiedMapSpliterators.entrySpliterator(map).forEachRemaining(entry -> entry.setValue(entry.getValue() + entry.getValue()));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "11", 2, "22"), map);
+    }
+}
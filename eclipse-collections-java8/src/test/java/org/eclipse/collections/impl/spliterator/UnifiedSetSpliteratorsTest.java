@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.spliterator;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UnifiedSetSpliteratorsTest
+{
+    @Test
+    public void spliterator()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSetWith(0, 17, 34, 51, 68, 85, 102, 119, 136).withAll(Interval.fromTo(1000, 1999));
+        Assert.assertEquals(set, StreamSupport.stream(UnifiedSetSpliterators.spliterator(set), true).collect(Collectors.toSet()));
+        Assert.assertEquals(1009L, StreamSupport.stream(UnifiedSetSpliterators.spliterator(set), false).count());
+
+        Spliterator<Integer> spliterator = UnifiedSetSpliterators.spliterator(set);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(1009L, spliterator.estimateSize());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        MutableSet<Integer> result = UnifiedSet.newSet();
+        Assert.assertTrue(prefix.tryAdvance(result::add));
+        prefix.forEachRemaining(result::add);
+        spliterator.forEachRemaining(result::add);
+        Assert.assertFalse(spliterator.tryAdvance(result::add));
+        Assert.assertEquals(set, result);
+
+        Spliterator<Integer> unsplit = UnifiedSetSpliterators.spliterator(set);
+        MutableSet<Integer> traversed = UnifiedSet.newSet();
+        for (int i = 1; i <= 1009; i++)
+        {
+            Assert.assertTrue(unsplit.tryAdvance(traversed::add));
+            Assert.assertTrue(unsplit.hasCharacteristics(Spliterator.SIZED));
+            Assert.assertEquals(1009L - i, unsplit.estimateSize());
+        }
+        Assert.assertFalse(unsplit.tryAdvance(traversed::add));
+        Assert.assertEquals(set, traversed);
+    }
+}
@@ -60,6 +60,15 @@ public final class SpreadFunctions
         return code1;
     }
 
+    /**
+     * Fibonacci hashing moves the entropy of small hash codes into the high bits, so that the top bits of the result
+     * can pick a segment of a concurrent collection.
+     */
+    public static int fibonacciSpread(int code)
+    {
+        return code * 0x9E3779B9;
+    }
+
     public static long doubleSpreadOne(double element)
     {
         long code = Double.doubleToLongBits(element);
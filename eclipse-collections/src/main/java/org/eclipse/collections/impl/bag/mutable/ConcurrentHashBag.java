@@ -0,0 +1,844 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a thread safe MutableBag which can be used to count items from many threads without a
+ * global lock. Each distinct item maps to its own counter in a {@link ConcurrentHashMap}. A counter starts as a
+ * single int which is updated with compare-and-set; the first time that fails because of contention the counter
+ * is striped across padded cells, one per group of threads, and from then on adds are a single atomic add on the
+ * calling thread's cell. The occurrences of an item are the sum of its cells, computed when they are read.
+ * <p>
+ * Adding never takes a lock and never waits for another thread. Removing occurrences of an item synchronizes on that
+ * item's counter only, so that the count cannot drop below zero. A counter which reaches zero is retired: it is
+ * frozen, which gives its exact count, and is then either dropped from the map or, if an add slipped in, replaced by
+ * a successor counter which carries the remaining occurrences. An add which lands on a frozen counter moves on to its
+ * successor, installing one with compare-and-set if there is none yet, so it never waits for the remove to finish. {@link #size()}, {@link #sizeDistinct()}, iteration and bulk reads are weakly consistent: they
+ * reflect the state of the bag at some point during the call, and may or may not see updates which happen
+ * concurrently.
+ *
+ * @since 7.1
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object();
+
+    private static final int CELLS = 8;
+    private static final int CELL_SPACING = 16; // 64 bytes between cells, so that each cell is on its own cache line
+
+    private ConcurrentHashMap<Object, Occurrences> items;
+    private AtomicIntegerArray partitionedSize;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+        this.partitionedSize = new AtomicIntegerArray(CELLS * CELL_SPACING);
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+        this.partitionedSize = new AtomicIntegerArray(CELLS * CELL_SPACING);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<E>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toKey(Object item)
+    {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <T> T toItem(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private static int threadCell()
+    {
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h = (h ^ (h >>> 10)) & (CELLS - 1);
+        return h * CELL_SPACING;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> source)
+    {
+        if (source instanceof Bag)
+        {
+            return this.addAllBag((Bag<T>) source);
+        }
+        return super.addAll(source);
+    }
+
+    private boolean addAllBag(Bag<? extends T> source)
+    {
+        source.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                ConcurrentHashBag.this.addOccurrences(each, occurrences);
+            }
+        });
+        return source.notEmpty();
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.incrementOccurrences(ConcurrentHashBag.toKey(item), occurrences);
+        }
+    }
+
+    public boolean add(T item)
+    {
+        this.incrementOccurrences(ConcurrentHashBag.toKey(item), 1);
+        return true;
+    }
+
+    private void incrementOccurrences(Object key, int occurrences)
+    {
+        Occurrences counter = this.items.get(key);
+        while (true)
+        {
+            if (counter == null)
+            {
+                Occurrences newCounter = new Occurrences();
+                counter = this.items.putIfAbsent(key, newCounter);
+                if (counter == null)
+                {
+                    counter = newCounter;
+                }
+            }
+            if (counter.increment(occurrences))
+            {
+                this.partitionedSize.getAndAdd(ConcurrentHashBag.threadCell(), occurrences);
+                return;
+            }
+            // The counter is being retired by a remove, move on to its successor rather than waiting
+            Occurrences successor = counter.successor();
+            if (successor == Occurrences.RETIRED)
+            {
+                this.items.remove(key, counter);
+                counter = this.items.get(key);
+            }
+            else
+            {
+                counter = successor;
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code occurrences} of the item and returns the number actually removed.
+     */
+    private int decrementOccurrences(Object key, int occurrences)
+    {
+        while (true)
+        {
+            Occurrences counter = this.items.get(key);
+            if (counter == null)
+            {
+                return 0;
+            }
+            synchronized (counter)
+            {
+                if (!counter.isRetired())
+                {
+                    int removed = counter.decrement(occurrences);
+                    this.partitionedSize.getAndAdd(ConcurrentHashBag.threadCell(), -removed);
+                    if (counter.sum() == 0)
+                    {
+                        this.retire(key, counter);
+                    }
+                    return removed;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retires a counter which looks like it has reached zero. It is dropped from the map if it is still empty once
+     * frozen, and otherwise replaced by its successor, which then holds the occurrences added concurrently. Must be
+     * called while holding the counter's monitor, so that no other thread is removing occurrences.
+     */
+    private void retire(Object key, Occurrences counter)
+    {
+        int occurrences = counter.freeze();
+        if (occurrences == 0 && counter.drop())
+        {
+            this.items.remove(key, counter);
+            return;
+        }
+        Occurrences successor = counter.successor();
+        // The successor is not in the map yet, so it cannot be frozen and the increment always succeeds
+        successor.increment(occurrences);
+        this.items.replace(key, counter, successor);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Map.Entry<Object, Occurrences> entry : this.items.entrySet())
+        {
+            if (bag.occurrencesOf(ConcurrentHashBag.toItem(entry.getKey())) != entry.getValue().sum())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add((item == null ? 0 : item.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        final MutableList<T> keys = FastList.newList(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                keys.add(item);
+            }
+        });
+        return keys;
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        Occurrences counter = this.items.get(ConcurrentHashBag.toKey(item));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (Map.Entry<Object, Occurrences> entry : this.items.entrySet())
+        {
+            int count = entry.getValue().sum();
+            if (count > 0)
+            {
+                objectIntProcedure.value(ConcurrentHashBag.<T>toItem(entry.getKey()), count);
+            }
+        }
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    public boolean remove(Object item)
+    {
+        return this.decrementOccurrences(ConcurrentHashBag.toKey(item), 1) > 0;
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return false;
+        }
+
+        return this.decrementOccurrences(ConcurrentHashBag.toKey(item), occurrences) > 0;
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        Object key = ConcurrentHashBag.toKey(item);
+        while (true)
+        {
+            Occurrences counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                Occurrences newCounter = new Occurrences();
+                counter = this.items.putIfAbsent(key, newCounter);
+                if (counter == null)
+                {
+                    counter = newCounter;
+                }
+            }
+            synchronized (counter)
+            {
+                if (!counter.isRetired())
+                {
+                    int delta = occurrences - counter.sum();
+                    if (delta > 0)
+                    {
+                        counter.increment(delta);
+                    }
+                    else if (delta < 0)
+                    {
+                        counter.decrement(-delta);
+                    }
+                    this.partitionedSize.getAndAdd(ConcurrentHashBag.threadCell(), delta);
+                    if (occurrences == 0)
+                    {
+                        this.retire(key, counter);
+                    }
+                    return delta != 0;
+                }
+            }
+        }
+    }
+
+    public void clear()
+    {
+        for (Object key : this.items.keySet())
+        {
+            this.decrementOccurrences(key, Integer.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    public int size()
+    {
+        int size = 0;
+        for (int i = 0; i < CELLS; i++)
+        {
+            size += this.partitionedSize.get(i * CELL_SPACING);
+        }
+        return Math.max(size, 0);
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.occurrencesOf(o) > 0;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int sizeDistinct = in.readInt();
+        this.items = ConcurrentHashMap.newMap(sizeDistinct);
+        this.partitionedSize = new AtomicIntegerArray(CELLS * CELL_SPACING);
+        for (int i = 0; i < sizeDistinct; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    objectIntProcedure.value(key, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>toItem(key)))
+            {
+                changed |= this.decrementOccurrences(key, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>toItem(key), parameter))
+            {
+                changed |= this.decrementOccurrences(key, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        if (iterable instanceof Bag)
+        {
+            for (Object each : ((Bag<?>) iterable).toSet())
+            {
+                changed |= this.decrementOccurrences(ConcurrentHashBag.toKey(each), Integer.MAX_VALUE) > 0;
+            }
+        }
+        else
+        {
+            for (Object each : iterable)
+            {
+                changed |= this.decrementOccurrences(ConcurrentHashBag.toKey(each), Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    /**
+     * A striped counter. Increments go to a single base value until two threads collide on it, after which each
+     * thread adds to the cell picked by its thread id. Decrements are only made while holding the counter's monitor,
+     * and never take a cell below zero, so a negative cell means that the counter has been frozen by a remove which
+     * is checking whether it has reached zero.
+     */
+    private static final class Occurrences
+    {
+        private static final int FROZEN = Integer.MIN_VALUE;
+
+        /**
+         * The successor of a counter which was dropped from the map when it was retired.
+         */
+        private static final Occurrences RETIRED = new Occurrences();
+
+        private static final AtomicIntegerFieldUpdater<Occurrences> BASE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Occurrences.class, "base");
+        private static final AtomicReferenceFieldUpdater<Occurrences, AtomicIntegerArray> CELLS_UPDATER = AtomicReferenceFieldUpdater.newUpdater(Occurrences.class, AtomicIntegerArray.class, "cells");
+        private static final AtomicReferenceFieldUpdater<Occurrences, Occurrences> SUCCESSOR_UPDATER = AtomicReferenceFieldUpdater.newUpdater(Occurrences.class, Occurrences.class, "successor");
+
+        private volatile int base;
+        private volatile AtomicIntegerArray cells;
+        private volatile Occurrences successor;
+
+        /**
+         * Returns false if the counter is frozen, in which case the caller has to look the counter up again.
+         */
+        private boolean increment(int delta)
+        {
+            AtomicIntegerArray cells = this.cells;
+            if (cells == null)
+            {
+                int current = this.base;
+                if (current < 0)
+                {
+                    return false;
+                }
+                if (BASE_UPDATER.compareAndSet(this, current, current + delta))
+                {
+                    return true;
+                }
+                CELLS_UPDATER.compareAndSet(this, null, new AtomicIntegerArray(CELLS * CELL_SPACING));
+                cells = this.cells;
+            }
+            // Adding to a frozen cell leaves it negative and uncounted, and the caller moves on to the successor
+            return cells.getAndAdd(ConcurrentHashBag.threadCell(), delta) >= 0;
+        }
+
+        private int decrement(int delta)
+        {
+            int remaining = delta;
+            while (remaining > 0)
+            {
+                int current = this.base;
+                if (current == 0)
+                {
+                    break;
+                }
+                int removed = Math.min(current, remaining);
+                if (BASE_UPDATER.compareAndSet(this, current, current - removed))
+                {
+                    remaining -= removed;
+                }
+            }
+            AtomicIntegerArray cells = this.cells;
+            if (cells != null)
+            {
+                for (int i = 0; i < CELLS && remaining > 0; i++)
+                {
+                    int index = i * CELL_SPACING;
+                    int current = cells.get(index);
+                    while (current > 0 && remaining > 0)
+                    {
+                        int removed = Math.min(current, remaining);
+                        if (cells.compareAndSet(index, current, current - removed))
+                        {
+                            remaining -= removed;
+                        }
+                        current = cells.get(index);
+                    }
+                }
+            }
+            return delta - remaining;
+        }
+
+        /**
+         * The cells are not read atomically, so the sum may not reflect increments which happen concurrently.
+         */
+        private int sum()
+        {
+            int sum = Math.max(this.base, 0);
+            AtomicIntegerArray cells = this.cells;
+            if (cells != null)
+            {
+                for (int i = 0; i < CELLS; i++)
+                {
+                    sum += Math.max(cells.get(i * CELL_SPACING), 0);
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Atomically takes every cell out of use and returns the exact number of occurrences at that point.
+         */
+        private int freeze()
+        {
+            int sum = BASE_UPDATER.getAndSet(this, FROZEN);
+            // Cells are always allocated first so that an increment which saw no cells cannot slip in afterwards
+            CELLS_UPDATER.compareAndSet(this, null, new AtomicIntegerArray(CELLS * CELL_SPACING));
+            AtomicIntegerArray cells = this.cells;
+            for (int i = 0; i < CELLS; i++)
+            {
+                sum += cells.getAndSet(i * CELL_SPACING, FROZEN);
+            }
+            return sum;
+        }
+
+        /**
+         * Returns the counter which takes over from this frozen one, installing a new one if there is none yet.
+         * Returns {@link #RETIRED} if this counter was dropped from the map instead.
+         */
+        private Occurrences successor()
+        {
+            Occurrences successor = this.successor;
+            if (successor == null)
+            {
+                SUCCESSOR_UPDATER.compareAndSet(this, null, new Occurrences());
+                successor = this.successor;
+            }
+            return successor;
+        }
+
+        /**
+         * Marks this frozen and empty counter as dropped from the map. Returns false if an add has already installed
+         * a successor, which then has to replace this counter instead.
+         */
+        private boolean drop()
+        {
+            return SUCCESSOR_UPDATER.compareAndSet(this, null, RETIRED);
+        }
+
+        private boolean isRetired()
+        {
+            return this.successor != null;
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, Occurrences>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private boolean canRemove;
+
+        private T nextItem;
+        private int nextOccurrences;
+
+        public boolean hasNext()
+        {
+            return this.occurrences > 0 || this.findNext();
+        }
+
+        private boolean findNext()
+        {
+            while (this.nextOccurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<Object, Occurrences> entry = this.iterator.next();
+                this.nextItem = ConcurrentHashBag.toItem(entry.getKey());
+                this.nextOccurrences = entry.getValue().sum();
+            }
+            return this.nextOccurrences > 0;
+        }
+
+        public T next()
+        {
+            if (this.occurrences == 0)
+            {
+                if (!this.findNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.currentItem = this.nextItem;
+                this.occurrences = this.nextOccurrences;
+                this.nextOccurrences = 0;
+            }
+            this.occurrences--;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
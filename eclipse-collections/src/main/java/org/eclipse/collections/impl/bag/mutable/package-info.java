@@ -14,9 +14,12 @@
  *     A MutableBag is a {@link java.util.Collection} which contains elements that are unordered and may contain duplicate entries. It adds a protocol for
  * adding, removing, and determining the number of occurrences for an item.
  * <p>
- *     This package contains 3 bag implementations:
+ *     This package contains 4 bag implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag} - a thread safe {@link org.eclipse.collections.api.bag.MutableBag} which counts occurrences in striped cells, so that adds from many threads do not contend on a lock.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.bag.mutable.HashBag} - a {@link org.eclipse.collections.api.bag.MutableBag} which uses a hashtable as its underlying data store.
  *     </li>
  *     <li>
@@ -0,0 +1,964 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.multimap.bag.sorted.mutable.TreeBagMultimap;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.OrderedIterate;
+import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.utility.internal.SortedBagIterables;
+
+/**
+ * An OrderStatisticTreeBag is a MutableSortedBag backed by a balanced (AVL) binary search tree in which every node
+ * holds an item, its number of occurrences and the total number of occurrences in its subtree. The subtree totals
+ * let the bag answer positional questions without iterating: {@link #rank(Object)}, {@link #get(int)},
+ * {@link #occurrencesBetween(Object, Object)} and {@link #indexOf(Object)} are all O(log n) in the number of distinct
+ * items, as are adding and removing occurrences.
+ * <p>
+ * This makes the bag a good fit for percentiles over a changing sample, for example the 99th percentile of a bag of
+ * durations is {@code bag.get((int) (0.99 * (bag.size() - 1)))}.
+ *
+ * @since 7.1
+ */
+public class OrderStatisticTreeBag<T>
+        extends AbstractMutableSortedBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private Comparator<? super T> comparator;
+    private Node<T> root;
+    private int sizeDistinct;
+
+    public OrderStatisticTreeBag()
+    {
+    }
+
+    public OrderStatisticTreeBag(Comparator<? super T> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public OrderStatisticTreeBag(SortedBag<T> sortedBag)
+    {
+        this(sortedBag.comparator(), sortedBag);
+    }
+
+    public OrderStatisticTreeBag(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        this(comparator);
+        this.addAllIterable(iterable);
+    }
+
+    public static <E> OrderStatisticTreeBag<E> newBag()
+    {
+        return new OrderStatisticTreeBag<E>();
+    }
+
+    public static <E> OrderStatisticTreeBag<E> newBag(Comparator<? super E> comparator)
+    {
+        return new OrderStatisticTreeBag<E>(comparator);
+    }
+
+    public static <E> OrderStatisticTreeBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof SortedBag<?>)
+        {
+            return new OrderStatisticTreeBag<E>((SortedBag<E>) source);
+        }
+        return Iterate.addAllTo(source, OrderStatisticTreeBag.<E>newBag());
+    }
+
+    public static <E> OrderStatisticTreeBag<E> newBag(Comparator<? super E> comparator, Iterable<? extends E> iterable)
+    {
+        return new OrderStatisticTreeBag<E>(comparator, iterable);
+    }
+
+    public static <E> OrderStatisticTreeBag<E> newBagWith(E... elements)
+    {
+        //noinspection SSBasedInspection
+        return OrderStatisticTreeBag.newBag(Arrays.asList(elements));
+    }
+
+    public static <E> OrderStatisticTreeBag<E> newBagWith(Comparator<? super E> comparator, E... elements)
+    {
+        //noinspection SSBasedInspection
+        return OrderStatisticTreeBag.newBag(comparator, Arrays.asList(elements));
+    }
+
+    /**
+     * Returns the number of occurrences in this bag of items which sort strictly before the given item. When the item
+     * is present this is the index of its first occurrence, otherwise it is the index at which it would be inserted.
+     */
+    public int rank(T item)
+    {
+        return this.countBefore(item, false);
+    }
+
+    /**
+     * Returns the item at the given occurrence index, counting every occurrence of every item in sorted order, so
+     * {@code get(0)} is the first item and {@code get(size() - 1)} is the last.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     */
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+        Node<T> node = this.root;
+        int remaining = index;
+        while (true)
+        {
+            int leftSize = OrderStatisticTreeBag.size(node.left);
+            if (remaining < leftSize)
+            {
+                node = node.left;
+            }
+            else
+            {
+                remaining -= leftSize;
+                if (remaining < node.occurrences)
+                {
+                    return node.key;
+                }
+                remaining -= node.occurrences;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of occurrences of the items from fromInclusive to toInclusive.
+     */
+    public int occurrencesBetween(T fromInclusive, T toInclusive)
+    {
+        return Math.max(0, this.countBefore(toInclusive, true) - this.countBefore(fromInclusive, false));
+    }
+
+    private int countBefore(T item, boolean inclusive)
+    {
+        int result = 0;
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            int compare = this.compare(item, node.key);
+            if (compare < 0)
+            {
+                node = node.left;
+            }
+            else if (compare > 0)
+            {
+                result += OrderStatisticTreeBag.size(node.left) + node.occurrences;
+                node = node.right;
+            }
+            else
+            {
+                return result + OrderStatisticTreeBag.size(node.left) + (inclusive ? node.occurrences : 0);
+            }
+        }
+        return result;
+    }
+
+    private int compare(T one, T two)
+    {
+        return this.comparator == null ? ((Comparable<? super T>) one).compareTo(two) : this.comparator.compare(one, two);
+    }
+
+    private Node<T> find(Object item)
+    {
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            int compare = this.compare((T) item, node.key);
+            if (compare == 0)
+            {
+                return node;
+            }
+            node = compare < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the node with the smallest item strictly greater than the given item, or null.
+     */
+    private Node<T> higher(T item)
+    {
+        Node<T> result = null;
+        Node<T> node = this.root;
+        while (node != null)
+        {
+            if (this.compare(item, node.key) < 0)
+            {
+                result = node;
+                node = node.left;
+            }
+            else
+            {
+                node = node.right;
+            }
+        }
+        return result;
+    }
+
+    private static <T> Node<T> first(Node<T> node)
+    {
+        Node<T> result = node;
+        while (result != null && result.left != null)
+        {
+            result = result.left;
+        }
+        return result;
+    }
+
+    /**
+     * Adds delta occurrences of the item to the subtree, which may be negative as long as the item is present with at
+     * least that many occurrences, and returns the new root of the subtree.
+     */
+    private Node<T> update(Node<T> node, T item, int delta)
+    {
+        if (node == null)
+        {
+            this.sizeDistinct++;
+            return new Node<T>(item, delta);
+        }
+        int compare = this.compare(item, node.key);
+        if (compare < 0)
+        {
+            node.left = this.update(node.left, item, delta);
+        }
+        else if (compare > 0)
+        {
+            node.right = this.update(node.right, item, delta);
+        }
+        else
+        {
+            node.occurrences += delta;
+            if (node.occurrences == 0)
+            {
+                this.sizeDistinct--;
+                return OrderStatisticTreeBag.unlink(node);
+            }
+        }
+        return OrderStatisticTreeBag.rebalance(node);
+    }
+
+    private static <T> Node<T> unlink(Node<T> node)
+    {
+        if (node.left == null)
+        {
+            return node.right;
+        }
+        if (node.right == null)
+        {
+            return node.left;
+        }
+        Node<T> successor = OrderStatisticTreeBag.first(node.right);
+        successor.right = OrderStatisticTreeBag.removeFirst(node.right);
+        successor.left = node.left;
+        return OrderStatisticTreeBag.rebalance(successor);
+    }
+
+    private static <T> Node<T> removeFirst(Node<T> node)
+    {
+        if (node.left == null)
+        {
+            return node.right;
+        }
+        node.left = OrderStatisticTreeBag.removeFirst(node.left);
+        return OrderStatisticTreeBag.rebalance(node);
+    }
+
+    private static <T> Node<T> rebalance(Node<T> node)
+    {
+        node.recompute();
+        int balance = OrderStatisticTreeBag.height(node.left) - OrderStatisticTreeBag.height(node.right);
+        if (balance > 1)
+        {
+            if (OrderStatisticTreeBag.height(node.left.left) < OrderStatisticTreeBag.height(node.left.right))
+            {
+                node.left = OrderStatisticTreeBag.rotateLeft(node.left);
+            }
+            return OrderStatisticTreeBag.rotateRight(node);
+        }
+        if (balance < -1)
+        {
+            if (OrderStatisticTreeBag.height(node.right.right) < OrderStatisticTreeBag.height(node.right.left))
+            {
+                node.right = OrderStatisticTreeBag.rotateRight(node.right);
+            }
+            return OrderStatisticTreeBag.rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node)
+    {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.recompute();
+        left.recompute();
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node)
+    {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.recompute();
+        right.recompute();
+        return right;
+    }
+
+    private static int height(Node<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> Node<T> copy(Node<T> node)
+    {
+        if (node == null)
+        {
+            return null;
+        }
+        Node<T> result = new Node<T>(node.key, node.occurrences);
+        result.left = OrderStatisticTreeBag.copy(node.left);
+        result.right = OrderStatisticTreeBag.copy(node.right);
+        result.size = node.size;
+        result.height = node.height;
+        return result;
+    }
+
+    @Override
+    public OrderStatisticTreeBag<T> clone()
+    {
+        OrderStatisticTreeBag<T> result = new OrderStatisticTreeBag<T>(this.comparator);
+        result.root = OrderStatisticTreeBag.copy(this.root);
+        result.sizeDistinct = this.sizeDistinct;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        return this.sizeDistinct == bag.sizeDistinct() && OrderStatisticTreeBag.occurrencesMatch(this.root, bag);
+    }
+
+    private static boolean occurrencesMatch(Node<?> node, Bag<?> bag)
+    {
+        if (node == null)
+        {
+            return true;
+        }
+        return bag.occurrencesOf(node.key) == node.occurrences
+                && OrderStatisticTreeBag.occurrencesMatch(node.left, bag)
+                && OrderStatisticTreeBag.occurrencesMatch(node.right, bag);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int count)
+            {
+                counter.add((each == null ? 0 : each.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        Node<T> first = OrderStatisticTreeBag.first(this.root);
+        return first == null ? null : first.key;
+    }
+
+    @Override
+    public T getLast()
+    {
+        Node<T> node = this.root;
+        while (node != null && node.right != null)
+        {
+            node = node.right;
+        }
+        return node == null ? null : node.key;
+    }
+
+    public int sizeDistinct()
+    {
+        return this.sizeDistinct;
+    }
+
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        OrderStatisticTreeBag.forEachWithOccurrences(this.root, procedure);
+    }
+
+    private static <T> void forEachWithOccurrences(Node<T> node, ObjectIntProcedure<? super T> procedure)
+    {
+        if (node != null)
+        {
+            OrderStatisticTreeBag.forEachWithOccurrences(node.left, procedure);
+            procedure.value(node.key, node.occurrences);
+            OrderStatisticTreeBag.forEachWithOccurrences(node.right, procedure);
+        }
+    }
+
+    public MutableSortedBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final OrderStatisticTreeBag<T> result = new OrderStatisticTreeBag<T>(this.comparator);
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        Node<T> node = this.find(item);
+        return node == null ? 0 : node.occurrences;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.root == null;
+    }
+
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    public void clear()
+    {
+        this.root = null;
+        this.sizeDistinct = 0;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.find(o) != null;
+    }
+
+    public int compareTo(SortedBag<T> otherBag)
+    {
+        return SortedBagIterables.compare(this, otherBag);
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator);
+        out.writeInt(this.sizeDistinct);
+        OrderStatisticTreeBag.writeNodes(this.root, out);
+    }
+
+    private static void writeNodes(Node<?> node, ObjectOutput out) throws IOException
+    {
+        if (node != null)
+        {
+            OrderStatisticTreeBag.writeNodes(node.left, out);
+            out.writeObject(node.key);
+            out.writeInt(node.occurrences);
+            OrderStatisticTreeBag.writeNodes(node.right, out);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.comparator = (Comparator<? super T>) in.readObject();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (int i = 0; i < occurrences; i++)
+                {
+                    procedure.value(each);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        OrderStatisticTreeBag.forEachWithIndex(this.root, 0, 0, this.size() - 1, objectIntProcedure);
+    }
+
+    /**
+     * Visits only the subtrees which overlap the index range, so the cost is O(log n) plus the number of occurrences
+     * visited.
+     */
+    public void forEach(int fromIndex, int toIndex, final Procedure<? super T> procedure)
+    {
+        this.forEachWithIndex(fromIndex, toIndex, new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int index)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+        OrderStatisticTreeBag.forEachWithIndex(this.root, 0, fromIndex, toIndex, objectIntProcedure);
+    }
+
+    /**
+     * @param offset the occurrence index of the first occurrence in the subtree rooted at node
+     */
+    private static <T> void forEachWithIndex(
+            Node<T> node,
+            int offset,
+            int fromIndex,
+            int toIndex,
+            ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        if (node == null || offset > toIndex || offset + node.size <= fromIndex)
+        {
+            return;
+        }
+        OrderStatisticTreeBag.forEachWithIndex(node.left, offset, fromIndex, toIndex, objectIntProcedure);
+        int start = offset + OrderStatisticTreeBag.size(node.left);
+        int end = Math.min(start + node.occurrences - 1, toIndex);
+        for (int i = Math.max(start, fromIndex); i <= end; i++)
+        {
+            objectIntProcedure.value(node.key, i);
+        }
+        OrderStatisticTreeBag.forEachWithIndex(node.right, start + node.occurrences, fromIndex, toIndex, objectIntProcedure);
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (int i = 0; i < occurrences; i++)
+                {
+                    procedure.value(each, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.root = this.update(this.root, item, occurrences);
+        }
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return false;
+        }
+
+        Node<T> node = this.find(item);
+        if (node == null)
+        {
+            return false;
+        }
+        this.root = this.update(this.root, node.key, -Math.min(occurrences, node.occurrences));
+        return true;
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        int originalOccurrences = this.occurrencesOf(item);
+
+        if (originalOccurrences == occurrences)
+        {
+            return false;
+        }
+
+        this.root = this.update(this.root, item, occurrences - originalOccurrences);
+        return true;
+    }
+
+    public OrderStatisticTreeBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public OrderStatisticTreeBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public OrderStatisticTreeBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public OrderStatisticTreeBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public MutableSortedBag<T> newEmpty()
+    {
+        return OrderStatisticTreeBag.newBag(this.comparator);
+    }
+
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        MutableList<T> removed = this.getKeysView().select(predicate, FastList.<T>newList());
+        return this.removeAllIterable(removed);
+    }
+
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        MutableList<T> removed = this.getKeysView().selectWith(predicate, parameter, FastList.<T>newList());
+        return this.removeAllIterable(removed);
+    }
+
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            changed |= this.removeOccurrences(each, Integer.MAX_VALUE);
+        }
+        return changed;
+    }
+
+    public int size()
+    {
+        return OrderStatisticTreeBag.size(this.root);
+    }
+
+    public int indexOf(Object object)
+    {
+        if (this.find(object) == null)
+        {
+            return -1;
+        }
+        return this.rank((T) object);
+    }
+
+    public MutableSortedSet<Pair<T, Integer>> zipWithIndex()
+    {
+        final Comparator<? super T> comparator = this.comparator;
+        return this.zipWithIndex(TreeSortedSet.newSet(new Comparator<Pair<T, Integer>>()
+        {
+            public int compare(Pair<T, Integer> o1, Pair<T, Integer> o2)
+            {
+                int compare = comparator == null ? Comparators.nullSafeCompare(o1, o2) : comparator.compare(o1.getOne(), o2.getOne());
+                if (compare != 0)
+                {
+                    return compare;
+                }
+                return o1.getTwo().compareTo(o2.getTwo());
+            }
+        }));
+    }
+
+    public MutableSortedSet<T> distinct()
+    {
+        return TreeSortedSet.newSet(this.comparator, this.getKeysView());
+    }
+
+    public <V> TreeBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, TreeBagMultimap.<V, T>newMultimap(this.comparator));
+    }
+
+    public <V> TreeBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, TreeBagMultimap.<V, T>newMultimap(this.comparator));
+    }
+
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return Iterate.detectIndex(this, predicate);
+    }
+
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return OrderedIterate.corresponds(this, other, predicate);
+    }
+
+    public MutableStack<T> toStack()
+    {
+        return ArrayStack.newStack(this);
+    }
+
+    public MutableSortedBag<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        return IterableIterate.take(this, Math.min(this.size(), count), this.newEmpty());
+    }
+
+    public MutableSortedBag<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        return IterableIterate.drop(this, count, this.newEmpty());
+    }
+
+    public Comparator<? super T> comparator()
+    {
+        return this.comparator;
+    }
+
+    public OrderStatisticTreeBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public OrderStatisticTreeBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public boolean add(T item)
+    {
+        this.root = this.update(this.root, item, 1);
+        return true;
+    }
+
+    public OrderStatisticTreeBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    private static final class Node<T>
+    {
+        private final T key;
+        private int occurrences;
+        private int size;
+        private int height;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T key, int occurrences)
+        {
+            this.key = key;
+            this.occurrences = occurrences;
+            this.size = occurrences;
+            this.height = 1;
+        }
+
+        private void recompute()
+        {
+            this.size = OrderStatisticTreeBag.size(this.left) + this.occurrences + OrderStatisticTreeBag.size(this.right);
+            this.height = Math.max(OrderStatisticTreeBag.height(this.left), OrderStatisticTreeBag.height(this.right)) + 1;
+        }
+    }
+
+    private class KeysView extends AbstractLazyIterable<T>
+    {
+        public void each(final Procedure<? super T> procedure)
+        {
+            OrderStatisticTreeBag.this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+            {
+                public void value(T each, int occurrences)
+                {
+                    procedure.value(each);
+                }
+            });
+        }
+
+        public Iterator<T> iterator()
+        {
+            return new KeysIterator();
+        }
+    }
+
+    /**
+     * Finds each next item by searching from the root for the successor of the previous one, so the iterator stays
+     * valid when the tree is rebalanced underneath it.
+     */
+    private class KeysIterator implements Iterator<T>
+    {
+        private Node<T> next = OrderStatisticTreeBag.first(OrderStatisticTreeBag.this.root);
+
+        public boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        public T next()
+        {
+            if (this.next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.next.key;
+            this.next = OrderStatisticTreeBag.this.higher(result);
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<T> iterator = new KeysIterator();
+
+        private T currentItem;
+        private int occurrences;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.occurrences > 0 || this.iterator.hasNext();
+        }
+
+        public T next()
+        {
+            if (this.occurrences == 0)
+            {
+                this.currentItem = this.iterator.next();
+                this.occurrences = OrderStatisticTreeBag.this.occurrencesOf(this.currentItem);
+            }
+            this.occurrences--;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            OrderStatisticTreeBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
@@ -16,9 +16,11 @@ import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
 import org.eclipse.collections.api.block.function.primitive.ByteFunction;
 import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
 import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
 import org.eclipse.collections.impl.factory.primitive.ObjectDoubleMaps;
@@ -41,6 +43,7 @@ public final class PrimitiveFunctions
     private static final UnboxNumberToFloat UNBOX_NUMBER_TO_FLOAT = new UnboxNumberToFloat();
     private static final UnboxNumberToLong UNBOX_NUMBER_TO_LONG = new UnboxNumberToLong();
     private static final UnboxNumberToDouble UNBOX_NUMBER_TO_DOUBLE = new UnboxNumberToDouble();
+    private static final CountFunction<?> COUNT_FUNCTION = new CountFunction<Object>();
 
     private PrimitiveFunctions()
     {
@@ -185,6 +188,93 @@ public final class PrimitiveFunctions
         };
     }
 
+    /**
+     * @return a function that adds one to the running value for each element, for use with the count aggregations.
+     * @since 7.1
+     */
+    public static <T> LongObjectToLongFunction<T> countFunction()
+    {
+        return (LongObjectToLongFunction<T>) COUNT_FUNCTION;
+    }
+
+    /**
+     * @return a function that keeps the minimum of the running value and the long value of each element.
+     * @since 7.1
+     */
+    public static <T> LongObjectToLongFunction<T> minLongFunction(final LongFunction<? super T> function)
+    {
+        return new LongObjectToLongFunction<T>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public long longValueOf(long min, T each)
+            {
+                return Math.min(min, function.longValueOf(each));
+            }
+        };
+    }
+
+    /**
+     * @return a function that keeps the maximum of the running value and the long value of each element.
+     * @since 7.1
+     */
+    public static <T> LongObjectToLongFunction<T> maxLongFunction(final LongFunction<? super T> function)
+    {
+        return new LongObjectToLongFunction<T>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public long longValueOf(long max, T each)
+            {
+                return Math.max(max, function.longValueOf(each));
+            }
+        };
+    }
+
+    /**
+     * @return a function that keeps the minimum of the running value and the double value of each element.
+     * @since 7.1
+     */
+    public static <T> DoubleObjectToDoubleFunction<T> minDoubleFunction(final DoubleFunction<? super T> function)
+    {
+        return new DoubleObjectToDoubleFunction<T>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public double doubleValueOf(double min, T each)
+            {
+                return Math.min(min, function.doubleValueOf(each));
+            }
+        };
+    }
+
+    /**
+     * @return a function that keeps the maximum of the running value and the double value of each element.
+     * @since 7.1
+     */
+    public static <T> DoubleObjectToDoubleFunction<T> maxDoubleFunction(final DoubleFunction<? super T> function)
+    {
+        return new DoubleObjectToDoubleFunction<T>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            public double doubleValueOf(double max, T each)
+            {
+                return Math.max(max, function.doubleValueOf(each));
+            }
+        };
+    }
+
+    private static class CountFunction<T> implements LongObjectToLongFunction<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        public long longValueOf(long count, T each)
+        {
+            return count + 1L;
+        }
+    }
+
     private static class IntegerIsPositive
             implements BooleanFunction<Integer>
     {
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.block.procedure;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleToDoubleFunction;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+
+/**
+ * This procedure is used to apply a double valued aggregate function like min, max or count on a grouped set of data. The
+ * running value of each group is held unboxed in an {@link ObjectDoubleHashMap} and updated with a single probe per element.
+ *
+ * @since 7.1
+ */
+public final class AggregateByDoubleProcedure<T, K> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+    private final ObjectDoubleHashMap<K> map;
+    private final Function<? super T, ? extends K> groupBy;
+    private final double initialValue;
+    private final DoubleObjectToDoubleFunction<? super T> aggregator;
+    private final DoubleToDoubleFunction update = new DoubleToDoubleFunction()
+    {
+        private static final long serialVersionUID = 1L;
+
+        public double valueOf(double value)
+        {
+            return AggregateByDoubleProcedure.this.aggregator.doubleValueOf(value, AggregateByDoubleProcedure.this.current);
+        }
+    };
+    private transient T current;
+
+    public AggregateByDoubleProcedure(
+            ObjectDoubleHashMap<K> map,
+            Function<? super T, ? extends K> groupBy,
+            double initialValue,
+            DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        this.map = map;
+        this.groupBy = groupBy;
+        this.initialValue = initialValue;
+        this.aggregator = aggregator;
+    }
+
+    public void value(T each)
+    {
+        this.current = each;
+        this.map.updateValue(this.groupBy.valueOf(each), this.initialValue, this.update);
+        this.current = null;
+    }
+
+    public ObjectDoubleHashMap<K> getResult()
+    {
+        return this.map;
+    }
+}
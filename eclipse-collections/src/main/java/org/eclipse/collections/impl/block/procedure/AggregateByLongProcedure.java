@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.block.procedure;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongToLongFunction;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+
+/**
+ * This procedure is used to apply a long valued aggregate function like min, max or count on a grouped set of data. The
+ * running value of each group is held unboxed in an {@link ObjectLongHashMap} and updated with a single probe per element.
+ *
+ * @since 7.1
+ */
+public final class AggregateByLongProcedure<T, K> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+    private final ObjectLongHashMap<K> map;
+    private final Function<? super T, ? extends K> groupBy;
+    private final long initialValue;
+    private final LongObjectToLongFunction<? super T> aggregator;
+    private final LongToLongFunction update = new LongToLongFunction()
+    {
+        private static final long serialVersionUID = 1L;
+
+        public long valueOf(long value)
+        {
+            return AggregateByLongProcedure.this.aggregator.longValueOf(value, AggregateByLongProcedure.this.current);
+        }
+    };
+    private transient T current;
+
+    public AggregateByLongProcedure(
+            ObjectLongHashMap<K> map,
+            Function<? super T, ? extends K> groupBy,
+            long initialValue,
+            LongObjectToLongFunction<? super T> aggregator)
+    {
+        this.map = map;
+        this.groupBy = groupBy;
+        this.initialValue = initialValue;
+        this.aggregator = aggregator;
+    }
+
+    public void value(T each)
+    {
+        this.current = each;
+        this.map.updateValue(this.groupBy.valueOf(each), this.initialValue, this.update);
+        this.current = null;
+    }
+
+    public ObjectLongHashMap<K> getResult()
+    {
+        return this.map;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * BinaryReader decodes values written by a {@link BinaryWriter}, reading them directly from a {@link ByteBuffer}.
+ * A BinaryReader created on a channel refills its buffer from the channel whenever it runs out of bytes, while one
+ * created on a buffer alone reads from the buffer's position up to its limit.
+ *
+ * @see BinaryWriter
+ * @since 7.1
+ */
+@NotThreadSafe
+public final class BinaryReader
+{
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    public BinaryReader(ByteBuffer buffer)
+    {
+        this.channel = null;
+        this.buffer = buffer;
+    }
+
+    public BinaryReader(ReadableByteChannel channel)
+    {
+        this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+    }
+
+    public BinaryReader(ReadableByteChannel channel, ByteBuffer buffer)
+    {
+        if (buffer.capacity() < 16)
+        {
+            throw new IllegalArgumentException("Buffer capacity must be at least 16 but was " + buffer.capacity());
+        }
+        this.channel = channel;
+        this.buffer = buffer;
+        this.buffer.clear();
+        this.buffer.flip();
+    }
+
+    public <T> T read(Codec<T> codec) throws IOException
+    {
+        return codec.read(this);
+    }
+
+    public boolean readBoolean() throws IOException
+    {
+        return this.readByte() != 0;
+    }
+
+    public byte readByte() throws IOException
+    {
+        this.require(1);
+        return this.buffer.get();
+    }
+
+    public short readShort() throws IOException
+    {
+        return (short) this.readInt();
+    }
+
+    public char readChar() throws IOException
+    {
+        return (char) this.readUnsignedInt();
+    }
+
+    public int readInt() throws IOException
+    {
+        int value = this.readUnsignedInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readLong() throws IOException
+    {
+        long value = this.readUnsignedLong();
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    public float readFloat() throws IOException
+    {
+        this.require(4);
+        return this.buffer.getFloat();
+    }
+
+    public double readDouble() throws IOException
+    {
+        this.require(8);
+        return this.buffer.getDouble();
+    }
+
+    public int readSize() throws IOException
+    {
+        int size = this.readUnsignedInt();
+        if (size < 0)
+        {
+            throw new StreamCorruptedException("Size must not be negative but was " + size);
+        }
+        return size;
+    }
+
+    public String readString() throws IOException
+    {
+        char[] chars = new char[this.readSize()];
+        for (int i = 0; i < chars.length; i++)
+        {
+            chars[i] = (char) this.readUnsignedInt();
+        }
+        return new String(chars);
+    }
+
+    public int readUnsignedInt() throws IOException
+    {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7)
+        {
+            byte next = this.readByte();
+            result |= (next & 0x7F) << shift;
+            if (next >= 0)
+            {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Variable length int is longer than 5 bytes");
+    }
+
+    public long readUnsignedLong() throws IOException
+    {
+        long result = 0L;
+        for (int shift = 0; shift < 70; shift += 7)
+        {
+            byte next = this.readByte();
+            result |= (long) (next & 0x7F) << shift;
+            if (next >= 0)
+            {
+                return result;
+            }
+        }
+        throw new StreamCorruptedException("Variable length long is longer than 10 bytes");
+    }
+
+    private void require(int bytes) throws IOException
+    {
+        if (this.buffer.remaining() >= bytes)
+        {
+            return;
+        }
+        if (this.channel == null)
+        {
+            throw new EOFException();
+        }
+        this.buffer.compact();
+        while (this.buffer.position() < bytes)
+        {
+            if (this.channel.read(this.buffer) < 0)
+            {
+                this.buffer.flip();
+                throw new EOFException();
+            }
+        }
+        this.buffer.flip();
+    }
+}
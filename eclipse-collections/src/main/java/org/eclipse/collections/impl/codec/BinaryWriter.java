@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * BinaryWriter encodes values in a compact, length-prefixed binary format directly into a {@link ByteBuffer}.
+ * Integral values are written as variable length integers of seven bits per byte, after zigzag encoding the signed
+ * ones, so small values of either sign take a single byte. Floating point values are written in their fixed width
+ * form, and strings as their length followed by their chars.
+ * <p>
+ * A BinaryWriter created on a channel drains its buffer into the channel whenever it fills up, so values are encoded
+ * straight into the buffer which is handed to the channel, with no intermediate copies. A BinaryWriter created without
+ * a channel grows its buffer instead, and {@link #toByteBuffer()} returns the bytes written so far.
+ *
+ * @see BinaryReader
+ * @since 7.1
+ */
+@NotThreadSafe
+public final class BinaryWriter implements Flushable
+{
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private final WritableByteChannel channel;
+    private ByteBuffer buffer;
+
+    public BinaryWriter()
+    {
+        this(ByteBuffer.allocate(DEFAULT_INITIAL_CAPACITY));
+    }
+
+    public BinaryWriter(ByteBuffer buffer)
+    {
+        this(null, buffer);
+    }
+
+    public BinaryWriter(WritableByteChannel channel)
+    {
+        this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+    }
+
+    public BinaryWriter(WritableByteChannel channel, ByteBuffer buffer)
+    {
+        if (buffer.capacity() < 16)
+        {
+            throw new IllegalArgumentException("Buffer capacity must be at least 16 but was " + buffer.capacity());
+        }
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    public <T> void write(T value, Codec<? super T> codec) throws IOException
+    {
+        codec.write(value, this);
+    }
+
+    public void writeBoolean(boolean value) throws IOException
+    {
+        this.ensureRemaining(1);
+        this.buffer.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    public void writeByte(byte value) throws IOException
+    {
+        this.ensureRemaining(1);
+        this.buffer.put(value);
+    }
+
+    public void writeShort(short value) throws IOException
+    {
+        this.writeInt(value);
+    }
+
+    public void writeChar(char value) throws IOException
+    {
+        this.writeUnsignedInt(value);
+    }
+
+    public void writeInt(int value) throws IOException
+    {
+        this.writeUnsignedInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeLong(long value) throws IOException
+    {
+        this.writeUnsignedLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeFloat(float value) throws IOException
+    {
+        this.ensureRemaining(4);
+        this.buffer.putFloat(value);
+    }
+
+    public void writeDouble(double value) throws IOException
+    {
+        this.ensureRemaining(8);
+        this.buffer.putDouble(value);
+    }
+
+    /**
+     * Writes the size of a collection or string. Sizes are never negative, so they are written without zigzag
+     * encoding, and sizes up to 127 take a single byte.
+     */
+    public void writeSize(int size) throws IOException
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("Size must not be negative but was " + size);
+        }
+        this.writeUnsignedInt(size);
+    }
+
+    public void writeString(String value) throws IOException
+    {
+        int length = value.length();
+        this.writeSize(length);
+        for (int i = 0; i < length; i++)
+        {
+            this.writeUnsignedInt(value.charAt(i));
+        }
+    }
+
+    public void writeUnsignedInt(int value) throws IOException
+    {
+        this.ensureRemaining(5);
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0)
+        {
+            this.buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        this.buffer.put((byte) remaining);
+    }
+
+    public void writeUnsignedLong(long value) throws IOException
+    {
+        this.ensureRemaining(10);
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L)
+        {
+            this.buffer.put((byte) ((remaining & 0x7FL) | 0x80L));
+            remaining >>>= 7;
+        }
+        this.buffer.put((byte) remaining);
+    }
+
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (this.buffer.remaining() < bytes)
+        {
+            if (this.channel == null)
+            {
+                this.grow(bytes);
+            }
+            else
+            {
+                this.drain();
+            }
+        }
+    }
+
+    private void grow(int bytes)
+    {
+        int newCapacity = Math.max(this.buffer.capacity() << 1, this.buffer.position() + bytes);
+        ByteBuffer newBuffer = this.buffer.isDirect()
+                ? ByteBuffer.allocateDirect(newCapacity)
+                : ByteBuffer.allocate(newCapacity);
+        newBuffer.order(this.buffer.order());
+        this.buffer.flip();
+        newBuffer.put(this.buffer);
+        this.buffer = newBuffer;
+    }
+
+    private void drain() throws IOException
+    {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining())
+        {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes any buffered bytes to the channel. Does nothing for a BinaryWriter which has no channel.
+     */
+    public void flush() throws IOException
+    {
+        if (this.channel != null)
+        {
+            this.drain();
+        }
+    }
+
+    /**
+     * Returns a read-only view of the bytes written so far, for a BinaryWriter which has no channel.
+     */
+    public ByteBuffer toByteBuffer()
+    {
+        if (this.channel != null)
+        {
+            throw new IllegalStateException("Bytes of a BinaryWriter with a channel are written to its channel");
+        }
+        ByteBuffer result = this.buffer.asReadOnlyBuffer();
+        result.order(this.buffer.order());
+        result.flip();
+        return result;
+    }
+}
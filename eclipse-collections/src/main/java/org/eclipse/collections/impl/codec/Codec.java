@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.IOException;
+
+/**
+ * A Codec writes values of a single type to a {@link BinaryWriter} and reads them back from a {@link BinaryReader}.
+ * Codecs hold no state of their own, so a single instance may be shared by any number of threads, and codecs for
+ * containers are built by composing the codecs of their elements.
+ *
+ * @see Codecs
+ * @since 7.1
+ */
+public interface Codec<T>
+{
+    void write(T value, BinaryWriter out) throws IOException;
+
+    T read(BinaryReader in) throws IOException;
+}
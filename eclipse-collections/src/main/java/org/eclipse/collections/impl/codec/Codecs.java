@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * Codecs is a factory for the {@link Codec}s of common value types and of the object collections. Collections are
+ * written as their size followed by their elements, or by their keys and values for maps, each written by the codec
+ * passed in for them. Mutable collections are read back as a {@link FastList}, {@link UnifiedSet} or
+ * {@link UnifiedMap}, presized to the number of elements read.
+ * <p>
+ * The codecs of the primitive collections are generated, see
+ * {@link org.eclipse.collections.impl.codec.primitive.IntCodecs} and
+ * {@link org.eclipse.collections.impl.codec.primitive.IntIntMapCodecs} for example.
+ *
+ * @since 7.1
+ */
+public final class Codecs
+{
+    private static final Codec<String> STRING = new Codec<String>()
+    {
+        public void write(String value, BinaryWriter out) throws IOException
+        {
+            out.writeString(value);
+        }
+
+        public String read(BinaryReader in) throws IOException
+        {
+            return in.readString();
+        }
+    };
+
+    private static final Codec<Integer> INTEGER = new Codec<Integer>()
+    {
+        public void write(Integer value, BinaryWriter out) throws IOException
+        {
+            out.writeInt(value.intValue());
+        }
+
+        public Integer read(BinaryReader in) throws IOException
+        {
+            return Integer.valueOf(in.readInt());
+        }
+    };
+
+    private static final Codec<Long> LONG = new Codec<Long>()
+    {
+        public void write(Long value, BinaryWriter out) throws IOException
+        {
+            out.writeLong(value.longValue());
+        }
+
+        public Long read(BinaryReader in) throws IOException
+        {
+            return Long.valueOf(in.readLong());
+        }
+    };
+
+    private static final Codec<Double> DOUBLE = new Codec<Double>()
+    {
+        public void write(Double value, BinaryWriter out) throws IOException
+        {
+            out.writeDouble(value.doubleValue());
+        }
+
+        public Double read(BinaryReader in) throws IOException
+        {
+            return Double.valueOf(in.readDouble());
+        }
+    };
+
+    private Codecs()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static Codec<String> string()
+    {
+        return STRING;
+    }
+
+    public static Codec<Integer> integer()
+    {
+        return INTEGER;
+    }
+
+    public static Codec<Long> longValue()
+    {
+        return LONG;
+    }
+
+    public static Codec<Double> doubleValue()
+    {
+        return DOUBLE;
+    }
+
+    /**
+     * Returns a codec which writes a single byte ahead of each value to tell null apart, for values of a codec which
+     * does not accept null itself.
+     */
+    public static <T> Codec<T> nullable(Codec<T> codec)
+    {
+        return new NullableCodec<T>(codec);
+    }
+
+    public static <T> Codec<MutableList<T>> mutableList(Codec<T> elementCodec)
+    {
+        return new MutableListCodec<T>(elementCodec);
+    }
+
+    public static <T> Codec<ImmutableList<T>> immutableList(Codec<T> elementCodec)
+    {
+        return new ImmutableListCodec<T>(elementCodec);
+    }
+
+    public static <T> Codec<MutableSet<T>> mutableSet(Codec<T> elementCodec)
+    {
+        return new MutableSetCodec<T>(elementCodec);
+    }
+
+    public static <T> Codec<ImmutableSet<T>> immutableSet(Codec<T> elementCodec)
+    {
+        return new ImmutableSetCodec<T>(elementCodec);
+    }
+
+    public static <K, V> Codec<MutableMap<K, V>> mutableMap(Codec<K> keyCodec, Codec<V> valueCodec)
+    {
+        return new MutableMapCodec<K, V>(keyCodec, valueCodec);
+    }
+
+    public static <K, V> Codec<ImmutableMap<K, V>> immutableMap(Codec<K> keyCodec, Codec<V> valueCodec)
+    {
+        return new ImmutableMapCodec<K, V>(keyCodec, valueCodec);
+    }
+
+    private static <T> void writeElements(Iterable<T> iterable, int size, Codec<T> elementCodec, BinaryWriter out) throws IOException
+    {
+        out.writeSize(size);
+        if (iterable instanceof List<?> && iterable instanceof RandomAccess)
+        {
+            List<T> list = (List<T>) iterable;
+            for (int i = 0; i < size; i++)
+            {
+                elementCodec.write(list.get(i), out);
+            }
+        }
+        else
+        {
+            for (T each : iterable)
+            {
+                elementCodec.write(each, out);
+            }
+        }
+    }
+
+    private static <T> FastList<T> readList(Codec<T> elementCodec, BinaryReader in) throws IOException
+    {
+        int size = in.readSize();
+        FastList<T> result = FastList.newList(size);
+        for (int i = 0; i < size; i++)
+        {
+            result.add(elementCodec.read(in));
+        }
+        return result;
+    }
+
+    private static <T> UnifiedSet<T> readSet(Codec<T> elementCodec, BinaryReader in) throws IOException
+    {
+        int size = in.readSize();
+        UnifiedSet<T> result = UnifiedSet.newSet(size);
+        for (int i = 0; i < size; i++)
+        {
+            result.add(elementCodec.read(in));
+        }
+        return result;
+    }
+
+    private static <K, V> void writeMap(
+            MapIterable<K, V> map,
+            final Codec<K> keyCodec,
+            final Codec<V> valueCodec,
+            final BinaryWriter out) throws IOException
+    {
+        out.writeSize(map.size());
+        try
+        {
+            map.forEachKeyValue(new CheckedProcedure2<K, V>()
+            {
+                public void safeValue(K key, V value) throws IOException
+                {
+                    keyCodec.write(key, out);
+                    valueCodec.write(value, out);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            // CheckedProcedure2 wraps the codec's IOException; rethrow it unchanged
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static <K, V> UnifiedMap<K, V> readMap(Codec<K> keyCodec, Codec<V> valueCodec, BinaryReader in) throws IOException
+    {
+        int size = in.readSize();
+        UnifiedMap<K, V> result = UnifiedMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            K key = keyCodec.read(in);
+            result.put(key, valueCodec.read(in));
+        }
+        return result;
+    }
+
+    private static final class NullableCodec<T> implements Codec<T>
+    {
+        private final Codec<T> codec;
+
+        private NullableCodec(Codec<T> codec)
+        {
+            this.codec = codec;
+        }
+
+        public void write(T value, BinaryWriter out) throws IOException
+        {
+            out.writeBoolean(value != null);
+            if (value != null)
+            {
+                this.codec.write(value, out);
+            }
+        }
+
+        public T read(BinaryReader in) throws IOException
+        {
+            return in.readBoolean() ? this.codec.read(in) : null;
+        }
+    }
+
+    private static final class MutableListCodec<T> implements Codec<MutableList<T>>
+    {
+        private final Codec<T> elementCodec;
+
+        private MutableListCodec(Codec<T> elementCodec)
+        {
+            this.elementCodec = elementCodec;
+        }
+
+        public void write(MutableList<T> value, BinaryWriter out) throws IOException
+        {
+            Codecs.writeElements(value, value.size(), this.elementCodec, out);
+        }
+
+        public MutableList<T> read(BinaryReader in) throws IOException
+        {
+            return Codecs.readList(this.elementCodec, in);
+        }
+    }
+
+    private static final class ImmutableListCodec<T> implements Codec<ImmutableList<T>>
+    {
+        private final Codec<T> elementCodec;
+
+        private ImmutableListCodec(Codec<T> elementCodec)
+        {
+            this.elementCodec = elementCodec;
+        }
+
+        public void write(ImmutableList<T> value, BinaryWriter out) throws IOException
+        {
+            Codecs.writeElements(value, value.size(), this.elementCodec, out);
+        }
+
+        public ImmutableList<T> read(BinaryReader in) throws IOException
+        {
+            return Codecs.readList(this.elementCodec, in).toImmutable();
+        }
+    }
+
+    private static final class MutableSetCodec<T> implements Codec<MutableSet<T>>
+    {
+        private final Codec<T> elementCodec;
+
+        private MutableSetCodec(Codec<T> elementCodec)
+        {
+            this.elementCodec = elementCodec;
+        }
+
+        public void write(MutableSet<T> value, BinaryWriter out) throws IOException
+        {
+            Codecs.writeElements(value, value.size(), this.elementCodec, out);
+        }
+
+        public MutableSet<T> read(BinaryReader in) throws IOException
+        {
+            return Codecs.readSet(this.elementCodec, in);
+        }
+    }
+
+    private static final class ImmutableSetCodec<T> implements Codec<ImmutableSet<T>>
+    {
+        private final Codec<T> elementCodec;
+
+        private ImmutableSetCodec(Codec<T> elementCodec)
+        {
+            this.elementCodec = elementCodec;
+        }
+
+        public void write(ImmutableSet<T> value, BinaryWriter out) throws IOException
+        {
+            Codecs.writeElements(value, value.size(), this.elementCodec, out);
+        }
+
+        public ImmutableSet<T> read(BinaryReader in) throws IOException
+        {
+            return Codecs.readSet(this.elementCodec, in).toImmutable();
+        }
+    }
+
+    private static final class MutableMapCodec<K, V> implements Codec<MutableMap<K, V>>
+    {
+        private final Codec<K> keyCodec;
+        private final Codec<V> valueCodec;
+
+        private MutableMapCodec(Codec<K> keyCodec, Codec<V> valueCodec)
+        {
+            this.keyCodec = keyCodec;
+            this.valueCodec = valueCodec;
+        }
+
+        public void write(MutableMap<K, V> value, BinaryWriter out) throws IOException
+        {
+            Codecs.writeMap(value, this.keyCodec, this.valueCodec, out);
+        }
+
+        public MutableMap<K, V> read(BinaryReader in) throws IOException
+        {
+            return Codecs.readMap(this.keyCodec, this.valueCodec, in);
+        }
+    }
+
+    private static final class ImmutableMapCodec<K, V> implements Codec<ImmutableMap<K, V>>
+    {
+        private final Codec<K> keyCodec;
+        private final Codec<V> valueCodec;
+
+        private ImmutableMapCodec(Codec<K> keyCodec, Codec<V> valueCodec)
+        {
+            this.keyCodec = keyCodec;
+            this.valueCodec = valueCodec;
+        }
+
+        public void write(ImmutableMap<K, V> value, BinaryWriter out) throws IOException
+        {
+            Codecs.writeMap(value, this.keyCodec, this.valueCodec, out);
+        }
+
+        public ImmutableMap<K, V> read(BinaryReader in) throws IOException
+        {
+            return Codecs.readMap(this.keyCodec, this.valueCodec, in).toImmutable();
+        }
+    }
+}
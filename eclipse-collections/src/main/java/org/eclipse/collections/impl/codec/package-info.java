@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains a compact binary format for collections, which is written and read through {@link java.nio.ByteBuffer}s and channels.
+ * <p>
+ *     This package contains the following classes:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.codec.Codec} - writes and reads values of a single type.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.codec.Codecs} - a factory for the codecs of common value types and of the object collections.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.codec.BinaryWriter} - encodes values as variable length integers directly into a buffer or channel.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.codec.BinaryReader} - decodes values written by a {@code BinaryWriter}.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.codec;
@@ -11,6 +11,8 @@
 package org.eclipse.collections.impl.lazy;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 
 import net.jcip.annotations.Immutable;
 import org.eclipse.collections.api.LazyBooleanIterable;
@@ -23,6 +25,7 @@ import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.LazyLongIterable;
 import org.eclipse.collections.api.LazyShortIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -297,4 +300,32 @@ public abstract class AbstractLazyIterable<T>
         this.forEach(new NonMutatingAggregationProcedure<T, K, V>(map, groupBy, zeroValueFactory, nonMutatingAggregator));
         return map;
     }
+
+    /**
+     * Returns true if the short-circuiting anySatisfy and detect of the iterable pass every element on to the
+     * predicate, including duplicates, in iteration order. Bags, for example, only test each distinct element once, so
+     * an iterable that counts the elements it is shown has to iterate them instead. Lazy iterables qualify when they
+     * pass on every element of a source that qualifies.
+     */
+    static boolean visitsEveryOccurrence(Iterable<?> iterable)
+    {
+        if (iterable instanceof List && iterable instanceof RandomAccess)
+        {
+            return true;
+        }
+        if (iterable instanceof AbstractLazyIterable)
+        {
+            return ((AbstractLazyIterable<?>) iterable).visitsEveryOccurrence();
+        }
+        return !(iterable instanceof LazyIterable) && !(iterable instanceof Bag);
+    }
+
+    /**
+     * Overridden by the lazy iterables whose anySatisfy and detect pass every element of their source on, in order,
+     * to ask whether their source does the same.
+     */
+    boolean visitsEveryOccurrence()
+    {
+        return false;
+    }
 }
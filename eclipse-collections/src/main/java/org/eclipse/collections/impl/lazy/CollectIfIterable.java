@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy;
+
+import java.util.Iterator;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.LazyDoubleIterable;
+import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.LazyLongIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.procedure.IfObjectIntProcedure;
+import org.eclipse.collections.impl.block.procedure.IfProcedureWith;
+import org.eclipse.collections.impl.lazy.iterator.CollectIterator;
+import org.eclipse.collections.impl.lazy.iterator.SelectIterator;
+import org.eclipse.collections.impl.lazy.primitive.CollectDoubleIterable;
+import org.eclipse.collections.impl.lazy.primitive.CollectIntIterable;
+import org.eclipse.collections.impl.lazy.primitive.CollectLongIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A CollectIfIterable is an iterable that filters a source iterable on a condition and transforms the elements which
+ * satisfy it using a function as it iterates. It is the fused form of a select followed by a collect, which tests and
+ * transforms each element in a single procedure over the source, rather than in one nested procedure per stage.
+ *
+ * @since 7.1
+ */
+@Immutable
+public class CollectIfIterable<T, V>
+        extends AbstractLazyIterable<V>
+{
+    private final Iterable<T> adapted;
+    private final Predicate<? super T> predicate;
+    private final Function<? super T, ? extends V> function;
+
+    public CollectIfIterable(Iterable<T> newAdapted, Predicate<? super T> newPredicate, Function<? super T, ? extends V> function)
+    {
+        this.adapted = newAdapted;
+        this.predicate = newPredicate;
+        this.function = function;
+    }
+
+    public void each(final Procedure<? super V> procedure)
+    {
+        Iterate.forEach(this.adapted, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                if (CollectIfIterable.this.predicate.accept(each))
+                {
+                    procedure.value(CollectIfIterable.this.function.valueOf(each));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        Iterate.forEach(this.adapted, new IfObjectIntProcedure<T>(this.predicate, Functions.bind(objectIntProcedure, this.function)));
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        Iterate.forEachWith(this.adapted, new IfProcedureWith<T, P>(this.predicate, Functions.bind(procedure, this.function)), parameter);
+    }
+
+    public Iterator<V> iterator()
+    {
+        return new CollectIterator<T, V>(new SelectIterator<T>(this.adapted, this.predicate), this.function);
+    }
+
+    @Override
+    public <V2> LazyIterable<V2> collect(Function<? super V, ? extends V2> function)
+    {
+        return new CollectIfIterable<T, V2>(this.adapted, this.predicate, Functions.chain(this.function, function));
+    }
+
+    @Override
+    public LazyIntIterable collectInt(IntFunction<? super V> intFunction)
+    {
+        return new CollectIntIterable<T>(new SelectIterable<T>(this.adapted, this.predicate), Functions.chainInt(this.function, intFunction));
+    }
+
+    @Override
+    public LazyLongIterable collectLong(LongFunction<? super V> longFunction)
+    {
+        return new CollectLongIterable<T>(new SelectIterable<T>(this.adapted, this.predicate), Functions.chainLong(this.function, longFunction));
+    }
+
+    @Override
+    public LazyDoubleIterable collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        return new CollectDoubleIterable<T>(new SelectIterable<T>(this.adapted, this.predicate), Functions.chainDouble(this.function, doubleFunction));
+    }
+
+    @Override
+    public MutableList<V> toList()
+    {
+        return Iterate.collectIf(this.adapted, this.predicate, this.function, FastList.<V>newList());
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return Iterate.anySatisfy(this.adapted, Predicates.and(this.predicate, Predicates.attributePredicate(this.function, predicate)));
+    }
+
+    @Override
+    public <P> boolean anySatisfyWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.anySatisfy(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return Iterate.allSatisfy(this.adapted, new AllSatisfyPredicate<T>(this.predicate, Predicates.attributePredicate(this.function, predicate)));
+    }
+
+    @Override
+    public <P> boolean allSatisfyWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.allSatisfy(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super V> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public <P> boolean noneSatisfyWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.noneSatisfy(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public V detect(Predicate<? super V> predicate)
+    {
+        DetectPredicate<T, V> detectPredicate = new DetectPredicate<T, V>(this.predicate, this.function, predicate);
+        Iterate.anySatisfy(this.adapted, detectPredicate);
+        return detectPredicate.found;
+    }
+
+    @Override
+    public V getFirst()
+    {
+        T resultItem = Iterate.detect(this.adapted, this.predicate);
+        return resultItem == null ? null : this.function.valueOf(resultItem);
+    }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
+
+    /**
+     * Accepts the first element which satisfies the select predicate and whose transformed value satisfies the detect
+     * predicate, and keeps that value in {@link #found}, so the function is evaluated only once per selected element.
+     */
+    private static final class DetectPredicate<T, V> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private final Function<? super T, ? extends V> function;
+        private final Predicate<? super V> detectPredicate;
+        private V found;
+
+        private DetectPredicate(Predicate<? super T> predicate, Function<? super T, ? extends V> function, Predicate<? super V> detectPredicate)
+        {
+            this.predicate = predicate;
+            this.function = function;
+            this.detectPredicate = detectPredicate;
+        }
+
+        public boolean accept(T each)
+        {
+            if (this.predicate.accept(each))
+            {
+                V value = this.function.valueOf(each);
+                if (this.detectPredicate.accept(value))
+                {
+                    this.found = value;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -13,24 +13,40 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.LazyDoubleIterable;
+import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.LazyLongIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatObjectToFloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.IntObjectToIntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.iterator.CollectIterator;
+import org.eclipse.collections.impl.lazy.primitive.CollectDoubleIterable;
+import org.eclipse.collections.impl.lazy.primitive.CollectIntIterable;
+import org.eclipse.collections.impl.lazy.primitive.CollectLongIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * A CollectIterable is an iterable that transforms a source iterable using a function as it iterates.
+ * <p>
+ * A collect on a CollectIterable, including the primitive collectInt, collectLong and collectDouble, chains the two
+ * functions into a single stage over the same source.
  */
 @Immutable
 public class CollectIterable<T, V>
@@ -67,6 +83,36 @@ public class CollectIterable<T, V>
         return new CollectIterator<T, V>(this.adapted, this.function);
     }
 
+    @Override
+    public <V2> LazyIterable<V2> collect(Function<? super V, ? extends V2> function)
+    {
+        return new CollectIterable<T, V2>(this.adapted, Functions.chain(this.function, function));
+    }
+
+    @Override
+    public LazyIntIterable collectInt(IntFunction<? super V> intFunction)
+    {
+        return new CollectIntIterable<T>(LazyIterate.adapt(this.adapted), Functions.chainInt(this.function, intFunction));
+    }
+
+    @Override
+    public LazyLongIterable collectLong(LongFunction<? super V> longFunction)
+    {
+        return new CollectLongIterable<T>(LazyIterate.adapt(this.adapted), Functions.chainLong(this.function, longFunction));
+    }
+
+    @Override
+    public LazyDoubleIterable collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        return new CollectDoubleIterable<T>(LazyIterate.adapt(this.adapted), Functions.chainDouble(this.function, doubleFunction));
+    }
+
+    @Override
+    public MutableList<V> toList()
+    {
+        return Iterate.collect(this.adapted, this.function, FastList.<V>newList());
+    }
+
     @Override
     public int size()
     {
@@ -219,4 +265,10 @@ public class CollectIterable<T, V>
         }
         return this.function.valueOf(Iterate.getLast(this.adapted));
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
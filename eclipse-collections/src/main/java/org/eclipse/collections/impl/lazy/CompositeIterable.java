@@ -14,6 +14,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
@@ -87,6 +88,56 @@ public final class CompositeIterable<E>
         });
     }
 
+    @Override
+    public boolean anySatisfy(final Predicate<? super E> predicate)
+    {
+        return this.iterables.anySatisfy(new Predicate<Iterable<E>>()
+        {
+            public boolean accept(Iterable<E> iterable)
+            {
+                return Iterate.anySatisfy(iterable, predicate);
+            }
+        });
+    }
+
+    @Override
+    public boolean allSatisfy(final Predicate<? super E> predicate)
+    {
+        return this.iterables.allSatisfy(new Predicate<Iterable<E>>()
+        {
+            public boolean accept(Iterable<E> iterable)
+            {
+                return Iterate.allSatisfy(iterable, predicate);
+            }
+        });
+    }
+
+    @Override
+    public boolean noneSatisfy(final Predicate<? super E> predicate)
+    {
+        return this.iterables.allSatisfy(new Predicate<Iterable<E>>()
+        {
+            public boolean accept(Iterable<E> iterable)
+            {
+                return Iterate.noneSatisfy(iterable, predicate);
+            }
+        });
+    }
+
+    @Override
+    public E detect(Predicate<? super E> predicate)
+    {
+        for (int i = 0; i < this.iterables.size(); i++)
+        {
+            E result = Iterate.detect(this.iterables.get(i), predicate);
+            if (result != null)
+            {
+                return result;
+            }
+        }
+        return null;
+    }
+
     public void add(Iterable<E> iterable)
     {
         this.iterables.add(iterable);
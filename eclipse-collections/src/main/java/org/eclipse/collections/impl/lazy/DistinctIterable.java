@@ -14,12 +14,19 @@ import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.iterator.DistinctIterator;
-import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * A DistinctIterable is an iterable that eliminates duplicates from a source iterable as it iterates.
+ * <p>
+ * anySatisfy and detect run on the short-circuiting anySatisfy and detect of the source, showing the predicate only the
+ * first occurrence of each element, and allSatisfy and noneSatisfy are derived from anySatisfy.
  *
  * @since 5.0
  */
@@ -40,13 +47,69 @@ public class DistinctIterable<T>
         return this;
     }
 
-    public void each(Procedure<? super T> procedure)
+    public void each(final Procedure<? super T> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        final MutableSet<T> seenSoFar = UnifiedSet.newSet();
+        Iterate.forEach(this.adapted, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                if (seenSoFar.add(each))
+                {
+                    procedure.value(each);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return Iterate.anySatisfy(this.adapted, DistinctIterable.firstOccurrences(predicate));
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(Predicates.not(predicate));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return Iterate.detect(this.adapted, DistinctIterable.firstOccurrences(predicate));
+    }
+
+    /**
+     * Only passes the first occurrence of each element on to the predicate, since a caller such as TakeIterable may
+     * count the elements it is shown.
+     */
+    private static <T> Predicate<T> firstOccurrences(final Predicate<? super T> predicate)
+    {
+        final MutableSet<T> seenSoFar = UnifiedSet.newSet();
+        return new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return seenSoFar.add(each) && predicate.accept(each);
+            }
+        };
     }
 
     public Iterator<T> iterator()
     {
         return new DistinctIterator<T>(this.adapted);
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
@@ -13,9 +13,11 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.predicate.DropIterablePredicate;
 import org.eclipse.collections.impl.block.procedure.IfObjectIntProcedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedure;
@@ -26,6 +28,10 @@ import org.eclipse.collections.impl.utility.Iterate;
 /**
  * Iterates over the elements of the adapted Iterable skipping the first count elements or the full adapted Iterable if
  * the count is non-positive.
+ * <p>
+ * Unless the adapted Iterable is backed by a bag, anySatisfy, allSatisfy, noneSatisfy and detect run on its
+ * short-circuiting internal iteration instead of on a {@link DropIterator}. Bags, whose anySatisfy only tests each
+ * distinct element once, still go through the iterator.
  */
 @Immutable
 public class DropIterable<T> extends AbstractLazyIterable<T>
@@ -64,4 +70,50 @@ public class DropIterable<T> extends AbstractLazyIterable<T>
     {
         return new DropIterator<T>(this.adapted, this.count);
     }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            return super.anySatisfy(predicate);
+        }
+        return Iterate.anySatisfy(this.adapted, Predicates.and(new DropIterablePredicate<T>(this.count), predicate));
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            return super.allSatisfy(predicate);
+        }
+        return Iterate.allSatisfy(this.adapted, new AllSatisfyPredicate<T>(new DropIterablePredicate<T>(this.count), predicate));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            return super.noneSatisfy(predicate);
+        }
+        return Iterate.noneSatisfy(this.adapted, Predicates.and(new DropIterablePredicate<T>(this.count), predicate));
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            return super.detect(predicate);
+        }
+        return Iterate.detect(this.adapted, Predicates.and(new DropIterablePredicate<T>(this.count), predicate));
+    }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
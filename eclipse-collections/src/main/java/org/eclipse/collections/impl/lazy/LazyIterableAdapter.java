@@ -193,4 +193,10 @@ public class LazyIterableAdapter<T>
     {
         return Iterate.detectWith(this.adapted, predicate, parameter);
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
@@ -13,20 +13,27 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.IfObjectIntProcedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedureWith;
 import org.eclipse.collections.impl.lazy.iterator.SelectIterator;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * A RejectIterable is an iterable that filters a source iterable on a negative condition as it iterates.
+ * <p>
+ * Like a {@link SelectIterable}, a select, reject or collect on a RejectIterable is fused into a single stage over the
+ * same source.
  */
 @Immutable
 public class RejectIterable<T>
@@ -66,6 +73,30 @@ public class RejectIterable<T>
         return new SelectIterator<T>(this.adapted, this.predicate);
     }
 
+    @Override
+    public LazyIterable<T> select(Predicate<? super T> predicate)
+    {
+        return new SelectIterable<T>(this.adapted, Predicates.and(this.predicate, predicate));
+    }
+
+    @Override
+    public LazyIterable<T> reject(Predicate<? super T> predicate)
+    {
+        return new SelectIterable<T>(this.adapted, Predicates.and(this.predicate, Predicates.not(predicate)));
+    }
+
+    @Override
+    public <V> LazyIterable<V> collect(Function<? super T, ? extends V> function)
+    {
+        return new CollectIfIterable<T, V>(this.adapted, this.predicate, function);
+    }
+
+    @Override
+    public MutableList<T> toList()
+    {
+        return Iterate.select(this.adapted, this.predicate, FastList.<T>newList());
+    }
+
     @Override
     public boolean anySatisfy(Predicate<? super T> predicate)
     {
@@ -113,4 +144,10 @@ public class RejectIterable<T>
     {
         return Iterate.detect(this.adapted, this.predicate);
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
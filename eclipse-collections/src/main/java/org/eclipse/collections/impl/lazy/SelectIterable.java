@@ -13,20 +13,27 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.IfObjectIntProcedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedure;
 import org.eclipse.collections.impl.block.procedure.IfProcedureWith;
 import org.eclipse.collections.impl.lazy.iterator.SelectIterator;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * A SelectIterable is an iterable that filters a source iterable on a condition as it iterates.
+ * <p>
+ * A select on a SelectIterable is fused into a single SelectIterable over the same source, and a collect into a
+ * {@link CollectIfIterable}, so chains of these stages still run as a single procedure over the source.
  */
 @Immutable
 public class SelectIterable<T>
@@ -63,6 +70,30 @@ public class SelectIterable<T>
         return new SelectIterator<T>(this.adapted.iterator(), this.predicate);
     }
 
+    @Override
+    public LazyIterable<T> select(Predicate<? super T> predicate)
+    {
+        return new SelectIterable<T>(this.adapted, Predicates.and(this.predicate, predicate));
+    }
+
+    @Override
+    public LazyIterable<T> reject(Predicate<? super T> predicate)
+    {
+        return new SelectIterable<T>(this.adapted, Predicates.and(this.predicate, Predicates.not(predicate)));
+    }
+
+    @Override
+    public <V> LazyIterable<V> collect(Function<? super T, ? extends V> function)
+    {
+        return new CollectIfIterable<T, V>(this.adapted, this.predicate, function);
+    }
+
+    @Override
+    public MutableList<T> toList()
+    {
+        return Iterate.select(this.adapted, this.predicate, FastList.<T>newList());
+    }
+
     @Override
     public boolean anySatisfy(Predicate<? super T> predicate)
     {
@@ -110,4 +141,10 @@ public class SelectIterable<T>
     {
         return Iterate.detect(this.adapted, this.predicate);
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
@@ -13,14 +13,22 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.iterator.TakeIterator;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * Iterates over the first count elements of the adapted Iterable or the full size of the adapted
  * iterable if the count is greater than the length of the receiver.
+ * <p>
+ * Unless the adapted iterable is backed by a bag, iteration is driven by its short-circuiting anySatisfy and detect, so
+ * the elements are pushed through the source's internal iteration, including any lazy stages in between, and the
+ * iteration stops as soon as count elements have been seen, without creating an iterator. Bags, whose anySatisfy only
+ * tests each distinct element once, are iterated with an iterator.
  */
 @Immutable
 public class TakeIterable<T> extends AbstractLazyIterable<T>
@@ -38,41 +46,127 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
         this.count = count;
     }
 
-    // TODO: implement in terms of LazyIterate.whileDo() when it is added.
+    public void each(final Procedure<? super T> procedure)
+    {
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            int i = 0;
+            Iterator<T> iterator = this.adapted.iterator();
+            while (i < this.count && iterator.hasNext())
+            {
+                procedure.value(iterator.next());
+                i++;
+            }
+        }
+        else if (this.count > 0)
+        {
+            Iterate.anySatisfy(this.adapted, new TakePredicate<T>(this.count, new Predicate<T>()
+            {
+                public boolean accept(T each)
+                {
+                    procedure.value(each);
+                    return false;
+                }
+            }));
+        }
+    }
 
-    public void each(Procedure<? super T> procedure)
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> procedure)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            int i = 0;
+            Iterator<T> iterator = this.adapted.iterator();
+            while (i < this.count && iterator.hasNext())
+            {
+                procedure.value(iterator.next(), i);
+                i++;
+            }
+        }
+        else if (this.count > 0)
         {
-            procedure.value(iterator.next());
-            i++;
+            Iterate.anySatisfy(this.adapted, new TakePredicate<T>(this.count, new Predicate<T>()
+            {
+                private int index;
+
+                public boolean accept(T each)
+                {
+                    procedure.value(each, this.index++);
+                    return false;
+                }
+            }));
         }
     }
 
     @Override
-    public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
         {
-            procedure.value(iterator.next(), i);
-            i++;
+            int i = 0;
+            Iterator<T> iterator = this.adapted.iterator();
+            while (i < this.count && iterator.hasNext())
+            {
+                procedure.value(iterator.next(), parameter);
+                i++;
+            }
+        }
+        else if (this.count > 0)
+        {
+            Iterate.anySatisfy(this.adapted, new TakePredicate<T>(this.count, new Predicate<T>()
+            {
+                public boolean accept(T each)
+                {
+                    procedure.value(each, parameter);
+                    return false;
+                }
+            }));
         }
     }
 
     @Override
-    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    public boolean anySatisfy(Predicate<? super T> predicate)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
         {
-            procedure.value(iterator.next(), parameter);
-            i++;
+            return super.anySatisfy(predicate);
         }
+        if (this.count == 0)
+        {
+            return false;
+        }
+        TakePredicate<T> takePredicate = new TakePredicate<T>(this.count, predicate);
+        Iterate.anySatisfy(this.adapted, takePredicate);
+        return takePredicate.satisfied;
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(Predicates.not(predicate));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        if (!AbstractLazyIterable.visitsEveryOccurrence(this.adapted))
+        {
+            return super.detect(predicate);
+        }
+        if (this.count == 0)
+        {
+            return null;
+        }
+        TakePredicate<T> takePredicate = new TakePredicate<T>(this.count, predicate);
+        T result = Iterate.detect(this.adapted, takePredicate);
+        return takePredicate.satisfied ? result : null;
     }
 
     @Override
@@ -93,4 +187,41 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
     {
         return new TakeIterator<T>(this.adapted, this.count);
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
+
+    /**
+     * Accepts the first element satisfying the delegate predicate, or the element at which count elements have been
+     * seen, whichever comes first. {@link #satisfied} tells which of the two ended the iteration.
+     */
+    private static final class TakePredicate<T> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int count;
+        private final Predicate<? super T> predicate;
+        private int index;
+        private boolean satisfied;
+
+        private TakePredicate(int count, Predicate<? super T> predicate)
+        {
+            this.count = count;
+            this.predicate = predicate;
+        }
+
+        public boolean accept(T each)
+        {
+            if (this.predicate.accept(each))
+            {
+                this.satisfied = true;
+                return true;
+            }
+            this.index++;
+            return this.index == this.count;
+        }
+    }
 }
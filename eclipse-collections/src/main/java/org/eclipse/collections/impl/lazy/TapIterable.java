@@ -143,4 +143,10 @@ public class TapIterable<T>
     {
         return new TapIterator<T>(this.adapted, this.procedure);
     }
+
+    @Override
+    boolean visitsEveryOccurrence()
+    {
+        return AbstractLazyIterable.visitsEveryOccurrence(this.adapted);
+    }
 }
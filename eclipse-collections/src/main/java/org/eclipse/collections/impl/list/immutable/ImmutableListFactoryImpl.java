@@ -229,4 +229,13 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
         }
         return this.of((T[]) Iterate.toArray(items));
     }
+
+    public <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        if (items instanceof ImmutableTrieList<?>)
+        {
+            return (ImmutableList<T>) items;
+        }
+        return ImmutableTrieList.newList(items);
+    }
 }
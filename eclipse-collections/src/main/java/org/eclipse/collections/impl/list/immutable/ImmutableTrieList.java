@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableTrieList is a persistent vector: the elements are stored in 32 element leaf arrays at the bottom of a
+ * 32-way trie, with the last partially filled leaf kept aside as the tail. newWith only copies the tail, or the path
+ * from the root to the rightmost leaf once the tail is full, and shares everything else with the original list.
+ * newWithAll and take share all complete leaves in the same way, and iteration walks the leaf arrays one at a time
+ * instead of descending the trie for every element.
+ * <p>
+ * Get and iteration are slower than on an array backed list, so an ImmutableTrieList is only created through
+ * {@link ImmutableListFactoryImpl#withAllPersistent(Iterable)} and never by the other list factories.
+ *
+ * @since 7.1
+ */
+@Immutable
+final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess, BatchIterable<T>
+{
+    // Not important since it uses writeReplace()
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableTrieList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        return ImmutableTrieList.newListWith((E[]) Iterate.toArray(iterable));
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        ImmutableTrieList<E> empty = new ImmutableTrieList<E>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+        return empty.appendAll(elements);
+    }
+
+    private static int tailOffset(int size)
+    {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = ImmutableTrieList.newPath(level - BITS, node);
+        return path;
+    }
+
+    private static Object[] pushLeaf(int size, int level, Object[] parent, Object[] leaf)
+    {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS)
+        {
+            result[childIndex] = leaf;
+        }
+        else
+        {
+            Object[] child = (Object[]) parent[childIndex];
+            result[childIndex] = child == null
+                    ? ImmutableTrieList.newPath(level - BITS, leaf)
+                    : ImmutableTrieList.pushLeaf(size, level - BITS, child, leaf);
+        }
+        return result;
+    }
+
+    private static Object[] trimToLeaf(int level, Object[] node, int lastIndex)
+    {
+        int childIndex = (lastIndex >>> level) & MASK;
+        Object[] result = new Object[WIDTH];
+        System.arraycopy(node, 0, result, 0, childIndex + 1);
+        if (level > BITS)
+        {
+            result[childIndex] = ImmutableTrieList.trimToLeaf(level - BITS, (Object[]) node[childIndex], lastIndex);
+        }
+        return result;
+    }
+
+    private int tailOffset()
+    {
+        return ImmutableTrieList.tailOffset(this.size);
+    }
+
+    /**
+     * Returns the leaf array holding the element at index, which is at position {@code index & 31} in it.
+     */
+    private Object[] leafFor(int index)
+    {
+        if (index >= this.tailOffset())
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private ImmutableTrieList<T> appendAll(Object[] elements)
+    {
+        if (elements.length == 0)
+        {
+            return this;
+        }
+        int newSize = this.size;
+        int newShift = this.shift;
+        Object[] newRoot = this.root;
+        Object[] newTail = this.tail;
+        int position = 0;
+        while (position < elements.length)
+        {
+            if (newTail.length == WIDTH)
+            {
+                // newSize counts the full tail, so the root overflows once it holds more leaves than its level allows
+                if (newSize >>> BITS > (1 << newShift))
+                {
+                    Object[] overflowRoot = new Object[WIDTH];
+                    overflowRoot[0] = newRoot;
+                    overflowRoot[1] = ImmutableTrieList.newPath(newShift, newTail);
+                    newRoot = overflowRoot;
+                    newShift += BITS;
+                }
+                else
+                {
+                    newRoot = ImmutableTrieList.pushLeaf(newSize, newShift, newRoot, newTail);
+                }
+                newTail = EMPTY_TAIL;
+            }
+            int count = Math.min(WIDTH - newTail.length, elements.length - position);
+            Object[] tailCopy = new Object[newTail.length + count];
+            System.arraycopy(newTail, 0, tailCopy, 0, newTail.length);
+            System.arraycopy(elements, position, tailCopy, newTail.length, count);
+            newTail = tailCopy;
+            newSize += count;
+            position += count;
+        }
+        return new ImmutableTrieList<T>(newSize, newShift, newRoot, newTail);
+    }
+
+    public ImmutableList<T> newWith(T newItem)
+    {
+        return this.appendAll(new Object[]{newItem});
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.appendAll(Iterate.toArray(elements));
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size > 0;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : (T) this.tail[this.tail.length - 1];
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int offset = 0; offset < this.size; offset += WIDTH)
+        {
+            Object[] leaf = this.leafFor(offset);
+            int leafSize = Math.min(WIDTH, this.size - offset);
+            for (int i = 0; i < leafSize; i++)
+            {
+                procedure.value((T) leaf[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int offset = 0; offset < this.size; offset += WIDTH)
+        {
+            Object[] leaf = this.leafFor(offset);
+            int leafSize = Math.min(WIDTH, this.size - offset);
+            for (int i = 0; i < leafSize; i++)
+            {
+                objectIntProcedure.value((T) leaf[i], offset + i);
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        for (int offset = 0; offset < this.size; offset += WIDTH)
+        {
+            Object[] leaf = this.leafFor(offset);
+            int leafSize = Math.min(WIDTH, this.size - offset);
+            for (int i = 0; i < leafSize; i++)
+            {
+                procedure.value((T) leaf[i], parameter);
+            }
+        }
+    }
+
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size / sectionCount;
+        int start = sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.size : start + sectionSize;
+        int index = start;
+        while (index < end)
+        {
+            Object[] leaf = this.leafFor(index);
+            int leafEnd = Math.min(end - (index & ~MASK), WIDTH);
+            for (int i = index & MASK; i < leafEnd; i++)
+            {
+                procedure.value((T) leaf[i]);
+            }
+            index = (index & ~MASK) + leafEnd;
+        }
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size / batchSize);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (int offset = 0; offset < this.size; offset += WIDTH)
+        {
+            Object[] leaf = this.leafFor(offset);
+            int leafSize = Math.min(WIDTH, this.size - offset);
+            for (int i = 0; i < leafSize; i++)
+            {
+                Object item = leaf[i];
+                hashCode = 31 * hashCode + (item == null ? 0 : item.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new LeafIterator();
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.copyInto(new Object[this.size], this.size);
+    }
+
+    @Override
+    public <E> E[] toArray(E[] a)
+    {
+        if (a.length < this.size)
+        {
+            a = (E[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+        }
+        this.copyInto(a, this.size);
+        if (a.length > this.size)
+        {
+            a[this.size] = null;
+        }
+        return a;
+    }
+
+    private <E> E[] copyInto(E[] array, int count)
+    {
+        for (int offset = 0; offset < count; offset += WIDTH)
+        {
+            System.arraycopy(this.leafFor(offset), 0, array, offset, Math.min(WIDTH, count - offset));
+        }
+        return array;
+    }
+
+    @Override
+    public ImmutableList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        if (count >= this.size)
+        {
+            return this;
+        }
+        if (count <= ImmutableListFactoryImpl.TRIE_LIST_THRESHOLD)
+        {
+            return Lists.immutable.with((T[]) this.copyInto(new Object[count], count));
+        }
+        int newTailOffset = ImmutableTrieList.tailOffset(count);
+        Object[] newTail = new Object[count - newTailOffset];
+        System.arraycopy(this.leafFor(newTailOffset), 0, newTail, 0, newTail.length);
+        // Shed the levels that are not needed to address the remaining leaves
+        int newShift = this.shift;
+        Object[] newRoot = this.root;
+        while (newShift > BITS && newTailOffset >>> BITS <= (1 << (newShift - BITS)))
+        {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        newRoot = ImmutableTrieList.trimToLeaf(newShift, newRoot, newTailOffset - 1);
+        return new ImmutableTrieList<T>(count, newShift, newRoot, newTail);
+    }
+
+    protected Object writeReplace()
+    {
+        return ImmutableArrayList.newList(this);
+    }
+
+    private final class LeafIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = ImmutableTrieList.this.size == 0 ? EMPTY_TAIL : ImmutableTrieList.this.leafFor(0);
+
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int leafIndex = this.index & MASK;
+            if (leafIndex == 0 && this.index > 0)
+            {
+                this.leaf = ImmutableTrieList.this.leafFor(this.index);
+            }
+            this.index++;
+            return (T) this.leaf[leafIndex];
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
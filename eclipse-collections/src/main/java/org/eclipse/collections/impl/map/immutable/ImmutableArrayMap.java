@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * An ImmutableMap for a handful of entries that keeps its keys and values interleaved in a single array and finds a
+ * key by a linear scan. Above {@link ImmutableQuadrupletonMap} and up to
+ * {@link ImmutableMapFactoryImpl#ARRAY_MAP_THRESHOLD} entries this costs far less memory than an
+ * {@link ImmutableUnifiedMap}, which carries the load factor slack of a hash table and a ChainedBucket for every
+ * collision, while a scan over so few keys is about as fast as hashing.
+ *
+ * @see ImmutableMap
+ * @since 7.1
+ */
+@Immutable
+final class ImmutableArrayMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    // key1, value1, key2, value2, ...
+    private final Object[] table;
+
+    ImmutableArrayMap(Map<K, V> map)
+    {
+        this.table = new Object[map.size() << 1];
+        int index = 0;
+        for (Map.Entry<K, V> entry : map.entrySet())
+        {
+            this.table[index++] = entry.getKey();
+            this.table[index++] = entry.getValue();
+        }
+    }
+
+    ImmutableArrayMap(Pair<K, V>... pairs)
+    {
+        this(UnifiedMap.newMapWith(pairs));
+    }
+
+    private ImmutableArrayMap(Object[] table)
+    {
+        this.table = table;
+    }
+
+    private int indexOfKey(Object key)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (Comparators.nullSafeEquals(this.table[i], key))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private K keyAt(int index)
+    {
+        return (K) this.table[index];
+    }
+
+    private V valueAt(int index)
+    {
+        return (V) this.table[index + 1];
+    }
+
+    public int size()
+    {
+        return this.table.length >> 1;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.indexOfKey(key) != -1;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 1; i < this.table.length; i += 2)
+        {
+            if (Comparators.nullSafeEquals(this.table[i], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        int index = this.indexOfKey(key);
+        return index == -1 ? null : this.valueAt(index);
+    }
+
+    @Override
+    public <A> A ifPresentApply(K key, Function<? super V, ? extends A> function)
+    {
+        int index = this.indexOfKey(key);
+        return index == -1 ? null : function.valueOf(this.valueAt(index));
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        int index = this.indexOfKey(key);
+        return index == -1 ? function.value() : this.valueAt(index);
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        int index = this.indexOfKey(key);
+        return index == -1 ? value : this.valueAt(index);
+    }
+
+    @Override
+    public <P> V getIfAbsentWith(
+            K key,
+            Function<? super P, ? extends V> function,
+            P parameter)
+    {
+        int index = this.indexOfKey(key);
+        return index == -1 ? function.valueOf(parameter) : this.valueAt(index);
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(this.keySet()).zip(this.values());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            hashCode += this.keyAndValueHashCode(this.keyAt(i), this.valueAt(i));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (!this.keyAndValueEquals(this.keyAt(i), this.valueAt(i), that))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+            builder.append(this.table[i]).append('=').append(this.table[i + 1]);
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            procedure.value(this.keyAt(i), this.valueAt(i));
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            procedure.value(this.keyAt(i));
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            procedure.value(this.valueAt(i));
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            objectIntProcedure.value(this.valueAt(i), i >> 1);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            procedure.value(this.valueAt(i), parameter);
+        }
+    }
+
+    @Override
+    public <R> ImmutableMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        Object[] result = new Object[this.table.length];
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            result[i] = this.table[i];
+            result[i + 1] = function.value(this.keyAt(i), this.valueAt(i));
+        }
+        return new ImmutableArrayMap<K, R>(result);
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+
+    private class ArrayMapIterator<E> implements Iterator<E>
+    {
+        private int index;
+
+        private ArrayMapIterator(int start)
+        {
+            this.index = start;
+        }
+
+        public boolean hasNext()
+        {
+            return this.index < ImmutableArrayMap.this.table.length;
+        }
+
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            E result = (E) ImmutableArrayMap.this.table[this.index];
+            this.index += 2;
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + ImmutableArrayMap.this.getClass().getSimpleName());
+        }
+    }
+
+    private class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public boolean contains(Object o)
+        {
+            return ImmutableArrayMap.this.containsKey(o);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableArrayMap.this.size();
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new ArrayMapIterator<K>(0);
+        }
+    }
+
+    private class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public boolean contains(Object o)
+        {
+            return ImmutableArrayMap.this.containsValue(o);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableArrayMap.this.size();
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ArrayMapIterator<V>(1);
+        }
+    }
+}
@@ -0,0 +1,920 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * An ImmutableMap backed by a hash array mapped trie. Each level of the trie consumes five bits of the spread hash
+ * code of a key, so a node has at most 32 children. Every newWithKeyValue or newWithoutKey copies only the nodes on
+ * the path to the affected key and shares all the other nodes with the original map, making updates O(log32 n)
+ * instead of the O(n) copy of an {@link ImmutableUnifiedMap}.
+ * <p>
+ * Nodes are kept in canonical form: a key-value pair is stored inline in the highest node where its hash prefix is
+ * unique, and a child that is left holding a single pair after a removal is folded back into its parent. Keys whose
+ * spread hash codes are completely equal end up in a collision node at the bottom of the trie.
+ *
+ * @see ImmutableMap
+ * @since 7.1
+ */
+@Immutable
+public class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V> implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_BITS = 32;
+
+    // 7 levels of bitmap indexed nodes consume the 32 hash bits, plus one level of collision nodes
+    private static final int MAXIMUM_DEPTH = 8;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final BitmapIndexedNode<?, ?> EMPTY_NODE = new BitmapIndexedNode<Object, Object>(0, 0, new Object[0]);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    public ImmutableHashTrieMap(Map<K, V> map)
+    {
+        Node<K, V> node = (Node<K, V>) EMPTY_NODE;
+        Modification modification = new Modification();
+        for (Map.Entry<K, V> entry : map.entrySet())
+        {
+            K key = entry.getKey();
+            node = node.put(key, entry.getValue(), ImmutableHashTrieMap.hash(key), 0, modification);
+        }
+        this.root = node;
+        this.size = modification.sizeChange;
+    }
+
+    public ImmutableHashTrieMap(Pair<K, V>... pairs)
+    {
+        this(UnifiedMap.newMapWith(pairs));
+    }
+
+    private ImmutableHashTrieMap(Node<K, V> root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    private static int hash(Object key)
+    {
+        // Same spreading as UnifiedMap, so that hashCodes that differ only in their high bits still separate
+        // near the top of the trie.
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ImmutableHashTrieMap.mask(hash, shift);
+    }
+
+    private static int index(int bitmap, int bit)
+    {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static <K, V> Node<K, V> mergeEntries(
+            K key1, V value1, int hash1,
+            K key2, V value2, int hash2,
+            int shift)
+    {
+        if (shift >= HASH_BITS)
+        {
+            return new CollisionNode<K, V>(hash1, new Object[]{key1, value1, key2, value2});
+        }
+        int mask1 = ImmutableHashTrieMap.mask(hash1, shift);
+        int mask2 = ImmutableHashTrieMap.mask(hash2, shift);
+        if (mask1 == mask2)
+        {
+            Node<K, V> node = ImmutableHashTrieMap.mergeEntries(key1, value1, hash1, key2, value2, hash2, shift + BITS_PER_LEVEL);
+            return new BitmapIndexedNode<K, V>(0, 1 << mask1, new Object[]{node});
+        }
+        int dataMap = 1 << mask1 | 1 << mask2;
+        if (mask1 < mask2)
+        {
+            return new BitmapIndexedNode<K, V>(dataMap, 0, new Object[]{key1, value1, key2, value2});
+        }
+        return new BitmapIndexedNode<K, V>(dataMap, 0, new Object[]{key2, value2, key1, value1});
+    }
+
+    private Object find(Object key)
+    {
+        return this.root.find(key, ImmutableHashTrieMap.hash(key), 0);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.find(key) != NOT_FOUND;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        return this.root.containsValue(value);
+    }
+
+    public V get(Object key)
+    {
+        Object result = this.find(key);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Modification modification = new Modification();
+        Node<K, V> newRoot = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, modification);
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, this.size + modification.sizeChange);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        Node<K, V> newRoot = this.root;
+        Modification modification = new Modification();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), ImmutableHashTrieMap.hash(key), 0, modification);
+        }
+        return this.withRoot(newRoot, modification);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Node<K, V> newRoot = this.root;
+        Modification modification = new Modification();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), ImmutableHashTrieMap.hash(key), 0, modification);
+        }
+        return this.withRoot(newRoot, modification);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutKey(K key)
+    {
+        Modification modification = new Modification();
+        Node<K, V> newRoot = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, modification);
+        return this.withRoot(newRoot, modification);
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Node<K, V> newRoot = this.root;
+        Modification modification = new Modification();
+        for (K key : keys)
+        {
+            newRoot = newRoot.remove(key, ImmutableHashTrieMap.hash(key), 0, modification);
+        }
+        return this.withRoot(newRoot, modification);
+    }
+
+    private ImmutableMap<K, V> withRoot(Node<K, V> newRoot, Modification modification)
+    {
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        int newSize = this.size + modification.sizeChange;
+        if (newSize == 0)
+        {
+            return Maps.immutable.empty();
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, newSize);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        final Map<K, V> other = (Map<K, V>) object;
+        return this.size == other.size() && this.root.allSatisfy(new Predicate2<K, V>()
+        {
+            public boolean accept(K key, V value)
+            {
+                return ImmutableHashTrieMap.this.keyAndValueEquals(key, value, other);
+            }
+        });
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.root.entriesHashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key);
+                builder.append('=');
+                builder.append(value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.root.forEachValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.root.forEachKey(procedure);
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue(procedure);
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(this.keySet()).zip(this.values());
+    }
+
+    @Override
+    public <A> A ifPresentApply(K key, Function<? super V, ? extends A> function)
+    {
+        Object result = this.find(key);
+        return result == NOT_FOUND ? null : function.valueOf((V) result);
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        Object result = this.find(key);
+        return result == NOT_FOUND ? function.value() : (V) result;
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        Object result = this.find(key);
+        return result == NOT_FOUND ? value : (V) result;
+    }
+
+    @Override
+    public <P> V getIfAbsentWith(
+            K key,
+            Function<? super P, ? extends V> function,
+            P parameter)
+    {
+        Object result = this.find(key);
+        return result == NOT_FOUND ? function.valueOf(parameter) : (V) result;
+    }
+
+    protected Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+
+    /**
+     * Records the change in size caused by a put or remove, since the identity of the returned node only tells
+     * whether something changed.
+     */
+    private static final class Modification
+    {
+        private int sizeChange;
+    }
+
+    private abstract static class Node<K, V>
+    {
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node<K, V> put(K key, V value, int hash, int shift, Modification modification);
+
+        abstract Node<K, V> remove(Object key, int hash, int shift, Modification modification);
+
+        abstract int dataCount();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract int nodeCount();
+
+        abstract Node<K, V> nodeAt(int index);
+
+        boolean isSingleEntry()
+        {
+            return this.dataCount() == 1 && this.nodeCount() == 0;
+        }
+
+        boolean containsValue(Object value)
+        {
+            for (int i = 0; i < this.dataCount(); i++)
+            {
+                if (Comparators.nullSafeEquals(this.valueAt(i), value))
+                {
+                    return true;
+                }
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                if (this.nodeAt(i).containsValue(value))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean allSatisfy(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = 0; i < this.dataCount(); i++)
+            {
+                if (!predicate.accept(this.keyAt(i), this.valueAt(i)))
+                {
+                    return false;
+                }
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                if (!this.nodeAt(i).allSatisfy(predicate))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int entriesHashCode()
+        {
+            int hashCode = 0;
+            for (int i = 0; i < this.dataCount(); i++)
+            {
+                K key = this.keyAt(i);
+                V value = this.valueAt(i);
+                hashCode += (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                hashCode += this.nodeAt(i).entriesHashCode();
+            }
+            return hashCode;
+        }
+
+        void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = 0; i < this.dataCount(); i++)
+            {
+                procedure.value(this.keyAt(i), this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                this.nodeAt(i).forEachKeyValue(procedure);
+            }
+        }
+
+        void forEachKey(Procedure<? super K> procedure)
+        {
+            for (int i = 0; i < this.dataCount(); i++)
+            {
+                procedure.value(this.keyAt(i));
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                this.nodeAt(i).forEachKey(procedure);
+            }
+        }
+
+        void forEachValue(Procedure<? super V> procedure)
+        {
+            for (int i = 0; i < this.dataCount(); i++)
+            {
+                procedure.value(this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeCount(); i++)
+            {
+                this.nodeAt(i).forEachValue(procedure);
+            }
+        }
+    }
+
+    /**
+     * A node holding inline key-value pairs for the positions set in dataMap, and child nodes for the positions set in
+     * nodeMap. The contents array stores the pairs first, ordered by position, followed by the child nodes.
+     */
+    private static final class BitmapIndexedNode<K, V> extends Node<K, V>
+    {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] contents;
+
+        private BitmapIndexedNode(int dataMap, int nodeMap, Object[] contents)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.contents = contents;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.dataMap, bit);
+                return Comparators.nullSafeEquals(this.contents[index << 1], key) ? this.contents[(index << 1) + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.nodeAt(ImmutableHashTrieMap.index(this.nodeMap, bit)).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, Modification modification)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.dataMap, bit);
+                K existingKey = this.keyAt(index);
+                if (Comparators.nullSafeEquals(existingKey, key))
+                {
+                    if (this.valueAt(index) == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContents = this.contents.clone();
+                    newContents[(index << 1) + 1] = value;
+                    return new BitmapIndexedNode<K, V>(this.dataMap, this.nodeMap, newContents);
+                }
+                modification.sizeChange++;
+                Node<K, V> node = ImmutableHashTrieMap.mergeEntries(
+                        existingKey, this.valueAt(index), ImmutableHashTrieMap.hash(existingKey),
+                        key, value, hash,
+                        shift + BITS_PER_LEVEL);
+                return this.copyAndMigrateFromDataToNode(bit, index, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.nodeMap, bit);
+                Node<K, V> node = this.nodeAt(index);
+                Node<K, V> newNode = node.put(key, value, hash, shift + BITS_PER_LEVEL, modification);
+                return newNode == node ? this : this.copyAndSetNode(index, newNode);
+            }
+            modification.sizeChange++;
+            return this.copyAndInsertData(bit, key, value);
+        }
+
+        @Override
+        Node<K, V> remove(Object key, int hash, int shift, Modification modification)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.dataMap, bit);
+                if (!Comparators.nullSafeEquals(this.keyAt(index), key))
+                {
+                    return this;
+                }
+                modification.sizeChange--;
+                return this.copyAndRemoveData(bit, index);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = ImmutableHashTrieMap.index(this.nodeMap, bit);
+                Node<K, V> node = this.nodeAt(index);
+                Node<K, V> newNode = node.remove(key, hash, shift + BITS_PER_LEVEL, modification);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                if (newNode.isSingleEntry())
+                {
+                    if (shift > 0 && this.dataMap == 0 && this.contents.length == 1)
+                    {
+                        // This node would be left with just the one pair, so let the parent inline it instead
+                        return newNode;
+                    }
+                    return this.copyAndMigrateFromNodeToData(bit, index, newNode);
+                }
+                return this.copyAndSetNode(index, newNode);
+            }
+            return this;
+        }
+
+        @Override
+        int dataCount()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        K keyAt(int index)
+        {
+            return (K) this.contents[index << 1];
+        }
+
+        @Override
+        V valueAt(int index)
+        {
+            return (V) this.contents[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeCount()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index)
+        {
+            return (Node<K, V>) this.contents[(this.dataCount() << 1) + index];
+        }
+
+        private Node<K, V> copyAndSetNode(int index, Node<K, V> node)
+        {
+            Object[] newContents = this.contents.clone();
+            newContents[(this.dataCount() << 1) + index] = node;
+            return new BitmapIndexedNode<K, V>(this.dataMap, this.nodeMap, newContents);
+        }
+
+        private Node<K, V> copyAndInsertData(int bit, K key, V value)
+        {
+            int position = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+            Object[] newContents = new Object[this.contents.length + 2];
+            System.arraycopy(this.contents, 0, newContents, 0, position);
+            newContents[position] = key;
+            newContents[position + 1] = value;
+            System.arraycopy(this.contents, position, newContents, position + 2, this.contents.length - position);
+            return new BitmapIndexedNode<K, V>(this.dataMap | bit, this.nodeMap, newContents);
+        }
+
+        private Node<K, V> copyAndRemoveData(int bit, int index)
+        {
+            int position = index << 1;
+            Object[] newContents = new Object[this.contents.length - 2];
+            System.arraycopy(this.contents, 0, newContents, 0, position);
+            System.arraycopy(this.contents, position + 2, newContents, position, this.contents.length - position - 2);
+            return new BitmapIndexedNode<K, V>(this.dataMap ^ bit, this.nodeMap, newContents);
+        }
+
+        private Node<K, V> copyAndMigrateFromDataToNode(int bit, int index, Node<K, V> node)
+        {
+            int oldPosition = index << 1;
+            int newPosition = (this.dataCount() - 1 << 1) + ImmutableHashTrieMap.index(this.nodeMap, bit);
+            Object[] newContents = new Object[this.contents.length - 1];
+            System.arraycopy(this.contents, 0, newContents, 0, oldPosition);
+            System.arraycopy(this.contents, oldPosition + 2, newContents, oldPosition, newPosition - oldPosition);
+            newContents[newPosition] = node;
+            System.arraycopy(this.contents, newPosition + 2, newContents, newPosition + 1, this.contents.length - newPosition - 2);
+            return new BitmapIndexedNode<K, V>(this.dataMap ^ bit, this.nodeMap | bit, newContents);
+        }
+
+        private Node<K, V> copyAndMigrateFromNodeToData(int bit, int index, Node<K, V> node)
+        {
+            int oldPosition = (this.dataCount() << 1) + index;
+            int newPosition = ImmutableHashTrieMap.index(this.dataMap, bit) << 1;
+            Object[] newContents = new Object[this.contents.length + 1];
+            System.arraycopy(this.contents, 0, newContents, 0, newPosition);
+            newContents[newPosition] = node.keyAt(0);
+            newContents[newPosition + 1] = node.valueAt(0);
+            System.arraycopy(this.contents, newPosition, newContents, newPosition + 2, oldPosition - newPosition);
+            System.arraycopy(this.contents, oldPosition + 1, newContents, oldPosition + 2, this.contents.length - oldPosition - 1);
+            return new BitmapIndexedNode<K, V>(this.dataMap | bit, this.nodeMap ^ bit, newContents);
+        }
+    }
+
+    /**
+     * A leaf holding the key-value pairs whose spread hash codes are all equal to hash, searched linearly.
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V>
+    {
+        private final int hash;
+        private final Object[] contents;
+
+        private CollisionNode(int hash, Object[] contents)
+        {
+            this.hash = hash;
+            this.contents = contents;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.contents.length; i += 2)
+            {
+                if (Comparators.nullSafeEquals(this.contents[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift)
+        {
+            if (hash != this.hash)
+            {
+                return NOT_FOUND;
+            }
+            int position = this.indexOf(key);
+            return position == -1 ? NOT_FOUND : this.contents[position + 1];
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, Modification modification)
+        {
+            int position = this.indexOf(key);
+            if (position == -1)
+            {
+                modification.sizeChange++;
+                Object[] newContents = new Object[this.contents.length + 2];
+                System.arraycopy(this.contents, 0, newContents, 0, this.contents.length);
+                newContents[this.contents.length] = key;
+                newContents[this.contents.length + 1] = value;
+                return new CollisionNode<K, V>(this.hash, newContents);
+            }
+            if (this.contents[position + 1] == value)
+            {
+                return this;
+            }
+            Object[] newContents = this.contents.clone();
+            newContents[position + 1] = value;
+            return new CollisionNode<K, V>(this.hash, newContents);
+        }
+
+        @Override
+        Node<K, V> remove(Object key, int hash, int shift, Modification modification)
+        {
+            int position = hash == this.hash ? this.indexOf(key) : -1;
+            if (position == -1)
+            {
+                return this;
+            }
+            modification.sizeChange--;
+            Object[] newContents = new Object[this.contents.length - 2];
+            System.arraycopy(this.contents, 0, newContents, 0, position);
+            System.arraycopy(this.contents, position + 2, newContents, position, this.contents.length - position - 2);
+            return new CollisionNode<K, V>(this.hash, newContents);
+        }
+
+        @Override
+        int dataCount()
+        {
+            return this.contents.length >> 1;
+        }
+
+        @Override
+        K keyAt(int index)
+        {
+            return (K) this.contents[index << 1];
+        }
+
+        @Override
+        V valueAt(int index)
+        {
+            return (V) this.contents[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeCount()
+        {
+            return 0;
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("Collision nodes have no children: " + index);
+        }
+    }
+
+    /**
+     * Walks the trie depth first, visiting the inline pairs of a node before descending into its children, which is
+     * the same order as forEachKeyValue.
+     */
+    private abstract class TrieIterator<T> implements Iterator<T>
+    {
+        private final Node<K, V>[] nodes = new Node[MAXIMUM_DEPTH];
+        private final int[] nextNodeIndices = new int[MAXIMUM_DEPTH];
+        private int depth;
+        private Node<K, V> currentNode;
+        private int currentIndex;
+
+        private TrieIterator()
+        {
+            this.nodes[0] = ImmutableHashTrieMap.this.root;
+            this.currentNode = ImmutableHashTrieMap.this.root;
+        }
+
+        protected abstract T valueAt(Node<K, V> node, int index);
+
+        public boolean hasNext()
+        {
+            while (this.currentIndex >= this.currentNode.dataCount())
+            {
+                if (!this.descend())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean descend()
+        {
+            while (this.depth >= 0)
+            {
+                Node<K, V> node = this.nodes[this.depth];
+                int nodeIndex = this.nextNodeIndices[this.depth];
+                if (nodeIndex < node.nodeCount())
+                {
+                    this.nextNodeIndices[this.depth] = nodeIndex + 1;
+                    Node<K, V> child = node.nodeAt(nodeIndex);
+                    this.depth++;
+                    this.nodes[this.depth] = child;
+                    this.nextNodeIndices[this.depth] = 0;
+                    this.currentNode = child;
+                    this.currentIndex = 0;
+                    return true;
+                }
+                this.nodes[this.depth] = null;
+                this.depth--;
+            }
+            return false;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.valueAt(this.currentNode, this.currentIndex);
+            this.currentIndex++;
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + ImmutableHashTrieMap.this.getClass().getSimpleName());
+        }
+    }
+
+    private class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public boolean contains(Object o)
+        {
+            return ImmutableHashTrieMap.this.containsKey(o);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new TrieIterator<K>()
+            {
+                @Override
+                protected K valueAt(Node<K, V> node, int index)
+                {
+                    return node.keyAt(index);
+                }
+            };
+        }
+    }
+
+    private class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public boolean contains(Object o)
+        {
+            return ImmutableHashTrieMap.this.containsValue(o);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new TrieIterator<V>()
+            {
+                @Override
+                protected V valueAt(Node<K, V> node, int index)
+                {
+                    return node.valueAt(index);
+                }
+            };
+        }
+    }
+}
@@ -20,6 +20,19 @@ import org.eclipse.collections.impl.block.factory.Comparators;
 @Immutable
 public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
 {
+    /**
+     * Maps larger than this are stored in an {@link ImmutableHashTrieMap}, whose newWithKeyValue and newWithoutKey copy
+     * only a path of the trie. Below it, copying a whole {@link ImmutableUnifiedMap} is cheap and its lookups are
+     * faster.
+     */
+    static final int HASH_TRIE_MAP_THRESHOLD = 64;
+
+    /**
+     * Maps larger than four entries and no larger than this are stored in an {@link ImmutableArrayMap}, which scans a
+     * flat array of keys and values instead of paying for the empty slots and buckets of a hash table.
+     */
+    static final int ARRAY_MAP_THRESHOLD = 32;
+
     public <K, V> ImmutableMap<K, V> empty()
     {
         return (ImmutableMap<K, V>) ImmutableEmptyMap.INSTANCE;
@@ -141,11 +154,21 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
             return this.of();
         }
 
-        if (map.size() > 4)
+        if (map.size() > HASH_TRIE_MAP_THRESHOLD)
+        {
+            return new ImmutableHashTrieMap<K, V>(map);
+        }
+
+        if (map.size() > ARRAY_MAP_THRESHOLD)
         {
             return new ImmutableUnifiedMap<K, V>(map);
         }
 
+        if (map.size() > 4)
+        {
+            return new ImmutableArrayMap<K, V>(map);
+        }
+
         Map.Entry<K, V>[] entries = map.entrySet().toArray(new Map.Entry[map.entrySet().size()]);
         switch (entries.length)
         {
@@ -0,0 +1,622 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.EvictionPolicy;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * BoundedCacheMap is a MutableMap which holds at most a fixed number of entries. Its entries are kept in a UnifiedMap
+ * and linked in least recently used order; {@link #get(Object)}, {@link #put(Object, Object)} and the getIfAbsentPut
+ * and updateValue methods count as uses, while containsKey and iteration do not.
+ * <p>
+ * When a new key is added to a full map, the {@link EvictionPolicy} decides between the new key and the least recently
+ * used one. With {@link EvictionPolicies#lru()} the least recently used entry is always evicted. With
+ * {@link EvictionPolicies#tinyLfu(int)} the new entry may instead be rejected, in which case the map is left unchanged.
+ * <p>
+ * getIfAbsentPut is the loading path of the cache: it looks the key up once and only evaluates the function on a
+ * miss. Iteration is in least recently used order. This class is not thread-safe; see
+ * {@link ConcurrentBoundedCacheMap}.
+ *
+ * @since 7.1
+ */
+public class BoundedCacheMap<K, V>
+        extends AbstractMutableMap<K, V>
+{
+    private final int maximumSize;
+    private final EvictionPolicy<? super K> policy;
+    private final UnifiedMap<K, Node<K, V>> nodes;
+    private final Node<K, V> header = new Node<K, V>(null, null);
+
+    public BoundedCacheMap(int maximumSize, EvictionPolicy<? super K> policy)
+    {
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("maximum size must be greater than 0");
+        }
+        if (policy == null)
+        {
+            throw new NullPointerException("BoundedCacheMap requires an EvictionPolicy");
+        }
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        this.nodes = UnifiedMap.newMap(Math.min(maximumSize, 1 << 16));
+        this.header.before = this.header;
+        this.header.after = this.header;
+    }
+
+    public static <K, V> BoundedCacheMap<K, V> newLruCache(int maximumSize)
+    {
+        return new BoundedCacheMap<K, V>(maximumSize, EvictionPolicies.<K>lru());
+    }
+
+    public static <K, V> BoundedCacheMap<K, V> newTinyLfuCache(int maximumSize)
+    {
+        return new BoundedCacheMap<K, V>(maximumSize, EvictionPolicies.<K>tinyLfu(maximumSize));
+    }
+
+    public int getMaximumSize()
+    {
+        return this.maximumSize;
+    }
+
+    @Override
+    public MutableMap<K, V> clone()
+    {
+        return UnifiedMap.newMap(this);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return UnifiedMap.newMap(capacity);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return UnifiedMap.newMap();
+    }
+
+    public int size()
+    {
+        return this.nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.nodes.isEmpty();
+    }
+
+    public V get(Object key)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess((K) key);
+        if (node == null)
+        {
+            return null;
+        }
+        this.moveToMostRecent(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the value of {@code key} without counting it as a use.
+     */
+    V peek(Object key)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        return node == null ? null : node.value;
+    }
+
+    public V put(K key, V value)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess(key);
+        if (node != null)
+        {
+            V oldValue = node.value;
+            node.value = value;
+            this.moveToMostRecent(node);
+            return oldValue;
+        }
+        this.insert(key, value);
+        return null;
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess(key);
+        if (node != null)
+        {
+            this.moveToMostRecent(node);
+            return node.value;
+        }
+        V value = function.value();
+        this.insert(key, value);
+        return value;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess(key);
+        if (node != null)
+        {
+            this.moveToMostRecent(node);
+            return node.value;
+        }
+        this.insert(key, value);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess(key);
+        if (node != null)
+        {
+            this.moveToMostRecent(node);
+            return node.value;
+        }
+        V value = function.valueOf(parameter);
+        this.insert(key, value);
+        return value;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess(key);
+        if (node != null)
+        {
+            node.value = function.valueOf(node.value);
+            this.moveToMostRecent(node);
+            return node.value;
+        }
+        V value = function.valueOf(factory.value());
+        this.insert(key, value);
+        return value;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        Node<K, V> node = this.nodes.get(key);
+        this.policy.recordAccess(key);
+        if (node != null)
+        {
+            node.value = function.value(node.value, parameter);
+            this.moveToMostRecent(node);
+            return node.value;
+        }
+        V value = function.value(factory.value(), parameter);
+        this.insert(key, value);
+        return value;
+    }
+
+    private void insert(K key, V value)
+    {
+        if (this.nodes.size() >= this.maximumSize)
+        {
+            Node<K, V> eldest = this.header.after;
+            if (!this.policy.admit(key, eldest.key))
+            {
+                return;
+            }
+            this.nodes.remove(eldest.key);
+            this.unlink(eldest);
+        }
+        Node<K, V> node = new Node<K, V>(key, value);
+        this.linkLast(node);
+        this.nodes.put(key, node);
+    }
+
+    private void moveToMostRecent(Node<K, V> node)
+    {
+        if (node.after != this.header)
+        {
+            this.unlink(node);
+            this.linkLast(node);
+        }
+    }
+
+    private void linkLast(Node<K, V> node)
+    {
+        Node<K, V> last = this.header.before;
+        node.before = last;
+        node.after = this.header;
+        last.after = node;
+        this.header.before = node;
+    }
+
+    private void unlink(Node<K, V> node)
+    {
+        node.before.after = node.after;
+        node.after.before = node.before;
+        node.before = null;
+        node.after = null;
+    }
+
+    public V remove(Object key)
+    {
+        Node<K, V> node = this.nodes.remove(key);
+        if (node == null)
+        {
+            return null;
+        }
+        this.unlink(node);
+        return node.value;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.nodes.containsKey(key);
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (Node<K, V> node = this.header.after; node != this.header; node = node.after)
+        {
+            if (Comparators.nullSafeEquals(node.value, value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear()
+    {
+        this.nodes.clear();
+        this.header.before = this.header;
+        this.header.after = this.header;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (Node<K, V> node = this.header.after; node != this.header; node = node.after)
+        {
+            procedure.value(node.key, node.value);
+        }
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        for (Node<K, V> node = this.header.after; node != this.header; node = node.after)
+        {
+            Object otherValue = other.get(node.key);
+            if (!Comparators.nullSafeEquals(node.value, otherValue)
+                    || otherValue == null && !other.containsKey(node.key))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Node<K, V> node = this.header.after; node != this.header; node = node.after)
+        {
+            hashCode += node.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        for (Node<K, V> node = this.header.after; node != this.header; node = node.after)
+        {
+            if (node != this.header.after)
+            {
+                builder.append(", ");
+            }
+            builder.append(node.key == this ? "(this Map)" : String.valueOf(node.key));
+            builder.append('=');
+            builder.append(node.value == this ? "(this Map)" : String.valueOf(node.value));
+        }
+        return builder.append('}').toString();
+    }
+
+    private static final class Node<K, V> implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+        private Node<K, V> before;
+        private Node<K, V> after;
+
+        private Node(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return Comparators.nullSafeEquals(this.key, other.getKey())
+                    && Comparators.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private abstract class NodeIterator<E> implements Iterator<E>
+    {
+        private Node<K, V> next = BoundedCacheMap.this.header.after;
+        private Node<K, V> current;
+
+        protected abstract E valueOf(Node<K, V> node);
+
+        public boolean hasNext()
+        {
+            return this.next != BoundedCacheMap.this.header;
+        }
+
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.current = this.next;
+            this.next = this.next.after;
+            return this.valueOf(this.current);
+        }
+
+        public void remove()
+        {
+            if (this.current == null)
+            {
+                throw new IllegalStateException();
+            }
+            BoundedCacheMap.this.remove(this.current.key);
+            this.current = null;
+        }
+    }
+
+    private class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new NodeIterator<K>()
+            {
+                @Override
+                protected K valueOf(Node<K, V> node)
+                {
+                    return node.key;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedCacheMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return BoundedCacheMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            if (BoundedCacheMap.this.containsKey(key))
+            {
+                BoundedCacheMap.this.remove(key);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedCacheMap.this.clear();
+        }
+    }
+
+    private class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new NodeIterator<V>()
+            {
+                @Override
+                protected V valueOf(Node<K, V> node)
+                {
+                    return node.value;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedCacheMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return BoundedCacheMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedCacheMap.this.clear();
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new NodeIterator<Entry<K, V>>()
+            {
+                @Override
+                protected Entry<K, V> valueOf(Node<K, V> node)
+                {
+                    return node;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedCacheMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            Node<K, V> node = BoundedCacheMap.this.nodes.get(entry.getKey());
+            return node != null && node.equals(entry);
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (this.contains(object))
+            {
+                BoundedCacheMap.this.remove(((Map.Entry<?, ?>) object).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedCacheMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,772 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.EvictionPolicy;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.SpreadFunctions;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * ConcurrentBoundedCacheMap is the thread-safe counterpart of {@link BoundedCacheMap}. Like the segmented design of
+ * {@link java.util.concurrent.ConcurrentHashMap} before Java 8, it is split into independently locked segments, each
+ * of which is a BoundedCacheMap holding an equal share of the maximum size with its own {@link EvictionPolicy}. The
+ * least recently used order and the eviction decisions are therefore per segment.
+ * <p>
+ * It is not built on {@link ConcurrentHashMap}. That map reads without locking and offers no hook to record an access
+ * or to pick and remove a victim atomically with an insert, yet every hit moves the key in the eviction order and
+ * every insert into a full map must evict exactly one other key. Doing that next to a ConcurrentHashMap would need a
+ * separate lock around the eviction order anyway, so each segment keeps its entries and its eviction order together in
+ * one BoundedCacheMap under one lock instead.
+ * <p>
+ * getIfAbsentPut and getIfAbsentPutWith evaluate their functions without holding any lock. The first thread to miss
+ * on a key registers a pending load and computes the value, while other threads which miss on the same key wait for
+ * that load instead of computing the value again; the segment is locked only to register the load and to publish its
+ * result. A slow load therefore blocks neither the other keys of its segment nor readers of its own key that hit. If
+ * the function throws, the exception is thrown to the loading thread and the waiting threads retry the load. The
+ * function must not load its own key from the map, since it would wait for itself; like computeIfAbsent of the
+ * Java 8 {@code java.util.concurrent.ConcurrentHashMap}, such a recursive load throws an IllegalStateException.
+ * <p>
+ * updateValue and updateValueWith evaluate their functions while holding the lock of the key's segment, so the
+ * functions passed to them must be short and must not access the map.
+ * <p>
+ * Iteration, forEachKeyValue and the views iterate over a snapshot taken one segment at a time, so they are weakly
+ * consistent and never block writers while user code runs.
+ *
+ * @since 7.1
+ */
+public final class ConcurrentBoundedCacheMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements ConcurrentMutableMap<K, V>
+{
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final int maximumSize;
+    private final BoundedCacheMap<K, V>[] segments;
+    private final UnifiedMap<K, PendingLoad<V>>[] pendingLoads;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    public ConcurrentBoundedCacheMap(
+            int maximumSize,
+            int concurrencyLevel,
+            IntToObjectFunction<? extends EvictionPolicy<? super K>> policyFactory)
+    {
+        if (maximumSize <= 0)
+        {
+            throw new IllegalArgumentException("maximum size must be greater than 0");
+        }
+        if (concurrencyLevel <= 0)
+        {
+            throw new IllegalArgumentException("concurrency level must be greater than 0");
+        }
+        int segmentCount = 1;
+        int shift = 0;
+        while (segmentCount < concurrencyLevel && segmentCount << 1 <= maximumSize)
+        {
+            segmentCount <<= 1;
+            shift++;
+        }
+        this.maximumSize = maximumSize;
+        this.segmentShift = 32 - shift;
+        this.segmentMask = segmentCount - 1;
+        this.segments = (BoundedCacheMap<K, V>[]) new BoundedCacheMap<?, ?>[segmentCount];
+        this.pendingLoads = (UnifiedMap<K, PendingLoad<V>>[]) new UnifiedMap<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++)
+        {
+            // Spread the remainder so that the segment sizes add up to exactly the maximum size.
+            int segmentSize = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            this.segments[i] = new BoundedCacheMap<K, V>(segmentSize, policyFactory.valueOf(segmentSize));
+            // Guarded by the lock of the segment with the same index.
+            this.pendingLoads[i] = UnifiedMap.newMap();
+        }
+    }
+
+    public static <K, V> ConcurrentBoundedCacheMap<K, V> newLruCache(int maximumSize)
+    {
+        return new ConcurrentBoundedCacheMap<K, V>(maximumSize, DEFAULT_CONCURRENCY_LEVEL, new IntToObjectFunction<EvictionPolicy<K>>()
+        {
+            public EvictionPolicy<K> valueOf(int segmentSize)
+            {
+                return EvictionPolicies.lru();
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentBoundedCacheMap<K, V> newTinyLfuCache(int maximumSize)
+    {
+        return new ConcurrentBoundedCacheMap<K, V>(maximumSize, DEFAULT_CONCURRENCY_LEVEL, new IntToObjectFunction<EvictionPolicy<K>>()
+        {
+            public EvictionPolicy<K> valueOf(int segmentSize)
+            {
+                return EvictionPolicies.tinyLfu(segmentSize);
+            }
+        });
+    }
+
+    public int getMaximumSize()
+    {
+        return this.maximumSize;
+    }
+
+    private int segmentIndexFor(Object key)
+    {
+        int h = SpreadFunctions.fibonacciSpread(key == null ? 0 : key.hashCode());
+        return (h >>> this.segmentShift) & this.segmentMask;
+    }
+
+    private BoundedCacheMap<K, V> segmentFor(Object key)
+    {
+        return this.segments[this.segmentIndexFor(key)];
+    }
+
+    private UnifiedMap<K, V> snapshot()
+    {
+        UnifiedMap<K, V> snapshot = UnifiedMap.newMap();
+        for (BoundedCacheMap<K, V> segment : this.segments)
+        {
+            synchronized (segment)
+            {
+                snapshot.putAll(segment);
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public MutableMap<K, V> clone()
+    {
+        return this.snapshot();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return UnifiedMap.newMap(capacity);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return UnifiedMap.newMap();
+    }
+
+    public int size()
+    {
+        int size = 0;
+        for (BoundedCacheMap<K, V> segment : this.segments)
+        {
+            synchronized (segment)
+            {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        for (BoundedCacheMap<K, V> segment : this.segments)
+        {
+            synchronized (segment)
+            {
+                if (segment.notEmpty())
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public V get(Object key)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.get(key);
+        }
+    }
+
+    public V put(K key, V value)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.put(key, value);
+        }
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public V putIfAbsent(K key, V value)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            if (segment.containsKey(key))
+            {
+                return segment.get(key);
+            }
+            segment.put(key, value);
+            return null;
+        }
+    }
+
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            if (segment.containsKey(key) && Comparators.nullSafeEquals(segment.peek(key), oldValue))
+            {
+                segment.put(key, newValue);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public V replace(K key, V value)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            if (segment.containsKey(key))
+            {
+                return segment.put(key, value);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int index = this.segmentIndexFor(key);
+        BoundedCacheMap<K, V> segment = this.segments[index];
+        UnifiedMap<K, PendingLoad<V>> loads = this.pendingLoads[index];
+        while (true)
+        {
+            PendingLoad<V> load;
+            boolean loader = false;
+            synchronized (segment)
+            {
+                if (segment.containsKey(key))
+                {
+                    return segment.get(key);
+                }
+                load = loads.get(key);
+                if (load == null)
+                {
+                    load = new PendingLoad<V>();
+                    loads.put(key, load);
+                    loader = true;
+                }
+            }
+            if (loader)
+            {
+                return this.load(key, function, segment, loads, load);
+            }
+            if (load.loader == Thread.currentThread())
+            {
+                throw new IllegalStateException("Recursive load of key " + key);
+            }
+            if (load.await())
+            {
+                return load.value;
+            }
+        }
+    }
+
+    /**
+     * Computes the value of a pending load outside the segment lock and publishes it. A value put while the load ran
+     * wins over the loaded value, as it would have had the load run under the lock.
+     */
+    private V load(
+            K key,
+            Function0<? extends V> function,
+            BoundedCacheMap<K, V> segment,
+            UnifiedMap<K, PendingLoad<V>> loads,
+            PendingLoad<V> load)
+    {
+        boolean published = false;
+        try
+        {
+            V value = function.value();
+            synchronized (segment)
+            {
+                loads.remove(key);
+                value = segment.getIfAbsentPut(key, value);
+            }
+            published = true;
+            load.complete(value);
+            return value;
+        }
+        finally
+        {
+            if (!published)
+            {
+                synchronized (segment)
+                {
+                    loads.remove(key);
+                }
+                load.abandon();
+            }
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.getIfAbsentPut(key, value);
+        }
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, final Function<? super P, ? extends V> function, final P parameter)
+    {
+        return this.getIfAbsentPut(key, new Function0<V>()
+        {
+            public V value()
+            {
+                return function.valueOf(parameter);
+            }
+        });
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.updateValue(key, factory, function);
+        }
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.updateValueWith(key, factory, function, parameter);
+        }
+    }
+
+    public V remove(Object key)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.remove(key);
+        }
+    }
+
+    public boolean remove(Object key, Object value)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            if (segment.containsKey(key) && Comparators.nullSafeEquals(segment.peek(key), value))
+            {
+                segment.remove(key);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        BoundedCacheMap<K, V> segment = this.segmentFor(key);
+        synchronized (segment)
+        {
+            return segment.containsKey(key);
+        }
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (BoundedCacheMap<K, V> segment : this.segments)
+        {
+            synchronized (segment)
+            {
+                if (segment.containsValue(value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void clear()
+    {
+        for (BoundedCacheMap<K, V> segment : this.segments)
+        {
+            synchronized (segment)
+            {
+                segment.clear();
+            }
+        }
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.snapshot().forEachKeyValue(procedure);
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        return this == object || this.snapshot().equals(object);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.snapshot().hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.snapshot().toString();
+    }
+
+    private abstract class SnapshotIterator<E> implements Iterator<E>
+    {
+        private final Iterator<Entry<K, V>> iterator = ConcurrentBoundedCacheMap.this.snapshot().entrySet().iterator();
+        private Entry<K, V> current;
+
+        protected abstract E valueOf(Entry<K, V> entry);
+
+        public boolean hasNext()
+        {
+            return this.iterator.hasNext();
+        }
+
+        public E next()
+        {
+            this.current = this.iterator.next();
+            return this.valueOf(this.current);
+        }
+
+        public void remove()
+        {
+            if (this.current == null)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentBoundedCacheMap.this.remove(this.current.getKey(), this.current.getValue());
+            this.current = null;
+        }
+    }
+
+    private class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new SnapshotIterator<K>()
+            {
+                @Override
+                protected K valueOf(Entry<K, V> entry)
+                {
+                    return entry.getKey();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ConcurrentBoundedCacheMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ConcurrentBoundedCacheMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            BoundedCacheMap<K, V> segment = ConcurrentBoundedCacheMap.this.segmentFor(key);
+            synchronized (segment)
+            {
+                if (segment.containsKey(key))
+                {
+                    segment.remove(key);
+                    return true;
+                }
+                return false;
+            }
+        }
+
+        @Override
+        public void clear()
+        {
+            ConcurrentBoundedCacheMap.this.clear();
+        }
+    }
+
+    private class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new SnapshotIterator<V>()
+            {
+                @Override
+                protected V valueOf(Entry<K, V> entry)
+                {
+                    return entry.getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ConcurrentBoundedCacheMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return ConcurrentBoundedCacheMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            ConcurrentBoundedCacheMap.this.clear();
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new SnapshotIterator<Entry<K, V>>()
+            {
+                @Override
+                protected Entry<K, V> valueOf(Entry<K, V> entry)
+                {
+                    return new WriteThroughEntry(entry.getKey(), entry.getValue());
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ConcurrentBoundedCacheMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            BoundedCacheMap<K, V> segment = ConcurrentBoundedCacheMap.this.segmentFor(entry.getKey());
+            synchronized (segment)
+            {
+                return segment.containsKey(entry.getKey()) && Comparators.nullSafeEquals(segment.peek(entry.getKey()), entry.getValue());
+            }
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            return ConcurrentBoundedCacheMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear()
+        {
+            ConcurrentBoundedCacheMap.this.clear();
+        }
+    }
+
+    /**
+     * A value being computed by one thread, which the other threads that miss on the same key wait for. The value and
+     * the loaded flag are written before the latch is released, so they are visible to every thread that has waited.
+     * The loading thread is recorded so that it fails instead of waiting for itself if it loads the key again.
+     */
+    private static final class PendingLoad<V>
+    {
+        private final Thread loader = Thread.currentThread();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private boolean loaded;
+        private V value;
+
+        private void complete(V value)
+        {
+            this.value = value;
+            this.loaded = true;
+            this.done.countDown();
+        }
+
+        private void abandon()
+        {
+            this.done.countDown();
+        }
+
+        /**
+         * Waits for the load to finish without giving up on interrupts, and returns whether it produced a value.
+         */
+        private boolean await()
+        {
+            boolean interrupted = false;
+            while (true)
+            {
+                try
+                {
+                    this.done.await();
+                    break;
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return this.loaded;
+        }
+    }
+
+    /**
+     * An entry of the entry set iterator, whose setValue writes through to the map.
+     */
+    private final class WriteThroughEntry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private WriteThroughEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            ConcurrentBoundedCacheMap.this.put(this.key, value);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return Comparators.nullSafeEquals(this.key, other.getKey())
+                    && Comparators.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.eclipse.collections.api.map.EvictionPolicy;
+
+/**
+ * Factory for the {@link EvictionPolicy}s of {@link BoundedCacheMap} and {@link ConcurrentBoundedCacheMap}.
+ *
+ * @since 7.1
+ */
+public final class EvictionPolicies
+{
+    private static final EvictionPolicy<Object> LRU = new LruEvictionPolicy();
+
+    private EvictionPolicies()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns the least recently used policy, which always evicts the victim in favor of the new key.
+     */
+    public static <K> EvictionPolicy<K> lru()
+    {
+        return (EvictionPolicy<K>) LRU;
+    }
+
+    /**
+     * Returns a TinyLFU admission policy for a map of at most {@code maximumSize} entries. Access frequencies are
+     * estimated with a count-min sketch of 4-bit counters, which are halved every {@code 10 * maximumSize} accesses
+     * so that old popularity fades. A new key is only admitted if it has been accessed more often than the least
+     * recently used key it would replace, which keeps one-off keys from flushing frequently used ones.
+     */
+    public static <K> EvictionPolicy<K> tinyLfu(int maximumSize)
+    {
+        return new TinyLfuEvictionPolicy<K>(maximumSize);
+    }
+
+    private static final class LruEvictionPolicy implements EvictionPolicy<Object>
+    {
+        public void recordAccess(Object key)
+        {
+        }
+
+        public boolean admit(Object candidate, Object victim)
+        {
+            return true;
+        }
+    }
+
+    private static final class TinyLfuEvictionPolicy<K> implements EvictionPolicy<K>
+    {
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        // Each long holds sixteen 4-bit counters; an item uses one counter in each of four longs.
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        private TinyLfuEvictionPolicy(int maximumSize)
+        {
+            if (maximumSize <= 0)
+            {
+                throw new IllegalArgumentException("maximum size must be greater than 0");
+            }
+            int capacity = 8;
+            while (capacity < maximumSize && capacity < 1 << 30)
+            {
+                capacity <<= 1;
+            }
+            this.table = new long[capacity];
+            this.tableMask = capacity - 1;
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        private static int spread(Object key)
+        {
+            int h = key == null ? 0 : key.hashCode();
+            h ^= h >>> 20 ^ h >>> 12;
+            h ^= h >>> 7 ^ h >>> 4;
+            return h;
+        }
+
+        private int indexOf(int hash, int depth)
+        {
+            long h = (hash + SEEDS[depth]) * SEEDS[depth];
+            h += h >>> 32;
+            return (int) h & this.tableMask;
+        }
+
+        public void recordAccess(K key)
+        {
+            int hash = TinyLfuEvictionPolicy.spread(key);
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++)
+            {
+                int index = this.indexOf(hash, i);
+                long mask = 0xfL << ((start + i) << 2);
+                if ((this.table[index] & mask) != mask)
+                {
+                    this.table[index] += 1L << ((start + i) << 2);
+                    added = true;
+                }
+            }
+            if (added && ++this.size == this.sampleSize)
+            {
+                this.reset();
+            }
+        }
+
+        private int frequency(K key)
+        {
+            int hash = TinyLfuEvictionPolicy.spread(key);
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++)
+            {
+                int index = this.indexOf(hash, i);
+                int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private void reset()
+        {
+            for (int i = 0; i < this.table.length; i++)
+            {
+                this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+            }
+            this.size >>>= 1;
+        }
+
+        public boolean admit(K candidate, K victim)
+        {
+            return this.frequency(candidate) > this.frequency(victim);
+        }
+    }
+}
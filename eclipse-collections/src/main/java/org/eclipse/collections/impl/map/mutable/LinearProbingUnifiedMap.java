@@ -0,0 +1,1112 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.SpreadFunctions;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * LinearProbingUnifiedMap uses the same flat table layout as {@link UnifiedMap}, where alternate slots are keys and
+ * values, but resolves collisions by linear probing into the neighbouring slots instead of allocating chains.  A put
+ * therefore never allocates anything but the table itself, and a get on a colliding key touches consecutive memory
+ * addresses rather than following a pointer to a chain.
+ * <p>
+ * Removal uses backward shift deletion, so the table never contains tombstones and lookups stop at the first empty
+ * slot.  Because probe sequences grow quickly as the table fills up, the default load factor is lower than the one
+ * used by UnifiedMap.
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class LinearProbingUnifiedMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable, BatchIterable<V>
+{
+    protected static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LinearProbingUnifiedMap.NULL_KEY";
+        }
+    };
+
+    protected static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Object[] table;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    protected int maxSize;
+
+    public LinearProbingUnifiedMap()
+    {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LinearProbingUnifiedMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LinearProbingUnifiedMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init(this.fastCeil(initialCapacity / loadFactor));
+    }
+
+    public LinearProbingUnifiedMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newMap()
+    {
+        return new LinearProbingUnifiedMap<K, V>();
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newMap(int size)
+    {
+        return new LinearProbingUnifiedMap<K, V>(size);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newMap(int size, float loadFactor)
+    {
+        return new LinearProbingUnifiedMap<K, V>(size, loadFactor);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new LinearProbingUnifiedMap<K, V>(map);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new LinearProbingUnifiedMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new LinearProbingUnifiedMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new LinearProbingUnifiedMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> LinearProbingUnifiedMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new LinearProbingUnifiedMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public LinearProbingUnifiedMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public LinearProbingUnifiedMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public LinearProbingUnifiedMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public LinearProbingUnifiedMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public LinearProbingUnifiedMap<K, V> clone()
+    {
+        return new LinearProbingUnifiedMap<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return new LinearProbingUnifiedMap<K, V>();
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty(int capacity)
+    {
+        return LinearProbingUnifiedMap.newMap(capacity);
+    }
+
+    private int fastCeil(float v)
+    {
+        int possibleResult = (int) v;
+        if (v - possibleResult > 0.0F)
+        {
+            possibleResult++;
+        }
+        return possibleResult;
+    }
+
+    protected int init(int initialCapacity)
+    {
+        int capacity = 2;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+
+        return this.allocate(capacity);
+    }
+
+    protected int allocate(int capacity)
+    {
+        this.table = new Object[capacity << 1]; // the table size is twice the capacity to handle both keys and values
+        this.computeMaxSize(capacity);
+
+        return capacity;
+    }
+
+    protected void computeMaxSize(int capacity)
+    {
+        // need at least one free slot to terminate every probe sequence
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    /**
+     * Returns the key slot where the probe sequence for the given key starts.  Linear probing is very sensitive to
+     * clustering, so the hash code is run through a full avalanche spread rather than the cheaper shift-xor spread
+     * used by UnifiedMap.
+     */
+    protected final int index(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        return (SpreadFunctions.intSpreadOne(h) & (this.table.length >> 1) - 1) << 1;
+    }
+
+    /**
+     * Returns the key slot that holds the given key or, if the key is absent, the empty slot which terminated the
+     * probe sequence and where the key would be inserted.
+     */
+    private int probe(Object key)
+    {
+        Object[] localTable = this.table;
+        int mask = localTable.length - 1;
+        int index = this.index(key);
+        while (true)
+        {
+            Object cur = localTable[index];
+            if (cur == null || this.nonNullTableObjectEquals(cur, (K) key))
+            {
+                return index;
+            }
+            index = index + 2 & mask;
+        }
+    }
+
+    /**
+     * Returns the key slot just after the first empty key slot, where every traversal of the table starts.  The table
+     * is grown before it fills up, so it always has an empty slot and no cluster spans one; a traversal therefore never
+     * splits a cluster across the end of the table.  forEachKeyValue, iterator(), getFirst() and the other forEach
+     * variants all see the entries in the same order, and a rehash keeps the order of the keys within a cluster.
+     */
+    protected int traversalStart()
+    {
+        return LinearProbingUnifiedMap.traversalStart(this.table);
+    }
+
+    private static int traversalStart(Object[] localTable)
+    {
+        int emptySlot = 0;
+        while (localTable[emptySlot] != null)
+        {
+            emptySlot += 2;
+        }
+        return emptySlot + 2 & localTable.length - 1;
+    }
+
+    private void insertAt(int index, K key, V value)
+    {
+        int slot = index;
+        if (this.occupied >= this.maxSize)
+        {
+            this.rehash(this.table.length);
+            slot = this.probe(key);
+        }
+        this.table[slot] = LinearProbingUnifiedMap.toSentinelIfNull(key);
+        this.table[slot + 1] = value;
+        this.occupied++;
+    }
+
+    /**
+     * Removes the key and value at the given slot and shifts any later members of the same cluster backwards so that
+     * no probe sequence is broken by the new hole.
+     */
+    private void removeAt(int index)
+    {
+        Object[] localTable = this.table;
+        int mask = localTable.length - 1;
+        int hole = index;
+        int next = index + 2 & mask;
+        Object cur = localTable[next];
+        while (cur != null)
+        {
+            int home = this.index(this.nonSentinel(cur));
+            if ((next - home & mask) >= (next - hole & mask))
+            {
+                localTable[hole] = cur;
+                localTable[hole + 1] = localTable[next + 1];
+                hole = next;
+            }
+            next = next + 2 & mask;
+            cur = localTable[next];
+        }
+        localTable[hole] = null;
+        localTable[hole + 1] = null;
+        this.occupied--;
+    }
+
+    protected void rehash(int newCapacity)
+    {
+        Object[] old = this.table;
+        int oldLength = old.length;
+        int oldMask = oldLength - 1;
+        int oldStart = LinearProbingUnifiedMap.traversalStart(old);
+        this.allocate(newCapacity);
+
+        Object[] localTable = this.table;
+        int mask = localTable.length - 1;
+        for (int j = 0; j < oldLength; j += 2)
+        {
+            int i = oldStart + j & oldMask;
+            Object cur = old[i];
+            if (cur != null)
+            {
+                int index = this.index(this.nonSentinel(cur));
+                while (localTable[index] != null)
+                {
+                    index = index + 2 & mask;
+                }
+                localTable[index] = cur;
+                localTable[index + 1] = old[i + 1];
+            }
+        }
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        Object[] set = this.table;
+
+        for (int i = set.length; i-- > 0; )
+        {
+            set[i] = null;
+        }
+    }
+
+    public V put(K key, V value)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            this.insertAt(index, key, value);
+            return null;
+        }
+        V result = (V) this.table[index + 1];
+        this.table[index + 1] = value;
+        return result;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.valueOf(factory.value());
+            this.insertAt(index, key, result);
+            return result;
+        }
+        V result = function.valueOf((V) this.table[index + 1]);
+        this.table[index + 1] = result;
+        return result;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.value(factory.value(), parameter);
+            this.insertAt(index, key, result);
+            return result;
+        }
+        V result = function.value((V) this.table[index + 1], parameter);
+        this.table[index + 1] = result;
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.value();
+            this.insertAt(index, key, result);
+            return result;
+        }
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            this.insertAt(index, key, value);
+            return value;
+        }
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.valueOf(parameter);
+            this.insertAt(index, key, result);
+            return result;
+        }
+        return (V) this.table[index + 1];
+    }
+
+    /**
+     * Returns the number of key slots which are occupied by a key that does not live in its home slot.  This is the
+     * open addressing analogue of {@link UnifiedMap#getCollidingBuckets()}.
+     */
+    public int getCollidingBuckets()
+    {
+        int count = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null && this.index(this.nonSentinel(cur)) != i)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of JVM words that is used by this map.  A word is 4 bytes in a 32bit VM and 8 bytes in a 64bit
+     * VM. The table is the only allocation, and each array has a 2 word header, thus the formula is:
+     * words = internal table length + 2
+     *
+     * @return the number of JVM words that is used by this map.
+     */
+    public int getMapMemoryUsedInWords()
+    {
+        int headerSize = 2;
+        return this.table.length + headerSize;
+    }
+
+    public V get(Object key)
+    {
+        int index = this.probe(key);
+        return this.table[index] == null ? null : (V) this.table[index + 1];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.table[this.probe(key)] != null;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (this.table[i] != null && LinearProbingUnifiedMap.nullSafeEquals(value, this.table[i + 1]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public V getFirst()
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            if (this.table[i] != null)
+            {
+                return (V) this.table[i + 1];
+            }
+        }
+        return null;
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<E, K, V>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.table.length / 2 / batchSize);
+    }
+
+    public void batchForEach(Procedure<? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.table.length / sectionCount;
+        int start = sectionIndex * sectionSize;
+        int end = sectionIndex == sectionCount - 1 ? this.table.length : start + sectionSize;
+        if (start % 2 != 0)
+        {
+            start++;
+        }
+        for (int i = start; i < end; i += 2)
+        {
+            if (this.table[i] != null)
+            {
+                procedure.value((V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            if (this.table[i] != null)
+            {
+                procedure.value((V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int index = 0;
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            if (this.table[i] != null)
+            {
+                objectIntProcedure.value((V) this.table[i + 1], index++);
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            if (this.table[i] != null)
+            {
+                procedure.value((V) this.table[i + 1], parameter);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof MapIterable<?, ?>)
+        {
+            ((MapIterable<K, V>) map).forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    LinearProbingUnifiedMap.this.put(key, value);
+                }
+            });
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public V remove(Object key)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            return null;
+        }
+        V result = (V) this.table[index + 1];
+        this.removeAt(index);
+        return result;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                K key = this.nonSentinel(cur);
+                V value = (V) this.table[i + 1];
+                Object otherValue = other.get(key);
+                if (!LinearProbingUnifiedMap.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                Object value = this.table[i + 1];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == LinearProbingUnifiedMap.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == LinearProbingUnifiedMap.this ? "(this Map)" : value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) (size / this.loadFactor) + 1,
+                DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j += 2)
+        {
+            int i = start + j & mask;
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                out.writeObject(this.nonSentinel(cur));
+                out.writeObject(this.table[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the table from {@link #traversalStart()}.  Backward shift deletion only ever moves a key
+     * towards lower slots within its own cluster, and no cluster spans an empty slot, so a removal through the iterator
+     * can only move keys that have not been returned yet, and at most into the slot that was just vacated.
+     */
+    protected abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        protected int count;
+        protected int position;
+        protected int lastReturned = -1;
+
+        protected PositionalIterator()
+        {
+            this.position = LinearProbingUnifiedMap.this.traversalStart();
+        }
+
+        public boolean hasNext()
+        {
+            return this.count < LinearProbingUnifiedMap.this.occupied;
+        }
+
+        protected int nextIndex()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object[] localTable = LinearProbingUnifiedMap.this.table;
+            int mask = localTable.length - 1;
+            while (localTable[this.position] == null)
+            {
+                this.position = this.position + 2 & mask;
+            }
+            this.lastReturned = this.position;
+            this.position = this.position + 2 & mask;
+            this.count++;
+            return this.lastReturned;
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException();
+            }
+            LinearProbingUnifiedMap.this.removeAt(this.lastReturned);
+            this.position = this.lastReturned;
+            this.lastReturned = -1;
+            this.count--;
+        }
+    }
+
+    protected class KeySetIterator extends PositionalIterator<K>
+    {
+        public K next()
+        {
+            return LinearProbingUnifiedMap.this.nonSentinel(LinearProbingUnifiedMap.this.table[this.nextIndex()]);
+        }
+    }
+
+    protected class ValuesIterator extends PositionalIterator<V>
+    {
+        public V next()
+        {
+            return (V) LinearProbingUnifiedMap.this.table[this.nextIndex() + 1];
+        }
+    }
+
+    protected class EntrySetIterator extends PositionalIterator<Entry<K, V>>
+    {
+        public Entry<K, V> next()
+        {
+            int index = this.nextIndex();
+            Object[] localTable = LinearProbingUnifiedMap.this.table;
+            return new WriteThroughEntry(LinearProbingUnifiedMap.this.nonSentinel(localTable[index]), (V) localTable[index + 1]);
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return LinearProbingUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return LinearProbingUnifiedMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int index = LinearProbingUnifiedMap.this.probe(o);
+            if (LinearProbingUnifiedMap.this.table[index] == null)
+            {
+                return false;
+            }
+            LinearProbingUnifiedMap.this.removeAt(index);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            LinearProbingUnifiedMap.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return LinearProbingUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return LinearProbingUnifiedMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            LinearProbingUnifiedMap.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntrySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return LinearProbingUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return this.indexOfEntry(o) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int index = this.indexOfEntry(o);
+            if (index < 0)
+            {
+                return false;
+            }
+            LinearProbingUnifiedMap.this.removeAt(index);
+            return true;
+        }
+
+        private int indexOfEntry(Object o)
+        {
+            if (!(o instanceof Entry<?, ?>))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int index = LinearProbingUnifiedMap.this.probe(entry.getKey());
+            Object[] localTable = LinearProbingUnifiedMap.this.table;
+            if (localTable[index] == null || !LinearProbingUnifiedMap.nullSafeEquals(entry.getValue(), localTable[index + 1]))
+            {
+                return -1;
+            }
+            return index;
+        }
+
+        @Override
+        public void clear()
+        {
+            LinearProbingUnifiedMap.this.clear();
+        }
+    }
+
+    protected class WriteThroughEntry implements Entry<K, V>
+    {
+        protected final K key;
+        protected V value;
+
+        protected WriteThroughEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V result = this.value;
+            this.value = value;
+            LinearProbingUnifiedMap.this.put(this.key, value);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return LinearProbingUnifiedMap.nullSafeEquals(this.key, other.getKey())
+                        && LinearProbingUnifiedMap.nullSafeEquals(this.value, other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode())
+                    ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private static boolean nullSafeEquals(Object value, Object other)
+    {
+        if (value == null)
+        {
+            if (other == null)
+            {
+                return true;
+            }
+        }
+        else if (other == value || value.equals(other))
+        {
+            return true;
+        }
+        return false;
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private boolean nonNullTableObjectEquals(Object cur, K key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+}
@@ -25,6 +25,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -995,6 +996,34 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    /**
+     * Passes the keys and values held in the table slots from fromSlot inclusive to toSlot exclusive to the procedure,
+     * and returns the number of slots in the table. Each slot holds one key and value, or a collision chain whose
+     * entries are all passed. This lets adapters such as spliterators split the table by slot ranges rather than
+     * iterating it.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public int forEachKeyValueInTableSlots(int fromSlot, int toSlot, Procedure2<? super K, ? super V> procedure)
+    {
+        Object[] table = this.table;
+        int end = Math.min(toSlot << 1, table.length);
+        for (int i = fromSlot << 1; i < end; i += 2)
+        {
+            Object cur = table[i];
+            if (cur == CHAINED_KEY)
+            {
+                this.chainedForEachEntry((Object[]) table[i + 1], procedure);
+            }
+            else if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) table[i + 1]);
+            }
+        }
+        return table.length >> 1;
+    }
+
     @Override
     public V getFirst()
     {
@@ -22,6 +22,15 @@
  *          {@link org.eclipse.collections.impl.map.mutable.UnifiedMap} - a map which uses a hashtable as its underlying data store and stores key/value pairs in consecutive locations in a single array.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.map.mutable.LinearProbingUnifiedMap} - a map with the same single array layout as UnifiedMap which resolves collisions by linear probing instead of chaining.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.map.mutable.BoundedCacheMap} - a size-bounded map which evicts entries in least recently used order, subject to an {@link org.eclipse.collections.api.map.EvictionPolicy}.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.map.mutable.ConcurrentBoundedCacheMap} - a thread safe size-bounded map made of independently locked BoundedCacheMaps.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.map.mutable.SynchronizedMutableMap} - a synchronized view of a map.
  *     </li>
  *     <li>
@@ -29,9 +38,12 @@
  *     </li>
  * </ul>
  * <p>
- *     This package contains one factory implementation:
+ *     This package contains the following factories:
  * <ul>
  *     <li>
+ *         {@link org.eclipse.collections.impl.map.mutable.EvictionPolicies} - a factory for the eviction policies of the bounded maps.
+ *     </li>
+ *     <li>
  *         {@link org.eclipse.collections.impl.map.mutable.MutableMapFactoryImpl} - a factory which creates instances of type {@link org.eclipse.collections.api.map.MutableMap}.
  *     </li>
  * </ul>
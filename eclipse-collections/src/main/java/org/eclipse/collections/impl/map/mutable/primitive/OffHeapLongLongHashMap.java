@@ -0,0 +1,1904 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import java.io.Closeable;
+import java.io.Externalizable;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.LazyLongIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction0;
+import org.eclipse.collections.api.block.function.primitive.LongToLongFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.LongLongPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.LongLongProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.map.primitive.ImmutableLongLongMap;
+import org.eclipse.collections.api.map.primitive.LongLongMap;
+import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.tuple.primitive.LongLongPair;
+import org.eclipse.collections.impl.SpreadFunctions;
+import org.eclipse.collections.impl.factory.primitive.LongLongMaps;
+import org.eclipse.collections.impl.iterator.UnmodifiableLongIterator;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.primitive.AbstractLazyLongIterable;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * A {@link MutableLongLongMap} which keeps its table outside of the Java heap, either in direct memory or in a memory
+ * mapped file. This is intended for very large maps, which would otherwise put a lot of pressure on the garbage
+ * collector or not fit in the heap at all.
+ * <p>
+ * The table has the same open addressing layout as {@link LongLongHashMap}: keys and values are interleaved, the keys
+ * 0 and 1 are kept in fields on the heap, and lookups use the same probe sequence. Since a single buffer cannot exceed
+ * 2 GB, the table is split into buffers of 1 GB each. It is at most 2^30 slots, or 16 GB, so the map can hold at most
+ * 2^29 keys.
+ * <p>
+ * The buffers are left to the garbage collector, which frees the direct memory or unmaps the file when it collects
+ * them. {@link #close()} drops the table and closes the file of a mapped map, after which any use of the map throws
+ * an {@link IllegalStateException}. Applications which need the memory back straight away can plug in a hook which
+ * releases a buffer, see {@link #setBufferReleaser(Procedure)}.
+ * <p>
+ * A mapped map uses its file as scratch space only: existing contents of the file are discarded. While the table
+ * grows, the new table is built at the end of the file and then copied to its start. Once a buffer releaser has
+ * released the copied mapping, the file is truncated to the size of the table, so the file needs room for the old and
+ * the new table only during a resize. Without a buffer releaser the file keeps the space of the tables it replaced.
+ * Size the map up front to avoid resizing.
+ * <p>
+ * This map is not thread safe.
+ *
+ * @since 7.1
+ */
+public class OffHeapLongLongHashMap extends AbstractMutableLongValuesMap implements MutableLongLongMap, Externalizable, MutableLongKeysMap, Closeable
+{
+    private static final long EMPTY_VALUE = 0L;
+    private static final long serialVersionUID = 1L;
+    private static final long EMPTY_KEY = 0L;
+    private static final long REMOVED_KEY = 1L;
+    private static final int CACHE_LINE_SIZE = 64;
+    private static final int KEY_SIZE = 8;
+    private static final int INITIAL_LINEAR_PROBE = CACHE_LINE_SIZE / (KEY_SIZE * 2) / 2; /* half a cache line of slots */
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /* 2^26 slots of a key and a value take 1 GB, well within the 2 GB limit of a single buffer */
+    private static final int SEGMENT_SHIFT = 26;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+    private static final int COPY_CHUNK_SIZE = 1 << 13;
+
+    private final FileChannel channel;
+    private long tableOffset;
+
+    private ByteBuffer[] buffers;
+    private LongBuffer[] segments;
+    private int tableSize;
+
+    private int occupiedWithData;
+    private int occupiedWithSentinels;
+
+    private SentinelValues sentinelValues;
+
+    private Procedure<? super ByteBuffer> bufferReleaser;
+
+    public OffHeapLongLongHashMap()
+    {
+        this.channel = null;
+        this.allocateTable(DEFAULT_INITIAL_CAPACITY << 1);
+    }
+
+    public OffHeapLongLongHashMap(int initialCapacity)
+    {
+        this(initialCapacity, null);
+    }
+
+    public OffHeapLongLongHashMap(LongLongMap map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), null);
+        this.putAll(map);
+    }
+
+    private OffHeapLongLongHashMap(int initialCapacity, FileChannel channel)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (initialCapacity > MAXIMUM_CAPACITY >> 1)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be more than " + (MAXIMUM_CAPACITY >> 1));
+        }
+        this.channel = channel;
+        int capacity = this.smallestPowerOfTwoGreaterThan(initialCapacity << 1);
+        this.allocateTable(capacity);
+    }
+
+    public static OffHeapLongLongHashMap newMap()
+    {
+        return new OffHeapLongLongHashMap();
+    }
+
+    public static OffHeapLongLongHashMap newMap(int initialCapacity)
+    {
+        return new OffHeapLongLongHashMap(initialCapacity);
+    }
+
+    /**
+     * Creates a map whose table is memory mapped from the given file. Any existing contents of the file are discarded.
+     * The file is closed when the map is closed.
+     */
+    public static OffHeapLongLongHashMap newMappedMap(File file, int initialCapacity)
+    {
+        RandomAccessFile randomAccessFile;
+        try
+        {
+            randomAccessFile = new RandomAccessFile(file, "rw");
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        try
+        {
+            randomAccessFile.setLength(0L);
+            return new OffHeapLongLongHashMap(initialCapacity, randomAccessFile.getChannel());
+        }
+        catch (IOException e)
+        {
+            OffHeapLongLongHashMap.closeAfterFailure(randomAccessFile);
+            throw new RuntimeException(e);
+        }
+        catch (RuntimeException e)
+        {
+            OffHeapLongLongHashMap.closeAfterFailure(randomAccessFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Closes a file that could not be mapped, keeping the exception that caused the failure rather than one thrown by
+     * close.
+     */
+    private static void closeAfterFailure(RandomAccessFile randomAccessFile)
+    {
+        try
+        {
+            randomAccessFile.close();
+        }
+        catch (IOException ignored)
+        {
+        }
+    }
+
+    public static OffHeapLongLongHashMap newWithKeysValues(long key1, long value1)
+    {
+        return new OffHeapLongLongHashMap(1).withKeyValue(key1, value1);
+    }
+
+    public static OffHeapLongLongHashMap newWithKeysValues(long key1, long value1, long key2, long value2)
+    {
+        return new OffHeapLongLongHashMap(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static OffHeapLongLongHashMap newWithKeysValues(long key1, long value1, long key2, long value2, long key3, long value3)
+    {
+        return new OffHeapLongLongHashMap(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static OffHeapLongLongHashMap newWithKeysValues(long key1, long value1, long key2, long value2, long key3, long value3, long key4, long value4)
+    {
+        return new OffHeapLongLongHashMap(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    private int smallestPowerOfTwoGreaterThan(int n)
+    {
+        return n > 1 ? Integer.highestOneBit(n - 1) << 1 : 1;
+    }
+
+    /**
+     * Returns true if the table is in a memory mapped file rather than in direct memory.
+     */
+    public boolean isMapped()
+    {
+        return this.channel != null;
+    }
+
+    /**
+     * Sets a hook which frees the direct memory or unmaps the file region of a buffer straight away, for example by
+     * calling the cleaner of the JDK's buffer classes. It is called for each buffer of a table the map no longer uses,
+     * after a resize and on {@link #close()}, and the buffer is not touched again afterwards. Without a hook, which is
+     * the default, the buffers are left to the garbage collector.
+     */
+    public void setBufferReleaser(Procedure<? super ByteBuffer> bufferReleaser)
+    {
+        this.checkOpen();
+        this.bufferReleaser = bufferReleaser;
+    }
+
+    /**
+     * Drops the table and closes the file of a mapped map. Any use of the map afterwards throws an
+     * {@link IllegalStateException}. Calling close more than once has no effect.
+     */
+    public void close() throws IOException
+    {
+        if (this.isClosed())
+        {
+            return;
+        }
+        ByteBuffer[] oldBuffers = this.buffers;
+        this.buffers = null;
+        this.segments = null;
+        this.tableSize = 0;
+        this.sentinelValues = null;
+        this.occupiedWithData = 0;
+        this.occupiedWithSentinels = 0;
+        this.release(oldBuffers);
+        if (this.channel != null)
+        {
+            this.channel.close();
+        }
+    }
+
+    @Override
+    protected int getOccupiedWithData()
+    {
+        this.checkOpen();
+        return this.occupiedWithData;
+    }
+
+    @Override
+    protected SentinelValues getSentinelValues()
+    {
+        this.checkOpen();
+        return this.sentinelValues;
+    }
+
+    @Override
+    protected void setSentinelValuesNull()
+    {
+        this.sentinelValues = null;
+    }
+
+    @Override
+    protected long getEmptyValue()
+    {
+        return EMPTY_VALUE;
+    }
+
+    @Override
+    protected int getTableSize()
+    {
+        this.checkOpen();
+        return this.tableSize;
+    }
+
+    @Override
+    protected long getValueAtIndex(int index)
+    {
+        return this.valueAt(index);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+
+        if (!(obj instanceof LongLongMap))
+        {
+            return false;
+        }
+
+        LongLongMap other = (LongLongMap) obj;
+
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        if (this.sentinelValues == null)
+        {
+            if (other.containsKey(EMPTY_KEY) || other.containsKey(REMOVED_KEY))
+            {
+                return false;
+            }
+        }
+        else
+        {
+            if (this.sentinelValues.containsZeroKey && (!other.containsKey(EMPTY_KEY) || this.sentinelValues.zeroValue != other.getOrThrow(EMPTY_KEY)))
+            {
+                return false;
+            }
+
+            if (this.sentinelValues.containsOneKey && (!other.containsKey(REMOVED_KEY) || this.sentinelValues.oneValue != other.getOrThrow(REMOVED_KEY)))
+            {
+                return false;
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key) && (!other.containsKey(key) || this.valueAt(i) != other.getOrThrow(key)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey)
+            {
+                result += (int) (EMPTY_KEY ^ EMPTY_KEY >>> 32) ^ (int) (this.sentinelValues.zeroValue ^ this.sentinelValues.zeroValue >>> 32);
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                result += (int) (REMOVED_KEY ^ REMOVED_KEY >>> 32) ^ (int) (this.sentinelValues.oneValue ^ this.sentinelValues.oneValue >>> 32);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key))
+            {
+                long value = this.valueAt(i);
+                result += (int) (key ^ key >>> 32) ^ (int) (value ^ value >>> 32);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder appendable = new StringBuilder();
+
+        appendable.append("{");
+
+        boolean first = true;
+
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey)
+            {
+                appendable.append(EMPTY_KEY).append("=").append(this.sentinelValues.zeroValue);
+                first = false;
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                if (!first)
+                {
+                    appendable.append(", ");
+                }
+                appendable.append(REMOVED_KEY).append("=").append(this.sentinelValues.oneValue);
+                first = false;
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key))
+            {
+                if (!first)
+                {
+                    appendable.append(", ");
+                }
+                appendable.append(key).append("=").append(this.valueAt(i));
+                first = false;
+            }
+        }
+        appendable.append("}");
+
+        return appendable.toString();
+    }
+
+    public MutableLongIterator longIterator()
+    {
+        this.checkOpen();
+        return new InternalLongIterator();
+    }
+
+    public <V> V injectInto(V injectedValue, ObjectLongToObjectFunction<? super V, ? extends V> function)
+    {
+        this.checkOpen();
+        V result = injectedValue;
+
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey)
+            {
+                result = function.valueOf(result, this.sentinelValues.zeroValue);
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                result = function.valueOf(result, this.sentinelValues.oneValue);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            if (isNonSentinel(this.keyAt(i)))
+            {
+                result = function.valueOf(result, this.valueAt(i));
+            }
+        }
+
+        return result;
+    }
+
+    public void clear()
+    {
+        this.checkOpen();
+        this.sentinelValues = null;
+        this.occupiedWithData = 0;
+        this.occupiedWithSentinels = 0;
+        for (LongBuffer segment : this.segments)
+        {
+            for (int i = 0; i < segment.capacity(); i++)
+            {
+                segment.put(i, 0L);
+            }
+        }
+    }
+
+    public void put(long key, long value)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            this.putForEmptySentinel(value);
+            return;
+        }
+
+        if (isRemovedKey(key))
+        {
+            this.putForRemovedSentinel(value);
+            return;
+        }
+
+        int index = this.probe(key);
+        long keyAtIndex = this.keyAt(index);
+        if (keyAtIndex == key)
+        {
+            this.setValueAt(index, value);
+        }
+        else
+        {
+            this.addKeyValueAtIndex(key, value, index);
+        }
+    }
+
+    private void putForRemovedSentinel(long value)
+    {
+        if (this.sentinelValues == null)
+        {
+            this.sentinelValues = new SentinelValues();
+        }
+        this.addRemovedKeyValue(value);
+    }
+
+    private void putForEmptySentinel(long value)
+    {
+        if (this.sentinelValues == null)
+        {
+            this.sentinelValues = new SentinelValues();
+        }
+        this.addEmptyKeyValue(value);
+    }
+
+    public void putAll(LongLongMap map)
+    {
+        map.forEachKeyValue(new LongLongProcedure()
+        {
+            public void value(long key, long value)
+            {
+                OffHeapLongLongHashMap.this.put(key, value);
+            }
+        });
+    }
+
+    public void removeKey(long key)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsZeroKey)
+            {
+                return;
+            }
+            this.removeEmptyKey();
+            return;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsOneKey)
+            {
+                return;
+            }
+            this.removeRemovedKey();
+            return;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            this.removeKeyAtIndex(index);
+        }
+    }
+
+    public void remove(long key)
+    {
+        this.removeKey(key);
+    }
+
+    public long removeKeyIfAbsent(long key, long value)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsZeroKey)
+            {
+                return value;
+            }
+            long oldValue = this.sentinelValues.zeroValue;
+            this.removeEmptyKey();
+            return oldValue;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsOneKey)
+            {
+                return value;
+            }
+            long oldValue = this.sentinelValues.oneValue;
+            this.removeRemovedKey();
+            return oldValue;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            long oldValue = this.valueAt(index);
+            this.removeKeyAtIndex(index);
+            return oldValue;
+        }
+        return value;
+    }
+
+    public long getIfAbsentPut(long key, long value)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                this.sentinelValues = new SentinelValues();
+                this.addEmptyKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsZeroKey)
+            {
+                return this.sentinelValues.zeroValue;
+            }
+            this.addEmptyKeyValue(value);
+            return value;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                this.sentinelValues = new SentinelValues();
+                this.addRemovedKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                return this.sentinelValues.oneValue;
+            }
+            this.addRemovedKeyValue(value);
+            return value;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            return this.valueAt(index);
+        }
+        this.addKeyValueAtIndex(key, value, index);
+        return value;
+    }
+
+    public long getIfAbsentPut(long key, LongFunction0 function)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                long value = function.value();
+                this.sentinelValues = new SentinelValues();
+                this.addEmptyKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsZeroKey)
+            {
+                return this.sentinelValues.zeroValue;
+            }
+            long value = function.value();
+            this.addEmptyKeyValue(value);
+            return value;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                long value = function.value();
+                this.sentinelValues = new SentinelValues();
+                this.addRemovedKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                return this.sentinelValues.oneValue;
+            }
+            long value = function.value();
+            this.addRemovedKeyValue(value);
+            return value;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            return this.valueAt(index);
+        }
+        long value = function.value();
+        this.addKeyValueAtIndex(key, value, index);
+        return value;
+    }
+
+    public <P> long getIfAbsentPutWith(long key, LongFunction<? super P> function, P parameter)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                long value = function.longValueOf(parameter);
+                this.sentinelValues = new SentinelValues();
+                this.addEmptyKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsZeroKey)
+            {
+                return this.sentinelValues.zeroValue;
+            }
+            long value = function.longValueOf(parameter);
+            this.addEmptyKeyValue(value);
+            return value;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                long value = function.longValueOf(parameter);
+                this.sentinelValues = new SentinelValues();
+                this.addRemovedKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                return this.sentinelValues.oneValue;
+            }
+            long value = function.longValueOf(parameter);
+            this.addRemovedKeyValue(value);
+            return value;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            return this.valueAt(index);
+        }
+        long value = function.longValueOf(parameter);
+        this.addKeyValueAtIndex(key, value, index);
+        return value;
+    }
+
+    public long getIfAbsentPutWithKey(long key, LongToLongFunction function)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                long value = function.valueOf(key);
+                this.sentinelValues = new SentinelValues();
+                this.addEmptyKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsZeroKey)
+            {
+                return this.sentinelValues.zeroValue;
+            }
+            long value = function.valueOf(key);
+            this.addEmptyKeyValue(value);
+            return value;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                long value = function.valueOf(key);
+                this.sentinelValues = new SentinelValues();
+                this.addRemovedKeyValue(value);
+                return value;
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                return this.sentinelValues.oneValue;
+            }
+            long value = function.valueOf(key);
+            this.addRemovedKeyValue(value);
+            return value;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            return this.valueAt(index);
+        }
+        long value = function.valueOf(key);
+        this.addKeyValueAtIndex(key, value, index);
+        return value;
+    }
+
+    public long addToValue(long key, long toBeAdded)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                this.sentinelValues = new SentinelValues();
+                this.addEmptyKeyValue(toBeAdded);
+            }
+            else if (this.sentinelValues.containsZeroKey)
+            {
+                this.sentinelValues.zeroValue += toBeAdded;
+            }
+            else
+            {
+                this.addEmptyKeyValue(toBeAdded);
+            }
+            return this.sentinelValues.zeroValue;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                this.sentinelValues = new SentinelValues();
+                this.addRemovedKeyValue(toBeAdded);
+            }
+            else if (this.sentinelValues.containsOneKey)
+            {
+                this.sentinelValues.oneValue += toBeAdded;
+            }
+            else
+            {
+                this.addRemovedKeyValue(toBeAdded);
+            }
+            return this.sentinelValues.oneValue;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            long value = this.valueAt(index) + toBeAdded;
+            this.setValueAt(index, value);
+            return value;
+        }
+        this.addKeyValueAtIndex(key, toBeAdded, index);
+        return toBeAdded;
+    }
+
+    private void addKeyValueAtIndex(long key, long value, int index)
+    {
+        if (this.keyAt(index) == REMOVED_KEY)
+        {
+            this.occupiedWithSentinels--;
+        }
+        this.setKeyAt(index, key);
+        this.setValueAt(index, value);
+        this.occupiedWithData++;
+        if (this.occupiedWithData + this.occupiedWithSentinels > this.maxOccupiedWithData())
+        {
+            this.rehashAndGrow();
+        }
+    }
+
+    private void removeKeyAtIndex(int index)
+    {
+        this.setKeyAt(index, REMOVED_KEY);
+        this.setValueAt(index, EMPTY_VALUE);
+        this.occupiedWithData--;
+        this.occupiedWithSentinels++;
+    }
+
+    public long updateValue(long key, long initialValueIfAbsent, LongToLongFunction function)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                this.sentinelValues = new SentinelValues();
+                this.addEmptyKeyValue(function.valueOf(initialValueIfAbsent));
+            }
+            else if (this.sentinelValues.containsZeroKey)
+            {
+                this.sentinelValues.zeroValue = function.valueOf(this.sentinelValues.zeroValue);
+            }
+            else
+            {
+                this.addEmptyKeyValue(function.valueOf(initialValueIfAbsent));
+            }
+            return this.sentinelValues.zeroValue;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null)
+            {
+                this.sentinelValues = new SentinelValues();
+                this.addRemovedKeyValue(function.valueOf(initialValueIfAbsent));
+            }
+            else if (this.sentinelValues.containsOneKey)
+            {
+                this.sentinelValues.oneValue = function.valueOf(this.sentinelValues.oneValue);
+            }
+            else
+            {
+                this.addRemovedKeyValue(function.valueOf(initialValueIfAbsent));
+            }
+            return this.sentinelValues.oneValue;
+        }
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            long value = function.valueOf(this.valueAt(index));
+            this.setValueAt(index, value);
+            return value;
+        }
+        long value = function.valueOf(initialValueIfAbsent);
+        this.addKeyValueAtIndex(key, value, index);
+        return value;
+    }
+
+    public OffHeapLongLongHashMap withKeyValue(long key1, long value1)
+    {
+        this.put(key1, value1);
+        return this;
+    }
+
+    public OffHeapLongLongHashMap withKeysValues(long key1, long value1, long key2, long value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OffHeapLongLongHashMap withKeysValues(long key1, long value1, long key2, long value2, long key3, long value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public OffHeapLongLongHashMap withKeysValues(long key1, long value1, long key2, long value2, long key3, long value3, long key4, long value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    public OffHeapLongLongHashMap withoutKey(long key)
+    {
+        this.removeKey(key);
+        return this;
+    }
+
+    public OffHeapLongLongHashMap withoutAllKeys(LongIterable keys)
+    {
+        keys.forEach(new LongProcedure()
+        {
+            public void value(long key)
+            {
+                OffHeapLongLongHashMap.this.removeKey(key);
+            }
+        });
+        return this;
+    }
+
+    public MutableLongLongMap asUnmodifiable()
+    {
+        return new UnmodifiableLongLongMap(this);
+    }
+
+    public MutableLongLongMap asSynchronized()
+    {
+        return new SynchronizedLongLongMap(this);
+    }
+
+    public ImmutableLongLongMap toImmutable()
+    {
+        return LongLongMaps.immutable.ofAll(this);
+    }
+
+    public long get(long key)
+    {
+        return this.getIfAbsent(key, EMPTY_VALUE);
+    }
+
+    public long getIfAbsent(long key, long ifAbsent)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key) || isRemovedKey(key))
+        {
+            return this.getForSentinel(key, ifAbsent);
+        }
+        if (this.occupiedWithSentinels == 0)
+        {
+            return this.fastGetIfAbsent(key, ifAbsent);
+        }
+        return this.slowGetIfAbsent(key, ifAbsent);
+    }
+
+    private long getForSentinel(long key, long ifAbsent)
+    {
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsZeroKey)
+            {
+                return ifAbsent;
+            }
+            return this.sentinelValues.zeroValue;
+        }
+        if (this.sentinelValues == null || !this.sentinelValues.containsOneKey)
+        {
+            return ifAbsent;
+        }
+        return this.sentinelValues.oneValue;
+    }
+
+    private long slowGetIfAbsent(long key, long ifAbsent)
+    {
+        int index = this.probe(key);
+        if (this.keyAt(index) == key)
+        {
+            return this.valueAt(index);
+        }
+        return ifAbsent;
+    }
+
+    private long fastGetIfAbsent(long key, long ifAbsent)
+    {
+        int index = this.mask((int) key);
+
+        for (int i = 0; i < INITIAL_LINEAR_PROBE; i++)
+        {
+            long keyAtIndex = this.keyAt(index);
+            if (keyAtIndex == key)
+            {
+                return this.valueAt(index);
+            }
+            if (keyAtIndex == EMPTY_KEY)
+            {
+                return ifAbsent;
+            }
+            index = (index + 1) & (this.tableSize - 1);
+        }
+        return this.slowGetIfAbsentTwo(key, ifAbsent);
+    }
+
+    private long slowGetIfAbsentTwo(long key, long ifAbsent)
+    {
+        int index = this.probeTwo(key, -1);
+        if (this.keyAt(index) == key)
+        {
+            return this.valueAt(index);
+        }
+        return ifAbsent;
+    }
+
+    public long getOrThrow(long key)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsZeroKey)
+            {
+                throw new IllegalStateException("Key " + key + " not present.");
+            }
+            return this.sentinelValues.zeroValue;
+        }
+        if (isRemovedKey(key))
+        {
+            if (this.sentinelValues == null || !this.sentinelValues.containsOneKey)
+            {
+                throw new IllegalStateException("Key " + key + " not present.");
+            }
+            return this.sentinelValues.oneValue;
+        }
+        int index = this.probe(key);
+        if (isNonSentinel(this.keyAt(index)))
+        {
+            return this.valueAt(index);
+        }
+        throw new IllegalStateException("Key " + key + " not present.");
+    }
+
+    public boolean containsKey(long key)
+    {
+        this.checkOpen();
+        if (isEmptyKey(key))
+        {
+            return this.sentinelValues != null && this.sentinelValues.containsZeroKey;
+        }
+        if (isRemovedKey(key))
+        {
+            return this.sentinelValues != null && this.sentinelValues.containsOneKey;
+        }
+        return this.keyAt(this.probe(key)) == key;
+    }
+
+    public void forEachKey(LongProcedure procedure)
+    {
+        this.checkOpen();
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey)
+            {
+                procedure.value(EMPTY_KEY);
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                procedure.value(REMOVED_KEY);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key))
+            {
+                procedure.value(key);
+            }
+        }
+    }
+
+    public void forEachKeyValue(LongLongProcedure procedure)
+    {
+        this.checkOpen();
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey)
+            {
+                procedure.value(EMPTY_KEY, this.sentinelValues.zeroValue);
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                procedure.value(REMOVED_KEY, this.sentinelValues.oneValue);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key))
+            {
+                procedure.value(key, this.valueAt(i));
+            }
+        }
+    }
+
+    public LazyLongIterable keysView()
+    {
+        this.checkOpen();
+        return new KeysView();
+    }
+
+    public RichIterable<LongLongPair> keyValuesView()
+    {
+        this.checkOpen();
+        return new KeyValuesView();
+    }
+
+    /**
+     * Returns a {@link LongLongHashMap} on the heap with the entries which satisfy the predicate.
+     */
+    public LongLongHashMap select(LongLongPredicate predicate)
+    {
+        this.checkOpen();
+        LongLongHashMap result = new LongLongHashMap();
+
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey && predicate.accept(EMPTY_KEY, this.sentinelValues.zeroValue))
+            {
+                result.put(EMPTY_KEY, this.sentinelValues.zeroValue);
+            }
+            if (this.sentinelValues.containsOneKey && predicate.accept(REMOVED_KEY, this.sentinelValues.oneValue))
+            {
+                result.put(REMOVED_KEY, this.sentinelValues.oneValue);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key) && predicate.accept(key, this.valueAt(i)))
+            {
+                result.put(key, this.valueAt(i));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a {@link LongLongHashMap} on the heap with the entries which do not satisfy the predicate.
+     */
+    public LongLongHashMap reject(LongLongPredicate predicate)
+    {
+        this.checkOpen();
+        LongLongHashMap result = new LongLongHashMap();
+
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey && !predicate.accept(EMPTY_KEY, this.sentinelValues.zeroValue))
+            {
+                result.put(EMPTY_KEY, this.sentinelValues.zeroValue);
+            }
+            if (this.sentinelValues.containsOneKey && !predicate.accept(REMOVED_KEY, this.sentinelValues.oneValue))
+            {
+                result.put(REMOVED_KEY, this.sentinelValues.oneValue);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key) && !predicate.accept(key, this.valueAt(i)))
+            {
+                result.put(key, this.valueAt(i));
+            }
+        }
+        return result;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        if (this.sentinelValues != null)
+        {
+            if (this.sentinelValues.containsZeroKey)
+            {
+                out.writeLong(EMPTY_KEY);
+                out.writeLong(this.sentinelValues.zeroValue);
+            }
+            if (this.sentinelValues.containsOneKey)
+            {
+                out.writeLong(REMOVED_KEY);
+                out.writeLong(this.sentinelValues.oneValue);
+            }
+        }
+        for (int i = 0; i < this.tableSize; i++)
+        {
+            long key = this.keyAt(i);
+            if (isNonSentinel(key))
+            {
+                out.writeLong(key);
+                out.writeLong(this.valueAt(i));
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.put(in.readLong(), in.readLong());
+        }
+    }
+
+    /**
+     * Rehashes every element in the map into a new backing table of the smallest possible size and eliminating removed sentinels.
+     */
+    public void compact()
+    {
+        this.rehash(this.smallestPowerOfTwoGreaterThan(this.size() << 1));
+    }
+
+    private void rehashAndGrow()
+    {
+        this.rehash(this.tableSize << 1);
+    }
+
+    private void rehash(int newCapacity)
+    {
+        if (newCapacity > MAXIMUM_CAPACITY)
+        {
+            throw new IllegalStateException("Cannot grow an off-heap map beyond " + (MAXIMUM_CAPACITY >> 1) + " keys");
+        }
+        ByteBuffer[] oldBuffers = this.buffers;
+        LongBuffer[] oldSegments = this.segments;
+        this.allocateTable(newCapacity);
+        this.occupiedWithData = 0;
+        this.occupiedWithSentinels = 0;
+
+        for (LongBuffer old : oldSegments)
+        {
+            for (int i = 0; i < old.capacity(); i += 2)
+            {
+                long key = old.get(i);
+                if (isNonSentinel(key))
+                {
+                    int index = this.probe(key);
+                    this.setKeyAt(index, key);
+                    this.setValueAt(index, old.get(i + 1));
+                    this.occupiedWithData++;
+                }
+            }
+        }
+        this.release(oldBuffers);
+        this.moveTableToStartOfFile();
+    }
+
+    // exposed for testing
+    int probe(long element)
+    {
+        int index = this.mask((int) element);
+        long keyAtIndex = this.keyAt(index);
+
+        if (keyAtIndex == element || keyAtIndex == EMPTY_KEY)
+        {
+            return index;
+        }
+
+        int removedIndex = keyAtIndex == REMOVED_KEY ? index : -1;
+        for (int i = 1; i < INITIAL_LINEAR_PROBE; i++)
+        {
+            int nextIndex = (index + i) & (this.tableSize - 1);
+            keyAtIndex = this.keyAt(nextIndex);
+            if (keyAtIndex == element)
+            {
+                return nextIndex;
+            }
+            if (keyAtIndex == EMPTY_KEY)
+            {
+                return removedIndex == -1 ? nextIndex : removedIndex;
+            }
+            if (keyAtIndex == REMOVED_KEY && removedIndex == -1)
+            {
+                removedIndex = nextIndex;
+            }
+        }
+        return this.probeTwo(element, removedIndex);
+    }
+
+    int probeTwo(long element, int removedIndex)
+    {
+        int index = this.spreadTwoAndMask(element);
+        for (int i = 0; i < INITIAL_LINEAR_PROBE; i++)
+        {
+            int nextIndex = (index + i) & (this.tableSize - 1);
+            long keyAtIndex = this.keyAt(nextIndex);
+            if (keyAtIndex == element)
+            {
+                return nextIndex;
+            }
+            if (keyAtIndex == EMPTY_KEY)
+            {
+                return removedIndex == -1 ? nextIndex : removedIndex;
+            }
+            if (keyAtIndex == REMOVED_KEY && removedIndex == -1)
+            {
+                removedIndex = nextIndex;
+            }
+        }
+        return this.probeThree(element, removedIndex);
+    }
+
+    int probeThree(long element, int removedIndex)
+    {
+        int nextIndex = (int) SpreadFunctions.longSpreadOne(element);
+        int spreadTwo = (int) Long.reverse(SpreadFunctions.longSpreadTwo(element)) | 1;
+
+        while (true)
+        {
+            nextIndex = this.mask(nextIndex + spreadTwo);
+            long keyAtIndex = this.keyAt(nextIndex);
+            if (keyAtIndex == element)
+            {
+                return nextIndex;
+            }
+            if (keyAtIndex == EMPTY_KEY)
+            {
+                return removedIndex == -1 ? nextIndex : removedIndex;
+            }
+            if (keyAtIndex == REMOVED_KEY && removedIndex == -1)
+            {
+                removedIndex = nextIndex;
+            }
+        }
+    }
+
+    // exposed for testing
+    int spreadAndMask(long element)
+    {
+        long code = SpreadFunctions.longSpreadOne(element);
+        return this.mask((int) code);
+    }
+
+    int spreadTwoAndMask(long element)
+    {
+        long code = SpreadFunctions.longSpreadTwo(element);
+        return this.mask((int) code);
+    }
+
+    private int mask(int spread)
+    {
+        return spread & (this.tableSize - 1);
+    }
+
+    private long keyAt(int index)
+    {
+        return this.segments[index >>> SEGMENT_SHIFT].get((index & SEGMENT_MASK) << 1);
+    }
+
+    private long valueAt(int index)
+    {
+        return this.segments[index >>> SEGMENT_SHIFT].get(((index & SEGMENT_MASK) << 1) + 1);
+    }
+
+    private void setKeyAt(int index, long key)
+    {
+        this.segments[index >>> SEGMENT_SHIFT].put((index & SEGMENT_MASK) << 1, key);
+    }
+
+    private void setValueAt(int index, long value)
+    {
+        this.segments[index >>> SEGMENT_SHIFT].put(((index & SEGMENT_MASK) << 1) + 1, value);
+    }
+
+    /**
+     * Allocates a zeroed table of the given number of slots in segments of at most 2^26 slots, in direct memory or at
+     * the end of the mapped file. The end of the file is zeroed as the file grows, and keeps the table being rehashed
+     * intact.
+     */
+    private void allocateTable(int sizeToAllocate)
+    {
+        int segmentSize = Math.min(sizeToAllocate, 1 << SEGMENT_SHIFT);
+        int segmentCount = sizeToAllocate / segmentSize;
+        int segmentBytes = segmentSize * 2 * KEY_SIZE;
+        this.buffers = new ByteBuffer[segmentCount];
+        this.segments = new LongBuffer[segmentCount];
+        try
+        {
+            this.tableOffset = this.channel == null ? 0L : this.channel.size();
+            for (int i = 0; i < segmentCount; i++)
+            {
+                this.buffers[i] = this.channel == null
+                        ? ByteBuffer.allocateDirect(segmentBytes)
+                        : this.channel.map(FileChannel.MapMode.READ_WRITE, this.tableOffset + (long) i * segmentBytes, segmentBytes);
+                this.segments[i] = this.buffers[i].order(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        this.tableSize = sizeToAllocate;
+    }
+
+    /**
+     * Copies a table which was mapped at the end of the file down to the start of the file, once the table it replaced
+     * has been released, and truncates the file to the size of the table. A mapped map therefore only ever needs the
+     * old and the new table on disk while it rehashes, and reuses the start of the file each time it grows.
+     * <p>
+     * The copy runs front to back a chunk at a time, so it never overwrites the part of the table it has still to read.
+     * The file is only truncated when the copied mapping could be released, see {@link #release(ByteBuffer[])}, as a
+     * file cannot be truncated below a region which is still mapped on some platforms.
+     */
+    private void moveTableToStartOfFile()
+    {
+        if (this.channel == null || this.tableOffset == 0L)
+        {
+            return;
+        }
+        try
+        {
+            ByteBuffer[] movedBuffers = this.buffers;
+            LongBuffer[] movedSegments = this.segments;
+            int segmentBytes = movedSegments[0].capacity() * KEY_SIZE;
+            ByteBuffer[] newBuffers = new ByteBuffer[movedSegments.length];
+            LongBuffer[] newSegments = new LongBuffer[movedSegments.length];
+            long[] chunk = new long[Math.min(COPY_CHUNK_SIZE, movedSegments[0].capacity())];
+            for (int i = 0; i < movedSegments.length; i++)
+            {
+                newBuffers[i] = this.channel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentBytes, segmentBytes);
+                newSegments[i] = newBuffers[i].order(ByteOrder.nativeOrder()).asLongBuffer();
+                LongBuffer source = movedSegments[i].duplicate();
+                LongBuffer target = newSegments[i].duplicate();
+                while (source.hasRemaining())
+                {
+                    int length = Math.min(chunk.length, source.remaining());
+                    source.get(chunk, 0, length);
+                    target.put(chunk, 0, length);
+                }
+            }
+            this.buffers = newBuffers;
+            this.segments = newSegments;
+            this.tableOffset = 0L;
+            if (this.release(movedBuffers))
+            {
+                this.channel.truncate((long) newSegments.length * segmentBytes);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Hands the buffers to the buffer releaser, if there is one, and returns whether there was. Otherwise the buffers
+     * are left to the garbage collector.
+     */
+    private boolean release(ByteBuffer[] buffers)
+    {
+        if (this.bufferReleaser == null)
+        {
+            return false;
+        }
+        for (ByteBuffer buffer : buffers)
+        {
+            this.bufferReleaser.value(buffer);
+        }
+        return true;
+    }
+
+    private boolean isClosed()
+    {
+        return this.buffers == null;
+    }
+
+    private void checkOpen()
+    {
+        if (this.isClosed())
+        {
+            throw new IllegalStateException("closed");
+        }
+    }
+
+    private static boolean isEmptyKey(long key)
+    {
+        return key == EMPTY_KEY;
+    }
+
+    private static boolean isRemovedKey(long key)
+    {
+        return key == REMOVED_KEY;
+    }
+
+    private static boolean isNonSentinel(long key)
+    {
+        return !isEmptyKey(key) && !isRemovedKey(key);
+    }
+
+    @Override
+    protected boolean isNonSentinelAtIndex(int index)
+    {
+        return isNonSentinel(this.keyAt(index));
+    }
+
+    private int maxOccupiedWithData()
+    {
+        return this.tableSize >> 1;
+    }
+
+    private class InternalLongIterator implements MutableLongIterator
+    {
+        private int count;
+        private int position;
+        private long lastKey;
+        private boolean handledZero;
+        private boolean handledOne;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.count < OffHeapLongLongHashMap.this.size();
+        }
+
+        public long next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.count++;
+            this.canRemove = true;
+
+            if (!this.handledZero)
+            {
+                this.handledZero = true;
+                if (OffHeapLongLongHashMap.this.containsKey(EMPTY_KEY))
+                {
+                    this.lastKey = EMPTY_KEY;
+                    return OffHeapLongLongHashMap.this.get(EMPTY_KEY);
+                }
+            }
+            if (!this.handledOne)
+            {
+                this.handledOne = true;
+                if (OffHeapLongLongHashMap.this.containsKey(REMOVED_KEY))
+                {
+                    this.lastKey = REMOVED_KEY;
+                    return OffHeapLongLongHashMap.this.get(REMOVED_KEY);
+                }
+            }
+            while (!isNonSentinel(OffHeapLongLongHashMap.this.keyAt(this.position)))
+            {
+                this.position++;
+            }
+            this.lastKey = OffHeapLongLongHashMap.this.keyAt(this.position);
+            long result = OffHeapLongLongHashMap.this.valueAt(this.position);
+            this.position++;
+
+            return result;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            OffHeapLongLongHashMap.this.removeKey(this.lastKey);
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+
+    private class KeysView extends AbstractLazyLongIterable
+    {
+        public LongIterator longIterator()
+        {
+            return new UnmodifiableLongIterator(new KeySetIterator());
+        }
+
+        public void each(LongProcedure procedure)
+        {
+            OffHeapLongLongHashMap.this.forEachKey(procedure);
+        }
+    }
+
+    private class KeySetIterator implements MutableLongIterator
+    {
+        private int count;
+        private int position;
+        private long lastKey;
+        private boolean handledZero;
+        private boolean handledOne;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.count < OffHeapLongLongHashMap.this.size();
+        }
+
+        public long next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            this.count++;
+            this.canRemove = true;
+
+            if (!this.handledZero)
+            {
+                this.handledZero = true;
+                if (OffHeapLongLongHashMap.this.containsKey(EMPTY_KEY))
+                {
+                    this.lastKey = EMPTY_KEY;
+                    return this.lastKey;
+                }
+            }
+            if (!this.handledOne)
+            {
+                this.handledOne = true;
+                if (OffHeapLongLongHashMap.this.containsKey(REMOVED_KEY))
+                {
+                    this.lastKey = REMOVED_KEY;
+                    return this.lastKey;
+                }
+            }
+
+            while (!isNonSentinel(OffHeapLongLongHashMap.this.keyAt(this.position)))
+            {
+                this.position++;
+            }
+            this.lastKey = OffHeapLongLongHashMap.this.keyAt(this.position);
+            this.position++;
+
+            return this.lastKey;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            OffHeapLongLongHashMap.this.removeKey(this.lastKey);
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+
+    public MutableLongSet keySet()
+    {
+        this.checkOpen();
+        return new KeySet();
+    }
+
+    private class KeySet extends AbstractMutableLongKeySet
+    {
+        @Override
+        protected MutableLongKeysMap getOuter()
+        {
+            return OffHeapLongLongHashMap.this;
+        }
+
+        @Override
+        protected SentinelValues getSentinelValues()
+        {
+            return OffHeapLongLongHashMap.this.sentinelValues;
+        }
+
+        @Override
+        protected long getKeyAtIndex(int index)
+        {
+            return OffHeapLongLongHashMap.this.keyAt(index);
+        }
+
+        @Override
+        protected int getTableSize()
+        {
+            return OffHeapLongLongHashMap.this.tableSize;
+        }
+
+        public MutableLongIterator longIterator()
+        {
+            return new KeySetIterator();
+        }
+
+        public boolean retainAll(LongIterable source)
+        {
+            int oldSize = OffHeapLongLongHashMap.this.size();
+            LongSet sourceSet = source instanceof LongSet ? (LongSet) source : source.toSet();
+            MutableLongIterator iterator = this.longIterator();
+            while (iterator.hasNext())
+            {
+                if (!sourceSet.contains(iterator.next()))
+                {
+                    iterator.remove();
+                }
+            }
+            return oldSize != OffHeapLongLongHashMap.this.size();
+        }
+
+        public boolean retainAll(long... source)
+        {
+            return this.retainAll(LongHashSet.newSetWith(source));
+        }
+
+        /**
+         * The keys of an off-heap map are copied to the heap, as the table may be released by {@link #close()}.
+         */
+        public LongSet freeze()
+        {
+            return this.toImmutable();
+        }
+    }
+
+    public MutableLongCollection values()
+    {
+        this.checkOpen();
+        return new ValuesCollection();
+    }
+
+    private class ValuesCollection extends AbstractLongValuesCollection
+    {
+        public MutableLongIterator longIterator()
+        {
+            return OffHeapLongLongHashMap.this.longIterator();
+        }
+
+        public boolean remove(long item)
+        {
+            int oldSize = OffHeapLongLongHashMap.this.size();
+
+            if (OffHeapLongLongHashMap.this.sentinelValues != null)
+            {
+                if (OffHeapLongLongHashMap.this.sentinelValues.containsZeroKey && item == OffHeapLongLongHashMap.this.sentinelValues.zeroValue)
+                {
+                    OffHeapLongLongHashMap.this.removeKey(EMPTY_KEY);
+                }
+                if (OffHeapLongLongHashMap.this.sentinelValues.containsOneKey && item == OffHeapLongLongHashMap.this.sentinelValues.oneValue)
+                {
+                    OffHeapLongLongHashMap.this.removeKey(REMOVED_KEY);
+                }
+            }
+            for (int i = 0; i < OffHeapLongLongHashMap.this.tableSize; i++)
+            {
+                long key = OffHeapLongLongHashMap.this.keyAt(i);
+                if (isNonSentinel(key) && item == OffHeapLongLongHashMap.this.valueAt(i))
+                {
+                    OffHeapLongLongHashMap.this.removeKey(key);
+                }
+            }
+            return oldSize != OffHeapLongLongHashMap.this.size();
+        }
+
+        public boolean retainAll(LongIterable source)
+        {
+            int oldSize = OffHeapLongLongHashMap.this.size();
+            LongSet sourceSet = source instanceof LongSet ? (LongSet) source : source.toSet();
+            MutableLongIterator iterator = this.longIterator();
+            while (iterator.hasNext())
+            {
+                if (!sourceSet.contains(iterator.next()))
+                {
+                    iterator.remove();
+                }
+            }
+            return oldSize != OffHeapLongLongHashMap.this.size();
+        }
+    }
+
+    private class KeyValuesView extends AbstractLazyIterable<LongLongPair>
+    {
+        public void each(Procedure<? super LongLongPair> procedure)
+        {
+            if (OffHeapLongLongHashMap.this.sentinelValues != null)
+            {
+                if (OffHeapLongLongHashMap.this.sentinelValues.containsZeroKey)
+                {
+                    procedure.value(PrimitiveTuples.pair(EMPTY_KEY, OffHeapLongLongHashMap.this.sentinelValues.zeroValue));
+                }
+                if (OffHeapLongLongHashMap.this.sentinelValues.containsOneKey)
+                {
+                    procedure.value(PrimitiveTuples.pair(REMOVED_KEY, OffHeapLongLongHashMap.this.sentinelValues.oneValue));
+                }
+            }
+            for (int i = 0; i < OffHeapLongLongHashMap.this.tableSize; i++)
+            {
+                long key = OffHeapLongLongHashMap.this.keyAt(i);
+                if (isNonSentinel(key))
+                {
+                    procedure.value(PrimitiveTuples.pair(key, OffHeapLongLongHashMap.this.valueAt(i)));
+                }
+            }
+        }
+
+        public void forEachWithIndex(ObjectIntProcedure<? super LongLongPair> objectIntProcedure)
+        {
+            int index = 0;
+            Iterator<LongLongPair> iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                objectIntProcedure.value(iterator.next(), index);
+                index++;
+            }
+        }
+
+        public <P> void forEachWith(Procedure2<? super LongLongPair, ? super P> procedure, P parameter)
+        {
+            Iterator<LongLongPair> iterator = this.iterator();
+            while (iterator.hasNext())
+            {
+                procedure.value(iterator.next(), parameter);
+            }
+        }
+
+        public Iterator<LongLongPair> iterator()
+        {
+            return new InternalKeyValuesIterator();
+        }
+
+        public class InternalKeyValuesIterator implements Iterator<LongLongPair>
+        {
+            private int count;
+            private int position;
+            private boolean handledZero;
+            private boolean handledOne;
+
+            public LongLongPair next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException("next() called, but the iterator is exhausted");
+                }
+                this.count++;
+
+                if (!this.handledZero)
+                {
+                    this.handledZero = true;
+                    if (OffHeapLongLongHashMap.this.containsKey(EMPTY_KEY))
+                    {
+                        return PrimitiveTuples.pair(EMPTY_KEY, OffHeapLongLongHashMap.this.sentinelValues.zeroValue);
+                    }
+                }
+                if (!this.handledOne)
+                {
+                    this.handledOne = true;
+                    if (OffHeapLongLongHashMap.this.containsKey(REMOVED_KEY))
+                    {
+                        return PrimitiveTuples.pair(REMOVED_KEY, OffHeapLongLongHashMap.this.sentinelValues.oneValue);
+                    }
+                }
+
+                while (!isNonSentinel(OffHeapLongLongHashMap.this.keyAt(this.position)))
+                {
+                    this.position++;
+                }
+                LongLongPair result = PrimitiveTuples.pair(OffHeapLongLongHashMap.this.keyAt(this.position), OffHeapLongLongHashMap.this.valueAt(this.position));
+                this.position++;
+                return result;
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+
+            public boolean hasNext()
+            {
+                return this.count != OffHeapLongLongHashMap.this.size();
+            }
+        }
+    }
+}
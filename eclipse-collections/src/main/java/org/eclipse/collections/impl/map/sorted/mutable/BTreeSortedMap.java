@@ -0,0 +1,1645 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+
+/**
+ * A MutableSortedMap backed by a B+-tree instead of the red-black tree used by {@link TreeSortedMap}. Keys and values
+ * are stored contiguously in leaves of up to 64 entries which are linked left to right, so a
+ * lookup touches a handful of arrays instead of one node per comparison, and sequential iteration, including
+ * iteration over {@link #headMap(Object)}, {@link #tailMap(Object)} and {@link #subMap(Object, Object)} views, is a
+ * scan over those arrays. Branches record the size of each of their children, which makes {@link #indexOfKey(Object)}
+ * and {@link #getKeyAt(int)} logarithmic, and lets the size of a range view be computed without iterating it.
+ * <p>
+ * Like TreeMap, null keys are only supported when the map is created with a comparator that accepts them.
+ *
+ * @since 7.1
+ */
+public class BTreeSortedMap<K, V>
+        extends AbstractMutableSortedMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int LEAF_CAPACITY = 64;
+    private static final int BRANCH_CAPACITY = 64;
+    private static final int LEAF_MINIMUM = LEAF_CAPACITY / 4;
+    private static final int BRANCH_MINIMUM = BRANCH_CAPACITY / 4;
+
+    private Comparator<? super K> comparator;
+    private Node root = new Leaf();
+    private int height;
+    private int size;
+    private int modCount;
+
+    public BTreeSortedMap()
+    {
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public BTreeSortedMap(Map<? extends K, ? extends V> map)
+    {
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
+    {
+        this.comparator = comparator;
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(SortedMap<K, ? extends V> map)
+    {
+        this.comparator = map.comparator();
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(
+                this,
+                Functions.<K>firstOfPair(),
+                Functions.<V>secondOfPair()));
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return new BTreeSortedMap<K, V>();
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return new BTreeSortedMap<K, V>(comparator);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof SortedMap<?, ?>)
+        {
+            return new BTreeSortedMap<K, V>((SortedMap<K, V>) map);
+        }
+        return new BTreeSortedMap<K, V>(map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
+    {
+        return new BTreeSortedMap<K, V>(comparator, map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new BTreeSortedMap<K, V>(pairs);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, Pair<K, V>... pairs)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(pairs);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key, V value)
+    {
+        return new BTreeSortedMap<K, V>().with(key, value);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key, V value)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key, value);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator,
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public BTreeSortedMap<K, V> with(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> with(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(this, Functions.<K>firstOfPair(), Functions.<V>secondOfPair()));
+        return this;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public MutableSortedMap<K, V> newEmpty()
+    {
+        return new BTreeSortedMap<K, V>(this.comparator);
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> clone()
+    {
+        return new BTreeSortedMap<K, V>(this);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return this == o || this.fullRange().equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.count; i++)
+            {
+                hashCode += this.keyAndValueHashCode((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return hashCode;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure2)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            Object[] values = leaf.values;
+            for (int i = 0; i < leaf.count; i++)
+            {
+                procedure2.value((K) keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            for (int i = 0; i < leaf.count; i++)
+            {
+                procedure.value((K) keys[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            Object[] values = leaf.values;
+            for (int i = 0; i < leaf.count; i++)
+            {
+                procedure.value((V) values[i]);
+            }
+        }
+    }
+
+    public K firstKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.firstLeaf().keys[0];
+    }
+
+    public K lastKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        Leaf leaf = this.lastLeaf();
+        return (K) leaf.keys[leaf.count - 1];
+    }
+
+    /**
+     * Evaluates the procedure for each key of this map in reverse iteration order, walking the leaves backwards.
+     */
+    public void reverseForEachKey(Procedure<? super K> procedure)
+    {
+        for (Leaf leaf = this.lastLeaf(); leaf != null; leaf = leaf.previous)
+        {
+            Object[] keys = leaf.keys;
+            for (int i = leaf.count - 1; i >= 0; i--)
+            {
+                procedure.value((K) keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the position in the iteration order of this map of the last key that satisfies the predicate, or -1 if
+     * none does. The leaves are walked backwards from the last key.
+     */
+    public int detectLastKeyIndex(Predicate<? super K> predicate)
+    {
+        int index = this.size - 1;
+        for (Leaf leaf = this.lastLeaf(); leaf != null; leaf = leaf.previous)
+        {
+            Object[] keys = leaf.keys;
+            for (int i = leaf.count - 1; i >= 0; i--, index--)
+            {
+                if (predicate.accept((K) keys[i]))
+                {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over the keys of this map in reverse iteration order. It does not support remove().
+     */
+    public Iterator<K> reverseKeyIterator()
+    {
+        return new ReverseKeyIterator();
+    }
+
+    /**
+     * Returns the position of {@code key} in the iteration order of this map, or -1 if it is not present.
+     */
+    public int indexOfKey(Object key)
+    {
+        this.checkKey(key);
+        int rank = 0;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int position = this.childPosition(branch, key);
+            for (int i = 0; i < position; i++)
+            {
+                rank += branch.sizes[i];
+            }
+            node = branch.children[position];
+        }
+        int index = this.search(node.keys, node.count, key);
+        return index < 0 ? -1 : rank + index;
+    }
+
+    /**
+     * Returns the key at {@code index} in the iteration order of this map.
+     */
+    public K getKeyAt(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        int remaining = index;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int position = 0;
+            while (remaining >= branch.sizes[position])
+            {
+                remaining -= branch.sizes[position];
+                position++;
+            }
+            node = branch.children[position];
+        }
+        return (K) node.keys[remaining];
+    }
+
+    public MutableSet<Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(this.fullRange().entrySet());
+    }
+
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(this.fullRange().keySet());
+    }
+
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(this.fullRange().values());
+    }
+
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    public V get(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf.keys, leaf.count, key);
+        return index < 0 ? null : (V) leaf.values[index];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.leafFor(key);
+        return this.search(leaf.keys, leaf.count, key) >= 0;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.count; i++)
+            {
+                Object each = leaf.values[i];
+                if (each == value || each != null && each.equals(value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public V put(K key, V value)
+    {
+        if (this.size == 0)
+        {
+            // type and null check, as in TreeMap
+            this.compare(key, key);
+        }
+        Branch[] path = new Branch[this.height];
+        int[] positions = new int[this.height];
+        int rightmostLevels = 0;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int position = this.childPosition(branch, key);
+            if (rightmostLevels == level && position == branch.count - 1)
+            {
+                rightmostLevels++;
+            }
+            path[level] = branch;
+            positions[level] = position;
+            node = branch.children[position];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = this.search(leaf.keys, leaf.count, key);
+        if (index >= 0)
+        {
+            V oldValue = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return oldValue;
+        }
+
+        index = -index - 1;
+        this.size++;
+        this.modCount++;
+        for (int level = 0; level < this.height; level++)
+        {
+            path[level].sizes[positions[level]]++;
+            path[level].size++;
+        }
+        leaf.insert(index, key, value);
+        if (leaf.count <= LEAF_CAPACITY)
+        {
+            return null;
+        }
+
+        Node left = leaf;
+        Node right = this.splitLeaf(leaf, index);
+        Object separator = right.keys[0];
+        for (int level = this.height - 1; level >= 0; level--)
+        {
+            Branch branch = path[level];
+            int position = positions[level];
+            branch.sizes[position] = left.size();
+            branch.insertChild(position + 1, separator, right);
+            if (branch.count <= BRANCH_CAPACITY)
+            {
+                return null;
+            }
+            boolean append = level <= rightmostLevels && position + 2 == branch.count;
+            left = branch;
+            right = BTreeSortedMap.splitBranch(branch, append ? branch.count - BRANCH_MINIMUM : branch.count / 2);
+            separator = branch.keys[branch.count - 1];
+            branch.keys[branch.count - 1] = null;
+        }
+
+        Branch newRoot = new Branch();
+        newRoot.children[0] = left;
+        newRoot.sizes[0] = left.size();
+        newRoot.count = 1;
+        newRoot.size = this.size;
+        newRoot.insertChild(1, separator, right);
+        this.root = newRoot;
+        this.height++;
+        return null;
+    }
+
+    public V remove(Object key)
+    {
+        this.checkKey(key);
+        Branch[] path = new Branch[this.height];
+        int[] positions = new int[this.height];
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int position = this.childPosition(branch, key);
+            path[level] = branch;
+            positions[level] = position;
+            node = branch.children[position];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = this.search(leaf.keys, leaf.count, key);
+        if (index < 0)
+        {
+            return null;
+        }
+
+        V oldValue = (V) leaf.values[index];
+        leaf.delete(index);
+        this.size--;
+        this.modCount++;
+        for (int level = 0; level < this.height; level++)
+        {
+            path[level].sizes[positions[level]]--;
+            path[level].size--;
+        }
+
+        node = leaf;
+        for (int level = this.height - 1; level >= 0 && node.count < (node == leaf ? LEAF_MINIMUM : BRANCH_MINIMUM); level--)
+        {
+            Branch parent = path[level];
+            int leftPosition = positions[level] == 0 ? 0 : positions[level] - 1;
+            if (node == leaf)
+            {
+                BTreeSortedMap.rebalanceLeaves(parent, leftPosition);
+            }
+            else
+            {
+                BTreeSortedMap.rebalanceBranches(parent, leftPosition);
+            }
+            node = parent;
+        }
+        while (this.height > 0 && this.root.count == 1)
+        {
+            this.root = ((Branch) this.root).children[0];
+            this.height--;
+        }
+        return oldValue;
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public void clear()
+    {
+        this.root = new Leaf();
+        this.height = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    public MutableSortedMap<K, V> headMap(K toKey)
+    {
+        this.compare(toKey, toKey);
+        return SortedMapAdapter.adapt(new SubMap(null, true, toKey, false));
+    }
+
+    public MutableSortedMap<K, V> tailMap(K fromKey)
+    {
+        this.compare(fromKey, fromKey);
+        return SortedMapAdapter.adapt(new SubMap(fromKey, false, null, true));
+    }
+
+    public MutableSortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return SortedMapAdapter.adapt(new SubMap(fromKey, false, toKey, false));
+    }
+
+    public MutableSortedMap<K, V> toReversed()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toReversed() not implemented yet");
+    }
+
+    public MutableSortedMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        MutableSortedMap<K, V> output = this.newEmpty();
+        int remaining = count;
+        for (Leaf leaf = this.firstLeaf(); leaf != null && remaining > 0; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.count && remaining > 0; i++, remaining--)
+            {
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return output;
+    }
+
+    public MutableSortedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".takeWhile() not implemented yet");
+    }
+
+    public MutableSortedMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        MutableSortedMap<K, V> output = this.newEmpty();
+        if (count < this.size)
+        {
+            output.putAll(new SubMap(this.getKeyAt(count), false, null, true));
+        }
+        return output;
+    }
+
+    public MutableSortedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".dropWhile() not implemented yet");
+    }
+
+    public PartitionMutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".partitionWhile() not implemented yet");
+    }
+
+    public MutableList<V> distinct()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".distinct() not implemented yet");
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.fullRange().toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator);
+        out.writeInt(this.size);
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.count; i++)
+            {
+                out.writeObject(leaf.keys[i]);
+                out.writeObject(leaf.values[i]);
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.comparator = (Comparator<? super K>) in.readObject();
+        this.clear();
+        int size = in.readInt();
+        for (int i = 0; i < size; ++i)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private SubMap fullRange()
+    {
+        return new SubMap(null, true, null, true);
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        if (this.comparator == null)
+        {
+            return ((Comparable<Object>) key1).compareTo(key2);
+        }
+        return ((Comparator<Object>) this.comparator).compare(key1, key2);
+    }
+
+    private void checkKey(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+    }
+
+    /**
+     * Binary search over the first {@code count} keys, returning the index of {@code key} if present and
+     * {@code -(insertionPoint + 1)} otherwise, as in {@link java.util.Arrays#binarySearch(Object[], Object)}.
+     */
+    private int search(Object[] keys, int count, Object key)
+    {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int result = this.compare(key, keys[middle]);
+            if (result > 0)
+            {
+                low = middle + 1;
+            }
+            else if (result < 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int childPosition(Branch branch, Object key)
+    {
+        int index = this.search(branch.keys, branch.count - 1, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private Leaf leafFor(Object key)
+    {
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[this.childPosition(branch, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            node = ((Branch) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[branch.count - 1];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns the number of keys less than {@code key}, or less than or equal to it if {@code inclusive}.
+     */
+    private int rank(Object key, boolean inclusive)
+    {
+        int rank = 0;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int position = this.childPosition(branch, key);
+            for (int i = 0; i < position; i++)
+            {
+                rank += branch.sizes[i];
+            }
+            node = branch.children[position];
+        }
+        int index = this.search(node.keys, node.count, key);
+        if (index >= 0)
+        {
+            return rank + index + (inclusive ? 1 : 0);
+        }
+        return rank - index - 1;
+    }
+
+    /**
+     * Splits an overfull leaf in two, after an insertion at {@code index}. Appending past the last key of the tree
+     * keeps the left leaf full, so that ascending insertions produce densely packed leaves.
+     */
+    private Leaf splitLeaf(Leaf leaf, int index)
+    {
+        int leftCount = leaf.next == null && index == leaf.count - 1 ? LEAF_CAPACITY : leaf.count / 2;
+        Leaf right = new Leaf();
+        int rightCount = leaf.count - leftCount;
+        System.arraycopy(leaf.keys, leftCount, right.keys, 0, rightCount);
+        System.arraycopy(leaf.values, leftCount, right.values, 0, rightCount);
+        for (int i = leftCount; i < leaf.count; i++)
+        {
+            leaf.keys[i] = null;
+            leaf.values[i] = null;
+        }
+        right.count = rightCount;
+        leaf.count = leftCount;
+
+        right.next = leaf.next;
+        if (leaf.next != null)
+        {
+            leaf.next.previous = right;
+        }
+        right.previous = leaf;
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Moves the children from {@code leftCount} onwards into a new branch. The separator between the two halves is
+     * left in {@code branch.keys[leftCount - 1]} for the caller to move up into the parent.
+     */
+    private static Branch splitBranch(Branch branch, int leftCount)
+    {
+        Branch right = new Branch();
+        int rightCount = branch.count - leftCount;
+        System.arraycopy(branch.keys, leftCount, right.keys, 0, rightCount - 1);
+        System.arraycopy(branch.children, leftCount, right.children, 0, rightCount);
+        System.arraycopy(branch.sizes, leftCount, right.sizes, 0, rightCount);
+        for (int i = leftCount; i < branch.count; i++)
+        {
+            right.size += branch.sizes[i];
+            branch.keys[i] = null;
+            branch.children[i] = null;
+            branch.sizes[i] = 0;
+        }
+        right.count = rightCount;
+        branch.count = leftCount;
+        branch.size -= right.size;
+        return right;
+    }
+
+    /**
+     * Restores the minimum occupancy of one of the two adjacent leaves at {@code leftPosition} and
+     * {@code leftPosition + 1} in {@code parent}, by merging them if they fit in a single leaf and by sharing their
+     * entries evenly otherwise.
+     */
+    private static void rebalanceLeaves(Branch parent, int leftPosition)
+    {
+        Leaf left = (Leaf) parent.children[leftPosition];
+        Leaf right = (Leaf) parent.children[leftPosition + 1];
+        int total = left.count + right.count;
+        if (total <= LEAF_CAPACITY)
+        {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            System.arraycopy(right.values, 0, left.values, left.count, right.count);
+            left.count = total;
+            left.next = right.next;
+            if (right.next != null)
+            {
+                right.next.previous = left;
+            }
+            parent.removeChild(leftPosition + 1);
+            parent.sizes[leftPosition] = total;
+            return;
+        }
+
+        int leftCount = total / 2;
+        if (left.count < leftCount)
+        {
+            int moved = leftCount - left.count;
+            System.arraycopy(right.keys, 0, left.keys, left.count, moved);
+            System.arraycopy(right.values, 0, left.values, left.count, moved);
+            System.arraycopy(right.keys, moved, right.keys, 0, right.count - moved);
+            System.arraycopy(right.values, moved, right.values, 0, right.count - moved);
+            for (int i = right.count - moved; i < right.count; i++)
+            {
+                right.keys[i] = null;
+                right.values[i] = null;
+            }
+        }
+        else
+        {
+            int moved = left.count - leftCount;
+            System.arraycopy(right.keys, 0, right.keys, moved, right.count);
+            System.arraycopy(right.values, 0, right.values, moved, right.count);
+            System.arraycopy(left.keys, leftCount, right.keys, 0, moved);
+            System.arraycopy(left.values, leftCount, right.values, 0, moved);
+            for (int i = leftCount; i < left.count; i++)
+            {
+                left.keys[i] = null;
+                left.values[i] = null;
+            }
+        }
+        left.count = leftCount;
+        right.count = total - leftCount;
+        parent.keys[leftPosition] = right.keys[0];
+        parent.sizes[leftPosition] = left.count;
+        parent.sizes[leftPosition + 1] = right.count;
+    }
+
+    /**
+     * The branch counterpart of {@link #rebalanceLeaves(Branch, int)}, rotating keys through the separator held in
+     * {@code parent}.
+     */
+    private static void rebalanceBranches(Branch parent, int leftPosition)
+    {
+        Branch left = (Branch) parent.children[leftPosition];
+        Branch right = (Branch) parent.children[leftPosition + 1];
+        Object separator = parent.keys[leftPosition];
+        int total = left.count + right.count;
+        if (total <= BRANCH_CAPACITY)
+        {
+            left.keys[left.count - 1] = separator;
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count - 1);
+            System.arraycopy(right.children, 0, left.children, left.count, right.count);
+            System.arraycopy(right.sizes, 0, left.sizes, left.count, right.count);
+            left.count = total;
+            left.size += right.size;
+            parent.removeChild(leftPosition + 1);
+            parent.sizes[leftPosition] = left.size;
+            return;
+        }
+
+        int leftCount = total / 2;
+        if (left.count < leftCount)
+        {
+            int moved = leftCount - left.count;
+            left.keys[left.count - 1] = separator;
+            System.arraycopy(right.keys, 0, left.keys, left.count, moved - 1);
+            System.arraycopy(right.children, 0, left.children, left.count, moved);
+            System.arraycopy(right.sizes, 0, left.sizes, left.count, moved);
+            int movedSize = 0;
+            for (int i = 0; i < moved; i++)
+            {
+                movedSize += right.sizes[i];
+            }
+            separator = right.keys[moved - 1];
+            System.arraycopy(right.keys, moved, right.keys, 0, right.count - 1 - moved);
+            System.arraycopy(right.children, moved, right.children, 0, right.count - moved);
+            System.arraycopy(right.sizes, moved, right.sizes, 0, right.count - moved);
+            for (int i = right.count - moved; i < right.count; i++)
+            {
+                right.keys[i] = null;
+                right.children[i] = null;
+                right.sizes[i] = 0;
+            }
+            right.keys[right.count - moved - 1] = null;
+            left.size += movedSize;
+            right.size -= movedSize;
+        }
+        else
+        {
+            int moved = left.count - leftCount;
+            System.arraycopy(right.keys, 0, right.keys, moved, right.count - 1);
+            System.arraycopy(right.children, 0, right.children, moved, right.count);
+            System.arraycopy(right.sizes, 0, right.sizes, moved, right.count);
+            right.keys[moved - 1] = separator;
+            System.arraycopy(left.keys, leftCount, right.keys, 0, moved - 1);
+            System.arraycopy(left.children, leftCount, right.children, 0, moved);
+            System.arraycopy(left.sizes, leftCount, right.sizes, 0, moved);
+            separator = left.keys[leftCount - 1];
+            int movedSize = 0;
+            for (int i = leftCount; i < left.count; i++)
+            {
+                movedSize += left.sizes[i];
+                left.keys[i - 1] = null;
+                left.children[i] = null;
+                left.sizes[i] = 0;
+            }
+            left.size -= movedSize;
+            right.size += movedSize;
+        }
+        left.count = leftCount;
+        right.count = total - leftCount;
+        parent.keys[leftPosition] = separator;
+        parent.sizes[leftPosition] = left.size;
+        parent.sizes[leftPosition + 1] = right.size;
+    }
+
+    /**
+     * Nodes hold one more slot than their capacity, so that an insertion can always be made before the node is split.
+     */
+    private abstract static class Node
+    {
+        protected final Object[] keys;
+        protected int count;
+
+        protected Node(int capacity)
+        {
+            this.keys = new Object[capacity + 1];
+        }
+
+        protected abstract int size();
+    }
+
+    private static final class Leaf extends Node
+    {
+        private final Object[] values = new Object[LEAF_CAPACITY + 1];
+        private Leaf next;
+        private Leaf previous;
+
+        private Leaf()
+        {
+            super(LEAF_CAPACITY);
+        }
+
+        @Override
+        protected int size()
+        {
+            return this.count;
+        }
+
+        private void insert(int index, Object key, Object value)
+        {
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.count - index);
+            System.arraycopy(this.values, index, this.values, index + 1, this.count - index);
+            this.keys[index] = key;
+            this.values[index] = value;
+            this.count++;
+        }
+
+        private void delete(int index)
+        {
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.count - index - 1);
+            System.arraycopy(this.values, index + 1, this.values, index, this.count - index - 1);
+            this.count--;
+            this.keys[this.count] = null;
+            this.values[this.count] = null;
+        }
+    }
+
+    /**
+     * {@code keys[i]} separates {@code children[i]}, whose keys are all less than it, from {@code children[i + 1]},
+     * whose keys are all greater than or equal to it. {@code sizes[i]} is the number of entries below
+     * {@code children[i]}.
+     */
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[BRANCH_CAPACITY + 1];
+        private final int[] sizes = new int[BRANCH_CAPACITY + 1];
+        private int size;
+
+        private Branch()
+        {
+            super(BRANCH_CAPACITY);
+        }
+
+        @Override
+        protected int size()
+        {
+            return this.size;
+        }
+
+        private void insertChild(int position, Object separator, Node child)
+        {
+            System.arraycopy(this.keys, position - 1, this.keys, position, this.count - position);
+            System.arraycopy(this.children, position, this.children, position + 1, this.count - position);
+            System.arraycopy(this.sizes, position, this.sizes, position + 1, this.count - position);
+            this.keys[position - 1] = separator;
+            this.children[position] = child;
+            this.sizes[position] = child.size();
+            this.count++;
+        }
+
+        private void removeChild(int position)
+        {
+            System.arraycopy(this.keys, position, this.keys, position - 1, this.count - position - 1);
+            System.arraycopy(this.children, position + 1, this.children, position, this.count - position - 1);
+            System.arraycopy(this.sizes, position + 1, this.sizes, position, this.count - position - 1);
+            this.count--;
+            this.keys[this.count - 1] = null;
+            this.children[this.count] = null;
+            this.sizes[this.count] = 0;
+        }
+    }
+
+    /**
+     * A live view of the keys between an optional inclusive lower bound and an optional exclusive upper bound.
+     * The unbounded view backs {@link #keySet()}, {@link #values()} and {@link #entrySet()}.
+     */
+    private final class SubMap extends AbstractMap<K, V> implements SortedMap<K, V>
+    {
+        private final Object fromKey;
+        private final boolean fromStart;
+        private final Object toKey;
+        private final boolean toEnd;
+
+        private SubMap(Object fromKey, boolean fromStart, Object toKey, boolean toEnd)
+        {
+            this.fromKey = fromKey;
+            this.fromStart = fromStart;
+            this.toKey = toKey;
+            this.toEnd = toEnd;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return !this.fromStart && BTreeSortedMap.this.compare(key, this.fromKey) < 0;
+        }
+
+        private boolean tooHigh(Object key)
+        {
+            return !this.toEnd && BTreeSortedMap.this.compare(key, this.toKey) >= 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private void checkBound(Object key)
+        {
+            if (this.tooLow(key) || !this.toEnd && BTreeSortedMap.this.compare(key, this.toKey) > 0)
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+        }
+
+        private int lowRank()
+        {
+            return this.fromStart ? 0 : BTreeSortedMap.this.rank(this.fromKey, false);
+        }
+
+        private int highRank()
+        {
+            return this.toEnd ? BTreeSortedMap.this.size : BTreeSortedMap.this.rank(this.toKey, false);
+        }
+
+        @Override
+        public int size()
+        {
+            return Math.max(0, this.highRank() - this.lowRank());
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.size() == 0;
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.inRange(key) && BTreeSortedMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.inRange(key) ? BTreeSortedMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BTreeSortedMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.inRange(key) ? BTreeSortedMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.fromStart && this.toEnd)
+            {
+                BTreeSortedMap.this.clear();
+                return;
+            }
+            Iterator<K> iterator = this.keySet().iterator();
+            while (iterator.hasNext())
+            {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return BTreeSortedMap.this.comparator;
+        }
+
+        public K firstKey()
+        {
+            int rank = this.lowRank();
+            if (rank >= this.highRank())
+            {
+                throw new NoSuchElementException();
+            }
+            return BTreeSortedMap.this.getKeyAt(rank);
+        }
+
+        public K lastKey()
+        {
+            int rank = this.highRank();
+            if (rank <= this.lowRank())
+            {
+                throw new NoSuchElementException();
+            }
+            return BTreeSortedMap.this.getKeyAt(rank - 1);
+        }
+
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            this.checkBound(toKey);
+            return new SubMap(this.fromKey, this.fromStart, toKey, false);
+        }
+
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            this.checkBound(fromKey);
+            return new SubMap(fromKey, false, this.toKey, this.toEnd);
+        }
+
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (BTreeSortedMap.this.compare(fromKey, toKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            this.checkBound(fromKey);
+            this.checkBound(toKey);
+            return new SubMap(fromKey, false, toKey, false);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new AbstractSet<Entry<K, V>>()
+            {
+                @Override
+                public Iterator<Entry<K, V>> iterator()
+                {
+                    return new EntryIterator(SubMap.this);
+                }
+
+                @Override
+                public int size()
+                {
+                    return SubMap.this.size();
+                }
+
+                @Override
+                public boolean contains(Object o)
+                {
+                    if (!(o instanceof Entry))
+                    {
+                        return false;
+                    }
+                    Entry<?, ?> entry = (Entry<?, ?>) o;
+                    Object key = entry.getKey();
+                    if (!SubMap.this.containsKey(key))
+                    {
+                        return false;
+                    }
+                    Object value = SubMap.this.get(key);
+                    return value == null ? entry.getValue() == null : value.equals(entry.getValue());
+                }
+
+                @Override
+                public boolean remove(Object o)
+                {
+                    if (!this.contains(o))
+                    {
+                        return false;
+                    }
+                    SubMap.this.remove(((Entry<?, ?>) o).getKey());
+                    return true;
+                }
+
+                @Override
+                public void clear()
+                {
+                    SubMap.this.clear();
+                }
+            };
+        }
+
+        @Override
+        public Set<K> keySet()
+        {
+            return new AbstractSet<K>()
+            {
+                @Override
+                public Iterator<K> iterator()
+                {
+                    return new KeyIterator(SubMap.this);
+                }
+
+                @Override
+                public int size()
+                {
+                    return SubMap.this.size();
+                }
+
+                @Override
+                public boolean contains(Object o)
+                {
+                    return SubMap.this.containsKey(o);
+                }
+
+                @Override
+                public boolean remove(Object o)
+                {
+                    if (!SubMap.this.containsKey(o))
+                    {
+                        return false;
+                    }
+                    SubMap.this.remove(o);
+                    return true;
+                }
+
+                @Override
+                public void clear()
+                {
+                    SubMap.this.clear();
+                }
+            };
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            return new AbstractCollection<V>()
+            {
+                @Override
+                public Iterator<V> iterator()
+                {
+                    return new ValueIterator(SubMap.this);
+                }
+
+                @Override
+                public int size()
+                {
+                    return SubMap.this.size();
+                }
+
+                @Override
+                public void clear()
+                {
+                    SubMap.this.clear();
+                }
+            };
+        }
+    }
+
+    /**
+     * Walks the linked leaves from the first key of a range. Removal goes through the map, after which the iterator
+     * repositions itself on the successor of the removed key, since the removal may have moved entries between
+     * leaves.
+     */
+    private abstract class BTreeIterator<E> implements Iterator<E>
+    {
+        private final SubMap range;
+        private Leaf leaf;
+        private int index;
+        private Object lastKey;
+        private boolean canRemove;
+        private int expectedModCount = BTreeSortedMap.this.modCount;
+
+        protected BTreeIterator(SubMap range)
+        {
+            this.range = range;
+            if (range.fromStart)
+            {
+                this.leaf = BTreeSortedMap.this.firstLeaf();
+                this.index = 0;
+            }
+            else
+            {
+                this.seekCeiling(range.fromKey);
+            }
+        }
+
+        private void seekCeiling(Object key)
+        {
+            this.leaf = BTreeSortedMap.this.leafFor(key);
+            int result = BTreeSortedMap.this.search(this.leaf.keys, this.leaf.count, key);
+            this.index = result >= 0 ? result : -result - 1;
+            while (this.leaf != null && this.index >= this.leaf.count)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+        }
+
+        protected abstract E element(Object key, Object value);
+
+        public boolean hasNext()
+        {
+            return this.leaf != null && this.index < this.leaf.count && !this.range.tooHigh(this.leaf.keys[this.index]);
+        }
+
+        public E next()
+        {
+            if (BTreeSortedMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object key = this.leaf.keys[this.index];
+            Object value = this.leaf.values[this.index];
+            this.lastKey = key;
+            this.canRemove = true;
+            this.index++;
+            if (this.index == this.leaf.count)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+            return this.element(key, value);
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (BTreeSortedMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            BTreeSortedMap.this.remove(this.lastKey);
+            this.expectedModCount = BTreeSortedMap.this.modCount;
+            this.canRemove = false;
+            if (this.leaf != null)
+            {
+                this.seekCeiling(this.lastKey);
+            }
+        }
+    }
+
+    private final class KeyIterator extends BTreeIterator<K>
+    {
+        private KeyIterator(SubMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected K element(Object key, Object value)
+        {
+            return (K) key;
+        }
+    }
+
+    private final class ValueIterator extends BTreeIterator<V>
+    {
+        private ValueIterator(SubMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected V element(Object key, Object value)
+        {
+            return (V) value;
+        }
+    }
+
+    private final class EntryIterator extends BTreeIterator<Entry<K, V>>
+    {
+        private EntryIterator(SubMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected Entry<K, V> element(Object key, Object value)
+        {
+            return new BTreeEntry((K) key, (V) value);
+        }
+    }
+
+    private final class ReverseKeyIterator implements Iterator<K>
+    {
+        private final int expectedModCount = BTreeSortedMap.this.modCount;
+        private Leaf leaf = BTreeSortedMap.this.lastLeaf();
+        private int index = this.leaf == null ? -1 : this.leaf.count - 1;
+
+        public boolean hasNext()
+        {
+            return this.leaf != null;
+        }
+
+        public K next()
+        {
+            if (BTreeSortedMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object key = this.leaf.keys[this.index];
+            this.index--;
+            if (this.index < 0)
+            {
+                this.leaf = this.leaf.previous;
+                this.index = this.leaf == null ? -1 : this.leaf.count - 1;
+            }
+            return (K) key;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private final class BTreeEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private BTreeEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            Leaf leaf = BTreeSortedMap.this.leafFor(this.key);
+            int index = BTreeSortedMap.this.search(leaf.keys, leaf.count, this.key);
+            if (index >= 0)
+            {
+                leaf.values[index] = value;
+            }
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Comparators.nullSafeEquals(this.key, other.getKey())
+                    && Comparators.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
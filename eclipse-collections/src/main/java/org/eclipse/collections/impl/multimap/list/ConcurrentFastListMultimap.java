@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.ConcurrentMutableMultimap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.AbstractSynchronizedPutMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentFastListMultimap is a MutableListMultimap which is safe for parallel reads and writes. Keys are held in a
+ * {@link ConcurrentHashMap} and the values of each key in their own synchronized FastList, so put, remove and get only
+ * lock the values of the key they touch, and calls on different keys proceed in parallel.
+ * <p>
+ * A key's values are only ever detached from the map while holding their lock, and every write checks under that lock
+ * that the values are still attached before changing them. A put therefore can never be lost to a concurrent remove
+ * of the key's last value. {@link #size()} and iteration are weakly consistent.
+ *
+ * @since 7.1
+ */
+public final class ConcurrentFastListMultimap<K, V>
+        extends AbstractSynchronizedPutMultimap<K, V, MutableList<V>>
+        implements MutableListMultimap<K, V>, ConcurrentMutableMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentFastListMultimap()
+    {
+    }
+
+    public ConcurrentFastListMultimap(int initialCapacity)
+    {
+        super(ConcurrentHashMap.<K, MutableList<V>>newMap(initialCapacity));
+    }
+
+    public ConcurrentFastListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentFastListMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentFastListMultimap.this.put(pair.getOne(), pair.getTwo());
+            }
+        });
+    }
+
+    public ConcurrentFastListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentFastListMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentFastListMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentFastListMultimap<K, V>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentFastListMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentFastListMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentFastListMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected MutableList<V> createCollection()
+    {
+        return FastList.<V>newList(1).asSynchronized();
+    }
+
+    private MutableList<V> getIfAbsentPutValues(K key)
+    {
+        return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            MutableList<V> values = this.getIfAbsentPutValues(key);
+            synchronized (values)
+            {
+                if (this.map.get(key) == values)
+                {
+                    values.add(value);
+                    this.incrementTotalSize();
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        while (true)
+        {
+            MutableList<V> existing = this.getIfAbsentPutValues(key);
+            synchronized (existing)
+            {
+                if (this.map.get(key) == existing)
+                {
+                    int oldSize = existing.size();
+                    int newSize = Iterate.addAllTo(values, existing).size();
+                    this.addToTotalSize(newSize - oldSize);
+                    return newSize > oldSize;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            MutableList<V> values = this.map.get(key);
+            if (values == null)
+            {
+                return false;
+            }
+            synchronized (values)
+            {
+                if (this.map.get(key) == values)
+                {
+                    if (!values.remove(value))
+                    {
+                        return false;
+                    }
+                    this.decrementTotalSize();
+                    if (values.isEmpty())
+                    {
+                        this.map.remove(key);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public MutableList<V> replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+        MutableList<V> newValues = Iterate.addAllTo(values, this.createCollection());
+        while (true)
+        {
+            MutableList<V> oldValues = this.getIfAbsentPutValues(key);
+            synchronized (oldValues)
+            {
+                if (this.map.get(key) == oldValues)
+                {
+                    this.map.put(key, newValues);
+                    this.addToTotalSize(newValues.size() - oldValues.size());
+                    return oldValues.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public MutableList<V> removeAll(Object key)
+    {
+        while (true)
+        {
+            MutableList<V> values = this.map.get(key);
+            if (values == null)
+            {
+                return FastList.<V>newList().asUnmodifiable();
+            }
+            synchronized (values)
+            {
+                if (this.map.get(key) == values)
+                {
+                    this.map.remove(key);
+                    this.subtractFromTotalSize(values.size());
+                    return values.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        for (K key : this.map.keySet())
+        {
+            MutableList<V> values = this.map.get(key);
+            if (values != null)
+            {
+                synchronized (values)
+                {
+                    if (this.map.get(key) == values)
+                    {
+                        this.map.remove(key);
+                        this.subtractFromTotalSize(values.size());
+                        // Clear each collection, to make previously returned collections empty.
+                        values.clear();
+                    }
+                }
+            }
+        }
+    }
+
+    public ConcurrentFastListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentFastListMultimap<K, V>();
+    }
+
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentFastListMultimap<K, V>(this);
+    }
+
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        final MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap();
+
+        this.map.forEachKeyValue(new Procedure2<K, MutableList<V>>()
+        {
+            public void value(K key, MutableList<V> list)
+            {
+                map.put(key, list.toImmutable());
+            }
+        });
+
+        return new ImmutableListMultimapImpl<K, V>(map);
+    }
+
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap());
+    }
+}
@@ -24,5 +24,8 @@
  *     <li>
  *          {@link org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap} - a {@code MutableListMultimap} that is optimized for parallel writes, but is not protected for concurrent reads.
  *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.list.ConcurrentFastListMultimap} - a {@code MutableListMultimap} that is safe for parallel reads and writes, locking only the values of a single key.
+ *     </li>
  */
 package org.eclipse.collections.impl.multimap.list;
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the multimaps with primitive keys in {@link org.eclipse.collections.api.multimap.primitive}.
+ * <p>
+ *     The implementations keep a key with a single value inline in primitive arrays and share one pair of arrays between all keys for any further values, so they allocate no collection per key.
+ */
+package org.eclipse.collections.impl.multimap.primitive;
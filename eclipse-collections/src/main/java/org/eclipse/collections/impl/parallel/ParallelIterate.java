@@ -26,12 +26,17 @@ import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction0;
+import org.eclipse.collections.api.block.function.primitive.DoubleDoubleToDoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongLongToLongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import org.eclipse.collections.api.list.ListIterable;
@@ -41,6 +46,9 @@ import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.tuple.primitive.DoubleDoublePair;
 import org.eclipse.collections.impl.block.factory.Functions0;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.block.procedure.AggregateByDoubleProcedure;
+import org.eclipse.collections.impl.block.procedure.AggregateByLongProcedure;
 import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
@@ -1298,6 +1306,138 @@ public final class ParallelIterate
         return result;
     }
 
+    /**
+     * Same effect as {@link Iterate#aggregateByLong(Iterable, Function, long, LongObjectToLongFunction)}, but executed
+     * in parallel batches. Each batch aggregates into its own map, starting every key from initialValue, and the
+     * results of the batches are merged with the combiner, which must therefore be associative. As initialValue is
+     * folded in once per batch, it must also be an identity of the combiner, such as 0 for a sum, unless the combiner is
+     * idempotent, such as a min or a max. Otherwise, a sum starting at 10 would add 10 for every batch.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> aggregateByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            long initialValue,
+            LongObjectToLongFunction<? super T> aggregator,
+            LongLongToLongFunction combiner)
+    {
+        ObjectLongHashMap<K> result = ObjectLongHashMap.newMap();
+        ParallelIterate.forEach(
+                iterable,
+                new AggregateByLongProcedureFactory<T, K>(groupBy, initialValue, aggregator),
+                new AggregateByLongCombiner<T, K>(result, combiner),
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+        return result;
+    }
+
+    /**
+     * Same effect as {@link Iterate#aggregateByDouble(Iterable, Function, double, DoubleObjectToDoubleFunction)}, but
+     * executed in parallel batches. Each batch aggregates into its own map, starting every key from initialValue, and
+     * the results of the batches are merged with the combiner, which must therefore be associative. As initialValue is
+     * folded in once per batch, it must also be an identity of the combiner, such as 0.0 for a sum, unless the combiner
+     * is idempotent, such as a min or a max.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectDoubleMap<K> aggregateByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            double initialValue,
+            DoubleObjectToDoubleFunction<? super T> aggregator,
+            DoubleDoubleToDoubleFunction combiner)
+    {
+        ObjectDoubleHashMap<K> result = ObjectDoubleHashMap.newMap();
+        ParallelIterate.forEach(
+                iterable,
+                new AggregateByDoubleProcedureFactory<T, K>(groupBy, initialValue, aggregator),
+                new AggregateByDoubleCombiner<T, K>(result, combiner),
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE);
+        return result;
+    }
+
+    /**
+     * Same effect as {@link Iterate#countBy(Iterable, Function)}, but executed in parallel batches.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> countBy(Iterable<T> iterable, Function<? super T, ? extends K> groupBy)
+    {
+        return ParallelIterate.aggregateByLong(iterable, groupBy, 0L, PrimitiveFunctions.<T>countFunction(), new LongLongToLongFunction()
+        {
+            public long longValueOf(long count1, long count2)
+            {
+                return count1 + count2;
+            }
+        });
+    }
+
+    /**
+     * Same effect as {@link Iterate#minByLong(Iterable, Function, LongFunction)}, but executed in parallel batches.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> minByLong(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, LongFunction<? super T> function)
+    {
+        return ParallelIterate.aggregateByLong(iterable, groupBy, Long.MAX_VALUE, PrimitiveFunctions.<T>minLongFunction(function), new LongLongToLongFunction()
+        {
+            public long longValueOf(long min1, long min2)
+            {
+                return Math.min(min1, min2);
+            }
+        });
+    }
+
+    /**
+     * Same effect as {@link Iterate#maxByLong(Iterable, Function, LongFunction)}, but executed in parallel batches.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> maxByLong(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, LongFunction<? super T> function)
+    {
+        return ParallelIterate.aggregateByLong(iterable, groupBy, Long.MIN_VALUE, PrimitiveFunctions.<T>maxLongFunction(function), new LongLongToLongFunction()
+        {
+            public long longValueOf(long max1, long max2)
+            {
+                return Math.max(max1, max2);
+            }
+        });
+    }
+
+    /**
+     * Same effect as {@link Iterate#minByDouble(Iterable, Function, DoubleFunction)}, but executed in parallel batches.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectDoubleMap<K> minByDouble(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, DoubleFunction<? super T> function)
+    {
+        return ParallelIterate.aggregateByDouble(iterable, groupBy, Double.POSITIVE_INFINITY, PrimitiveFunctions.<T>minDoubleFunction(function), new DoubleDoubleToDoubleFunction()
+        {
+            public double doubleValueOf(double min1, double min2)
+            {
+                return Math.min(min1, min2);
+            }
+        });
+    }
+
+    /**
+     * Same effect as {@link Iterate#maxByDouble(Iterable, Function, DoubleFunction)}, but executed in parallel batches.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectDoubleMap<K> maxByDouble(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, DoubleFunction<? super T> function)
+    {
+        return ParallelIterate.aggregateByDouble(iterable, groupBy, Double.NEGATIVE_INFINITY, PrimitiveFunctions.<T>maxDoubleFunction(function), new DoubleDoubleToDoubleFunction()
+        {
+            public double doubleValueOf(double max1, double max2)
+            {
+                return Math.max(max1, max2);
+            }
+        });
+    }
+
     /**
      * @since 6.0
      */
@@ -1805,4 +1945,106 @@ public final class ParallelIterate
             }
         }
     }
+
+    private static final class AggregateByLongProcedureFactory<T, K> implements ProcedureFactory<AggregateByLongProcedure<T, K>>
+    {
+        private final Function<? super T, ? extends K> groupBy;
+        private final long initialValue;
+        private final LongObjectToLongFunction<? super T> aggregator;
+
+        private AggregateByLongProcedureFactory(Function<? super T, ? extends K> groupBy, long initialValue, LongObjectToLongFunction<? super T> aggregator)
+        {
+            this.groupBy = groupBy;
+            this.initialValue = initialValue;
+            this.aggregator = aggregator;
+        }
+
+        public AggregateByLongProcedure<T, K> create()
+        {
+            return new AggregateByLongProcedure<T, K>(ObjectLongHashMap.<K>newMap(), this.groupBy, this.initialValue, this.aggregator);
+        }
+    }
+
+    private static final class AggregateByLongCombiner<T, K> extends AbstractProcedureCombiner<AggregateByLongProcedure<T, K>>
+    {
+        private final ObjectLongHashMap<K> result;
+        private final LongLongToLongFunction combiner;
+
+        private AggregateByLongCombiner(ObjectLongHashMap<K> result, LongLongToLongFunction combiner)
+        {
+            super(true);
+            this.result = result;
+            this.combiner = combiner;
+        }
+
+        public void combineOne(AggregateByLongProcedure<T, K> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue(new ObjectLongProcedure<K>()
+                {
+                    public void value(K key, long value)
+                    {
+                        ObjectLongHashMap<K> result = AggregateByLongCombiner.this.result;
+                        result.put(key, result.containsKey(key) ? AggregateByLongCombiner.this.combiner.longValueOf(result.get(key), value) : value);
+                    }
+                });
+            }
+        }
+    }
+
+    private static final class AggregateByDoubleProcedureFactory<T, K> implements ProcedureFactory<AggregateByDoubleProcedure<T, K>>
+    {
+        private final Function<? super T, ? extends K> groupBy;
+        private final double initialValue;
+        private final DoubleObjectToDoubleFunction<? super T> aggregator;
+
+        private AggregateByDoubleProcedureFactory(Function<? super T, ? extends K> groupBy, double initialValue, DoubleObjectToDoubleFunction<? super T> aggregator)
+        {
+            this.groupBy = groupBy;
+            this.initialValue = initialValue;
+            this.aggregator = aggregator;
+        }
+
+        public AggregateByDoubleProcedure<T, K> create()
+        {
+            return new AggregateByDoubleProcedure<T, K>(ObjectDoubleHashMap.<K>newMap(), this.groupBy, this.initialValue, this.aggregator);
+        }
+    }
+
+    private static final class AggregateByDoubleCombiner<T, K> extends AbstractProcedureCombiner<AggregateByDoubleProcedure<T, K>>
+    {
+        private final ObjectDoubleHashMap<K> result;
+        private final DoubleDoubleToDoubleFunction combiner;
+
+        private AggregateByDoubleCombiner(ObjectDoubleHashMap<K> result, DoubleDoubleToDoubleFunction combiner)
+        {
+            super(true);
+            this.result = result;
+            this.combiner = combiner;
+        }
+
+        public void combineOne(AggregateByDoubleProcedure<T, K> thingToCombine)
+        {
+            if (this.result.isEmpty())
+            {
+                this.result.putAll(thingToCombine.getResult());
+            }
+            else
+            {
+                thingToCombine.getResult().forEachKeyValue(new ObjectDoubleProcedure<K>()
+                {
+                    public void value(K key, double value)
+                    {
+                        ObjectDoubleHashMap<K> result = AggregateByDoubleCombiner.this.result;
+                        result.put(key, result.containsKey(key) ? AggregateByDoubleCombiner.this.combiner.doubleValueOf(result.get(key), value) : value);
+                    }
+                });
+            }
+        }
+    }
 }
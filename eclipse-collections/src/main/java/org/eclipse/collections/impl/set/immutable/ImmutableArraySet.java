@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Sets;
+
+/**
+ * An ImmutableSet for a handful of elements that keeps them in a single array and finds an element by a linear scan.
+ * Above {@link ImmutableQuadrupletonSet} and up to {@link ImmutableSetFactoryImpl#ARRAY_SET_THRESHOLD} elements this
+ * costs far less memory than an {@link ImmutableUnifiedSet}, while a scan over so few elements is about as fast as
+ * hashing.
+ *
+ * @since 7.1
+ */
+@Immutable
+final class ImmutableArraySet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+
+    /**
+     * The elements must be distinct, and the array must not be modified afterwards.
+     */
+    ImmutableArraySet(Object[] elements)
+    {
+        this.elements = elements;
+    }
+
+    private int indexOf(Object object)
+    {
+        for (int i = 0; i < this.elements.length; i++)
+        {
+            if (Comparators.nullSafeEquals(object, this.elements[i]))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int size()
+    {
+        return this.elements.length;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        if (set.size() != this.size())
+        {
+            return false;
+        }
+        for (Object each : this.elements)
+        {
+            if (!set.contains(each))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Object each : this.elements)
+        {
+            hashCode += this.nullSafeHashCode(each);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public ImmutableSet<T> newWith(T element)
+    {
+        if (this.contains(element))
+        {
+            return this;
+        }
+        Object[] result = new Object[this.elements.length + 1];
+        System.arraycopy(this.elements, 0, result, 0, this.elements.length);
+        result[this.elements.length] = element;
+        if (result.length > ImmutableSetFactoryImpl.ARRAY_SET_THRESHOLD)
+        {
+            return ImmutableUnifiedSet.newSetWith((T[]) result);
+        }
+        return new ImmutableArraySet<T>(result);
+    }
+
+    @Override
+    public ImmutableSet<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index == -1)
+        {
+            return this;
+        }
+        Object[] result = new Object[this.elements.length - 1];
+        System.arraycopy(this.elements, 0, result, 0, index);
+        System.arraycopy(this.elements, index + 1, result, index, result.length - index);
+        if (result.length > 4)
+        {
+            return new ImmutableArraySet<T>(result);
+        }
+        return Sets.immutable.with((T[]) result);
+    }
+
+    @Override
+    public boolean contains(Object obj)
+    {
+        return this.indexOf(obj) != -1;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new ArraySetIterator();
+    }
+
+    public T getFirst()
+    {
+        return (T) this.elements[0];
+    }
+
+    public T getLast()
+    {
+        return (T) this.elements[this.elements.length - 1];
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (Object each : this.elements)
+        {
+            procedure.value((T) each);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int i = 0; i < this.elements.length; i++)
+        {
+            objectIntProcedure.value((T) this.elements[i], i);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        for (Object each : this.elements)
+        {
+            procedure.value((T) each, parameter);
+        }
+    }
+
+    protected class ArraySetIterator
+            extends ImmutableSetIterator
+    {
+        @Override
+        protected T getElement(int i)
+        {
+            if (i < ImmutableArraySet.this.elements.length)
+            {
+                return (T) ImmutableArraySet.this.elements[i];
+            }
+            throw new NoSuchElementException("i=" + i);
+        }
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<T>(this);
+    }
+}
@@ -19,6 +19,12 @@ import org.eclipse.collections.impl.utility.Iterate;
 @Immutable
 public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
 {
+    /**
+     * Sets larger than four elements and no larger than this are stored in an {@link ImmutableArraySet}, which scans a
+     * flat array of elements instead of paying for the empty slots and buckets of a hash table.
+     */
+    static final int ARRAY_SET_THRESHOLD = 32;
+
     public <T> ImmutableSet<T> empty()
     {
         return (ImmutableSet<T>) ImmutableEmptySet.INSTANCE;
@@ -137,8 +143,49 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
             case 4:
                 return this.of(items[0], items[1], items[2], items[3]);
             default:
-                return ImmutableUnifiedSet.newSetWith(items);
+                if (items.length > ARRAY_SET_THRESHOLD)
+                {
+                    return ImmutableUnifiedSet.newSetWith(items);
+                }
+                Object[] distinct = ImmutableSetFactoryImpl.distinct(items);
+                if (distinct.length > 4)
+                {
+                    return new ImmutableArraySet<T>(distinct);
+                }
+                return this.with((T[]) distinct);
+        }
+    }
+
+    private static Object[] distinct(Object[] items)
+    {
+        Object[] result = new Object[items.length];
+        int size = 0;
+        for (Object item : items)
+        {
+            if (!ImmutableSetFactoryImpl.containsWithin(result, size, item))
+            {
+                result[size++] = item;
+            }
+        }
+        if (size == result.length)
+        {
+            return result;
+        }
+        Object[] trimmed = new Object[size];
+        System.arraycopy(result, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    private static boolean containsWithin(Object[] items, int size, Object item)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (Comparators.nullSafeEquals(items[i], item))
+            {
+                return true;
+            }
         }
+        return false;
     }
 
     public <T> ImmutableSet<T> ofAll(Iterable<? extends T> items)
@@ -29,6 +29,9 @@
  *          {@link org.eclipse.collections.impl.set.immutable.ImmutableQuadrupletonSet} - an immutable set with 4 elements.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.set.immutable.ImmutableArraySet} - an immutable set with 5 to 32 elements, held in an array.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.set.immutable.ImmutableUnifiedSet} - the non-modifiable equivalent of {@link org.eclipse.collections.impl.set.mutable.UnifiedSet}.
  *     </li>
  * </ul>
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.collections.api.set.Pool;
+import org.eclipse.collections.impl.SpreadFunctions;
+
+/**
+ * ConcurrentWeakPool is a thread-safe {@link Pool} which holds its elements through weak references, so it can be used
+ * to intern equal objects, such as Strings and immutable tuples, without keeping them alive. Once no other reference
+ * to a pooled object remains, it is collected and its entry is removed from the pool.
+ * <p>
+ * The pool is split into independently locked segments, chosen by the high bits of the hash code. Lookups are
+ * lock free, and {@link #put(Object)} only takes the lock of its segment when the object is not pooled yet. Each
+ * segment drains its own {@link ReferenceQueue} of collected entries whenever it is locked for a write.
+ * <p>
+ * Null is never pooled: {@code put(null)}, {@code get(null)} and {@code removeFromPool(null)} all return null.
+ *
+ * @since 7.1
+ */
+public final class ConcurrentWeakPool<V> implements Pool<V>
+{
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Segment<V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    public ConcurrentWeakPool()
+    {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentWeakPool(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentWeakPool(int initialCapacity, int concurrencyLevel)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (concurrencyLevel <= 0)
+        {
+            throw new IllegalArgumentException("concurrency level must be greater than 0");
+        }
+        int segmentCount = 1;
+        int shift = 0;
+        while (segmentCount < concurrencyLevel && segmentCount < MAXIMUM_SEGMENTS)
+        {
+            segmentCount <<= 1;
+            shift++;
+        }
+        this.segmentShift = 32 - shift;
+        this.segmentMask = segmentCount - 1;
+
+        int perSegment = Math.min(initialCapacity, MAXIMUM_CAPACITY) / segmentCount;
+        int segmentCapacity = 2;
+        while (segmentCapacity < perSegment)
+        {
+            segmentCapacity <<= 1;
+        }
+        this.segments = (Segment<V>[]) new Segment<?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++)
+        {
+            this.segments[i] = new Segment<V>(segmentCapacity);
+        }
+    }
+
+    public static <V> ConcurrentWeakPool<V> newPool()
+    {
+        return new ConcurrentWeakPool<V>();
+    }
+
+    public static <V> ConcurrentWeakPool<V> newPool(int initialCapacity)
+    {
+        return new ConcurrentWeakPool<V>(initialCapacity);
+    }
+
+    private static int hash(Object key)
+    {
+        // Spread the hash code the same way as UnifiedMap, so that the bucket index sees well mixed low bits.
+        int h = key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private Segment<V> segmentFor(int hash)
+    {
+        return this.segments[(SpreadFunctions.fibonacciSpread(hash) >>> this.segmentShift) & this.segmentMask];
+    }
+
+    public V get(V key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+        int hash = ConcurrentWeakPool.hash(key);
+        return this.segmentFor(hash).get(key, hash);
+    }
+
+    public V put(V key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+        int hash = ConcurrentWeakPool.hash(key);
+        Segment<V> segment = this.segmentFor(hash);
+        V pooled = segment.get(key, hash);
+        if (pooled != null)
+        {
+            return pooled;
+        }
+        return segment.put(key, hash);
+    }
+
+    public V removeFromPool(V key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+        int hash = ConcurrentWeakPool.hash(key);
+        return this.segmentFor(hash).remove(key, hash);
+    }
+
+    /**
+     * Returns the number of live objects in the pool. Collected entries are expunged first, so the result is exact
+     * for each segment at the moment it is counted, but the total is only weakly consistent under concurrent updates.
+     */
+    public int size()
+    {
+        int size = 0;
+        for (Segment<V> segment : this.segments)
+        {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear()
+    {
+        for (Segment<V> segment : this.segments)
+        {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getClass().getSimpleName() + "[size=" + this.size() + ']';
+    }
+
+    private static final class WeakEntry<V> extends WeakReference<V>
+    {
+        private final int hash;
+        private final WeakEntry<V> next;
+
+        private WeakEntry(V value, int hash, WeakEntry<V> next, ReferenceQueue<V> queue)
+        {
+            super(value, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A segment is a chained hash table whose chains are never modified in place: entries are only pushed at the head,
+     * and removals copy the part of the chain in front of the removed entry. Readers can therefore walk the current
+     * table without locking, while writers synchronize on the segment.
+     */
+    private static final class Segment<V>
+    {
+        private final ReferenceQueue<V> queue = new ReferenceQueue<V>();
+        private volatile AtomicReferenceArray<WeakEntry<V>> table;
+        private int count;
+
+        private Segment(int capacity)
+        {
+            this.table = new AtomicReferenceArray<WeakEntry<V>>(capacity);
+        }
+
+        private static int indexFor(int hash, int length)
+        {
+            return hash & (length - 1);
+        }
+
+        private V get(V key, int hash)
+        {
+            AtomicReferenceArray<WeakEntry<V>> currentTable = this.table;
+            WeakEntry<V> entry = currentTable.get(Segment.indexFor(hash, currentTable.length()));
+            while (entry != null)
+            {
+                if (entry.hash == hash)
+                {
+                    V value = entry.get();
+                    if (value != null && value.equals(key))
+                    {
+                        return value;
+                    }
+                }
+                entry = entry.next;
+            }
+            return null;
+        }
+
+        private synchronized V put(V key, int hash)
+        {
+            this.expungeStaleEntries();
+            AtomicReferenceArray<WeakEntry<V>> currentTable = this.table;
+            int index = Segment.indexFor(hash, currentTable.length());
+            WeakEntry<V> first = currentTable.get(index);
+            for (WeakEntry<V> entry = first; entry != null; entry = entry.next)
+            {
+                if (entry.hash == hash)
+                {
+                    V value = entry.get();
+                    if (value != null && value.equals(key))
+                    {
+                        return value;
+                    }
+                }
+            }
+            if (this.count >= currentTable.length() >> 1 && currentTable.length() < MAXIMUM_CAPACITY)
+            {
+                currentTable = this.rehash(currentTable);
+                index = Segment.indexFor(hash, currentTable.length());
+                first = currentTable.get(index);
+            }
+            currentTable.set(index, new WeakEntry<V>(key, hash, first, this.queue));
+            this.count++;
+            return key;
+        }
+
+        private synchronized V remove(V key, int hash)
+        {
+            this.expungeStaleEntries();
+            AtomicReferenceArray<WeakEntry<V>> currentTable = this.table;
+            int index = Segment.indexFor(hash, currentTable.length());
+            for (WeakEntry<V> entry = currentTable.get(index); entry != null; entry = entry.next)
+            {
+                if (entry.hash == hash)
+                {
+                    V value = entry.get();
+                    if (value != null && value.equals(key))
+                    {
+                        this.unlink(currentTable, index, entry);
+                        return value;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private synchronized int size()
+        {
+            this.expungeStaleEntries();
+            return this.count;
+        }
+
+        private synchronized void clear()
+        {
+            this.table = new AtomicReferenceArray<WeakEntry<V>>(this.table.length());
+            this.count = 0;
+            while (this.queue.poll() != null)
+            {
+            }
+        }
+
+        private void expungeStaleEntries()
+        {
+            WeakEntry<V> stale;
+            while ((stale = (WeakEntry<V>) this.queue.poll()) != null)
+            {
+                AtomicReferenceArray<WeakEntry<V>> currentTable = this.table;
+                int index = Segment.indexFor(stale.hash, currentTable.length());
+                for (WeakEntry<V> entry = currentTable.get(index); entry != null; entry = entry.next)
+                {
+                    if (entry == stale)
+                    {
+                        this.unlink(currentTable, index, entry);
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Replaces the chain at {@code index} by a copy without {@code removed}. Copied entries are new references, so
+         * the originals may still be enqueued later; they are no longer in the table and are then ignored. Entries
+         * whose referents were collected during the copy are dropped and uncounted here.
+         */
+        private void unlink(AtomicReferenceArray<WeakEntry<V>> currentTable, int index, WeakEntry<V> removed)
+        {
+            WeakEntry<V> newFirst = removed.next;
+            this.count--;
+            for (WeakEntry<V> entry = currentTable.get(index); entry != removed; entry = entry.next)
+            {
+                V value = entry.get();
+                if (value == null)
+                {
+                    this.count--;
+                }
+                else
+                {
+                    newFirst = new WeakEntry<V>(value, entry.hash, newFirst, this.queue);
+                }
+            }
+            currentTable.set(index, newFirst);
+        }
+
+        private AtomicReferenceArray<WeakEntry<V>> rehash(AtomicReferenceArray<WeakEntry<V>> oldTable)
+        {
+            int oldLength = oldTable.length();
+            AtomicReferenceArray<WeakEntry<V>> newTable = new AtomicReferenceArray<WeakEntry<V>>(oldLength << 1);
+            int newCount = 0;
+            for (int i = 0; i < oldLength; i++)
+            {
+                for (WeakEntry<V> entry = oldTable.get(i); entry != null; entry = entry.next)
+                {
+                    V value = entry.get();
+                    if (value != null)
+                    {
+                        int index = Segment.indexFor(entry.hash, oldLength << 1);
+                        newTable.set(index, new WeakEntry<V>(value, entry.hash, newTable.get(index), this.queue));
+                        newCount++;
+                    }
+                }
+            }
+            this.count = newCount;
+            this.table = newTable;
+            return newTable;
+        }
+    }
+}
@@ -0,0 +1,933 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.SpreadFunctions;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+
+/**
+ * LinearProbingUnifiedSet is an open addressing set which keeps the spread hash code of every element in an int[]
+ * parallel to its table.  A probe compares the stored hash codes first and only calls equals() on the element when
+ * the hash codes match, and a rehash places every element from its stored hash code without calling hashCode()
+ * again.  This makes it a good fit for elements with expensive hashCode() or equals() implementations, such as large
+ * composite keys.
+ * <p>
+ * Collisions are resolved by linear probing and removal uses backward shift deletion, so no chains or tombstones are
+ * ever allocated.
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class LinearProbingUnifiedSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable, BatchIterable<T>
+{
+    protected static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LinearProbingUnifiedSet.NULL_KEY";
+        }
+    };
+
+    protected static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Object[] table;
+
+    protected transient int[] hashes;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    protected int maxSize;
+
+    public LinearProbingUnifiedSet()
+    {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LinearProbingUnifiedSet(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LinearProbingUnifiedSet(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+        this.loadFactor = loadFactor;
+        this.init(this.fastCeil(initialCapacity / loadFactor));
+    }
+
+    public LinearProbingUnifiedSet(Collection<? extends T> collection)
+    {
+        this(Math.max(collection.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+        this.addAll(collection);
+    }
+
+    public LinearProbingUnifiedSet(LinearProbingUnifiedSet<T> set)
+    {
+        this.maxSize = set.maxSize;
+        this.loadFactor = set.loadFactor;
+        this.occupied = set.occupied;
+        this.table = set.table.clone();
+        this.hashes = set.hashes.clone();
+    }
+
+    public static <K> LinearProbingUnifiedSet<K> newSet()
+    {
+        return new LinearProbingUnifiedSet<K>();
+    }
+
+    public static <K> LinearProbingUnifiedSet<K> newSet(int size)
+    {
+        return new LinearProbingUnifiedSet<K>(size);
+    }
+
+    public static <K> LinearProbingUnifiedSet<K> newSet(int size, float loadFactor)
+    {
+        return new LinearProbingUnifiedSet<K>(size, loadFactor);
+    }
+
+    public static <K> LinearProbingUnifiedSet<K> newSet(Iterable<? extends K> source)
+    {
+        if (source instanceof LinearProbingUnifiedSet)
+        {
+            return new LinearProbingUnifiedSet<K>((LinearProbingUnifiedSet<K>) source);
+        }
+        if (source instanceof Collection)
+        {
+            return new LinearProbingUnifiedSet<K>((Collection<K>) source);
+        }
+        if (source == null)
+        {
+            throw new NullPointerException();
+        }
+        LinearProbingUnifiedSet<K> result = LinearProbingUnifiedSet.newSet();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <K> LinearProbingUnifiedSet<K> newSetWith(K... elements)
+    {
+        return LinearProbingUnifiedSet.<K>newSet(elements.length).with(elements);
+    }
+
+    private int fastCeil(float v)
+    {
+        int possibleResult = (int) v;
+        if (v - possibleResult > 0.0F)
+        {
+            possibleResult++;
+        }
+        return possibleResult;
+    }
+
+    protected int init(int initialCapacity)
+    {
+        int capacity = 2;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+
+        return this.allocate(capacity);
+    }
+
+    protected int allocate(int capacity)
+    {
+        this.table = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.computeMaxSize(capacity);
+
+        return capacity;
+    }
+
+    protected void computeMaxSize(int capacity)
+    {
+        // need at least one free slot to terminate every probe sequence
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    /**
+     * Linear probing is very sensitive to clustering, so the hash code is run through a full avalanche spread rather
+     * than the cheaper shift-xor spread used by UnifiedSet, as LinearProbingUnifiedMap does.
+     */
+    protected static int spread(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        return SpreadFunctions.intSpreadOne(h);
+    }
+
+    /**
+     * Returns the slot just after the first empty slot, where every traversal of the table starts.  The table always
+     * has an empty slot and no cluster spans one, so a traversal never splits a cluster across the end of the table.
+     * forEach, iterator(), getFirst() and getLast() therefore all see the elements in the same order, and a rehash
+     * keeps the order of the elements within a cluster.
+     */
+    protected int traversalStart()
+    {
+        return LinearProbingUnifiedSet.traversalStart(this.table);
+    }
+
+    private static int traversalStart(Object[] localTable)
+    {
+        int emptySlot = 0;
+        while (localTable[emptySlot] != null)
+        {
+            emptySlot++;
+        }
+        return emptySlot + 1 & localTable.length - 1;
+    }
+
+    /**
+     * Returns the slot that holds the given key or, if the key is absent, the empty slot which terminated the probe
+     * sequence.  The stored hash codes are compared before equals() is called on a candidate.
+     */
+    private int probe(Object key, int hash)
+    {
+        Object[] localTable = this.table;
+        int[] localHashes = this.hashes;
+        int mask = localTable.length - 1;
+        int index = hash & mask;
+        while (true)
+        {
+            Object cur = localTable[index];
+            if (cur == null
+                    || localHashes[index] == hash && this.nonNullTableObjectEquals(cur, key))
+            {
+                return index;
+            }
+            index = index + 1 & mask;
+        }
+    }
+
+    /**
+     * Removes the element at the given slot and shifts any later members of the same cluster backwards so that no
+     * probe sequence is broken by the new hole.  The home slot of each candidate comes from the stored hash code.
+     */
+    private void removeAt(int index)
+    {
+        Object[] localTable = this.table;
+        int[] localHashes = this.hashes;
+        int mask = localTable.length - 1;
+        int hole = index;
+        int next = index + 1 & mask;
+        Object cur = localTable[next];
+        while (cur != null)
+        {
+            int hash = localHashes[next];
+            int home = hash & mask;
+            if ((next - home & mask) >= (next - hole & mask))
+            {
+                localTable[hole] = cur;
+                localHashes[hole] = hash;
+                hole = next;
+            }
+            next = next + 1 & mask;
+            cur = localTable[next];
+        }
+        localTable[hole] = null;
+        localHashes[hole] = 0;
+        this.occupied--;
+    }
+
+    protected void rehash(int newCapacity)
+    {
+        Object[] oldTable = this.table;
+        int[] oldHashes = this.hashes;
+        this.allocate(newCapacity);
+
+        Object[] localTable = this.table;
+        int[] localHashes = this.hashes;
+        int mask = localTable.length - 1;
+        int oldStart = LinearProbingUnifiedSet.traversalStart(oldTable);
+        int oldMask = oldTable.length - 1;
+        for (int j = 0; j < oldTable.length; j++)
+        {
+            int i = oldStart + j & oldMask;
+            Object cur = oldTable[i];
+            if (cur != null)
+            {
+                int hash = oldHashes[i];
+                int index = hash & mask;
+                while (localTable[index] != null)
+                {
+                    index = index + 1 & mask;
+                }
+                localTable[index] = cur;
+                localHashes[index] = hash;
+            }
+        }
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        Arrays.fill(this.table, null);
+        Arrays.fill(this.hashes, 0);
+    }
+
+    public boolean add(T key)
+    {
+        int hash = LinearProbingUnifiedSet.spread(key);
+        int index = this.probe(key, hash);
+        if (this.table[index] != null)
+        {
+            return false;
+        }
+        if (this.occupied >= this.maxSize)
+        {
+            // grow before inserting, so that the table being rehashed still has an empty slot to start from
+            this.rehash(this.table.length << 1);
+            index = this.probe(key, hash);
+        }
+        this.table[index] = LinearProbingUnifiedSet.toSentinelIfNull(key);
+        this.hashes[index] = hash;
+        this.occupied++;
+        return true;
+    }
+
+    public boolean contains(Object key)
+    {
+        return this.table[this.probe(key, LinearProbingUnifiedSet.spread(key))] != null;
+    }
+
+    public boolean remove(Object key)
+    {
+        int index = this.probe(key, LinearProbingUnifiedSet.spread(key));
+        if (this.table[index] == null)
+        {
+            return false;
+        }
+        this.removeAt(index);
+        return true;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    /**
+     * Returns the number of slots which are occupied by an element that does not live in its home slot.
+     */
+    public int getCollidingBuckets()
+    {
+        int count = 0;
+        int mask = this.table.length - 1;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.table[i] != null && (this.hashes[i] & mask) != i)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.table.length / batchSize);
+    }
+
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.table.length / sectionCount;
+        int start = sectionIndex * sectionSize;
+        int end = sectionIndex == sectionCount - 1 ? this.table.length : start + sectionSize;
+        this.each(procedure, start, end);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        int start = this.traversalStart();
+        this.each(procedure, start, this.table.length);
+        this.each(procedure, 0, start);
+    }
+
+    protected void each(Procedure<? super T> procedure, int start, int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j++)
+        {
+            Object cur = this.table[start + j & mask];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), parameter);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int count = 0;
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j++)
+        {
+            Object cur = this.table[start + j & mask];
+            if (cur != null)
+            {
+                objectIntProcedure.value(this.nonSentinel(cur), count++);
+            }
+        }
+    }
+
+    public T getFirst()
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = 0; j < this.table.length; j++)
+        {
+            Object cur = this.table[start + j & mask];
+            if (cur != null)
+            {
+                return this.nonSentinel(cur);
+            }
+        }
+        return null;
+    }
+
+    public T getLast()
+    {
+        int start = this.traversalStart();
+        int mask = this.table.length - 1;
+        for (int j = this.table.length - 1; j >= 0; j--)
+        {
+            Object cur = this.table[start + j & mask];
+            if (cur != null)
+            {
+                return this.nonSentinel(cur);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public LinearProbingUnifiedSet<T> newEmpty()
+    {
+        return LinearProbingUnifiedSet.newSet();
+    }
+
+    public LinearProbingUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public LinearProbingUnifiedSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public LinearProbingUnifiedSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public LinearProbingUnifiedSet<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public LinearProbingUnifiedSet<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public LinearProbingUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public LinearProbingUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof LinearProbingUnifiedSet)
+        {
+            return this.copySet((LinearProbingUnifiedSet<? extends T>) iterable);
+        }
+        return super.addAllIterable(iterable);
+    }
+
+    /**
+     * Adds all elements of another LinearProbingUnifiedSet using its stored hash codes, so neither hashCode() nor
+     * equals() is called for elements which are not already present in this set.
+     */
+    protected boolean copySet(LinearProbingUnifiedSet<? extends T> other)
+    {
+        int sizeBefore = this.occupied;
+        Object[] otherTable = other.table;
+        int[] otherHashes = other.hashes;
+        int otherStart = LinearProbingUnifiedSet.traversalStart(otherTable);
+        int otherMask = otherTable.length - 1;
+        for (int j = 0; j < otherTable.length; j++)
+        {
+            int i = otherStart + j & otherMask;
+            Object cur = otherTable[i];
+            if (cur != null)
+            {
+                int hash = otherHashes[i];
+                int index = this.probe(this.nonSentinel(cur), hash);
+                if (this.table[index] == null)
+                {
+                    if (this.occupied >= this.maxSize)
+                    {
+                        this.rehash(this.table.length << 1);
+                        index = this.probe(this.nonSentinel(cur), hash);
+                    }
+                    this.table[index] = cur;
+                    this.hashes[index] = hash;
+                    this.occupied++;
+                }
+            }
+        }
+        return this.occupied != sizeBefore;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                hashCode += cur == NULL_KEY ? 0 : cur.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public LinearProbingUnifiedSet<T> clone()
+    {
+        return new LinearProbingUnifiedSet<T>(this);
+    }
+
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new LinearProbingUnifiedSetParallelUnsortedIterable(executorService, batchSize);
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) (size / this.loadFactor) + 1, DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                out.writeObject(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new PositionalIterator();
+    }
+
+    /**
+     * Iterates over the table from {@link #traversalStart()}.  Backward shift deletion only ever moves an element
+     * towards lower slots within its own cluster, and no cluster spans an empty slot, so a removal through the iterator
+     * can only move elements that have not been returned yet, and at most into the slot that was just vacated.
+     */
+    protected class PositionalIterator implements Iterator<T>
+    {
+        protected int count;
+        protected int position;
+        protected int lastReturned = -1;
+
+        protected PositionalIterator()
+        {
+            this.position = LinearProbingUnifiedSet.this.traversalStart();
+        }
+
+        public boolean hasNext()
+        {
+            return this.count < LinearProbingUnifiedSet.this.occupied;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object[] localTable = LinearProbingUnifiedSet.this.table;
+            int mask = localTable.length - 1;
+            while (localTable[this.position] == null)
+            {
+                this.position = this.position + 1 & mask;
+            }
+            this.lastReturned = this.position;
+            this.position = this.position + 1 & mask;
+            this.count++;
+            return LinearProbingUnifiedSet.this.nonSentinel(localTable[this.lastReturned]);
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException();
+            }
+            LinearProbingUnifiedSet.this.removeAt(this.lastReturned);
+            this.position = this.lastReturned;
+            this.lastReturned = -1;
+            this.count--;
+        }
+    }
+
+    private T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    /**
+     * A batch of the slots from offset chunkStartIndex up to chunkEndIndex of a traversal of the table from
+     * traversalStart.
+     */
+    private final class LinearProbingUnsortedSetBatch extends AbstractBatch<T> implements RootUnsortedSetBatch<T>
+    {
+        private final int traversalStart;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private LinearProbingUnsortedSetBatch(int traversalStart, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.traversalStart = traversalStart;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            Object[] localTable = LinearProbingUnifiedSet.this.table;
+            int mask = localTable.length - 1;
+            for (int j = this.chunkStartIndex; j < this.chunkEndIndex; j++)
+            {
+                Object cur = localTable[this.traversalStart + j & mask];
+                if (cur != null)
+                {
+                    procedure.value(LinearProbingUnifiedSet.this.nonSentinel(cur));
+                }
+            }
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectIndex(predicate, true) != -1;
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectIndex(predicate, false) == -1;
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            int index = this.detectIndex(predicate, true);
+            return index == -1 ? null : LinearProbingUnifiedSet.this.nonSentinel(LinearProbingUnifiedSet.this.table[index]);
+        }
+
+        /**
+         * Returns the slot of the first element in the batch for which the predicate returns expected, or -1.
+         */
+        private int detectIndex(Predicate<? super T> predicate, boolean expected)
+        {
+            Object[] localTable = LinearProbingUnifiedSet.this.table;
+            int mask = localTable.length - 1;
+            for (int j = this.chunkStartIndex; j < this.chunkEndIndex; j++)
+            {
+                int index = this.traversalStart + j & mask;
+                Object cur = localTable[index];
+                if (cur != null && predicate.accept(LinearProbingUnifiedSet.this.nonSentinel(cur)) == expected)
+                {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        public UnsortedSetBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectUnsortedSetBatch<T>(this, predicate);
+        }
+
+        public <V> UnsortedBagBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectUnsortedBagBatch<T, V>(this, function);
+        }
+
+        public <V> UnsortedBagBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<T, V>(this, function);
+        }
+    }
+
+    private final class LinearProbingUnifiedSetParallelUnsortedIterable extends AbstractParallelUnsortedSetIterable<T, RootUnsortedSetBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private LinearProbingUnifiedSetParallelUnsortedIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedSetBatch<T>> split()
+        {
+            return new LinearProbingUnifiedSetParallelSplitLazyIterable();
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return LinearProbingUnifiedSet.this.toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return LinearProbingUnifiedSet.this.toArray(array);
+        }
+
+        private class LinearProbingUnifiedSetParallelSplitIterator implements Iterator<RootUnsortedSetBatch<T>>
+        {
+            private final int traversalStart = LinearProbingUnifiedSet.this.traversalStart();
+            private int chunkIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkIndex * LinearProbingUnifiedSetParallelUnsortedIterable.this.batchSize < LinearProbingUnifiedSet.this.table.length;
+            }
+
+            public RootUnsortedSetBatch<T> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                int chunkStartIndex = this.chunkIndex * LinearProbingUnifiedSetParallelUnsortedIterable.this.batchSize;
+                int chunkEndIndex = (this.chunkIndex + 1) * LinearProbingUnifiedSetParallelUnsortedIterable.this.batchSize;
+                int truncatedChunkEndIndex = Math.min(chunkEndIndex, LinearProbingUnifiedSet.this.table.length);
+                this.chunkIndex++;
+                return new LinearProbingUnsortedSetBatch(this.traversalStart, chunkStartIndex, truncatedChunkEndIndex);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class LinearProbingUnifiedSetParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootUnsortedSetBatch<T>>
+        {
+            public void each(Procedure<? super RootUnsortedSetBatch<T>> procedure)
+            {
+                for (RootUnsortedSetBatch<T> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<RootUnsortedSetBatch<T>> iterator()
+            {
+                return new LinearProbingUnifiedSetParallelSplitIterator();
+            }
+        }
+    }
+}
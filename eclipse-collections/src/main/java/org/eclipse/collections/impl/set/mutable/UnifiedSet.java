@@ -459,6 +459,36 @@ public class UnifiedSet<T>
         }
     }
 
+    /**
+     * Passes the elements held in the table slots from fromSlot inclusive to toSlot exclusive to the procedure, and
+     * returns the number of slots in the table. A slot holding a collision chain passes every element of the chain.
+     * This lets adapters such as spliterators split the table by slot ranges rather than iterating it.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public int forEachInTableSlots(int fromSlot, int toSlot, Procedure<? super T> procedure)
+    {
+        Object[] set = this.table;
+        int end = Math.min(toSlot, set.length);
+        for (int i = fromSlot; i < end; i++)
+        {
+            Object cur = set[i];
+            if (cur != null)
+            {
+                if (cur instanceof ChainedBucket)
+                {
+                    this.chainedForEach((ChainedBucket) cur, procedure);
+                }
+                else
+                {
+                    procedure.value(this.nonSentinel(cur));
+                }
+            }
+        }
+        return set.length;
+    }
+
     public MutableSet<T> tap(Procedure<? super T> procedure)
     {
         this.forEach(procedure);
@@ -14,6 +14,12 @@
  *     This package contains the following mutable set implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.set.mutable.ConcurrentWeakPool} - a thread safe {@link org.eclipse.collections.api.set.Pool} which holds its elements weakly, for interning equal objects.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.set.mutable.LinearProbingUnifiedSet} - an open addressing set which caches the hash code of each element.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.set.mutable.MultiReaderUnifiedSet} -  a thread safe wrapper around UnifiedSet.
  *     </li>
  *     <li>
@@ -17,9 +17,12 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.ByteIterable;
 import org.eclipse.collections.api.LazyByteIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
 import org.eclipse.collections.api.block.function.primitive.ByteToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -36,6 +39,8 @@ import org.eclipse.collections.api.set.primitive.MutableByteSet;
 import org.eclipse.collections.impl.bag.mutable.primitive.ByteHashBag;
 import org.eclipse.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import org.eclipse.collections.impl.factory.primitive.ByteSets;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ByteArrayBatch;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelByteArrayIterable;
 import org.eclipse.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
 import org.eclipse.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
@@ -487,6 +492,19 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new SynchronizedByteSet(this);
     }
 
+    /**
+     * Returns a parallel iterable which evaluates in batches over a snapshot of this set. The set holds at most 256
+     * values as bits, so the snapshot is a single small array.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        byte[] values = this.toArray();
+        return new ParallelByteArrayIterable(executorService, batchSize, new ByteArrayBatch(values, 0, values.length));
+    }
+
     public ImmutableByteSet toImmutable()
     {
         if (this.size() == 0)
@@ -68,7 +68,10 @@ import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
 import org.eclipse.collections.impl.block.factory.Procedures2;
+import org.eclipse.collections.impl.block.procedure.AggregateByDoubleProcedure;
+import org.eclipse.collections.impl.block.procedure.AggregateByLongProcedure;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.block.procedure.MaxComparatorProcedure;
 import org.eclipse.collections.impl.block.procedure.MinComparatorProcedure;
@@ -76,6 +79,8 @@ import org.eclipse.collections.impl.block.procedure.MultimapKeyValuePutAllProced
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap;
@@ -2756,6 +2761,101 @@ public final class Iterate
         throw new IllegalArgumentException("Cannot perform an injectInto on null");
     }
 
+    /**
+     * Applies an aggregate function over the iterable grouping results into an {@link ObjectLongMap} by the groupBy
+     * function. The running value of each group starts at initialValue and is replaced by the result of the aggregator
+     * for each element of the group. Unlike {@link RichIterable#aggregateBy(Function, Function0, Function2)} the
+     * running values are never boxed.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> aggregateByLong(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            long initialValue,
+            LongObjectToLongFunction<? super T> aggregator)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform an aggregateByLong on null");
+        }
+        AggregateByLongProcedure<T, K> procedure = new AggregateByLongProcedure<T, K>(ObjectLongHashMap.<K>newMap(), groupBy, initialValue, aggregator);
+        Iterate.forEach(iterable, procedure);
+        return procedure.getResult();
+    }
+
+    /**
+     * Applies an aggregate function over the iterable grouping results into an {@link ObjectDoubleMap} by the groupBy
+     * function. The running value of each group starts at initialValue and is replaced by the result of the aggregator
+     * for each element of the group.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectDoubleMap<K> aggregateByDouble(
+            Iterable<T> iterable,
+            Function<? super T, ? extends K> groupBy,
+            double initialValue,
+            DoubleObjectToDoubleFunction<? super T> aggregator)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform an aggregateByDouble on null");
+        }
+        AggregateByDoubleProcedure<T, K> procedure = new AggregateByDoubleProcedure<T, K>(ObjectDoubleHashMap.<K>newMap(), groupBy, initialValue, aggregator);
+        Iterate.forEach(iterable, procedure);
+        return procedure.getResult();
+    }
+
+    /**
+     * Counts the elements of the iterable grouped by the groupBy function.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> countBy(Iterable<T> iterable, Function<? super T, ? extends K> groupBy)
+    {
+        return Iterate.aggregateByLong(iterable, groupBy, 0L, PrimitiveFunctions.<T>countFunction());
+    }
+
+    /**
+     * Returns the minimum long value of the function over the elements of each group.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> minByLong(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, LongFunction<? super T> function)
+    {
+        return Iterate.aggregateByLong(iterable, groupBy, Long.MAX_VALUE, PrimitiveFunctions.<T>minLongFunction(function));
+    }
+
+    /**
+     * Returns the maximum long value of the function over the elements of each group.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectLongMap<K> maxByLong(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, LongFunction<? super T> function)
+    {
+        return Iterate.aggregateByLong(iterable, groupBy, Long.MIN_VALUE, PrimitiveFunctions.<T>maxLongFunction(function));
+    }
+
+    /**
+     * Returns the minimum double value of the function over the elements of each group.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectDoubleMap<K> minByDouble(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, DoubleFunction<? super T> function)
+    {
+        return Iterate.aggregateByDouble(iterable, groupBy, Double.POSITIVE_INFINITY, PrimitiveFunctions.<T>minDoubleFunction(function));
+    }
+
+    /**
+     * Returns the maximum double value of the function over the elements of each group.
+     *
+     * @since 7.1
+     */
+    public static <T, K> ObjectDoubleMap<K> maxByDouble(Iterable<T> iterable, Function<? super T, ? extends K> groupBy, DoubleFunction<? super T> function)
+    {
+        return Iterate.aggregateByDouble(iterable, groupBy, Double.NEGATIVE_INFINITY, PrimitiveFunctions.<T>maxDoubleFunction(function));
+    }
+
     /**
      * Similar to {@link #injectInto(Object, Iterable, Function2)}, except with a parameter is used as third generic argument in function3.
      */
@@ -18,6 +18,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.lazy.ChunkIterable;
+import org.eclipse.collections.impl.lazy.CollectIfIterable;
 import org.eclipse.collections.impl.lazy.CollectIterable;
 import org.eclipse.collections.impl.lazy.CompositeIterable;
 import org.eclipse.collections.impl.lazy.DistinctIterable;
@@ -106,7 +107,7 @@ public final class LazyIterate
             Predicate<? super T> predicate,
             Function<? super T, ? extends V> function)
     {
-        return LazyIterate.select(iterable, predicate).collect(function);
+        return new CollectIfIterable<T, V>(iterable, predicate, function);
     }
 
     /**
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Appends, concatenation and reads on large immutable lists, comparing the array backed lists returned by
+ * Lists.immutable.withAll with the persistent lists returned by Lists.immutable.withAllPersistent. To be read together
+ * with {@link ListAddAllTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableListNewWithTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 100_000;
+    private static final int APPENDS = 1_000;
+
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final ImmutableList<Integer> integersEC = Lists.immutable.withAll(Interval.oneTo(SIZE));
+    private final ImmutableList<Integer> integersECPersistent = Lists.immutable.withAllPersistent(Interval.oneTo(SIZE));
+
+    @Benchmark
+    public void jdk_copyOnWrite_add()
+    {
+        List<Integer> result = new CopyOnWriteArrayList<>(this.integersJDK);
+        for (int i = 0; i < APPENDS; i++)
+        {
+            result.add(i);
+        }
+        if (result.size() != SIZE + APPENDS)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public void ec_newWith()
+    {
+        ImmutableList<Integer> result = this.integersEC;
+        for (int i = 0; i < APPENDS; i++)
+        {
+            result = result.newWith(i);
+        }
+        if (result.size() != SIZE + APPENDS)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> jdk_concatenate()
+    {
+        List<Integer> result = new ArrayList<>(this.integersJDK);
+        result.addAll(this.integersJDK);
+        return result;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> ec_newWithAll()
+    {
+        return this.integersEC.newWithAll(this.integersEC);
+    }
+
+    @Benchmark
+    public long jdk_iterate()
+    {
+        long sum = 0L;
+        for (Integer each : this.integersJDK)
+        {
+            sum += each;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ec_iterate()
+    {
+        long sum = 0L;
+        for (Integer each : this.integersEC)
+        {
+            sum += each;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ec_get()
+    {
+        long sum = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            sum += this.integersEC.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void ec_persistent_newWith()
+    {
+        ImmutableList<Integer> result = this.integersECPersistent;
+        for (int i = 0; i < APPENDS; i++)
+        {
+            result = result.newWith(i);
+        }
+        if (result.size() != SIZE + APPENDS)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> ec_persistent_newWithAll()
+    {
+        return this.integersECPersistent.newWithAll(this.integersECPersistent);
+    }
+
+    @Benchmark
+    public long ec_persistent_iterate()
+    {
+        long sum = 0L;
+        for (Integer each : this.integersECPersistent)
+        {
+            sum += each;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ec_persistent_get()
+    {
+        long sum = 0L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            sum += this.integersECPersistent.get(i);
+        }
+        return sum;
+    }
+}
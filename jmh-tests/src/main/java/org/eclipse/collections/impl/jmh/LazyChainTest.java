@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Chains of several lazy select, reject and collect stages, which are fused into a single select, collect or collectIf
+ * stage as they are chained.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyChainTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final FastList<Integer> integersEC = FastList.newList(Interval.oneTo(SIZE));
+
+    @Benchmark
+    public List<Integer> serial_lazy_select_select_jdk()
+    {
+        return this.integersJDK.stream().filter(e -> e % 2 == 0).filter(e -> e % 3 == 0).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<Integer> serial_lazy_select_select_ec()
+    {
+        return this.integersEC.asLazy().select(e -> e % 2 == 0).select(e -> e % 3 == 0).toList();
+    }
+
+    @Benchmark
+    public List<Integer> serial_lazy_select_reject_jdk()
+    {
+        return this.integersJDK.stream().filter(e -> e % 2 == 0).filter(e -> e % 3 != 0).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<Integer> serial_lazy_select_reject_ec()
+    {
+        return this.integersEC.asLazy().select(e -> e % 2 == 0).reject(e -> e % 3 == 0).toList();
+    }
+
+    @Benchmark
+    public List<String> serial_lazy_collect_collect_jdk()
+    {
+        return this.integersJDK.stream().map(e -> e * 2).map(Object::toString).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<String> serial_lazy_collect_collect_ec()
+    {
+        return this.integersEC.asLazy().collect(e -> e * 2).collect(Object::toString).toList();
+    }
+
+    @Benchmark
+    public List<String> serial_lazy_select_collect_jdk()
+    {
+        return this.integersJDK.stream().filter(e -> e % 2 == 0).map(Object::toString).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<String> serial_lazy_select_collect_ec()
+    {
+        return this.integersEC.asLazy().select(e -> e % 2 == 0).collect(Object::toString).toList();
+    }
+
+    @Benchmark
+    public List<String> serial_lazy_select_select_collect_collect_jdk()
+    {
+        return this.integersJDK.stream()
+                .filter(e -> e % 2 == 0)
+                .filter(e -> e % 3 == 0)
+                .map(e -> e * 2)
+                .map(Object::toString)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<String> serial_lazy_select_select_collect_collect_ec()
+    {
+        return this.integersEC.asLazy()
+                .select(e -> e % 2 == 0)
+                .select(e -> e % 3 == 0)
+                .collect(e -> e * 2)
+                .collect(Object::toString)
+                .toList();
+    }
+
+    @Benchmark
+    public long serial_lazy_select_collect_select_sumOfInt_jdk()
+    {
+        return this.integersJDK.stream()
+                .filter(e -> e % 2 == 0)
+                .map(e -> e / 2)
+                .filter(e -> e % 3 == 0)
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    @Benchmark
+    public long serial_lazy_select_collect_select_sumOfInt_ec()
+    {
+        return this.integersEC.asLazy()
+                .select(e -> e % 2 == 0)
+                .collect(e -> e / 2)
+                .select(e -> e % 3 == 0)
+                .sumOfInt(Integer::intValue);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reductions directly on primitive lists, to be compared with the boxed numbers from {@link SumOfIntTest} and
+ * {@link SumOfDoubleTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitiveListReductionTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 3_000_000;
+    private static final Random RANDOM = new Random();
+
+    private final int[] intsJDK = RANDOM.ints(SIZE, 0, 10_000).toArray();
+    private final int[] otherIntsJDK = RANDOM.ints(SIZE, 0, 10_000).toArray();
+    private final IntArrayList intsEC = IntArrayList.newListWith(this.intsJDK);
+    private final IntArrayList otherIntsEC = IntArrayList.newListWith(this.otherIntsJDK);
+
+    private final double[] doublesJDK = RANDOM.doubles(SIZE, 1.0d, 100.0d).toArray();
+    private final double[] otherDoublesJDK = RANDOM.doubles(SIZE, 1.0d, 100.0d).toArray();
+    private final DoubleArrayList doublesEC = DoubleArrayList.newListWith(this.doublesJDK);
+    private final DoubleArrayList otherDoublesEC = DoubleArrayList.newListWith(this.otherDoublesJDK);
+
+    @Benchmark
+    public long serial_eager_sumOfInt_jdk()
+    {
+        return Arrays.stream(this.intsJDK).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long serial_eager_sumOfInt_ec()
+    {
+        return this.intsEC.sum();
+    }
+
+    @Benchmark
+    public int serial_eager_maxOfInt_jdk()
+    {
+        return Arrays.stream(this.intsJDK).max().getAsInt();
+    }
+
+    @Benchmark
+    public int serial_eager_maxOfInt_ec()
+    {
+        return this.intsEC.max();
+    }
+
+    @Benchmark
+    public int serial_eager_minOfInt_jdk()
+    {
+        return Arrays.stream(this.intsJDK).min().getAsInt();
+    }
+
+    @Benchmark
+    public int serial_eager_minOfInt_ec()
+    {
+        return this.intsEC.min();
+    }
+
+    @Benchmark
+    public long serial_eager_countOfInt_jdk()
+    {
+        return Arrays.stream(this.intsJDK).filter(each -> each % 2 == 0).count();
+    }
+
+    @Benchmark
+    public int serial_eager_countOfInt_ec()
+    {
+        return this.intsEC.count(each -> each % 2 == 0);
+    }
+
+    @Benchmark
+    public long serial_eager_dotProductOfInt_ec()
+    {
+        return this.intsEC.dotProduct(this.otherIntsEC);
+    }
+
+    @Benchmark
+    public IntArrayList serial_eager_addElementwiseOfInt_ec()
+    {
+        return this.intsEC.addElementwise(this.otherIntsEC);
+    }
+
+    @Benchmark
+    public IntArrayList serial_eager_multiplyElementwiseOfInt_ec()
+    {
+        return this.intsEC.multiplyElementwise(this.otherIntsEC);
+    }
+
+    @Benchmark
+    public double serial_eager_sumOfDouble_jdk()
+    {
+        return Arrays.stream(this.doublesJDK).sum();
+    }
+
+    @Benchmark
+    public double serial_eager_sumOfDouble_ec()
+    {
+        return this.doublesEC.sum();
+    }
+
+    @Benchmark
+    public double serial_eager_maxOfDouble_jdk()
+    {
+        return Arrays.stream(this.doublesJDK).max().getAsDouble();
+    }
+
+    @Benchmark
+    public double serial_eager_maxOfDouble_ec()
+    {
+        return this.doublesEC.max();
+    }
+
+    @Benchmark
+    public double serial_eager_minOfDouble_jdk()
+    {
+        return Arrays.stream(this.doublesJDK).min().getAsDouble();
+    }
+
+    @Benchmark
+    public double serial_eager_minOfDouble_ec()
+    {
+        return this.doublesEC.min();
+    }
+
+    @Benchmark
+    public double serial_eager_dotProductOfDouble_ec()
+    {
+        return this.doublesEC.dotProduct(this.otherDoublesEC);
+    }
+
+    @Benchmark
+    public DoubleArrayList serial_eager_addElementwiseOfDouble_ec()
+    {
+        return this.doublesEC.addElementwise(this.otherDoublesEC);
+    }
+
+    @Benchmark
+    public DoubleArrayList serial_eager_multiplyElementwiseOfDouble_ec()
+    {
+        return this.doublesEC.multiplyElementwise(this.otherDoublesEC);
+    }
+}
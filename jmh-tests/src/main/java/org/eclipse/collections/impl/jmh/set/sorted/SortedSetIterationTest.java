@@ -18,6 +18,7 @@ import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import org.junit.After;
 import org.junit.Before;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -39,6 +40,7 @@ public class SortedSetIterationTest
 
     private final MutableSortedSet<Integer> ecMutable = SortedSets.mutable.withAll(Interval.zeroTo(SIZE));
     private final ImmutableSortedSet<Integer> ecImmutable = SortedSets.immutable.withAll(Interval.zeroTo(SIZE));
+    private final MutableSortedSet<Integer> ecBTree = BTreeSortedSet.newSet(Interval.zeroTo(SIZE));
 
     private ExecutorService executorService;
 
@@ -87,6 +89,37 @@ public class SortedSetIterationTest
         }
     }
 
+    @Benchmark
+    public void serial_mutable_btree_ec()
+    {
+        int count = this.ecBTree
+                .asLazy()
+                .select(each -> each % 10_000 != 0)
+                .collect(String::valueOf)
+                .collect(Integer::valueOf)
+                .count(each -> (each + 1) % 10_000 != 0);
+        if (count != 999_800)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public long sum_mutable_ec()
+    {
+        long[] sum = {0L};
+        this.ecMutable.each(each -> sum[0] += each);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long sum_mutable_btree_ec()
+    {
+        long[] sum = {0L};
+        this.ecBTree.each(each -> sum[0] += each);
+        return sum[0];
+    }
+
     @Benchmark
     public void parallel_mutable_ec()
     {
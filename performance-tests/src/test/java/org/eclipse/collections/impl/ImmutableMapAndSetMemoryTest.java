@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.immutable.ImmutableUnifiedMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the retained size of the small ImmutableMaps and ImmutableSets chosen by the factories next to the hash table
+ * based implementations they replace. Keys and values are shared between all instances, so only the collections
+ * themselves are measured.
+ */
+public class ImmutableMapAndSetMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImmutableMapAndSetMemoryTest.class);
+
+    private static final int INSTANCES = 100000;
+    private static final int[] SIZES = {5, 8, 12, 16, 24, 32};
+
+    @Test
+    @Category(MemoryTests.class)
+    public void immutableMaps()
+    {
+        for (int size : SIZES)
+        {
+            MutableMap<Integer, String> map = Interval.oneTo(size).toMap(each -> each, String::valueOf);
+            long factoryBytes = ImmutableMapAndSetMemoryTest.bytesPerInstance(() -> Maps.immutable.withAll(map));
+            long unifiedBytes = ImmutableMapAndSetMemoryTest.bytesPerInstance(() -> new ImmutableUnifiedMap<>(map));
+            LOGGER.info("ImmutableMap of size {}: factory {} bytes, ImmutableUnifiedMap {} bytes", size, factoryBytes, unifiedBytes);
+        }
+    }
+
+    @Test
+    @Category(MemoryTests.class)
+    public void immutableSets()
+    {
+        for (int size : SIZES)
+        {
+            MutableSet<Integer> set = Interval.oneTo(size).toSet();
+            long factoryBytes = ImmutableMapAndSetMemoryTest.bytesPerInstance(() -> Sets.immutable.withAll(set));
+            long unifiedBytes = ImmutableMapAndSetMemoryTest.bytesPerInstance(() -> UnifiedSet.newSet(set));
+            LOGGER.info("ImmutableSet of size {}: factory {} bytes, UnifiedSet {} bytes", size, factoryBytes, unifiedBytes);
+        }
+    }
+
+    private static long bytesPerInstance(Function0<?> factory)
+    {
+        Object[] instances = new Object[INSTANCES];
+        long before = ImmutableMapAndSetMemoryTest.usedMemory();
+        for (int i = 0; i < INSTANCES; i++)
+        {
+            instances[i] = factory.value();
+        }
+        long after = ImmutableMapAndSetMemoryTest.usedMemory();
+        Assert.assertNotNull(instances[INSTANCES - 1]);
+        return (after - before) / INSTANCES;
+    }
+
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++)
+        {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.collections.impl.set.mutable.LinearProbingUnifiedSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LinearProbingUnifiedSetAddTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinearProbingUnifiedSetAddTest.class);
+    private static final int SIZE = 250000;
+    private static final int KEY_LENGTH = 64;
+
+    @Test
+    @Category(PerformanceTests.class)
+    public void testUnifiedAddExpensiveEquals()
+    {
+        ExpensiveKey[] keys = LinearProbingUnifiedSetAddTest.createKeys();
+        for (int i = 0; i < 10; i++)
+        {
+            this.runAddAndContains(UnifiedSet.<ExpensiveKey>newSet(), keys);
+        }
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++)
+        {
+            this.runAddAndContains(UnifiedSet.<ExpensiveKey>newSet(), keys);
+        }
+        long time = System.currentTimeMillis() - now;
+        LOGGER.info("UnifiedSet, set size 250,000, expensive equals, add+contains/msec: {}", 10L * 2L * SIZE / Math.max(time, 1L));
+    }
+
+    @Test
+    @Category(PerformanceTests.class)
+    public void testLinearProbingAddExpensiveEquals()
+    {
+        ExpensiveKey[] keys = LinearProbingUnifiedSetAddTest.createKeys();
+        for (int i = 0; i < 10; i++)
+        {
+            this.runAddAndContains(LinearProbingUnifiedSet.<ExpensiveKey>newSet(), keys);
+        }
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++)
+        {
+            this.runAddAndContains(LinearProbingUnifiedSet.<ExpensiveKey>newSet(), keys);
+        }
+        long time = System.currentTimeMillis() - now;
+        LOGGER.info("LinearProbingUnifiedSet, set size 250,000, expensive equals, add+contains/msec: {}", 10L * 2L * SIZE / Math.max(time, 1L));
+    }
+
+    private void runAddAndContains(Set<ExpensiveKey> set, ExpensiveKey[] keys)
+    {
+        for (ExpensiveKey key : keys)
+        {
+            set.add(key);
+        }
+        for (ExpensiveKey key : keys)
+        {
+            Assert.assertTrue(set.contains(key.copy()));
+        }
+    }
+
+    /**
+     * Keys share a long common prefix so that every equals() call which reaches the arrays has to compare
+     * nearly all of their contents. The hash code is cached on the key, as it would be for String, so the cost
+     * being measured is equals() on probes that land on a different key.
+     */
+    private static ExpensiveKey[] createKeys()
+    {
+        Random random = new Random(123412123);
+        ExpensiveKey[] keys = new ExpensiveKey[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            long[] values = new long[KEY_LENGTH];
+            values[KEY_LENGTH - 1] = random.nextLong();
+            keys[i] = new ExpensiveKey(values);
+        }
+        return keys;
+    }
+
+    private static final class ExpensiveKey
+    {
+        private final long[] values;
+        private final int hashCode;
+
+        private ExpensiveKey(long[] values)
+        {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        public ExpensiveKey copy()
+        {
+            return new ExpensiveKey(this.values.clone());
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof ExpensiveKey && Arrays.equals(this.values, ((ExpensiveKey) o).values);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
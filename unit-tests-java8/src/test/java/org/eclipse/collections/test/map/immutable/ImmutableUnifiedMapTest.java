@@ -14,6 +14,7 @@ import java.util.Random;
 
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.map.immutable.ImmutableUnifiedMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.junit.runners.Java8Runner;
 import org.junit.Test;
@@ -37,7 +38,7 @@ public class ImmutableUnifiedMapTest implements ImmutableMapTestCase
         {
             assertNull(result.put(random.nextDouble(), each));
         }
-        return result.toImmutable();
+        return new ImmutableUnifiedMap<>(result);
     }
 
     @Test
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.mutable.sorted;
+
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap;
+import org.eclipse.junit.runners.Java8Runner;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertNull;
+
+@RunWith(Java8Runner.class)
+public class BTreeSortedMapTest implements MutableSortedMapIterableTestCase
+{
+    @Override
+    public <T> MutableSortedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableSortedMap<Object, T> result = new BTreeSortedMap<>(Comparators.reverseNaturalOrder());
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.set.mutable.sorted;
+
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet;
+import org.eclipse.collections.test.IterableTestCase;
+import org.eclipse.junit.runners.Java8Runner;
+import org.junit.runner.RunWith;
+
+@RunWith(Java8Runner.class)
+public class BTreeSortedSetTest implements MutableSortedSetTestCase
+{
+    @SafeVarargs
+    @Override
+    public final <T> MutableSortedSet<T> newWith(T... elements)
+    {
+        MutableSortedSet<T> result = BTreeSortedSet.newSet(Comparators.reverseNaturalOrder());
+        IterableTestCase.addAllTo(elements, result);
+        return result;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    private ExecutorService executor;
+
+    @Before
+    public void setUp()
+    {
+        this.executor = Executors.newFixedThreadPool(20);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Override
+    @Test
+    public void removeAll()
+    {
+        super.removeAll();
+        MutableBag<Integer> bag1 = this.newWith(1, 2, 3);
+        Assert.assertTrue(bag1.removeAll(this.newWith(1, 2, 4)));
+        Assert.assertEquals(Bags.mutable.of(3), bag1);
+
+        MutableBag<Integer> bag2 = this.newWith(1, 1, 1, 2, 2, 3, 4);
+        Verify.assertSize(7, bag2);
+        Assert.assertTrue(bag2.removeAll(this.newWith(1, 2, 2, 4)));
+        Verify.assertSize(1, bag2);
+        Assert.assertEquals(Bags.mutable.of(3), bag2);
+
+        MutableBag<Integer> bag3 = this.newWith(1, 2, 3);
+        Assert.assertFalse(bag3.removeAll(this.newWith(4, 5)));
+        Assert.assertEquals(Bags.mutable.of(1, 2, 3), bag3);
+    }
+
+    @Test
+    public void newBagFromIterable()
+    {
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(FastList.newListWith(1, 2, 2, 3, 3, 3)));
+    }
+
+    @Test
+    public void newBagFromBag()
+    {
+        Assert.assertEquals(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4),
+                ConcurrentHashBag.newBag(HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4)));
+    }
+
+    @Test
+    public void nullItem()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(null, null, 1);
+        Assert.assertEquals(2, bag.occurrencesOf(null));
+        Assert.assertTrue(bag.contains(null));
+        Assert.assertTrue(bag.removeOccurrences(null, 2));
+        Assert.assertFalse(bag.contains(null));
+        Assert.assertEquals(HashBag.newBagWith(1), bag);
+    }
+
+    @Test
+    public void concurrentAdd()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> bag.add(each % 10), 1, this.executor);
+        MutableBag<Integer> expected = HashBag.newBag();
+        Interval.zeroTo(9).each(each -> expected.addOccurrences(each, 1000));
+        Assert.assertEquals(expected, bag);
+        Assert.assertEquals(10000, bag.size());
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> {
+            bag.addOccurrences(each % 10, 2);
+            Assert.assertTrue(bag.remove(each % 10));
+        }, 1, this.executor);
+        MutableBag<Integer> expected = HashBag.newBag();
+        Interval.zeroTo(9).each(each -> expected.addOccurrences(each, 1000));
+        Assert.assertEquals(expected, bag);
+        Assert.assertEquals(10000, bag.size());
+    }
+
+    @Test
+    public void concurrentAddAndRemoveAllOccurrences()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> {
+            bag.add(each % 10);
+            bag.removeOccurrences(each % 10, Integer.MAX_VALUE);
+        }, 1, this.executor);
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void concurrentAddsDuringRetirement()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> {
+            bag.add(0);
+            if (each % 2 == 0)
+            {
+                Assert.assertTrue(bag.remove(0));
+            }
+        }, 1, this.executor);
+        Assert.assertEquals(5000, bag.occurrencesOf(0));
+        Assert.assertEquals(5000, bag.size());
+        Assert.assertEquals(1, bag.sizeDistinct());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.util.Comparator;
+
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OrderStatisticTreeBag}.
+ *
+ * @since 7.1
+ */
+public class OrderStatisticTreeBagTest extends AbstractMutableSortedBagTestCase
+{
+    @Override
+    protected <T> MutableSortedBag<T> newWith(T... littleElements)
+    {
+        return OrderStatisticTreeBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableSortedBag<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return OrderStatisticTreeBag.newBagWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedBag.class, this.newWith().asSynchronized());
+    }
+
+    @Test
+    public void sameAsTreeBag()
+    {
+        TreeBag<Integer> treeBag = TreeBag.newBagWith(Comparators.reverseNaturalOrder(), 5, 1, 3, 3, 2, 5, 5);
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBag(treeBag);
+        Verify.assertSortedBagsEqual(treeBag, bag);
+        Assert.assertEquals(treeBag, bag);
+        Assert.assertEquals(treeBag.hashCode(), bag.hashCode());
+    }
+
+    @Test
+    public void rank()
+    {
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBagWith(1, 3, 3, 5, 5, 5);
+        Assert.assertEquals(0, bag.rank(0));
+        Assert.assertEquals(0, bag.rank(1));
+        Assert.assertEquals(1, bag.rank(2));
+        Assert.assertEquals(1, bag.rank(3));
+        Assert.assertEquals(3, bag.rank(5));
+        Assert.assertEquals(6, bag.rank(6));
+
+        OrderStatisticTreeBag<Integer> reversed = OrderStatisticTreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 3, 3, 5, 5, 5);
+        Assert.assertEquals(0, reversed.rank(5));
+        Assert.assertEquals(3, reversed.rank(3));
+        Assert.assertEquals(5, reversed.rank(1));
+    }
+
+    @Test
+    public void get()
+    {
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBagWith(5, 3, 1, 3, 5, 5);
+        MutableList<Integer> expected = Lists.mutable.with(1, 3, 3, 5, 5, 5);
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Assert.assertEquals(expected.get(i), bag.get(i));
+        }
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.get(-1));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.get(6));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> OrderStatisticTreeBag.newBag().get(0));
+    }
+
+    @Test
+    public void occurrencesBetween()
+    {
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBagWith(1, 3, 3, 5, 5, 5);
+        Assert.assertEquals(6, bag.occurrencesBetween(0, 10));
+        Assert.assertEquals(3, bag.occurrencesBetween(1, 4));
+        Assert.assertEquals(5, bag.occurrencesBetween(3, 5));
+        Assert.assertEquals(0, bag.occurrencesBetween(6, 10));
+        Assert.assertEquals(0, bag.occurrencesBetween(5, 1));
+    }
+
+    @Test
+    public void indexOfCountsOccurrences()
+    {
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBagWith(1, 3, 3, 5, 5, 5);
+        Assert.assertEquals(0, bag.indexOf(1));
+        Assert.assertEquals(1, bag.indexOf(3));
+        Assert.assertEquals(3, bag.indexOf(5));
+        Assert.assertEquals(-1, bag.indexOf(4));
+    }
+
+    @Test
+    public void ranksFollowAddsAndRemoves()
+    {
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBag();
+        Interval.fromTo(1, 1000).each(each -> bag.addOccurrences(each, 2));
+        Verify.assertSize(2000, bag);
+        Assert.assertEquals(Integer.valueOf(500), bag.get(998));
+        Assert.assertEquals(998, bag.rank(500));
+
+        Interval.evensFromTo(1, 1000).each(each -> bag.removeOccurrences(each, 2));
+        Assert.assertEquals(500, bag.sizeDistinct());
+        Assert.assertEquals(Integer.valueOf(501), bag.get(500));
+        Assert.assertEquals(500, bag.rank(501));
+        Assert.assertEquals(200, bag.occurrencesBetween(101, 300));
+
+        bag.removeOccurrences(1, 1);
+        Assert.assertEquals(Integer.valueOf(1), bag.get(0));
+        Assert.assertEquals(Integer.valueOf(3), bag.get(1));
+        Assert.assertEquals(Interval.oddsFromTo(1, 999).toSet(), bag.toSet());
+    }
+
+    @Test
+    public void forEachInRange()
+    {
+        OrderStatisticTreeBag<Integer> bag = OrderStatisticTreeBag.newBagWith(1, 3, 3, 5, 5, 5, 7);
+        MutableList<Integer> result = Lists.mutable.empty();
+        bag.forEach(2, 5, result::add);
+        Assert.assertEquals(Lists.mutable.with(3, 5, 5, 5), result);
+
+        MutableList<Integer> indices = Lists.mutable.empty();
+        bag.forEachWithIndex(1, 2, (each, index) -> indices.add(index));
+        Assert.assertEquals(Lists.mutable.with(1, 2), indices);
+    }
+
+    @Override
+    @Test
+    public void serialization()
+    {
+        MutableSortedBag<Integer> bag = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(bag);
+    }
+
+    @Override
+    @Test(expected = NullPointerException.class)
+    public void min_null_safe()
+    {
+        super.min_null_safe();
+    }
+
+    @Override
+    @Test(expected = NullPointerException.class)
+    public void max_null_safe()
+    {
+        super.max_null_safe();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryReaderTest
+{
+    @Test
+    public void readValues() throws IOException
+    {
+        BinaryWriter out = new BinaryWriter(ByteBuffer.allocate(16));
+        out.writeBoolean(true);
+        out.writeByte(Byte.MIN_VALUE);
+        out.writeShort(Short.MIN_VALUE);
+        out.writeChar(Character.MAX_VALUE);
+        out.writeInt(Integer.MIN_VALUE);
+        out.writeLong(Long.MIN_VALUE);
+        out.writeFloat(Float.MIN_VALUE);
+        out.writeDouble(Double.MAX_VALUE);
+        out.writeString("Hello");
+        BinaryReader in = new BinaryReader(out.toByteBuffer());
+        Assert.assertTrue(in.readBoolean());
+        Assert.assertEquals(Byte.MIN_VALUE, in.readByte());
+        Assert.assertEquals(Short.MIN_VALUE, in.readShort());
+        Assert.assertEquals(Character.MAX_VALUE, in.readChar());
+        Assert.assertEquals(Integer.MIN_VALUE, in.readInt());
+        Assert.assertEquals(Long.MIN_VALUE, in.readLong());
+        Assert.assertEquals(Float.MIN_VALUE, in.readFloat(), 0.0f);
+        Assert.assertEquals(Double.MAX_VALUE, in.readDouble(), 0.0);
+        Assert.assertEquals("Hello", in.readString());
+    }
+
+    @Test
+    public void channel() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryWriter out = new BinaryWriter(Channels.newChannel(bytes), ByteBuffer.allocate(16));
+        for (long i = 0; i < 1000; i++)
+        {
+            out.writeLong(i * i * i);
+            out.writeDouble(i);
+        }
+        out.flush();
+        BinaryReader in = new BinaryReader(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ByteBuffer.allocate(16));
+        for (long i = 0; i < 1000; i++)
+        {
+            Assert.assertEquals(i * i * i, in.readLong());
+            Assert.assertEquals(i, in.readDouble(), 0.0);
+        }
+        try
+        {
+            in.readByte();
+            Assert.fail();
+        }
+        catch (EOFException ignored)
+        {
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void readPastEnd() throws IOException
+    {
+        new BinaryReader(ByteBuffer.wrap(new byte[]{1, 2, 3})).readDouble();
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void readMalformedInt() throws IOException
+    {
+        byte[] bytes = {-1, -1, -1, -1, -1, -1};
+        new BinaryReader(ByteBuffer.wrap(bytes)).readInt();
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void readNegativeSize() throws IOException
+    {
+        byte[] bytes = {-1, -1, -1, -1, 15};
+        new BinaryReader(ByteBuffer.wrap(bytes)).readSize();
+    }
+}
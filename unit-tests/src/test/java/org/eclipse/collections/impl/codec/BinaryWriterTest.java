@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryWriterTest
+{
+    private static byte[] bytes(BinaryWriter out)
+    {
+        ByteBuffer buffer = out.toByteBuffer();
+        byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+
+    @Test
+    public void newWriter_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new BinaryWriter(ByteBuffer.allocate(15)));
+    }
+
+    @Test
+    public void writeInt() throws IOException
+    {
+        BinaryWriter out = new BinaryWriter();
+        out.writeInt(0);
+        out.writeInt(-1);
+        out.writeInt(1);
+        out.writeInt(-64);
+        out.writeInt(64);
+        Assert.assertArrayEquals(new byte[]{0, 1, 2, 127, (byte) 0x80, 1}, bytes(out));
+    }
+
+    @Test
+    public void writeSize() throws IOException
+    {
+        BinaryWriter out = new BinaryWriter();
+        out.writeSize(127);
+        out.writeSize(128);
+        Assert.assertArrayEquals(new byte[]{127, (byte) 0x80, 1}, bytes(out));
+        Verify.assertThrows(IllegalArgumentException.class, () ->
+        {
+            out.writeSize(-1);
+            return null;
+        });
+    }
+
+    @Test
+    public void writeLong() throws IOException
+    {
+        BinaryWriter out = new BinaryWriter();
+        out.writeLong(Long.MIN_VALUE);
+        Assert.assertEquals(10, bytes(out).length);
+    }
+
+    @Test
+    public void grow() throws IOException
+    {
+        BinaryWriter out = new BinaryWriter(ByteBuffer.allocate(16));
+        for (int i = 0; i < 1000; i++)
+        {
+            out.writeDouble(i);
+        }
+        ByteBuffer buffer = out.toByteBuffer();
+        Assert.assertEquals(8000, buffer.remaining());
+        Assert.assertTrue(buffer.isReadOnly());
+        Assert.assertEquals(999.0, buffer.getDouble(7992), 0.0);
+    }
+
+    @Test
+    public void channel() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryWriter out = new BinaryWriter(Channels.newChannel(bytes), ByteBuffer.allocate(16));
+        for (int i = 0; i < 100; i++)
+        {
+            out.writeLong(Long.MAX_VALUE);
+        }
+        Assert.assertTrue(bytes.size() > 0);
+        Assert.assertTrue(bytes.size() < 1000);
+        out.flush();
+        Assert.assertEquals(1000, bytes.size());
+        Verify.assertThrows(IllegalStateException.class, out::toByteBuffer);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableIntBooleanMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.codec.primitive.IntBooleanMapCodecs;
+import org.eclipse.collections.impl.codec.primitive.IntCodecs;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntBooleanHashMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodecsTest
+{
+    private static <T> T roundTrip(Codec<T> codec, T value) throws IOException
+    {
+        BinaryWriter out = new BinaryWriter(ByteBuffer.allocate(16));
+        out.write(value, codec);
+        ByteBuffer buffer = out.toByteBuffer();
+        T result = new BinaryReader(buffer).read(codec);
+        Assert.assertFalse(buffer.hasRemaining());
+        return result;
+    }
+
+    private static <T> int encodedSize(Codec<T> codec, T value) throws IOException
+    {
+        BinaryWriter out = new BinaryWriter();
+        out.write(value, codec);
+        return out.toByteBuffer().remaining();
+    }
+
+    @Test
+    public void values() throws IOException
+    {
+        Assert.assertEquals("", roundTrip(Codecs.string(), ""));
+        Assert.assertEquals("caf\u00e9 \ud83d\ude00", roundTrip(Codecs.string(), "caf\u00e9 \ud83d\ude00"));
+        Assert.assertEquals(Integer.valueOf(Integer.MIN_VALUE), roundTrip(Codecs.integer(), Integer.MIN_VALUE));
+        Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), roundTrip(Codecs.longValue(), Long.MAX_VALUE));
+        Assert.assertEquals(Double.valueOf(Double.NaN), roundTrip(Codecs.doubleValue(), Double.NaN));
+        Assert.assertNull(roundTrip(Codecs.nullable(Codecs.string()), null));
+        Assert.assertEquals("One", roundTrip(Codecs.nullable(Codecs.string()), "One"));
+    }
+
+    @Test
+    public void mutableList() throws IOException
+    {
+        MutableList<String> list = FastList.newListWith("One", null, "Three");
+        MutableList<String> result = roundTrip(Codecs.mutableList(Codecs.nullable(Codecs.string())), list);
+        Assert.assertEquals(list, result);
+        Verify.assertInstanceOf(FastList.class, result);
+
+        MutableList<Integer> integers = Interval.oneTo(1000).toList();
+        Assert.assertEquals(integers, roundTrip(Codecs.mutableList(Codecs.integer()), integers));
+        Assert.assertEquals(integers, roundTrip(Codecs.mutableList(Codecs.integer()), integers.asUnmodifiable()));
+    }
+
+    @Test
+    public void immutableList() throws IOException
+    {
+        MutableList<Integer> integers = Interval.oneTo(1000).toList();
+        Assert.assertEquals(integers, roundTrip(Codecs.immutableList(Codecs.integer()), integers.toImmutable()));
+        Assert.assertEquals(FastList.newList(), roundTrip(Codecs.immutableList(Codecs.integer()), FastList.<Integer>newList().toImmutable()));
+    }
+
+    @Test
+    public void sets() throws IOException
+    {
+        MutableSet<String> set = UnifiedSet.newSetWith("One", "Two", "Three", null);
+        MutableSet<String> result = roundTrip(Codecs.mutableSet(Codecs.nullable(Codecs.string())), set);
+        Assert.assertEquals(set, result);
+        Verify.assertInstanceOf(UnifiedSet.class, result);
+        Assert.assertEquals(set, roundTrip(Codecs.immutableSet(Codecs.nullable(Codecs.string())), set.toImmutable()));
+    }
+
+    @Test
+    public void maps() throws IOException
+    {
+        MutableMap<String, MutableList<Integer>> map = UnifiedMap.newWithKeysValues(
+                "One", FastList.newListWith(1),
+                "Two", FastList.newListWith(1, 2),
+                "Empty", FastList.<Integer>newList());
+        Codec<MutableMap<String, MutableList<Integer>>> codec = Codecs.mutableMap(Codecs.string(), Codecs.mutableList(Codecs.integer()));
+        MutableMap<String, MutableList<Integer>> result = roundTrip(codec, map);
+        Assert.assertEquals(map, result);
+        Verify.assertInstanceOf(UnifiedMap.class, result);
+
+        MutableMap<Integer, String> integers = Interval.oneTo(100).toMap(each -> each, Object::toString);
+        Assert.assertEquals(integers, roundTrip(Codecs.immutableMap(Codecs.integer(), Codecs.string()), integers.toImmutable()));
+    }
+
+    @Test(expected = IOException.class)
+    public void mapKeyCodecFailure() throws IOException
+    {
+        Codec<String> failing = new Codec<String>()
+        {
+            public void write(String value, BinaryWriter out) throws IOException
+            {
+                throw new IOException(value);
+            }
+
+            public String read(BinaryReader in) throws IOException
+            {
+                throw new IOException();
+            }
+        };
+        new BinaryWriter().write(UnifiedMap.newWithKeysValues("One", 1), Codecs.mutableMap(failing, Codecs.integer()));
+    }
+
+    @Test
+    public void primitiveBooleanMap() throws IOException
+    {
+        MutableIntBooleanMap map = IntBooleanHashMap.newWithKeysValues(1, true, -1, false, 100, true);
+        Assert.assertEquals(map, roundTrip(IntBooleanMapCodecs.mutableMap(), map));
+        Assert.assertEquals(map, roundTrip(IntBooleanMapCodecs.immutableMap(), map.toImmutable()));
+    }
+
+    @Test
+    public void compactEncoding() throws IOException
+    {
+        Assert.assertEquals(3, encodedSize(Codecs.mutableList(Codecs.integer()), FastList.newListWith(-1, 63)));
+        Assert.assertEquals(7, encodedSize(Codecs.string(), "\u0000\u007f\u0080\u00ff"));
+
+        IntArrayList sorted = IntArrayList.newListWith(Interval.fromTo(1000000, 1099999).toIntArray());
+        Assert.assertEquals(100005, encodedSize(IntCodecs.mutableList(), sorted));
+        Assert.assertEquals(sorted, roundTrip(IntCodecs.mutableList(), sorted));
+    }
+}
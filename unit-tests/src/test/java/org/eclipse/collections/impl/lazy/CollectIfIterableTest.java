@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.InternalIterable;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CollectIfIterableTest extends AbstractLazyIterableTestCase
+{
+    @Override
+    protected <T> LazyIterable<T> newWith(T... elements)
+    {
+        return LazyIterate.collectIf(FastList.newListWith(elements), ignored -> true, Functions.<T>identity());
+    }
+
+    @Test
+    public void forEach()
+    {
+        LazyIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(5), Predicates.lessThan(4), String::valueOf);
+        StringBuilder builder = new StringBuilder();
+        collectIf.each(builder::append);
+        Assert.assertEquals("123", builder.toString());
+    }
+
+    @Test
+    public void forEachWithIndex()
+    {
+        InternalIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(5), Predicates.greaterThan(2), String::valueOf);
+        StringBuilder builder = new StringBuilder();
+        collectIf.forEachWithIndex((object, index) -> {
+            builder.append(object);
+            builder.append(index);
+        });
+        Assert.assertEquals("304152", builder.toString());
+    }
+
+    @Test
+    public void forEachWith()
+    {
+        InternalIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(5), Predicates.greaterThan(2), String::valueOf);
+        StringBuilder builder = new StringBuilder();
+        collectIf.forEachWith((each, aBuilder) -> aBuilder.append(each), builder);
+        Assert.assertEquals("345", builder.toString());
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        InternalIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(5), Predicates.greaterThan(2), String::valueOf);
+        StringBuilder builder = new StringBuilder();
+        for (String each : collectIf)
+        {
+            builder.append(each);
+        }
+        Assert.assertEquals("345", builder.toString());
+    }
+
+    @Test
+    public void selectThenCollectIsFused()
+    {
+        LazyIterable<String> fused = Interval.oneTo(10).asLazy().select(each -> each % 2 == 0).collect(String::valueOf);
+        Assert.assertTrue(fused instanceof CollectIfIterable);
+        Assert.assertEquals(FastList.newListWith("2", "4", "6", "8", "10"), fused.toList());
+
+        LazyIterable<Integer> collected = Interval.oneTo(10).asLazy().reject(each -> each % 2 == 0).collect(each -> each * 10).collect(each -> each + 1);
+        Assert.assertTrue(collected instanceof CollectIfIterable);
+        Assert.assertEquals(FastList.newListWith(11, 31, 51, 71, 91), collected.toList());
+    }
+
+    @Test
+    public void collectPrimitives()
+    {
+        LazyIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(5), Predicates.greaterThan(2), String::valueOf);
+        Assert.assertEquals(IntArrayList.newListWith(3, 4, 5), collectIf.collectInt(Integer::parseInt).toList());
+        Assert.assertEquals(LongArrayList.newListWith(3L, 4L, 5L), collectIf.collectLong(Long::parseLong).toList());
+        Assert.assertEquals(DoubleArrayList.newListWith(3.0, 4.0, 5.0), collectIf.collectDouble(Double::parseDouble).toList());
+        Assert.assertEquals(12L, collectIf.collectInt(Integer::parseInt).sum());
+    }
+
+    @Test
+    public void satisfiesAndDetect()
+    {
+        LazyIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(5), Predicates.greaterThan(2), String::valueOf);
+        Assert.assertTrue(collectIf.anySatisfy("3"::equals));
+        Assert.assertFalse(collectIf.anySatisfy("1"::equals));
+        Assert.assertTrue(collectIf.allSatisfy(each -> each.compareTo("3") >= 0));
+        Assert.assertFalse(collectIf.allSatisfy("3"::equals));
+        Assert.assertTrue(collectIf.noneSatisfy("2"::equals));
+        Assert.assertEquals("4", collectIf.detect("4"::equals));
+        Assert.assertNull(collectIf.detect("2"::equals));
+        Assert.assertEquals("3", collectIf.getFirst());
+        Assert.assertEquals("5", collectIf.getLast());
+        Assert.assertNull(new CollectIfIterable<>(Interval.oneTo(5), Predicates.greaterThan(5), String::valueOf).getFirst());
+    }
+
+    @Test
+    public void detectAppliesFunctionOncePerSelectedElement()
+    {
+        AtomicInteger invocations = new AtomicInteger();
+        LazyIterable<String> collectIf = new CollectIfIterable<>(Interval.oneTo(10), Predicates.greaterThan(2), each -> {
+            invocations.incrementAndGet();
+            return String.valueOf(each);
+        });
+        Assert.assertEquals("5", collectIf.detect("5"::equals));
+        Assert.assertEquals(3, invocations.get());
+        invocations.set(0);
+        Assert.assertNull(collectIf.detect("11"::equals));
+        Assert.assertEquals(8, invocations.get());
+    }
+}
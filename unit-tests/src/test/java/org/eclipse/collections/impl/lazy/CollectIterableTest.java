@@ -18,6 +18,7 @@ import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.junit.Assert;
 import org.junit.Test;
@@ -138,5 +139,17 @@ public class CollectIterableTest extends AbstractLazyIterableTestCase
         stringNums.toArray();
         Assert.assertEquals(Lists.immutable.of("0", "1", "2", "3"), Lists.immutable.ofAll(stringNums));
     }
-}
 
+    @Test
+    public void collectIsFused()
+    {
+        LazyIterable<String> fused = new CollectIterable<>(Interval.oneTo(3), each -> each * 10).collect(String::valueOf);
+        Assert.assertTrue(fused instanceof CollectIterable);
+        Assert.assertEquals(FastList.newListWith("10", "20", "30"), fused.toList());
+
+        LazyIterable<String> strings = new CollectIterable<>(Interval.oneTo(3), String::valueOf);
+        Assert.assertEquals(IntArrayList.newListWith(1, 2, 3), strings.collectInt(Integer::parseInt).toList());
+        Assert.assertEquals(6L, strings.collectLong(Long::parseLong).sum());
+        Assert.assertEquals(6.0, strings.collectDouble(Double::parseDouble).sum(), 0.0);
+    }
+}
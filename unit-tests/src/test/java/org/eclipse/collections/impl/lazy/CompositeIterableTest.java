@@ -119,4 +119,20 @@ public class CompositeIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1, 5),
                 composite.distinct().toList());
     }
+
+    @Test
+    public void shortCircuits()
+    {
+        CompositeIterable<Integer> composite = CompositeIterable.with(Interval.oneTo(3), FastList.<Integer>newList(), Interval.fromTo(4, 6));
+        Assert.assertTrue(composite.anySatisfy(each -> each == 5));
+        Assert.assertFalse(composite.anySatisfy(each -> each == 7));
+        Assert.assertTrue(composite.allSatisfy(each -> each <= 6));
+        Assert.assertFalse(composite.allSatisfy(each -> each <= 5));
+        Assert.assertTrue(composite.noneSatisfy(each -> each > 6));
+        Assert.assertFalse(composite.noneSatisfy(each -> each == 1));
+        Assert.assertEquals(Integer.valueOf(4), composite.detect(each -> each > 3));
+        Assert.assertNull(composite.detect(each -> each > 6));
+        Assert.assertEquals(Integer.valueOf(1), composite.getFirst());
+        Assert.assertTrue(new CompositeIterable<Integer>().isEmpty());
+    }
 }
@@ -15,7 +15,9 @@ import java.util.NoSuchElementException;
 import org.eclipse.collections.api.InternalIterable;
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.lazy.iterator.DistinctIterator;
 import org.eclipse.collections.impl.list.mutable.FastList;
@@ -99,4 +101,20 @@ public class DistinctIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1, 5),
                 distinctDistinct.toList());
     }
+
+    @Test
+    public void shortCircuits()
+    {
+        LazyIterable<Integer> distinct = LazyIterate.distinct(FastList.newListWith(3, 1, 3, 2, 1, 4));
+        MutableList<Integer> result = FastList.newList();
+        distinct.forEach(CollectionAddProcedure.on(result));
+        Assert.assertEquals(FastList.newListWith(3, 1, 2, 4), result);
+        Assert.assertTrue(distinct.anySatisfy(each -> each == 2));
+        Assert.assertFalse(distinct.anySatisfy(each -> each == 5));
+        Assert.assertTrue(distinct.allSatisfy(each -> each < 5));
+        Assert.assertTrue(distinct.noneSatisfy(each -> each > 4));
+        Assert.assertEquals(Integer.valueOf(2), distinct.detect(each -> each % 2 == 0));
+        Assert.assertNull(distinct.detect(each -> each > 4));
+        Assert.assertEquals(FastList.newListWith(3, 1, 2), distinct.take(3).toList());
+    }
 }
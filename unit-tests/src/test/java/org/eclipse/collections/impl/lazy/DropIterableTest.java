@@ -10,9 +10,14 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.bag.immutable.ImmutableArrayBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
@@ -224,4 +229,82 @@ public class DropIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(2, 3, 4, 5),
                 new DropIterable<>(FastList.newListWith(1, 1, 2, 3, 3, 3, 4, 5), 2).distinct().toList());
     }
+
+    @Test
+    public void shortCircuits()
+    {
+        MutableList<Integer> visited = FastList.newList();
+        LazyIterable<Integer> drop = new DropIterable<>(LazyIterate.tap(DropIterableTest.withoutIterator(10), visited::add), 2);
+
+        Assert.assertTrue(drop.anySatisfy(each -> each == 4));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), visited);
+        Assert.assertFalse(drop.anySatisfy(each -> each == 1));
+        Assert.assertEquals(Integer.valueOf(3), drop.detect(each -> each < 5));
+        Assert.assertNull(drop.detect(each -> each < 3));
+        Assert.assertTrue(drop.allSatisfy(each -> each > 2));
+        Assert.assertFalse(drop.allSatisfy(each -> each > 3));
+        Assert.assertTrue(drop.noneSatisfy(each -> each < 3));
+        Assert.assertFalse(drop.noneSatisfy(each -> each == 10));
+    }
+
+    @Test
+    public void shortCircuitsThroughLazyStages()
+    {
+        MutableList<Integer> visited = FastList.newList();
+        LazyIterable<Integer> source = LazyIterate.tap(DropIterableTest.withoutIterator(10), visited::add);
+
+        Assert.assertEquals(Integer.valueOf(6), source.select(each -> each % 2 == 0).drop(2).detect(each -> each > 0));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5, 6), visited);
+
+        visited.clear();
+        Assert.assertTrue(source.collect(each -> each * 10).drop(1).anySatisfy(each -> each == 30));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), visited);
+
+        visited.clear();
+        Assert.assertFalse(source.collect(each -> (each + 1) / 2).distinct().drop(1).allSatisfy(each -> each < 3));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), visited);
+
+        visited.clear();
+        Assert.assertTrue(source.take(5).drop(3).noneSatisfy(each -> each < 4));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), visited);
+    }
+
+    @Test
+    public void bags()
+    {
+        this.assertDropsEveryOccurrence(HashBag.newBagWith(1, 1, 1, 2));
+        this.assertDropsEveryOccurrence(ImmutableArrayBag.newBagWith(1, 1, 1, 2));
+    }
+
+    private void assertDropsEveryOccurrence(Iterable<Integer> bag)
+    {
+        LazyIterable<Integer> drop = new DropIterable<>(bag, 1);
+        Assert.assertEquals(FastList.newListWith(1, 1, 2), drop.toList());
+        Assert.assertTrue(drop.anySatisfy(each -> each == 1));
+        Assert.assertEquals(Integer.valueOf(1), drop.detect(each -> each == 1));
+        Assert.assertFalse(drop.allSatisfy(each -> each == 2));
+        Assert.assertFalse(drop.noneSatisfy(each -> each == 1));
+        LazyIterable<Integer> dropThree = new DropIterable<>(bag, 3);
+        Assert.assertTrue(dropThree.allSatisfy(each -> each == 2));
+        Assert.assertTrue(dropThree.noneSatisfy(each -> each == 1));
+        Assert.assertNull(dropThree.detect(each -> each == 1));
+        Assert.assertTrue(LazyIterate.collect(bag, each -> each).drop(2).anySatisfy(each -> each == 1));
+        Assert.assertNull(LazyIterate.select(bag, each -> each == 1).drop(3).detect(each -> each == 1));
+    }
+
+    /**
+     * Returns a list that fails when it is iterated with an iterator, so that only pushing the elements through its
+     * internal iteration passes.
+     */
+    private static MutableList<Integer> withoutIterator(int count)
+    {
+        return new FastList<Integer>(Interval.oneTo(count))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("Should not be iterated with an iterator");
+            }
+        };
+    }
 }
@@ -83,4 +83,13 @@ public class RejectIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 5),
                 iterable.distinct().toList());
     }
+
+    @Test
+    public void rejectAndSelectAreFused()
+    {
+        LazyIterable<Integer> fused = LazyIterate.reject(Interval.oneTo(20), each -> each % 2 == 0).select(each -> each % 3 == 0).reject(each -> each > 15);
+        Assert.assertTrue(fused instanceof SelectIterable);
+        Assert.assertEquals(FastList.newListWith(3, 9, 15), fused.toList());
+        Assert.assertEquals(FastList.newListWith("1", "3", "5"), LazyIterate.reject(Interval.oneTo(6), each -> each % 2 == 0).collect(String::valueOf).toList());
+    }
 }
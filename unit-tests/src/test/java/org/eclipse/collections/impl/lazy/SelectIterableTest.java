@@ -89,4 +89,12 @@ public class SelectIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 iterable.distinct().toList());
     }
+
+    @Test
+    public void selectAndRejectAreFused()
+    {
+        LazyIterable<Integer> fused = LazyIterate.select(Interval.oneTo(20), each -> each % 2 == 0).select(each -> each % 3 == 0).reject(each -> each > 15);
+        Assert.assertTrue(fused instanceof SelectIterable);
+        Assert.assertEquals(FastList.newListWith(6, 12), fused.toList());
+    }
 }
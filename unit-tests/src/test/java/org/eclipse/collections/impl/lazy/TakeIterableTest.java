@@ -10,9 +10,14 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.bag.immutable.ImmutableArrayBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.procedure.CountProcedure;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
@@ -191,4 +196,93 @@ public class TakeIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 new TakeIterable<>(FastList.newListWith(3, 2, 2, 4, 1, 3, 1, 5), 7).distinct().toList());
     }
+
+    @Test
+    public void shortCircuits()
+    {
+        MutableList<Integer> visited = FastList.newList();
+        LazyIterable<Integer> take = new TakeIterable<>(LazyIterate.tap(TakeIterableTest.withoutIterator(10), visited::add), 3);
+
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), take.toList());
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), visited);
+
+        visited.clear();
+        Assert.assertTrue(take.anySatisfy(each -> each == 2));
+        Assert.assertEquals(FastList.newListWith(1, 2), visited);
+
+        visited.clear();
+        Assert.assertFalse(take.anySatisfy(each -> each == 4));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), visited);
+
+        Assert.assertEquals(Integer.valueOf(2), take.detect(each -> each > 1));
+        Assert.assertNull(take.detect(each -> each > 3));
+        Assert.assertTrue(take.allSatisfy(each -> each <= 3));
+        Assert.assertFalse(take.allSatisfy(each -> each <= 2));
+        Assert.assertTrue(take.noneSatisfy(each -> each > 3));
+        Assert.assertFalse(this.zeroCountTakeIterable.anySatisfy(each -> true));
+        Assert.assertNull(this.zeroCountTakeIterable.detect(each -> true));
+        Assert.assertEquals(Integer.valueOf(5), this.higherCountTakeIterable.detect(each -> each == 5));
+    }
+
+    @Test
+    public void shortCircuitsThroughLazyStages()
+    {
+        MutableList<Integer> visited = FastList.newList();
+        LazyIterable<Integer> source = LazyIterate.tap(TakeIterableTest.withoutIterator(10), visited::add);
+
+        Assert.assertEquals(FastList.newListWith(2, 4), source.select(each -> each % 2 == 0).take(2).toList());
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), visited);
+
+        visited.clear();
+        Assert.assertEquals(FastList.newListWith(10, 20), source.collect(each -> each * 10).take(2).toList());
+        Assert.assertEquals(FastList.newListWith(1, 2), visited);
+
+        visited.clear();
+        Assert.assertEquals(FastList.newListWith(1, 2), source.collect(each -> (each + 1) / 2).distinct().take(2).toList());
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), visited);
+
+        visited.clear();
+        Assert.assertTrue(source.reject(each -> each < 5).take(2).anySatisfy(each -> each == 5));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), visited);
+
+        visited.clear();
+        Assert.assertEquals(Integer.valueOf(3), source.drop(1).take(5).detect(each -> each > 2));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), visited);
+    }
+
+    @Test
+    public void bags()
+    {
+        this.assertTakesEveryOccurrence(HashBag.newBagWith(1, 1, 1, 2));
+        this.assertTakesEveryOccurrence(ImmutableArrayBag.newBagWith(1, 1, 1, 2));
+    }
+
+    private void assertTakesEveryOccurrence(Iterable<Integer> bag)
+    {
+        LazyIterable<Integer> take = new TakeIterable<>(bag, 3);
+        Assert.assertEquals(FastList.newListWith(1, 1, 1), take.toList());
+        Assert.assertArrayEquals(new Object[]{1, 1, 1}, take.toArray());
+        Assert.assertTrue(new TakeIterable<>(bag, 2).allSatisfy(each -> each == 1));
+        Assert.assertFalse(take.anySatisfy(each -> each == 2));
+        Assert.assertNull(take.detect(each -> each == 2));
+        Assert.assertEquals(Integer.valueOf(2), new TakeIterable<>(bag, 4).detect(each -> each == 2));
+        Assert.assertEquals(FastList.newListWith(1, 1, 1), LazyIterate.collect(bag, each -> each).take(3).toList());
+        Assert.assertEquals(FastList.newListWith(1, 1), LazyIterate.select(bag, each -> each == 1).take(2).toList());
+    }
+
+    /**
+     * Returns a list that fails when it is iterated with an iterator, so that only pushing the elements through its
+     * internal iteration passes.
+     */
+    private static MutableList<Integer> withoutIterator(int count)
+    {
+        return new FastList<Integer>(Interval.oneTo(count))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("Should not be iterated with an iterator");
+            }
+        };
+    }
 }
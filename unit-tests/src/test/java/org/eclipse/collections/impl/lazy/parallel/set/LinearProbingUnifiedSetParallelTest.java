@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.set;
+
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.set.mutable.LinearProbingUnifiedSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LinearProbingUnifiedSetParallelTest extends ParallelUnsortedSetIterableTestCase
+{
+    @Override
+    protected ParallelUnsortedSetIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 3, 4);
+    }
+
+    @Override
+    protected ParallelUnsortedSetIterable<Integer> newWith(Integer... littleElements)
+    {
+        return LinearProbingUnifiedSet.newSetWith(littleElements).asParallel(this.executorService, this.batchSize);
+    }
+
+    @Test
+    public void asParallel_view()
+    {
+        LinearProbingUnifiedSet<Integer> set = LinearProbingUnifiedSet.newSetWith(1, 2, 3, 4);
+        ParallelUnsortedSetIterable<Integer> parallel = set.asParallel(this.executorService, this.batchSize);
+        set.add(5);
+        set.remove(1);
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4, 5), parallel.toSet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        LinearProbingUnifiedSet.newSetWith(1, 2, 3, 4).asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        LinearProbingUnifiedSet.newSetWith(1, 2, 3, 4).asParallel(null, 2);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newListWith(1, 2, 3);
+    }
+
+    @Test
+    public void factory()
+    {
+        Integer[] elements = Interval.oneTo(10_000).toArray();
+        ImmutableList<Integer> arrayList = Lists.immutable.with(elements);
+        Verify.assertInstanceOf(ImmutableArrayList.class, arrayList);
+        Verify.assertInstanceOf(ImmutableArrayList.class, arrayList.newWith(0));
+        Verify.assertInstanceOf(ImmutableArrayList.class, FastList.newListWith(elements).toImmutable());
+
+        ImmutableList<Integer> trieList = Lists.immutable.withAllPersistent(Interval.oneTo(10_000));
+        Verify.assertInstanceOf(ImmutableTrieList.class, trieList);
+        Verify.assertInstanceOf(ImmutableTrieList.class, trieList.newWith(0));
+        Assert.assertSame(trieList, Lists.immutable.withAllPersistent(trieList));
+        Assert.assertEquals(arrayList, trieList);
+    }
+
+    @Test
+    public void newWith()
+    {
+        MutableList<Integer> expected = FastList.newList();
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith();
+        ImmutableList<Integer>[] versions = new ImmutableList[40_000];
+        for (int i = 0; i < 40_000; i++)
+        {
+            versions[i] = list;
+            list = list.newWith(i);
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(list, expected);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        for (int i = 0; i < 40_000; i += 997)
+        {
+            Assert.assertEquals(expected.subList(0, i), versions[i]);
+        }
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> versions[1000].get(1000));
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newListWith(Interval.oneTo(1_000).toArray());
+        ImmutableList<Integer> withAll = list.newWithAll(Interval.fromTo(1_001, 40_000));
+        Assert.assertEquals(Interval.oneTo(40_000), withAll);
+        Assert.assertEquals(Interval.oneTo(1_000), list);
+        Assert.assertEquals(Interval.oneTo(80_000), withAll.newWithAll(ImmutableTrieList.newList(Interval.fromTo(40_001, 80_000))));
+        Assert.assertSame(list, list.newWithAll(FastList.<Integer>newList()));
+    }
+
+    @Test
+    public void take()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(40_000));
+        for (int count : new int[]{0, 1, 31, 32, 33, 65, 1_024, 1_025, 1_056, 1_057, 32_768, 32_800, 32_801, 39_999})
+        {
+            ImmutableList<Integer> taken = list.take(count);
+            Assert.assertEquals(FastList.newList(Interval.oneTo(40_000)).subList(0, count), taken);
+            Assert.assertEquals(Interval.oneTo(count + 1), taken.newWith(count + 1));
+        }
+        Assert.assertSame(list, list.take(40_000));
+        Verify.assertThrows(IllegalArgumentException.class, () -> list.take(-1));
+    }
+
+    @Test
+    public void iteration()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1_100));
+        MutableList<Integer> result = FastList.newList();
+        list.each(result::add);
+        Assert.assertEquals(Interval.oneTo(1_100), result);
+        result.clear();
+        list.forEachWithIndex((each, index) -> {
+            Assert.assertEquals(index + 1, each.intValue());
+            result.add(each);
+        });
+        Assert.assertEquals(Interval.oneTo(1_100), result);
+        result.clear();
+        for (Integer each : list)
+        {
+            result.add(each);
+        }
+        Assert.assertEquals(Interval.oneTo(1_100), result);
+        Assert.assertArrayEquals(Interval.oneTo(1_100).toArray(), list.toArray());
+        Assert.assertArrayEquals(Interval.oneTo(1_100).toArray(), list.toArray(new Integer[0]));
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        BatchIterable<Integer> batchIterable = ImmutableTrieList.newList(Interval.oneTo(1_100));
+        Assert.assertEquals(3, batchIterable.getBatchCount(350));
+        MutableList<Integer> result = FastList.newList();
+        for (int i = 0; i < 7; i++)
+        {
+            batchIterable.batchForEach(result::add, i, 7);
+        }
+        Assert.assertEquals(Interval.oneTo(1_100), result);
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1_100));
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+    }
+}
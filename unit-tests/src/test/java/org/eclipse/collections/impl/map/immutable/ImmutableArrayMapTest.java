@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableArrayMap}.
+ */
+public class ImmutableArrayMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return new ImmutableArrayMap<>(Interval.oneTo(8).toMap(each -> each, String::valueOf));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 8;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4, 5=5, 6=6, 7=7, 8=8}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void factoryThresholds()
+    {
+        Verify.assertInstanceOf(ImmutableQuadrupletonMap.class, this.factoryMapOfSize(4));
+        Verify.assertInstanceOf(ImmutableArrayMap.class, this.factoryMapOfSize(5));
+        Verify.assertInstanceOf(ImmutableArrayMap.class, this.factoryMapOfSize(ImmutableMapFactoryImpl.ARRAY_MAP_THRESHOLD));
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, this.factoryMapOfSize(ImmutableMapFactoryImpl.ARRAY_MAP_THRESHOLD + 1));
+
+        ImmutableMap<Integer, String> map = this.factoryMapOfSize(5);
+        Verify.assertInstanceOf(ImmutableQuadrupletonMap.class, map.newWithoutKey(5));
+        Verify.assertInstanceOf(ImmutableArrayMap.class, map.newWithKeyValue(6, "6"));
+        Verify.assertInstanceOf(ImmutableArrayMap.class, map.collectValues((key, value) -> value + value));
+        Assert.assertEquals("55", map.collectValues((key, value) -> value + value).get(5));
+    }
+
+    private ImmutableMap<Integer, String> factoryMapOfSize(int size)
+    {
+        return Maps.immutable.withAll(Interval.oneTo(size).toMap(each -> each, String::valueOf));
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        MutableMap<Integer, String> mutable = Interval.oneTo(6).toMap(each -> each, String::valueOf);
+        mutable.put(null, "null");
+        mutable.put(7, null);
+        ImmutableMap<Integer, String> map = new ImmutableArrayMap<>(mutable);
+        Verify.assertEqualsAndHashCode(mutable, map);
+        Verify.assertContainsKeyValue(null, "null", map);
+        Verify.assertContainsKeyValue(7, null, map);
+        Assert.assertEquals("default", map.getIfAbsentValue(8, "default"));
+        Assert.assertNull(map.getIfAbsentValue(7, "default"));
+        Assert.assertNull(map.get(8));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertFalse(map.containsValue("8"));
+        Verify.assertSize(7, map.newWithoutKey(null));
+        Assert.assertFalse(map.newWithoutKey(null).containsKey(null));
+    }
+
+    @Test
+    public void keySetAndValues()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest();
+        Assert.assertEquals(Interval.oneTo(8).toSet(), map.castToMap().keySet());
+        Assert.assertEquals(Lists.mutable.with("1", "2", "3", "4", "5", "6", "7", "8"), Lists.mutable.withAll(map.castToMap().values()));
+        Assert.assertTrue(map.castToMap().values().contains("8"));
+        Assert.assertFalse(map.castToMap().keySet().contains(9));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> map.castToMap().keySet().remove(1));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> map.castToMap().values().iterator().remove());
+    }
+}
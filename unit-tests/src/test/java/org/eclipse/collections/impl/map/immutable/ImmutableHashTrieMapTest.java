@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return new ImmutableHashTrieMap<>(Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void factoryThreshold()
+    {
+        MutableMap<Integer, String> map = UnifiedMap.newMap();
+        Interval.oneTo(ImmutableMapFactoryImpl.HASH_TRIE_MAP_THRESHOLD).each(each -> map.put(each, String.valueOf(each)));
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, Maps.immutable.withAll(map));
+
+        ImmutableMap<Integer, String> trieMap = map.toImmutable().newWithKeyValue(0, "0");
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, trieMap);
+        Verify.assertSize(ImmutableMapFactoryImpl.HASH_TRIE_MAP_THRESHOLD + 1, trieMap);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, trieMap.newWithoutKey(0));
+    }
+
+    @Test
+    public void persistence()
+    {
+        ImmutableMap<Integer, String> map = new ImmutableHashTrieMap<>(UnifiedMap.<Integer, String>newMap());
+        ImmutableMap<Integer, String>[] versions = new ImmutableMap[1001];
+        versions[0] = map;
+        for (int i = 1; i <= 1000; i++)
+        {
+            map = map.newWithKeyValue(i, String.valueOf(i));
+            versions[i] = map;
+        }
+        for (int i = 0; i <= 1000; i++)
+        {
+            Verify.assertSize(i, versions[i]);
+            Assert.assertEquals(i > 0, versions[i].containsKey(i));
+            Assert.assertFalse(versions[i].containsKey(i + 1));
+        }
+
+        ImmutableMap<Integer, String> removed = versions[1000].newWithoutAllKeys(Interval.evensFromTo(2, 1000));
+        Verify.assertSize(500, removed);
+        Verify.assertSize(1000, versions[1000]);
+        Assert.assertEquals(Interval.oddsFromTo(1, 999).toMap(each -> each, String::valueOf), removed);
+        Assert.assertSame(versions[1000], versions[1000].newWithKeyValue(1, versions[1000].get(1)));
+        Assert.assertSame(removed, removed.newWithoutKey(2));
+        Assert.assertEquals(Maps.immutable.empty(), removed.newWithoutAllKeys(removed.keysView()));
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest().newWithKeyValue(null, "null").newWithKeyValue(5, null);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map);
+        Verify.assertContainsKeyValue(null, "null", map);
+        Verify.assertContainsKeyValue(5, null, map);
+        Assert.assertEquals("default", map.getIfAbsentValue(6, "default"));
+        Assert.assertNull(map.getIfAbsentValue(5, "default"));
+        Assert.assertTrue(map.containsValue(null));
+        Verify.assertSize(5, map.newWithoutKey(null));
+        Assert.assertFalse(map.newWithoutKey(null).containsKey(null));
+    }
+
+    @Test
+    public void collisions()
+    {
+        MutableMap<CollidingKey, Integer> expected = UnifiedMap.newMap();
+        ImmutableMap<CollidingKey, Integer> actual = new ImmutableHashTrieMap<>(UnifiedMap.<CollidingKey, Integer>newMap());
+        Random random = new Random(0x1234ABCDL);
+        for (int i = 0; i < 10_000; i++)
+        {
+            int value = random.nextInt(200);
+            CollidingKey key = new CollidingKey(value, value % 3 == 0 ? 42 : value & 0x3F0);
+            if (random.nextInt(3) == 0)
+            {
+                expected.removeKey(key);
+                actual = actual.newWithoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                actual = actual.newWithKeyValue(key, i);
+            }
+            Assert.assertEquals(expected.size(), actual.size());
+        }
+        ImmutableMap<CollidingKey, Integer> map = actual;
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map);
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Assert.assertEquals(expected.keySet(), map.castToMap().keySet());
+        Verify.assertContainsAll(map.castToMap().values(), expected.values().toArray());
+        expected.forEachKeyValue((key, value) -> Assert.assertEquals(value, map.get(key)));
+        Assert.assertFalse(map.containsKey(new CollidingKey(-1, 42)));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+        private final int hashCode;
+
+        private CollidingKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
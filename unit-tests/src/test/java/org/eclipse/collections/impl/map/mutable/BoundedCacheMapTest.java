@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoundedCacheMapTest
+{
+    @Test
+    public void evictsLeastRecentlyUsed()
+    {
+        BoundedCacheMap<Integer, String> map = BoundedCacheMap.newLruCache(3);
+        map.put(1, "1");
+        map.put(2, "2");
+        map.put(3, "3");
+        Assert.assertEquals("1", map.get(1));
+        Assert.assertNull(map.put(4, "4"));
+        Verify.assertSize(3, map);
+        Assert.assertFalse(map.containsKey(2));
+        Assert.assertEquals(Lists.mutable.with(3, 1, 4), FastList.newList(map.keySet()));
+        Assert.assertEquals("4", map.put(4, "four"));
+        Assert.assertEquals(Lists.mutable.with("3", "1", "four"), FastList.newList(map.values()));
+        Assert.assertEquals("{3=3, 1=1, 4=four}", map.toString());
+        // UnifiedMap.equals reads the cache through get(), which counts as a use and reorders it
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 3, "3", 4, "four"), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 3, "3", 4, "four").hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void containsKeyAndIterationDoNotCountAsUse()
+    {
+        BoundedCacheMap<Integer, String> map = BoundedCacheMap.newLruCache(2);
+        map.put(1, "1");
+        map.put(2, "2");
+        Assert.assertTrue(map.containsKey(1));
+        map.forEachKeyValue((key, value) -> { });
+        map.put(3, "3");
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "2", 3, "3"), map);
+    }
+
+    @Test
+    public void getIfAbsentPut()
+    {
+        BoundedCacheMap<Integer, String> map = BoundedCacheMap.newLruCache(2);
+        MutableList<Integer> loaded = FastList.newList();
+        for (int i = 0; i < 3; i++)
+        {
+            Assert.assertEquals("1", map.getIfAbsentPut(1, () -> {
+                loaded.add(1);
+                return "1";
+            }));
+        }
+        Assert.assertEquals(FastList.newListWith(1), loaded);
+        Assert.assertEquals("2", map.getIfAbsentPutWith(2, String::valueOf, 2));
+        Assert.assertEquals("3", map.getIfAbsentPut(3, "3"));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "2", 3, "3"), map);
+    }
+
+    @Test
+    public void updateValue()
+    {
+        BoundedCacheMap<String, Integer> map = BoundedCacheMap.newLruCache(2);
+        Assert.assertEquals(Integer.valueOf(1), map.updateValue("a", () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(2), map.updateValue("a", () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(5), map.updateValueWith("b", () -> 0, Integer::sum, 5));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("a", 2, "b", 5), map);
+    }
+
+    @Test
+    public void removeAndViews()
+    {
+        BoundedCacheMap<Integer, String> map = BoundedCacheMap.newLruCache(10);
+        map.putAll(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3"));
+        Assert.assertEquals("2", map.remove(2));
+        Assert.assertNull(map.removeKey(2));
+        Assert.assertTrue(map.keySet().remove(1));
+        Assert.assertFalse(map.keySet().remove(1));
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        Map.Entry<Integer, String> entry = iterator.next();
+        entry.setValue("three");
+        Assert.assertEquals("three", map.get(3));
+        iterator.remove();
+        Verify.assertEmpty(map);
+        map.put(4, "4");
+        map.values().clear();
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void tinyLfuKeepsFrequentlyUsedKeys()
+    {
+        BoundedCacheMap<Integer, Integer> lru = BoundedCacheMap.newLruCache(100);
+        BoundedCacheMap<Integer, Integer> tinyLfu = BoundedCacheMap.newTinyLfuCache(100);
+        for (int round = 0; round < 10; round++)
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                lru.getIfAbsentPut(i, () -> 0);
+                tinyLfu.getIfAbsentPut(i, () -> 0);
+            }
+        }
+        for (int i = 1000; i < 2000; i++)
+        {
+            lru.getIfAbsentPut(i, () -> 1);
+            tinyLfu.getIfAbsentPut(i, () -> 1);
+        }
+        Verify.assertSize(100, lru);
+        Verify.assertSize(100, tinyLfu);
+        Assert.assertEquals(0, lru.keysView().count(each -> each < 100));
+        Assert.assertTrue(tinyLfu.keysView().count(each -> each < 100) > 90);
+    }
+
+    @Test
+    public void cloneAndNewEmpty()
+    {
+        BoundedCacheMap<Integer, String> map = BoundedCacheMap.newLruCache(2);
+        map.put(1, "1");
+        MutableMap<Integer, String> clone = map.clone();
+        Verify.assertInstanceOf(UnifiedMap.class, clone);
+        Assert.assertEquals(map, clone);
+        Verify.assertInstanceOf(UnifiedMap.class, map.newEmpty());
+        Assert.assertEquals(2, map.getMaximumSize());
+    }
+
+    @Test
+    public void illegalArguments()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> BoundedCacheMap.newLruCache(0));
+        Verify.assertThrows(NullPointerException.class, () -> new BoundedCacheMap<>(1, null));
+    }
+}
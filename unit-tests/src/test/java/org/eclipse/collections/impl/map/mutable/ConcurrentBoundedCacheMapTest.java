@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentBoundedCacheMapTest
+{
+    @Test
+    public void boundedSize()
+    {
+        ConcurrentBoundedCacheMap<Integer, Integer> map = ConcurrentBoundedCacheMap.newLruCache(100);
+        for (int i = 1; i <= 1000; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertSize(100, map);
+        Assert.assertEquals(100, map.getMaximumSize());
+        Assert.assertTrue(map.containsKey(1000));
+        Assert.assertEquals(Integer.valueOf(1000), map.get(1000));
+    }
+
+    @Test
+    public void concurrentMapMethods()
+    {
+        ConcurrentBoundedCacheMap<String, Integer> map = ConcurrentBoundedCacheMap.newTinyLfuCache(10);
+        Assert.assertNull(map.putIfAbsent("a", 1));
+        Assert.assertEquals(Integer.valueOf(1), map.putIfAbsent("a", 2));
+        Assert.assertFalse(map.replace("a", 2, 3));
+        Assert.assertTrue(map.replace("a", 1, 3));
+        Assert.assertEquals(Integer.valueOf(3), map.replace("a", 4));
+        Assert.assertNull(map.replace("b", 4));
+        Assert.assertFalse(map.remove("a", 3));
+        Assert.assertTrue(map.remove("a", 4));
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void getIfAbsentPutComputesOnce() throws Exception
+    {
+        ConcurrentBoundedCacheMap<Integer, Integer> map = ConcurrentBoundedCacheMap.newLruCache(1000);
+        AtomicInteger computed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MutableList<Future<?>> futures = FastList.newList();
+        for (int i = 0; i < 4; i++)
+        {
+            futures.add(executor.submit(() -> {
+                for (int key = 0; key < 500; key++)
+                {
+                    map.getIfAbsentPut(key, () -> computed.incrementAndGet());
+                }
+            }));
+        }
+        for (Future<?> future : futures)
+        {
+            future.get();
+        }
+        executor.shutdown();
+        Assert.assertEquals(500, computed.get());
+        Verify.assertSize(500, map);
+    }
+
+    @Test
+    public void getIfAbsentPutLoadsOutsideSegmentLock() throws Exception
+    {
+        ConcurrentBoundedCacheMap<Integer, String> map = new ConcurrentBoundedCacheMap<>(10, 1, size -> EvictionPolicies.lru());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> loader = executor.submit(() -> map.getIfAbsentPut(1, () -> {
+            computed.incrementAndGet();
+            loading.countDown();
+            ConcurrentBoundedCacheMapTest.await(release);
+            return "1";
+        }));
+        ConcurrentBoundedCacheMapTest.await(loading);
+        Future<String> waiter = executor.submit(() -> map.getIfAbsentPut(1, () -> {
+            computed.incrementAndGet();
+            return "one";
+        }));
+
+        // The only segment is not locked while key 1 loads.
+        Assert.assertNull(map.put(2, "2"));
+        Assert.assertEquals("3", map.getIfAbsentPut(3, () -> "3"));
+        Assert.assertFalse(map.containsKey(1));
+        Assert.assertFalse(waiter.isDone());
+
+        release.countDown();
+        Assert.assertEquals("1", loader.get());
+        Assert.assertEquals("1", waiter.get());
+        executor.shutdown();
+        Assert.assertEquals(1, computed.get());
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3"), map);
+    }
+
+    @Test
+    public void getIfAbsentPutLoadsOnceWhenTwoThreadsMissSameKey() throws Exception
+    {
+        ConcurrentBoundedCacheMap<Integer, Object> map = new ConcurrentBoundedCacheMap<>(10, 1, size -> EvictionPolicies.lru());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Object[] results = new Object[2];
+        Thread loader = new Thread(() -> results[0] = map.getIfAbsentPut(1, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            ConcurrentBoundedCacheMapTest.await(release);
+            return new Object();
+        }));
+        Thread waiter = new Thread(() -> results[1] = map.getIfAbsentPut(1, () -> {
+            loads.incrementAndGet();
+            return new Object();
+        }));
+        loader.start();
+        ConcurrentBoundedCacheMapTest.await(loading);
+        waiter.start();
+
+        // The second thread has missed key 1 too, and waits for the pending load of the first.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+        while (waiter.getState() != Thread.State.WAITING)
+        {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.yield();
+        }
+        Assert.assertFalse(map.containsKey(1));
+
+        release.countDown();
+        loader.join(10_000L);
+        waiter.join(10_000L);
+        Assert.assertEquals(1, loads.get());
+        Assert.assertNotNull(results[0]);
+        Assert.assertSame(results[0], results[1]);
+        Assert.assertSame(results[0], map.get(1));
+    }
+
+    @Test
+    public void getIfAbsentPutRetriesFailedLoad() throws Exception
+    {
+        ConcurrentBoundedCacheMap<Integer, String> map = new ConcurrentBoundedCacheMap<>(10, 1, size -> EvictionPolicies.lru());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> failing = executor.submit(() -> map.getIfAbsentPut(1, () -> {
+            loading.countDown();
+            ConcurrentBoundedCacheMapTest.await(release);
+            throw new IllegalStateException();
+        }));
+        ConcurrentBoundedCacheMapTest.await(loading);
+        Future<String> waiter = executor.submit(() -> map.getIfAbsentPut(1, () -> "1"));
+        release.countDown();
+        Verify.assertThrowsWithCause(ExecutionException.class, IllegalStateException.class, () -> failing.get());
+        Assert.assertEquals("1", waiter.get());
+        executor.shutdown();
+        Assert.assertEquals("1", map.get(1));
+        Assert.assertEquals("2", map.getIfAbsentPutWith(2, String::valueOf, 2));
+    }
+
+    @Test
+    public void getIfAbsentPutThrowsOnRecursiveLoad()
+    {
+        ConcurrentBoundedCacheMap<Integer, String> map = new ConcurrentBoundedCacheMap<>(10, 1, size -> EvictionPolicies.lru());
+        Verify.assertThrows(IllegalStateException.class, () -> map.getIfAbsentPut(1, () -> map.getIfAbsentPut(1, () -> "1")));
+        Assert.assertFalse(map.containsKey(1));
+        Assert.assertEquals("32", map.getIfAbsentPut(2, () -> map.getIfAbsentPut(3, () -> "3") + "2"));
+        Assert.assertEquals("3", map.get(3));
+        Assert.assertEquals("1", map.getIfAbsentPut(1, () -> "1"));
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            Assert.assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        }
+        catch (InterruptedException e)
+        {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void snapshotViews()
+    {
+        ConcurrentBoundedCacheMap<Integer, String> map = ConcurrentBoundedCacheMap.newLruCache(10);
+        map.putAll(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3"));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3"), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3").hashCode(), map.hashCode());
+        map.entrySet().forEach(entry -> entry.setValue(entry.getValue() + entry.getValue()));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "11", 2, "22", 3, "33"), map);
+        map.keySet().removeIf(each -> each % 2 == 1);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "22"), map);
+        Assert.assertTrue(map.values().contains("22"));
+        map.clear();
+        Verify.assertEmpty(map);
+    }
+}
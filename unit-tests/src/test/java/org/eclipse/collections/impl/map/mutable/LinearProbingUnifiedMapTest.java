@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link LinearProbingUnifiedMap}.
+ */
+public class LinearProbingUnifiedMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return LinearProbingUnifiedMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return LinearProbingUnifiedMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return LinearProbingUnifiedMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return LinearProbingUnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return LinearProbingUnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void newMap_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedMap<Integer, Integer>(-1, 0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedMap<Integer, Integer>(1, 0.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedMap<Integer, Integer>(1, -0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedMap<Integer, Integer>(1, 1.5f));
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        LinearProbingUnifiedMap<CollidingKey, Integer> map = LinearProbingUnifiedMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertNull(map.put(new CollidingKey(i), i));
+        }
+        Verify.assertSize(100, map);
+        Assert.assertEquals(99, map.getCollidingBuckets());
+
+        for (int i = 0; i < 100; i += 2)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.remove(new CollidingKey(i)));
+        }
+        Verify.assertSize(50, map);
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void removeAllThroughIterator()
+    {
+        LinearProbingUnifiedMap<CollidingKey, Integer> map = LinearProbingUnifiedMap.newMap();
+        for (int i = 0; i < 50; i++)
+        {
+            map.put(new CollidingKey(i % 5 == 0 ? i : -i), i);
+        }
+        int count = 0;
+        Iterator<CollidingKey> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            iterator.next();
+            iterator.remove();
+            count++;
+        }
+        Assert.assertEquals(50, count);
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void removeEveryOtherThroughIterator()
+    {
+        LinearProbingUnifiedMap<Integer, Integer> map = LinearProbingUnifiedMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, each));
+        Iterator<Integer> iterator = map.values().iterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+            count++;
+        }
+        Assert.assertEquals(1000, count);
+        Verify.assertSize(500, map);
+        Interval.oneTo(1000).each(each -> Assert.assertEquals(each % 2 != 0, map.containsKey(each)));
+    }
+
+    @Test
+    public void forEachAndIteratorAgreeOnOrder()
+    {
+        LinearProbingUnifiedMap<Object, Integer> map = LinearProbingUnifiedMap.newMap();
+        Interval.oneTo(200).each(each -> map.put(each, each));
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(new CollidingKey(i), -i);
+        }
+        Interval.fromToBy(1, 200, 3).each(map::remove);
+        this.assertSameOrder(map);
+
+        LinearProbingUnifiedMap<Object, Integer> wrapped = LinearProbingUnifiedMap.newMap(4);
+        for (int i = 0; i < 7; i++)
+        {
+            wrapped.put(new CollidingKey(i), i);
+        }
+        this.assertSameOrder(wrapped);
+    }
+
+    private void assertSameOrder(LinearProbingUnifiedMap<Object, Integer> map)
+    {
+        MutableList<Object> iteratorKeys = FastList.newList(map.keySet());
+        MutableList<Integer> iteratorValues = FastList.newList(map.values());
+
+        MutableList<Object> forEachKeys = FastList.newList();
+        map.forEachKey(forEachKeys::add);
+        Assert.assertEquals(iteratorKeys, forEachKeys);
+
+        MutableList<Object> forEachKeyValueKeys = FastList.newList();
+        MutableList<Integer> forEachKeyValueValues = FastList.newList();
+        map.forEachKeyValue((key, value) -> {
+            forEachKeyValueKeys.add(key);
+            forEachKeyValueValues.add(value);
+        });
+        Assert.assertEquals(iteratorKeys, forEachKeyValueKeys);
+        Assert.assertEquals(iteratorValues, forEachKeyValueValues);
+
+        MutableList<Integer> forEachValues = FastList.newList();
+        map.forEachValue(forEachValues::add);
+        Assert.assertEquals(iteratorValues, forEachValues);
+
+        MutableList<Object> entryKeys = FastList.newList();
+        map.entrySet().forEach(entry -> entryKeys.add(entry.getKey()));
+        Assert.assertEquals(iteratorKeys, entryKeys);
+
+        Assert.assertEquals(iteratorValues.getFirst(), map.getFirst());
+    }
+
+    @Test
+    public void getMapMemoryUsedInWords()
+    {
+        LinearProbingUnifiedMap<Integer, Integer> map = LinearProbingUnifiedMap.newMap(4);
+        Assert.assertEquals(18, map.getMapMemoryUsedInWords());
+        Interval.oneTo(4).each(each -> map.put(each, each));
+        Assert.assertEquals(18, map.getMapMemoryUsedInWords());
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
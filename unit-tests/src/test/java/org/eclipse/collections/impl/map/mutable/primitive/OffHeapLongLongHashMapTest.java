@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OffHeapLongLongHashMap}.
+ */
+public class OffHeapLongLongHashMapTest extends AbstractMutableLongLongMapTestCase
+{
+    @Override
+    protected OffHeapLongLongHashMap classUnderTest()
+    {
+        return OffHeapLongLongHashMap.newWithKeysValues(0L, 0L, 31L, 31L, 32L, 32L);
+    }
+
+    @Override
+    protected OffHeapLongLongHashMap newWithKeysValues(long key1, long value1)
+    {
+        return OffHeapLongLongHashMap.newWithKeysValues(key1, value1);
+    }
+
+    @Override
+    protected OffHeapLongLongHashMap newWithKeysValues(long key1, long value1, long key2, long value2)
+    {
+        return OffHeapLongLongHashMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    protected OffHeapLongLongHashMap newWithKeysValues(long key1, long value1, long key2, long value2, long key3, long value3)
+    {
+        return OffHeapLongLongHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    protected OffHeapLongLongHashMap newWithKeysValues(long key1, long value1, long key2, long value2, long key3, long value3, long key4, long value4)
+    {
+        return OffHeapLongLongHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    protected OffHeapLongLongHashMap getEmptyMap()
+    {
+        return new OffHeapLongLongHashMap();
+    }
+
+    @Test
+    public void newMap_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OffHeapLongLongHashMap(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OffHeapLongLongHashMap(1 << 30));
+    }
+
+    @Test
+    public void copyConstructor()
+    {
+        LongLongHashMap hashMap = LongLongHashMap.newWithKeysValues(0L, 0L, 1L, 1L, 31L, 31L, 32L, 32L);
+        Assert.assertEquals(hashMap, new OffHeapLongLongHashMap(hashMap));
+        Assert.assertEquals(new OffHeapLongLongHashMap(hashMap), hashMap);
+    }
+
+    @Test
+    public void sameAsHeapMapThroughResizeAndCompact()
+    {
+        OffHeapLongLongHashMap map = OffHeapLongLongHashMap.newMap(1);
+        Assert.assertFalse(map.isMapped());
+        this.assertSameAsHeapMap(map);
+    }
+
+    @Test
+    public void mappedMap() throws IOException
+    {
+        File file = File.createTempFile("OffHeapLongLongHashMapTest", ".map");
+        file.deleteOnExit();
+        OffHeapLongLongHashMap map = OffHeapLongLongHashMap.newMappedMap(file, 1);
+        Assert.assertTrue(map.isMapped());
+        this.assertSameAsHeapMap(map);
+        Assert.assertTrue(file.length() >= map.getTableSize() * 16L);
+        map.close();
+    }
+
+    @Test
+    public void mappedMapClosesFileOnFailure() throws IOException
+    {
+        File file = File.createTempFile("OffHeapLongLongHashMapTest", ".map");
+        file.deleteOnExit();
+        Verify.assertThrows(IllegalArgumentException.class, () -> OffHeapLongLongHashMap.newMappedMap(file, -1));
+        Assert.assertTrue(file.delete());
+    }
+
+    @Test
+    public void mappedMapReusesFileAcrossResizes() throws IOException
+    {
+        File file = File.createTempFile("OffHeapLongLongHashMapTest", ".map");
+        file.deleteOnExit();
+        OffHeapLongLongHashMap map = OffHeapLongLongHashMap.newMappedMap(file, 1);
+        MutableList<ByteBuffer> released = Lists.mutable.empty();
+        map.setBufferReleaser(released::add);
+        LongLongHashMap expected = new LongLongHashMap();
+        for (long key = 2L; key < 100_000L; key++)
+        {
+            map.put(key, -key);
+            expected.put(key, -key);
+            Assert.assertEquals(map.getTableSize() * 16L, file.length());
+        }
+        Assert.assertEquals(expected, map);
+        map.compact();
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map.getTableSize() * 16L, file.length());
+        Verify.assertNotEmpty(released);
+        map.close();
+    }
+
+    @Test
+    public void mappedMapWithoutBufferReleaserKeepsFile() throws IOException
+    {
+        File file = File.createTempFile("OffHeapLongLongHashMapTest", ".map");
+        file.deleteOnExit();
+        OffHeapLongLongHashMap map = OffHeapLongLongHashMap.newMappedMap(file, 1);
+        for (long key = 2L; key < 1_000L; key++)
+        {
+            map.put(key, -key);
+        }
+        Assert.assertTrue(file.length() > map.getTableSize() * 16L);
+        Assert.assertEquals(-999L, map.get(999L));
+        map.close();
+    }
+
+    private void assertSameAsHeapMap(OffHeapLongLongHashMap map)
+    {
+        LongLongHashMap expected = new LongLongHashMap();
+        Random random = new Random(0x123456789ABCDL);
+        for (int i = 0; i < 100_000; i++)
+        {
+            long key = random.nextBoolean() ? random.nextInt(1_000) : random.nextLong();
+            long value = random.nextLong();
+            switch (random.nextInt(4))
+            {
+                case 0:
+                    map.removeKey(key);
+                    expected.removeKey(key);
+                    break;
+                case 1:
+                    long result = map.addToValue(key, value);
+                    expected.addToValue(key, value);
+                    Assert.assertEquals(expected.get(key), result);
+                    break;
+                default:
+                    map.put(key, value);
+                    expected.put(key, value);
+            }
+            if (i == 50_000)
+            {
+                map.compact();
+            }
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        expected.forEachKeyValue((key, value) -> Assert.assertEquals(value, map.get(key)));
+    }
+
+    @Test
+    public void close() throws IOException
+    {
+        OffHeapLongLongHashMap map = this.classUnderTest();
+        MutableList<ByteBuffer> released = Lists.mutable.empty();
+        map.setBufferReleaser(released::add);
+        map.close();
+        map.close();
+        Verify.assertSize(1, released);
+        Verify.assertThrows(IllegalStateException.class, () -> map.get(31L));
+        Verify.assertThrows(IllegalStateException.class, () -> map.get(0L));
+        Verify.assertThrows(IllegalStateException.class, () -> map.put(32L, 1L));
+        Verify.assertThrows(IllegalStateException.class, () -> map.put(1L, 1L));
+        Verify.assertThrows(IllegalStateException.class, () -> map.containsKey(31L));
+        Verify.assertThrows(IllegalStateException.class, map::size);
+        Verify.assertThrows(IllegalStateException.class, map::clear);
+        Verify.assertThrows(IllegalStateException.class, () -> map.setBufferReleaser(released::add));
+        try
+        {
+            map.addToValue(31L, 1L);
+            Assert.fail();
+        }
+        catch (IllegalStateException e)
+        {
+            Assert.assertEquals("closed", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BTreeSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void testConstructors()
+    {
+        UnifiedMap<Integer, String> unifiedMap = UnifiedMap.newWithKeysValues(1, "One", 2, "Two", 3, "Three");
+        BTreeSortedMap<Integer, String> sortedMap = BTreeSortedMap.newMap(unifiedMap);
+        BTreeSortedMap<Integer, String> revSortedMap = BTreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder(),
+                unifiedMap);
+
+        Verify.assertMapsEqual(unifiedMap, sortedMap);
+        Verify.assertMapsEqual(unifiedMap, revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3), sortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(3, 2, 1), revSortedMap.keySet().toList());
+
+        BTreeSortedMap<Integer, String> sortedMap2 = BTreeSortedMap.newMap(revSortedMap);
+        Assert.assertEquals(revSortedMap.comparator(), sortedMap2.comparator());
+        Verify.assertMapsEqual(revSortedMap, sortedMap2);
+    }
+
+    @Test
+    public void newMapWithPairs()
+    {
+        BTreeSortedMap<Integer, Integer> revSortedMap = BTreeSortedMap.newMapWith(Comparators.<Integer>reverseNaturalOrder(),
+                Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+
+        Verify.assertSize(4, revSortedMap);
+
+        Verify.assertMapsEqual(UnifiedMap.newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1)),
+                revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(4, 3, 2, 1), revSortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3, 4), revSortedMap.valuesView().toList());
+    }
+
+    @Override
+    @Test
+    public void testClone()
+    {
+        super.testClone();
+        BTreeSortedMap<Integer, Integer> sortedMap = BTreeSortedMap.<Integer, Integer>newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+        MutableSortedMap<Integer, Integer> clone = sortedMap.clone();
+        Assert.assertNotSame(sortedMap, clone);
+        Assert.assertEquals(sortedMap, clone);
+        sortedMap.removeKey(1);
+        Assert.assertTrue(clone.containsKey(1));
+    }
+
+    @Test
+    public void rankQueries()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder());
+        Interval.oneTo(10_000).each(each -> map.put(each, String.valueOf(each)));
+        Assert.assertEquals(0, map.indexOfKey(10_000));
+        Assert.assertEquals(9_999, map.indexOfKey(1));
+        Assert.assertEquals(-1, map.indexOfKey(0));
+        Assert.assertEquals(Integer.valueOf(10_000), map.getKeyAt(0));
+        Assert.assertEquals(Integer.valueOf(5_000), map.getKeyAt(5_000));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> map.getKeyAt(10_000));
+        Verify.assertSize(1_000, map.subMap(5_000, 4_000));
+        Assert.assertEquals(Integer.valueOf(5_000), map.subMap(5_000, 4_000).firstKey());
+        Assert.assertEquals(Integer.valueOf(4_001), map.subMap(5_000, 4_000).lastKey());
+    }
+
+    @Test
+    public void randomOperationsMatchTreeMap()
+    {
+        Random random = new Random(42L);
+        SortedMap<Integer, Integer> expected = new TreeMap<>();
+        BTreeSortedMap<Integer, Integer> actual = BTreeSortedMap.newMap();
+        for (int i = 0; i < 100_000; i++)
+        {
+            Integer key = random.nextInt(10_000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), actual.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), actual.put(key, i));
+            }
+        }
+        Verify.assertSortedMapsEqual(SortedMapAdapter.adapt(expected), actual);
+        Assert.assertEquals(FastList.newList(expected.keySet()), actual.keysView().toList());
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Verify.assertSortedMapsEqual(SortedMapAdapter.adapt(expected.subMap(2_000, 3_000)), actual.subMap(2_000, 3_000));
+        Verify.assertSortedMapsEqual(SortedMapAdapter.adapt(expected.headMap(5_000)), actual.headMap(5_000));
+        Verify.assertSortedMapsEqual(SortedMapAdapter.adapt(expected.tailMap(5_000)), actual.tailMap(5_000));
+
+        Iterator<Map.Entry<Integer, Integer>> iterator = actual.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().getKey() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        expected.keySet().removeIf(each -> each % 2 == 0);
+        Verify.assertSortedMapsEqual(SortedMapAdapter.adapt(expected), actual);
+        actual.tailMap(7_000).clear();
+        expected.tailMap(7_000).clear();
+        Verify.assertSortedMapsEqual(SortedMapAdapter.adapt(expected), actual);
+    }
+}
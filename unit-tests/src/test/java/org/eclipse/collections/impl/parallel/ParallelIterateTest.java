@@ -27,6 +27,8 @@ import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
@@ -659,6 +661,77 @@ public class ParallelIterateTest
         Assert.assertEquals(6.0, smallSumByCount.get("Odd"), 0.0);
     }
 
+    @Test
+    public void countBy()
+    {
+        Interval interval = Interval.oneTo(100000);
+        ObjectLongMap<String> countBy = ParallelIterate.countBy(interval, EVEN_OR_ODD);
+        Assert.assertEquals(50000, countBy.get("Even"));
+        Assert.assertEquals(50000, countBy.get("Odd"));
+        ObjectLongMap<Integer> countBy2 = ParallelIterate.countBy(Interval.oneTo(UNEVEN_COUNT_FOR_SUMBY), i -> i % 1000);
+        Assert.assertEquals(Iterate.countBy(Interval.oneTo(UNEVEN_COUNT_FOR_SUMBY), i -> i % 1000), countBy2);
+        ObjectLongMap<String> smallCountBy = ParallelIterate.countBy(Interval.oneTo(11), EVEN_OR_ODD);
+        Assert.assertEquals(5, smallCountBy.get("Even"));
+        Assert.assertEquals(6, smallCountBy.get("Odd"));
+    }
+
+    @Test
+    public void minAndMaxByLong()
+    {
+        Interval interval = Interval.oneTo(UNEVEN_COUNT_FOR_SUMBY);
+        Assert.assertEquals(Iterate.minByLong(interval, i -> i % 1000, Integer::longValue), ParallelIterate.minByLong(interval, i -> i % 1000, Integer::longValue));
+        Assert.assertEquals(Iterate.maxByLong(interval, i -> i % 1000, Integer::longValue), ParallelIterate.maxByLong(interval, i -> i % 1000, Integer::longValue));
+        ObjectLongMap<String> max = ParallelIterate.maxByLong(interval, EVEN_OR_ODD, Integer::longValue);
+        Assert.assertEquals(43956L, max.get("Even"));
+        Assert.assertEquals(43957L, max.get("Odd"));
+        ObjectLongMap<String> min = ParallelIterate.minByLong(interval, EVEN_OR_ODD, i -> -i);
+        Assert.assertEquals(-43956L, min.get("Even"));
+        Assert.assertEquals(-43957L, min.get("Odd"));
+    }
+
+    @Test
+    public void minAndMaxByDouble()
+    {
+        Interval interval = Interval.oneTo(UNEVEN_COUNT_FOR_SUMBY);
+        Assert.assertEquals(Iterate.minByDouble(interval, i -> i % 1000, Integer::doubleValue), ParallelIterate.minByDouble(interval, i -> i % 1000, Integer::doubleValue));
+        Assert.assertEquals(Iterate.maxByDouble(interval, i -> i % 1000, Integer::doubleValue), ParallelIterate.maxByDouble(interval, i -> i % 1000, Integer::doubleValue));
+        ObjectDoubleMap<String> min = ParallelIterate.minByDouble(interval, EVEN_OR_ODD, i -> i / 2.0);
+        Assert.assertEquals(1.0, min.get("Even"), 0.0);
+        Assert.assertEquals(0.5, min.get("Odd"), 0.0);
+    }
+
+    @Test
+    public void aggregateByLong()
+    {
+        Interval interval = Interval.oneTo(UNEVEN_COUNT_FOR_SUMBY);
+        ObjectLongMap<Integer> xor = ParallelIterate.aggregateByLong(interval, i -> i % 1000, 0L, (value, i) -> value ^ i, (value1, value2) -> value1 ^ value2);
+        Assert.assertEquals(Iterate.aggregateByLong(interval, i -> i % 1000, 0L, (value, i) -> value ^ i), xor);
+        ObjectDoubleMap<String> sum = ParallelIterate.aggregateByDouble(interval, EVEN_OR_ODD, 0.0, (value, i) -> value + i, (value1, value2) -> value1 + value2);
+        Assert.assertEquals(interval.sumByDouble(EVEN_OR_ODD, Integer::doubleValue), sum);
+    }
+
+    @Test
+    public void aggregateByWithNonIdentityInitialValue()
+    {
+        Interval interval = Interval.oneTo(UNEVEN_COUNT_FOR_SUMBY);
+        LongObjectToLongFunction<Integer> maxAtLeastZero = (value, i) -> Math.max(value, i % 2 == 0 ? i : -i);
+        ObjectLongMap<Integer> expectedMax = Iterate.aggregateByLong(interval, i -> i % 1000, 0L, maxAtLeastZero);
+        Assert.assertEquals(0L, expectedMax.get(1));
+        Assert.assertEquals(
+                expectedMax,
+                ParallelIterate.aggregateByLong(interval, i -> i % 1000, 0L, maxAtLeastZero, (value1, value2) -> Math.max(value1, value2)));
+
+        DoubleObjectToDoubleFunction<Integer> minAtMostOne = (value, i) -> Math.min(value, i % 2 == 0 ? i : 1.0 / i);
+        ObjectDoubleMap<Integer> expectedMin = Iterate.aggregateByDouble(interval, i -> i % 1000, 1.0, minAtMostOne);
+        Assert.assertEquals(1.0, expectedMin.get(2), 0.0);
+        Assert.assertEquals(
+                expectedMin,
+                ParallelIterate.aggregateByDouble(interval, i -> i % 1000, 1.0, minAtMostOne, (value1, value2) -> Math.min(value1, value2)));
+
+        ObjectLongMap<String> sum = ParallelIterate.aggregateByLong(interval, EVEN_OR_ODD, 0L, (value, i) -> value + i, (value1, value2) -> value1 + value2);
+        Assert.assertEquals(Iterate.aggregateByLong(interval, EVEN_OR_ODD, 0L, (value, i) -> value + i), sum);
+    }
+
     @Test
     public void sumByInt()
     {
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableArraySet}.
+ */
+public class ImmutableArraySetTest
+        extends AbstractImmutableSetTestCase
+{
+    @Override
+    protected ImmutableSet<Integer> classUnderTest()
+    {
+        return new ImmutableArraySet<>(new Integer[]{1, 2, 3, 4, 5, 6, 7, 8});
+    }
+
+    @Override
+    @Test
+    public void difference()
+    {
+        ImmutableSet<String> set = this.classUnderTest().collect(String::valueOf);
+        ImmutableSet<String> difference = set.difference(UnifiedSet.newSetWith("2", "3", "4", "not present"));
+        Assert.assertEquals(UnifiedSet.newSetWith("1", "5", "6", "7", "8"), difference);
+        Assert.assertEquals(set, set.difference(UnifiedSet.newSetWith("not present")));
+    }
+
+    @Override
+    @Test
+    public void differenceInto()
+    {
+        ImmutableSet<String> set = this.classUnderTest().collect(String::valueOf);
+        MutableSet<String> difference = set.differenceInto(UnifiedSet.newSetWith("2", "3", "4", "not present"), UnifiedSet.<String>newSet());
+        Assert.assertEquals(UnifiedSet.newSetWith("1", "5", "6", "7", "8"), difference);
+        Assert.assertEquals(set, set.differenceInto(UnifiedSet.newSetWith("not present"), UnifiedSet.<String>newSet()));
+    }
+
+    @Override
+    @Test
+    public void symmetricDifference()
+    {
+        ImmutableSet<String> set = this.classUnderTest().collect(String::valueOf);
+        ImmutableSet<String> difference = set.symmetricDifference(UnifiedSet.newSetWith("2", "3", "4", "5", "not present"));
+        Assert.assertEquals(UnifiedSet.newSetWith("1", "6", "7", "8", "not present"), difference);
+        Verify.assertSize(set.size() + 1, set.symmetricDifference(UnifiedSet.newSetWith("not present")));
+    }
+
+    @Override
+    @Test
+    public void symmetricDifferenceInto()
+    {
+        ImmutableSet<String> set = this.classUnderTest().collect(String::valueOf);
+        MutableSet<String> difference = set.symmetricDifferenceInto(
+                UnifiedSet.newSetWith("2", "3", "4", "5", "not present"),
+                UnifiedSet.<String>newSet());
+        Assert.assertEquals(UnifiedSet.newSetWith("1", "6", "7", "8", "not present"), difference);
+        Verify.assertSize(
+                set.size() + 1,
+                set.symmetricDifferenceInto(UnifiedSet.newSetWith("not present"), UnifiedSet.<String>newSet()));
+    }
+
+    @Override
+    @Test
+    public void isSubsetOf()
+    {
+        ImmutableSet<String> set = this.classUnderTest().collect(String::valueOf);
+        Assert.assertTrue(set.isSubsetOf(Interval.oneTo(9).collect(String::valueOf).toSet()));
+        Assert.assertFalse(set.isSubsetOf(UnifiedSet.newSetWith("1", "2", "3", "4", "5")));
+    }
+
+    @Override
+    @Test
+    public void isProperSubsetOf()
+    {
+        ImmutableSet<String> set = this.classUnderTest().collect(String::valueOf);
+        Assert.assertTrue(set.isProperSubsetOf(Interval.oneTo(9).collect(String::valueOf).toSet()));
+        Assert.assertFalse(set.isProperSubsetOf(set));
+    }
+
+    @Test
+    public void factoryThresholds()
+    {
+        Verify.assertInstanceOf(ImmutableQuadrupletonSet.class, Sets.immutable.with(Interval.oneTo(4).toArray()));
+        Verify.assertInstanceOf(ImmutableArraySet.class, Sets.immutable.with(Interval.oneTo(5).toArray()));
+        Verify.assertInstanceOf(ImmutableArraySet.class, Sets.immutable.with(Interval.oneTo(ImmutableSetFactoryImpl.ARRAY_SET_THRESHOLD).toArray()));
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, Sets.immutable.with(Interval.oneTo(ImmutableSetFactoryImpl.ARRAY_SET_THRESHOLD + 1).toArray()));
+        Verify.assertInstanceOf(ImmutableArraySet.class, UnifiedSet.newSet(Interval.oneTo(10)).toImmutable());
+
+        ImmutableSet<Integer> full = Sets.immutable.with(Interval.oneTo(ImmutableSetFactoryImpl.ARRAY_SET_THRESHOLD).toArray());
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, full.newWith(0));
+        Verify.assertInstanceOf(ImmutableQuadrupletonSet.class, Sets.immutable.with(1, 2, 3, 4, 5).newWithout(3));
+    }
+
+    @Test
+    public void duplicates()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.with(1, 2, 1, null, 3, 2, 4, null, 5);
+        Verify.assertInstanceOf(ImmutableArraySet.class, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4, 5, null), set);
+        Verify.assertInstanceOf(ImmutableTripletonSet.class, Sets.immutable.with(1, 2, 1, 2, 3, 3));
+    }
+
+    @Test
+    public void nullElement()
+    {
+        ImmutableSet<Integer> set = this.classUnderTest().newWith(null);
+        Verify.assertSize(9, set);
+        Assert.assertTrue(set.contains(null));
+        Assert.assertFalse(set.contains(9));
+        Verify.assertEqualsAndHashCode(UnifiedSet.newSet(set), set);
+        Assert.assertEquals(this.classUnderTest(), set.newWithout(null));
+    }
+
+    @Test
+    public void getFirstAndLast()
+    {
+        Assert.assertEquals(Integer.valueOf(1), this.classUnderTest().getFirst());
+        Assert.assertEquals(Integer.valueOf(8), this.classUnderTest().getLast());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.Pool;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentWeakPoolTest
+{
+    @Test
+    public void putAndGet()
+    {
+        Pool<String> pool = ConcurrentWeakPool.newPool();
+        String one = new String("one");    // Deliberate String copy for unit test purpose
+        Assert.assertNull(pool.get("one"));
+        Assert.assertSame(one, pool.put(one));
+        Assert.assertSame(one, pool.put(new String("one")));
+        Assert.assertSame(one, pool.get(new String("one")));
+        Assert.assertNull(pool.put(null));
+        Assert.assertNull(pool.get(null));
+        Assert.assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void removeFromPool()
+    {
+        Pool<String> pool = ConcurrentWeakPool.newPool();
+        String one = pool.put(new String("one"));
+        String two = pool.put(new String("two"));
+        Assert.assertSame(one, pool.removeFromPool(new String("one")));
+        Assert.assertNull(pool.removeFromPool("one"));
+        Assert.assertNull(pool.removeFromPool(null));
+        Assert.assertNull(pool.get("one"));
+        Assert.assertSame(two, pool.get("two"));
+        Assert.assertEquals(1, pool.size());
+        pool.clear();
+        Assert.assertEquals(0, pool.size());
+        Assert.assertNull(pool.get("two"));
+    }
+
+    @Test
+    public void rehash()
+    {
+        Pool<Integer> pool = new ConcurrentWeakPool<>(1, 1);
+        MutableList<Integer> pooled = FastList.newList();
+        for (int i = 0; i < 1000; i++)
+        {
+            pooled.add(pool.put(new Integer(i)));
+        }
+        Assert.assertEquals(1000, pool.size());
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertSame(pooled.get(i), pool.put(new Integer(i)));
+        }
+        for (int i = 0; i < 1000; i += 2)
+        {
+            Assert.assertSame(pooled.get(i), pool.removeFromPool(i));
+        }
+        Assert.assertEquals(500, pool.size());
+        Assert.assertNull(pool.get(0));
+        Assert.assertSame(pooled.get(1), pool.get(1));
+    }
+
+    @Test
+    public void collectedValuesAreExpunged()
+    {
+        Pool<String> pool = ConcurrentWeakPool.newPool();
+        String fred = pool.put(new String("Fred"));    // Deliberate String copy for unit test purpose
+        pool.put(new String("Wilma"));
+        WeakReference<String> ref = new WeakReference<>(fred);
+        //noinspection ReuseOfLocalVariable
+        fred = null;   // Deliberate null of a local variable for unit test purpose
+        System.gc();
+        Thread.yield();
+        System.gc();
+        Thread.yield();
+        Assert.assertNull(ref.get());
+        Assert.assertEquals(0, pool.size());
+        Assert.assertNull(pool.get("Fred"));
+    }
+
+    @Test
+    public void concurrentPut() throws Exception
+    {
+        Pool<String> pool = ConcurrentWeakPool.newPool();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MutableList<Future<MutableList<String>>> futures = FastList.newList();
+        for (int i = 0; i < 4; i++)
+        {
+            futures.add(executor.submit(() -> Interval.oneTo(10000).collect(each -> pool.put(String.valueOf(each))).toList()));
+        }
+        MutableList<String> first = futures.getFirst().get();
+        for (Future<MutableList<String>> future : futures)
+        {
+            MutableList<String> result = future.get();
+            for (int i = 0; i < first.size(); i++)
+            {
+                Assert.assertSame(first.get(i), result.get(i));
+            }
+        }
+        Assert.assertEquals(10000, pool.size());
+        executor.shutdown();
+    }
+
+    @Test
+    public void illegalArguments()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new ConcurrentWeakPool<String>(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new ConcurrentWeakPool<String>(16, 0));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link LinearProbingUnifiedSet}.
+ */
+public class LinearProbingUnifiedSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> LinearProbingUnifiedSet<T> newWith(T... littleElements)
+    {
+        return LinearProbingUnifiedSet.newSetWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        MutableSet<Integer> objects = this.newWith(1, 2, 3);
+        MutableList<Integer> result = FastList.newList();
+        Iterator<Integer> iterator = objects.iterator();
+        for (int i = objects.size(); i-- > 0; )
+        {
+            Assert.assertTrue(iterator.hasNext());
+            result.add(iterator.next());
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(objects.toList(), result);
+        Verify.assertContainsAll(result, 1, 2, 3);
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        MutableSet<Object> collection = this.newWith(1, 2, 3);
+        Assert.assertEquals(collection.toList().toString(), collection.toString());
+    }
+
+    @Test
+    public void newSet_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedSet<Integer>(-1, 0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedSet<Integer>(1, 0.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedSet<Integer>(1, -0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbingUnifiedSet<Integer>(1, 1.5f));
+    }
+
+    @Test
+    public void equalsIsOnlyCalledOnMatchingHashCodes()
+    {
+        LinearProbingUnifiedSet<CountingKey> set = LinearProbingUnifiedSet.newSet();
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(new CountingKey(i));
+        }
+        CountingKey.equalsCalls = 0;
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertTrue(set.contains(new CountingKey(i)));
+            Assert.assertFalse(set.contains(new CountingKey(i + 1000)));
+        }
+        Assert.assertEquals(1000, CountingKey.equalsCalls);
+    }
+
+    @Test
+    public void rehashDoesNotCallHashCode()
+    {
+        LinearProbingUnifiedSet<CountingKey> set = LinearProbingUnifiedSet.newSet(1);
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(new CountingKey(i));
+        }
+        Assert.assertEquals(1000, CountingKey.hashCodeCalls(set));
+    }
+
+    @Test
+    public void addAllFromLinearProbingUnifiedSet()
+    {
+        LinearProbingUnifiedSet<Integer> source = LinearProbingUnifiedSet.newSet(Interval.oneTo(100));
+        LinearProbingUnifiedSet<Integer> target = LinearProbingUnifiedSet.newSetWith(50, 150, null);
+        Assert.assertTrue(target.addAllIterable(source));
+        Verify.assertSize(102, target);
+        Verify.assertContainsAll(target, 1, 50, 100, 150, null);
+        Assert.assertFalse(target.addAllIterable(source));
+    }
+
+    @Test
+    public void removeEveryOtherThroughIterator()
+    {
+        LinearProbingUnifiedSet<Integer> set = LinearProbingUnifiedSet.newSet(Interval.oneTo(1000));
+        Iterator<Integer> iterator = set.iterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+            count++;
+        }
+        Assert.assertEquals(1000, count);
+        Verify.assertSize(500, set);
+        Interval.oneTo(1000).each(each -> Assert.assertEquals(each % 2 != 0, set.contains(each)));
+    }
+
+    @Test
+    public void forEachAndIteratorAgreeOnOrder()
+    {
+        for (int size = 1; size < 200; size++)
+        {
+            LinearProbingUnifiedSet<Integer> set = LinearProbingUnifiedSet.newSet(Interval.fromTo(size, size * 7));
+            MutableList<Integer> iterated = FastList.newList();
+            for (Integer each : set)
+            {
+                iterated.add(each);
+            }
+            Assert.assertEquals(iterated, set.toList());
+            set.forEachWithIndex((each, index) -> Assert.assertEquals(iterated.get(index), each));
+            MutableList<Integer> forEachWith = FastList.newList();
+            set.forEachWith((each, parameter) -> forEachWith.add(each), null);
+            Assert.assertEquals(iterated, forEachWith);
+            Assert.assertEquals(iterated.getFirst(), set.getFirst());
+            Assert.assertEquals(iterated.getLast(), set.getLast());
+        }
+    }
+
+    private static final class CountingKey
+    {
+        private static int equalsCalls;
+
+        private final int value;
+        private int hashCodeCalls;
+
+        private CountingKey(int value)
+        {
+            this.value = value;
+        }
+
+        private static int hashCodeCalls(Iterable<CountingKey> keys)
+        {
+            int result = 0;
+            for (CountingKey key : keys)
+            {
+                result += key.hashCodeCalls;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            equalsCalls++;
+            return o instanceof CountingKey && ((CountingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            this.hashCodeCalls++;
+            return this.value;
+        }
+    }
+}
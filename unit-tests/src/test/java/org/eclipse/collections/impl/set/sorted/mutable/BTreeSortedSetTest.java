@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.block.factory.IntegerPredicates;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(T... elements)
+    {
+        return BTreeSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void sortedSetIterableConstructor()
+    {
+        BTreeSortedSet<Integer> sortedSetA = BTreeSortedSet.newSet(Collections.<Integer>reverseOrder());
+        BTreeSortedSet<Integer> sortedSetB = BTreeSortedSet.newSet(sortedSetA.with(1).with(2, 3).with(4, 5, 6));
+        Verify.assertSortedSetsEqual(sortedSetA, sortedSetB);
+        Assert.assertTrue(sortedSetA.first().equals(sortedSetB.first()) && sortedSetB.first() == 6);
+        Verify.assertSortedSetsEqual(sortedSetB, new BTreeSortedSet<>(sortedSetB));
+    }
+
+    @Test
+    public void sortedSetConstructor()
+    {
+        SortedSet<String> setA = new TreeSet<>(FastList.newListWith("a", "c", "b", "d"));
+        Verify.assertSortedSetsEqual(setA, BTreeSortedSet.newSet(setA));
+        Verify.assertSortedSetsEqual(setA, new BTreeSortedSet<>(setA));
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        LazyIterable<Integer> integerLazyIterable = FastList.newListWith(2, 4, 1, 3).asLazy();
+        BTreeSortedSet<Integer> sortedSet = BTreeSortedSet.newSet(integerLazyIterable);
+        Verify.assertSortedSetsEqual(BTreeSortedSet.newSetWith(1, 2, 3, 4), sortedSet);
+    }
+
+    @Test
+    public void serialization()
+    {
+        MutableSortedSet<Integer> set = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Test
+    public void indexOfLargeSet()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.evensFromTo(0, 20_000));
+        Assert.assertEquals(0, set.indexOf(0));
+        Assert.assertEquals(5_000, set.indexOf(10_000));
+        Assert.assertEquals(10_000, set.indexOf(20_000));
+        Assert.assertEquals(-1, set.indexOf(10_001));
+        Assert.assertEquals(500, set.tailSet(9_000).indexOf(10_000));
+        Assert.assertEquals(-1, set.headSet(9_000).indexOf(10_000));
+    }
+
+    @Test
+    public void forEachRangeOfLargeSet()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.oneTo(10_000));
+        MutableList<Integer> result = FastList.newList();
+        set.forEach(4_999, 5_199, result::add);
+        Assert.assertEquals(Interval.fromTo(5_000, 5_200), result);
+        result.clear();
+        set.forEachWithIndex(0, 9_999, (each, index) -> {
+            Assert.assertEquals(index + 1, each.intValue());
+            result.add(each);
+        });
+        Assert.assertEquals(Interval.oneTo(10_000), result);
+    }
+
+    @Test
+    public void viewsOfLargeSet()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.oneTo(10_000));
+        MutableSortedSet<Integer> subSet = set.subSet(1_000, 9_000);
+        Verify.assertSize(8_000, subSet);
+        Assert.assertEquals(Integer.valueOf(1_000), subSet.first());
+        Assert.assertEquals(Integer.valueOf(8_999), subSet.last());
+        subSet.removeIf(IntegerPredicates.isEven());
+        Verify.assertSize(6_000, set);
+        Verify.assertSize(4_000, subSet.headSet(9_000));
+        Verify.assertThrows(IllegalArgumentException.class, () -> subSet.add(9_000));
+        set.add(1_000);
+        Assert.assertTrue(subSet.contains(1_000));
+        subSet.clear();
+        Assert.assertEquals(Interval.oneTo(999).toSet().withAll(Interval.fromTo(9_000, 10_000)), set);
+    }
+
+    @Test
+    public void reverseOperationsOfLargeSet()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.oneTo(10_000));
+        MutableList<Integer> reversed = FastList.newList();
+        set.reverseForEach(reversed::add);
+        Assert.assertEquals(Interval.fromTo(10_000, 1), reversed);
+        Assert.assertEquals(Interval.fromTo(10_000, 1), set.asReversed().toList());
+        Iterator<Integer> iterator = set.asReversed().iterator();
+        Assert.assertEquals(Integer.valueOf(10_000), iterator.next());
+        Assert.assertEquals(Integer.valueOf(9_999), iterator.next());
+        Assert.assertEquals(4_998, set.detectLastIndex(each -> each < 5_000));
+        Assert.assertEquals(9_999, set.detectLastIndex(each -> each > 0));
+        Assert.assertEquals(-1, set.detectLastIndex(each -> each > 10_000));
+
+        MutableSortedSet<Integer> subSet = set.subSet(1_000, 2_000);
+        Assert.assertEquals(Interval.fromTo(1_999, 1_000), subSet.asReversed().toList());
+        Assert.assertEquals(998, subSet.detectLastIndex(IntegerPredicates.isEven()));
+
+        Assert.assertFalse(BTreeSortedSet.newSet().asReversed().iterator().hasNext());
+        Assert.assertEquals(-1, BTreeSortedSet.<Integer>newSet().detectLastIndex(each -> true));
+    }
+
+    @Test
+    public void randomOperationsMatchTreeSet()
+    {
+        Random random = new Random(42L);
+        SortedSet<Integer> expected = new TreeSet<>(Collections.<Integer>reverseOrder());
+        BTreeSortedSet<Integer> actual = BTreeSortedSet.newSet(Collections.<Integer>reverseOrder());
+        for (int i = 0; i < 50_000; i++)
+        {
+            Integer element = random.nextInt(5_000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(element), actual.remove(element));
+            }
+            else
+            {
+                Assert.assertEquals(expected.add(element), actual.add(element));
+            }
+        }
+        Verify.assertSortedSetsEqual(expected, actual);
+        Iterator<Integer> iterator = actual.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 3 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        expected.removeIf(each -> each % 3 == 0);
+        Verify.assertSortedSetsEqual(expected, actual);
+    }
+}
@@ -2222,6 +2222,61 @@ public class IterateTest
         });
     }
 
+    @Test
+    public void countBy()
+    {
+        this.iterables.each(each ->
+        {
+            ObjectLongMap<Integer> result = Iterate.countBy(each, i -> i % 2);
+            Assert.assertEquals(3, result.get(1));
+            Assert.assertEquals(2, result.get(0));
+        });
+        Verify.assertEmpty(Iterate.countBy(FastList.<Integer>newList(), i -> i % 2));
+        Verify.assertThrows(IllegalArgumentException.class, () -> Iterate.countBy(null, Functions.getPassThru()));
+    }
+
+    @Test
+    public void minAndMaxByLong()
+    {
+        this.iterables.each(each ->
+        {
+            ObjectLongMap<Integer> min = Iterate.minByLong(each, i -> i % 2, i -> i * 10L);
+            Assert.assertEquals(10L, min.get(1));
+            Assert.assertEquals(20L, min.get(0));
+            ObjectLongMap<Integer> max = Iterate.maxByLong(each, i -> i % 2, i -> i * 10L);
+            Assert.assertEquals(50L, max.get(1));
+            Assert.assertEquals(40L, max.get(0));
+        });
+    }
+
+    @Test
+    public void minAndMaxByDouble()
+    {
+        this.iterables.each(each ->
+        {
+            ObjectDoubleMap<Integer> min = Iterate.minByDouble(each, i -> i % 2, i -> i / 2.0);
+            Assert.assertEquals(0.5, min.get(1), 0.0);
+            Assert.assertEquals(1.0, min.get(0), 0.0);
+            ObjectDoubleMap<Integer> max = Iterate.maxByDouble(each, i -> i % 2, i -> i / 2.0);
+            Assert.assertEquals(2.5, max.get(1), 0.0);
+            Assert.assertEquals(2.0, max.get(0), 0.0);
+        });
+    }
+
+    @Test
+    public void aggregateByLongAndDouble()
+    {
+        this.iterables.each(each ->
+        {
+            ObjectLongMap<Integer> product = Iterate.aggregateByLong(each, i -> i % 2, 1L, (value, i) -> value * i);
+            Assert.assertEquals(15L, product.get(1));
+            Assert.assertEquals(8L, product.get(0));
+            ObjectDoubleMap<Integer> squares = Iterate.aggregateByDouble(each, i -> i % 2, 0.0, (value, i) -> value + i * i);
+            Assert.assertEquals(35.0, squares.get(1), 0.0);
+            Assert.assertEquals(20.0, squares.get(0), 0.0);
+        });
+    }
+
     @Test
     public void minBy()
     {